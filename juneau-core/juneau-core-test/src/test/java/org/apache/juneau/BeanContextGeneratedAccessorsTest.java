@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link BeanContext#BEAN_useGeneratedAccessors} setting.
+ */
+@SuppressWarnings({"rawtypes"})
+public class BeanContextGeneratedAccessorsTest {
+
+	BeanSession session = BeanContext.create().useGeneratedAccessors().beanFieldVisibility(Visibility.PRIVATE).build().createSession();
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Public getters and setters (spun lambdas).
+	//-------------------------------------------------------------------------------------------------------------------
+
+	public static class A {
+		private String f1;
+		private int f2;
+		private List<String> f3;
+
+		public String getF1() {
+			return f1;
+		}
+		public void setF1(String f1) {
+			this.f1 = f1;
+		}
+		public int getF2() {
+			return f2;
+		}
+		public A setF2(int f2) {
+			this.f2 = f2;
+			return this;
+		}
+		public List<String> getF3() {
+			return f3;
+		}
+		public void setF3(List<String> f3) {
+			this.f3 = f3;
+		}
+	}
+
+	@Test
+	public void a01_publicMethods() throws Exception {
+		A a = new A();
+		BeanMap<A> m = session.toBeanMap(a);
+		m.put("f1", "foo");
+		m.put("f2", 123);
+		m.put("f3", new ObjectList("['a','b']"));
+		assertEquals("foo", a.f1);
+		assertEquals(123, a.f2);
+		assertObjectEquals("['a','b']", a.f3);
+		assertEquals("foo", m.get("f1"));
+		assertEquals(123, m.get("f2"));
+		assertSortedObjectEquals("{f1:'foo',f2:123,f3:['a','b']}", a);
+
+		m.put("f2", null);
+		assertEquals(0, m.get("f2"));
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Fields (method handles).
+	//-------------------------------------------------------------------------------------------------------------------
+
+	public static class B {
+		public String f1;
+		private int f2;
+		public final String f3 = "bar";
+	}
+
+	@Test
+	public void b01_fields() throws Exception {
+		B b = new B();
+		BeanMap<B> m = session.toBeanMap(b);
+		m.put("f1", "foo");
+		m.put("f2", 123);
+		assertEquals("foo", b.f1);
+		assertEquals(123, b.f2);
+		assertEquals("foo", m.get("f1"));
+		assertEquals(123, m.get("f2"));
+		assertEquals("bar", m.get("f3"));
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Non-public class (method handles).
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static class C {
+		private String f1;
+
+		public String getF1() {
+			return f1;
+		}
+		public void setF1(String f1) {
+			this.f1 = f1;
+		}
+	}
+
+	@Test
+	public void c01_nonPublicClass() throws Exception {
+		BeanSession session = BeanContext.create().useGeneratedAccessors().beanClassVisibility(Visibility.DEFAULT).build().createSession();
+		C c = new C();
+		BeanMap<C> m = session.toBeanMap(c);
+		m.put("f1", "foo");
+		assertEquals("foo", c.f1);
+		assertEquals("foo", m.get("f1"));
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Exceptions thrown by accessors are reported the same way as with reflection.
+	//-------------------------------------------------------------------------------------------------------------------
+
+	public static class D {
+		public String getF1() {
+			throw new RuntimeException("foobar");
+		}
+		public void setF1(String f1) {
+			throw new RuntimeException("foobaz");
+		}
+	}
+
+	@Test
+	public void d01_exceptions() throws Exception {
+		BeanMap<D> m = session.toBeanMap(new D());
+		try {
+			m.get("f1");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertEquals("foobar", rootCause(e).getMessage());
+		}
+		try {
+			m.put("f1", "x");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertEquals("foobaz", rootCause(e).getMessage());
+		}
+	}
+
+	private static Throwable rootCause(Throwable t) {
+		while (t.getCause() != null)
+			t = t.getCause();
+		return t;
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Round-trip through serializer and parser.
+	//-------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void e01_roundTrip() throws Exception {
+		JsonSerializer s = SimpleJsonSerializer.DEFAULT.builder().useGeneratedAccessors().sortProperties().build();
+		JsonParser p = JsonParser.DEFAULT.builder().useGeneratedAccessors().build();
+		A a = new A();
+		a.f1 = "foo";
+		a.f2 = 123;
+		a.f3 = Arrays.asList("a","b");
+		String json = s.serialize(a);
+		assertEquals("{f1:'foo',f2:123,f3:['a','b']}", json);
+		a = p.parse(json, A.class);
+		assertEquals(json, s.serialize(a));
+	}
+}
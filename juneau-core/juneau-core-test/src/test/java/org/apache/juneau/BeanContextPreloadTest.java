@@ -0,0 +1,95 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link BeanContext#preload(java.lang.reflect.Type...)} method.
+ */
+public class BeanContextPreloadTest {
+
+	public static class A {
+		public A parent;
+		public List<B> b;
+		public Map<String,C[]> c;
+	}
+
+	public static class B {
+		public int f1;
+	}
+
+	public static class C {
+		public D d;
+	}
+
+	public static class D {
+		public String f1;
+	}
+
+	// Use a unique setting so that we get our own ClassMeta cache.
+	private static BeanContext context(String name) {
+		return BeanContext.create().set(BeanContext.BEAN_beanTypePropertyName, name).build();
+	}
+
+	@Test
+	public void a01_typeGraphPreloaded() throws Exception {
+		BeanContext bc = context("a01");
+		ClassMetaCache cache = bc.getClassMetaCache();
+		assertNull(cache.get(D.class));
+
+		bc.preload(A.class);
+
+		assertNotNull(cache.get(A.class));
+		assertNotNull(cache.get(B.class));
+		assertNotNull(cache.get(C.class));
+		assertNotNull(cache.get(D.class));
+	}
+
+	@Test
+	public void a02_customPool() throws Exception {
+		BeanContext bc = context("a02");
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			bc.preload(pool, bc.getClassMeta(List.class, A.class));
+		} finally {
+			pool.shutdown();
+		}
+		assertNotNull(bc.getClassMetaCache().get(D.class));
+	}
+
+	@Test
+	public void b01_serializerGroupWarmUp() throws Exception {
+		SerializerGroup sg = SerializerGroup.create().append(JsonSerializer.class, XmlSerializer.class).beanTypePropertyName("b01").build();
+		sg.warmUp(A.class);
+		for (Serializer s : sg.getSerializers())
+			assertNotNull(s.getClassMetaCache().get(D.class));
+	}
+
+	@Test
+	public void b02_parserGroupWarmUp() throws Exception {
+		ParserGroup pg = ParserGroup.create().append(JsonParser.class, XmlParser.class).beanTypePropertyName("b02").build();
+		pg.warmUp(A.class);
+		for (Parser p : pg.getParsers())
+			assertNotNull(p.getClassMetaCache().get(D.class));
+	}
+}
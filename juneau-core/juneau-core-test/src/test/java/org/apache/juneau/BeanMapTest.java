@@ -1933,4 +1933,27 @@ public class BeanMapTest {
 	public static class Z {
 		public String a, b, c;
 	}
+
+	//====================================================================================================
+	// Property lookup by position.
+	//====================================================================================================
+	@Test
+	public void testPropertyIndex() {
+		BeanMeta<Z> bm = BeanContext.DEFAULT.getBeanMeta(Z.class);
+		int i = bm.getPropertyIndex("b");
+		assertTrue(i >= 0);
+		assertSame(bm.getPropertyMeta("b"), bm.getPropertyMeta(i));
+		assertEquals("b", bm.getPropertyMeta(i).getName());
+		assertEquals(-1, bm.getPropertyIndex("d"));
+		assertNull(bm.getPropertyMeta("d"));
+
+		int j = 0;
+		for (BeanPropertyMeta p : bm.getPropertyMetas())
+			assertEquals(j++, bm.getPropertyIndex(p.getName()));
+
+		bm = BeanContext.DEFAULT_SORTED.getBeanMeta(Z.class);
+		assertEquals(0, bm.getPropertyIndex("a"));
+		assertEquals(1, bm.getPropertyIndex("b"));
+		assertEquals(2, bm.getPropertyIndex("c"));
+	}
 }
\ No newline at end of file
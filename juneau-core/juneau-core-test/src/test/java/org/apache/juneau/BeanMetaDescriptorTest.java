@@ -0,0 +1,92 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.junit.*;
+
+/**
+ * Tests the loading of {@link BeanMetaDescriptor} resources by {@link BeanMeta}.
+ */
+public class BeanMetaDescriptorTest {
+
+	private static Set<String> props(BeanContext bc, Class<?> c) {
+		Set<String> s = new LinkedHashSet<>();
+		for (BeanPropertyMeta p : bc.getBeanMeta(c).getPropertyMetas())
+			s.add(p.getName());
+		return s;
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Descriptor is used in place of reflection.
+	//-------------------------------------------------------------------------------------------------------------------
+
+	@Bean
+	public static class A {
+		public String f1, f2;
+		private String f3;
+
+		public String getF3() {
+			return f3;
+		}
+		public void setF3(String f3) {
+			this.f3 = f3;
+		}
+	}
+
+	@Test
+	public void a01_descriptorUsed() throws Exception {
+		assertEquals("[f1, x]", props(BeanContext.DEFAULT, A.class).toString());
+
+		BeanMap<A> m = BeanContext.DEFAULT.createSession().newBeanMap(A.class);
+		m.put("x", "foo");
+		assertEquals("foo", m.getBean().getF3());
+	}
+
+	@Test
+	public void a02_descriptorIgnoredWithNonDefaultSettings() throws Exception {
+		BeanContext bc = BeanContext.create().beanFieldVisibility(Visibility.PROTECTED).build();
+		assertEquals("[f1, f2, f3]", props(bc, A.class).toString());
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Descriptor that doesn't match the class falls back to reflection.
+	//-------------------------------------------------------------------------------------------------------------------
+
+	@Bean
+	public static class B {
+		public String f1, f2;
+	}
+
+	@Test
+	public void b01_outOfDateDescriptor() throws Exception {
+		assertEquals("[f1, f2]", props(BeanContext.DEFAULT, B.class).toString());
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Descriptors are only looked up for @Bean-annotated classes.
+	//-------------------------------------------------------------------------------------------------------------------
+
+	public static class C {
+		public String f1;
+	}
+
+	@Test
+	public void c01_noDescriptor() throws Exception {
+		assertEquals("[f1]", props(BeanContext.DEFAULT, C.class).toString());
+	}
+}
@@ -0,0 +1,167 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.lang.ref.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link ClassMetaCache} class.
+ */
+@SuppressWarnings({"rawtypes"})
+public class ClassMetaCacheTest {
+
+	public static class A1 {}
+	public static class A2 {}
+	public static class A3 {}
+	public static class A4 {}
+
+	@Test
+	public void a01_hitsAndMisses() throws Exception {
+		ClassMetaCache c = new ClassMetaCache(10);
+		ClassMeta cm = BeanContext.DEFAULT.getClassMeta(A1.class);
+
+		assertNull(c.get(A1.class));
+		c.put(A1.class, cm);
+		assertSame(cm, c.get(A1.class));
+		assertSame(cm, c.get(A1.class));
+
+		assertEquals(1, c.size());
+		assertEquals(2, c.getHits());
+		assertEquals(1, c.getMisses());
+		assertEquals(0, c.getEvictions());
+		assertEquals("{size:1,maxSize:10,hits:2,misses:1,evictions:0}", c.toString());
+	}
+
+	@Test
+	public void a02_leastRecentlyUsedEvicted() throws Exception {
+		ClassMetaCache c = new ClassMetaCache(3);
+		BeanContext bc = BeanContext.DEFAULT;
+		c.put(A1.class, bc.getClassMeta(A1.class));
+		c.put(A2.class, bc.getClassMeta(A2.class));
+		c.put(A3.class, bc.getClassMeta(A3.class));
+		c.get(A1.class);
+		c.put(A4.class, bc.getClassMeta(A4.class));
+
+		// Evicts down to 90% of the maximum size.
+		assertEquals(2, c.size());
+		assertEquals(2, c.getEvictions());
+		assertNotNull(c.get(A1.class));
+		assertNull(c.get(A2.class));
+		assertNull(c.get(A3.class));
+		assertNotNull(c.get(A4.class));
+	}
+
+	@Test
+	public void b01_sharedBetweenEquivalentContexts() throws Exception {
+		BeanContext bc1 = BeanContext.create().sortProperties().build(), bc2 = BeanContext.create().sortProperties().build();
+		assertSame(bc1.getClassMetaCache(), bc2.getClassMetaCache());
+		assertNotSame(bc1.getClassMetaCache(), BeanContext.create().build().getClassMetaCache());
+		assertTrue(ClassMetaCache.getSharedCaches().contains(bc1.getClassMetaCache()));
+
+		long misses = bc1.getClassMetaCache().getMisses();
+		bc1.getClassMeta(A1.class);
+		bc2.getClassMeta(A1.class);
+		assertSame(bc1.getClassMeta(A1.class), bc2.getClassMeta(A1.class));
+		assertTrue(bc1.getClassMetaCache().getMisses() <= misses + 1);
+	}
+
+	public static class C1 {
+		public String f1;
+	}
+
+	/*
+	 * Class loader that defines its own copies of this test class and its inner classes so that they can be unloaded
+	 * independently of the test classes.
+	 */
+	private static class ThrowawayLoader extends ClassLoader {
+		ThrowawayLoader() {
+			super(ClassMetaCacheTest.class.getClassLoader());
+		}
+
+		@Override /* ClassLoader */
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (! name.startsWith(ClassMetaCacheTest.class.getName()))
+				return super.loadClass(name, resolve);
+			Class<?> c = findLoadedClass(name);
+			if (c == null) {
+				try (InputStream is = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+					byte[] b = IOUtils.readBytes(is, 1024);
+					c = defineClass(name, b, 0, b.length);
+				} catch (IOException e) {
+					throw new ClassNotFoundException(name, e);
+				}
+			}
+			return c;
+		}
+	}
+
+	@Test
+	public void c01_classesFromDiscardedLoadersCanBeCollected() throws Exception {
+		ClassMetaCache c = BeanContext.DEFAULT.getClassMetaCache();
+		int size = c.size();
+
+		ThrowawayLoader loader = new ThrowawayLoader();
+		Class<?> type = loader.loadClass(C1.class.getName());
+		assertNotSame(C1.class, type);
+		assertNotNull(BeanContext.DEFAULT.getClassMeta(type).getBeanMeta());
+		assertEquals("{f1:'foo'}", SimpleJsonSerializer.DEFAULT.serialize(JsonParser.DEFAULT.parse("{f1:'foo'}", type)));
+		assertEquals(size + 1, c.size());
+
+		// Class metadata is strongly referenced while the class is reachable.
+		System.gc();
+		assertNotNull(c.get(type));
+
+		WeakReference<ClassLoader> ref = new WeakReference<ClassLoader>(loader);
+		loader = null;
+		type = null;
+		for (int i = 0; i < 20 && ref.get() != null; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertNull("Class loader was not garbage collected.", ref.get());
+		assertEquals(size, c.size());
+
+		// Classes from the local class loaders are strongly referenced.
+		assertNotNull(c.get(String.class));
+	}
+
+	@Test
+	public void c02_classesFromForeignLoadersEvicted() throws Exception {
+		ClassMetaCache c = new ClassMetaCache(3);
+		BeanContext bc = BeanContext.DEFAULT;
+		ThrowawayLoader loader = new ThrowawayLoader();
+		Class<?> f1 = loader.loadClass(A1.class.getName()), f2 = loader.loadClass(A2.class.getName());
+
+		c.put(f1, bc.getClassMeta(f1));
+		c.put(A1.class, bc.getClassMeta(A1.class));
+		c.put(f2, bc.getClassMeta(f2));
+		assertEquals(3, c.size());
+		c.get(f1);
+		c.put(A2.class, bc.getClassMeta(A2.class));
+
+		// Evicts down to 90% of the maximum size.
+		assertEquals(2, c.size());
+		assertEquals(2, c.getEvictions());
+		assertNotNull(c.get(f1));
+		assertNull(c.get(A1.class));
+		assertNull(c.get(f2));
+		assertNotNull(c.get(A2.class));
+	}
+}
@@ -160,6 +160,32 @@ public class ContextCacheTest {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------------------------
+	// Eviction and statistics
+	//-------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void testEvictionAndStats() {
+		ContextCache cc = new ContextCache(2);
+		PropertyStore ps1 = PropertyStore.create().set("A.f1", "1").build(), ps2 = PropertyStore.create().set("A.f1", "2").build(), ps3 = PropertyStore.create().set("A.f1", "3").build();
+
+		A a1 = cc.create(A.class, ps1), a2 = cc.create(A.class, ps2);
+		assertTrue(a1 == cc.create(A.class, PropertyStore.create().set("A.f1", "1").build()));
+		A a3 = cc.create(A.class, ps3);
+
+		assertEquals(2, cc.size());
+		assertEquals(1, cc.getHits());
+		assertEquals(3, cc.getMisses());
+		assertEquals(1, cc.getEvictions());
+
+		// ps2 was the least-recently-used.
+		assertTrue(a1 == cc.create(A.class, ps1));
+		assertTrue(a3 == cc.create(A.class, ps3));
+		assertTrue(a2 != cc.create(A.class, ps2));
+
+		assertEquals("{size:2,maxSize:2,hits:3,misses:4,evictions:2}", cc.toString());
+	}
+
 	@Test
 	public void testBadConstructor() {
 		PropertyStoreBuilder psb = PropertyStore.create();
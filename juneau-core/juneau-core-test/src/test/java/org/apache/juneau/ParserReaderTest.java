@@ -16,6 +16,7 @@ import static org.junit.Assert.*;
 
 import java.io.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
 
@@ -160,6 +161,100 @@ public class ParserReaderTest {
 		pr.close();
 	}
 
+	//====================================================================================================
+	// testScan
+	//====================================================================================================
+	@Test
+	public void testScan() throws Exception {
+		AsciiSet stop = AsciiSet.create("\"\\");
+		ParserReader pr = createParserReader("abc\\def\"ghi");
+		pr.mark();
+		assertEquals('\\', pr.scan(stop));
+		assertEquals('\\', pr.read());
+		assertEquals('\"', pr.scan(stop));
+		assertEquals("abc\\def", pr.getMarked());
+		assertEquals('\"', pr.read());
+		assertEquals(-1, pr.scan(stop));
+		assertEquals(-1, pr.read());
+
+		// Scanning across buffer refills while marking.
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++)
+			sb.append((char)('a' + i % 26));
+		String t = sb.toString();
+		pr = createParserReader(new StringReader("x" + t + "\"y"));
+		pr.read();
+		pr.mark();
+		assertEquals('\"', pr.scan(stop));
+		assertEquals(t, pr.getMarked());
+		assertEquals("\"y", read(pr));
+
+		pr = createParserReader(new StringReader(t + "\""));
+		assertEquals(t, pr.readUntil(stop));
+		assertEquals('\"', pr.read());
+	}
+
+	//====================================================================================================
+	// testSkip
+	//====================================================================================================
+	@Test
+	public void testSkip() throws Exception {
+		ParserReader pr = createParserReader(" \t\r\n abc  ");
+		assertEquals('a', pr.skipWs());
+		assertEquals('a', pr.skipWs());
+		assertEquals('a', pr.read());
+		assertEquals('b', pr.readSkipWs());
+		assertEquals('c', pr.peekSkipWs());
+		pr.read();
+		assertEquals(-1, pr.skipWs());
+
+		pr = createParserReader("123.4e5x");
+		pr.mark();
+		assertEquals('x', pr.skip(AsciiSet.create("0123456789.e")));
+		assertEquals("123.4e5", pr.getMarked());
+		assertEquals(-1, createParserReader("123").skip(AsciiSet.create("0123456789")));
+
+		// Non-ASCII characters are never skipped or stop characters.
+		pr = createParserReader("ab\u00e9c");
+		assertEquals('\u00e9', pr.skip(AsciiSet.create("abc")));
+		assertEquals(-1, pr.scan(AsciiSet.create("\u0000")));
+	}
+
+	//====================================================================================================
+	// testPosition
+	//====================================================================================================
+	@Test
+	public void testPosition() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 500; i++)
+			sb.append("line ").append(i).append('\n');
+		ParserReader pr = createParserReader(new StringReader(sb.toString()));
+
+		// Read past several buffer refills.
+		pr.mark();
+		pr.scan(AsciiSet.create("!"));
+		assertEquals(501, pr.getPosition().getLine());
+		pr.unread();
+		assertEquals(500, pr.getPosition().getLine());
+
+		pr = createParserReader("ab\ncd\nef");
+		pr.skip(AsciiSet.create("abcd\n"));
+		assertEquals(3, pr.getPosition().getLine());
+		assertEquals(0, pr.getPosition().getColumn());
+		pr.read();
+		assertEquals(1, pr.getPosition().getColumn());
+
+		// Replaced characters are counted as they were read.
+		pr = createParserReader("a\\nb\nc");
+		pr.mark();
+		pr.read(3);
+		pr.replace('\n', 2);
+		pr.read();
+		assertEquals(1, pr.getPosition().getLine());
+		pr.read(2);
+		assertEquals(2, pr.getPosition().getLine());
+	}
+
 	//====================================================================================================
 	// Utility methods
 	//====================================================================================================
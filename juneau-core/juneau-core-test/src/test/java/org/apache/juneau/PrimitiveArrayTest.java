@@ -0,0 +1,129 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.junit.*;
+
+/**
+ * Validates that primitive arrays serialize the same as their boxed equivalents and round-trip through parsers.
+ */
+@SuppressWarnings({})
+public class PrimitiveArrayTest {
+
+	static final Object[][] ARRAYS = {
+		{ new int[]{1,-70000,Integer.MAX_VALUE,Integer.MIN_VALUE}, new Integer[]{1,-70000,Integer.MAX_VALUE,Integer.MIN_VALUE} },
+		{ new long[]{1,-70000,Long.MAX_VALUE,Long.MIN_VALUE}, new Long[]{1l,-70000l,Long.MAX_VALUE,Long.MIN_VALUE} },
+		{ new short[]{1,Short.MIN_VALUE,Short.MAX_VALUE}, new Short[]{1,Short.MIN_VALUE,Short.MAX_VALUE} },
+		{ new byte[]{1,Byte.MIN_VALUE,Byte.MAX_VALUE}, new Byte[]{1,Byte.MIN_VALUE,Byte.MAX_VALUE} },
+		{ new float[]{1.5f,-2f,0f}, new Float[]{1.5f,-2f,0f} },
+		{ new double[]{1.5,-2.25,1e100}, new Double[]{1.5,-2.25,1e100} },
+		{ new boolean[]{true,false,true}, new Boolean[]{true,false,true} },
+		{ new int[0], new Integer[0] },
+	};
+
+	private static void testSerializer(Serializer s) throws Exception {
+		for (Object[] a : ARRAYS)
+			assertEquals(s.serializeToString(a[1]), s.serializeToString(a[0]));
+	}
+
+	private static void testRoundTrip(Serializer s, Parser p) throws Exception {
+		for (Object[] a : ARRAYS) {
+			Object o = p.parse(s.serialize(a[0]), a[0].getClass());
+			assertEquals(a[0].getClass(), o.getClass());
+			assertEquals(s.serializeToString(a[0]), s.serializeToString(o));
+		}
+	}
+
+	@Test
+	public void json() throws Exception {
+		testSerializer(JsonSerializer.DEFAULT);
+		testSerializer(SimpleJsonSerializer.DEFAULT_READABLE);
+		testRoundTrip(JsonSerializer.DEFAULT, JsonParser.DEFAULT);
+		testRoundTrip(SimpleJsonSerializer.DEFAULT_READABLE, JsonParser.DEFAULT_STRICT);
+		assertEquals("[1,-2,3]", SimpleJsonSerializer.DEFAULT.serialize(new int[]{1,-2,3}));
+	}
+
+	@Test
+	public void uon() throws Exception {
+		testSerializer(UonSerializer.DEFAULT);
+		testSerializer(UonSerializer.DEFAULT_READABLE);
+		testRoundTrip(UonSerializer.DEFAULT, UonParser.DEFAULT);
+	}
+
+	@Test
+	public void urlEncoding() throws Exception {
+		testSerializer(UrlEncodingSerializer.DEFAULT);
+		testSerializer(UrlEncodingSerializer.DEFAULT_READABLE);
+		testRoundTrip(UrlEncodingSerializer.DEFAULT, UrlEncodingParser.DEFAULT);
+		assertEquals("0=1&1=2", UrlEncodingSerializer.DEFAULT.serialize(new int[]{1,2}));
+	}
+
+	@Test
+	public void msgPack() throws Exception {
+		testSerializer(MsgPackSerializer.DEFAULT_SPACED_HEX);
+		testRoundTrip(MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT);
+	}
+
+	@Test
+	public void jsonParserMixedValues() throws Exception {
+		JsonParser p = JsonParser.DEFAULT;
+		assertArrayEquals(new int[]{1,2,0,4}, p.parse("[1,'2',null,4]", int[].class));
+		assertArrayEquals(new long[]{1,2,3}, p.parse("[1, /*x*/ 2, \"3\"]", long[].class));
+		assertArrayEquals(new double[]{1.5,-2e3,0}, p.parse("[1.5,-2e3,null]", double[].class), 0);
+		assertTrue(java.util.Arrays.equals(new boolean[]{true,false,true}, p.parse("[true,false,'true']", boolean[].class)));
+		assertArrayEquals(new int[][]{{1,2},{3}}, p.parse("[[1,2],[3]]", int[][].class));
+	}
+
+	@Test
+	public void jsonParserNumbers() throws Exception {
+		assertArrayEquals(new double[]{0,-0.0,0.5,-1e3,1e2,10,0,1e-2}, JsonParser.DEFAULT_STRICT.parse("[0,-0,0.5,-1e3,1E+2,10,0e1,1e-2]", double[].class), 0);
+		assertArrayEquals(new long[]{0,-1,Long.MAX_VALUE}, JsonParser.DEFAULT_STRICT.parse("[0,-1,9223372036854775807]", long[].class));
+		assertArrayEquals(new int[]{16,8,-3}, JsonParser.DEFAULT.parse("[0x10,010,-3]", int[].class));
+		assertArrayEquals(new float[]{1.25f,3f}, JsonParser.DEFAULT.parse("[1.25,3]", float[].class), 0);
+	}
+
+	@Test
+	public void jsonParserStrictInvalidNumber() throws Exception {
+		for (String s : new String[]{"01","-01","0x1","-0x1","1.","-1.","0.e1","1..2"}) {
+			try {
+				JsonParser.DEFAULT_STRICT.parse("[1," + s + "]", int[].class);
+				fail(s);
+			} catch (ParseException e) {
+				assertTrue(s, e.getLocalizedMessage().contains("Invalid JSON number: '" + s + "'"));
+			}
+		}
+		try {
+			JsonParser.DEFAULT.parse("[1,2.5x]", int[].class);
+			fail();
+		} catch (ParseException e) {
+			// Expected.
+		}
+	}
+
+	@Test
+	public void msgPackParserMixedValues() throws Exception {
+		MsgPackParser p = MsgPackParser.DEFAULT;
+		MsgPackSerializer s = MsgPackSerializer.DEFAULT;
+		assertArrayEquals(new int[]{1,2,0}, p.parse(s.serialize(new Object[]{1,"2",null}), int[].class));
+		assertArrayEquals(new double[]{1,2.5,3}, p.parse(s.serialize(new Object[]{1,2.5f,3l}), double[].class), 0);
+		assertArrayEquals(new long[]{1,5000000000l}, p.parse(s.serialize(new Object[]{1,5000000000l}), long[].class));
+	}
+}
@@ -1755,6 +1755,58 @@ public class PropertyStoreTest {
 		assertEquals("{A:{'foo.ls':['baz','qux','foo','bar','quux']}}", psb.build().toString());
 	}
 
+	//====================================================================================================
+	// Interning and incremental builds
+	//====================================================================================================
+
+	@Test
+	public void testInterning() {
+		PropertyStore ps1 = PropertyStore.create().set("A.f1.s", "1").set("B.f2.i", 2).build();
+		PropertyStore ps2 = PropertyStore.create().set("B.f2.i", "2").set("A.f1.s", "1").build();
+		assertTrue(ps1 == ps2);
+		assertTrue(ps1 == ps1.builder().build());
+		assertTrue(ps1 == ps1.builder().set("A.f1.s", "x").set("A.f1.s", "1").build());
+	}
+
+	@Test
+	public void testIncrementalBuild() {
+		PropertyStore ps1 = PropertyStore.create().set("A.f1.s", "1").set("B.f2.s", "2").build();
+		PropertyStore ps2 = ps1.builder().set("B.f3.s", "3").build();
+
+		// Unmodified groups are shared between the stores.
+		assertTrue(ps1.groups.get("A") == ps2.groups.get("A"));
+		assertTrue(ps1.groups.get("B") != ps2.groups.get("B"));
+
+		assertEquals("1", ps2.getProperty("A.f1.s"));
+		assertEquals("2", ps2.getProperty("B.f2.s"));
+		assertEquals("3", ps2.getProperty("B.f3.s"));
+		assertNull(ps1.getProperty("B.f3.s"));
+
+		assertTrue(ps1.equals(ps2, "A"));
+		assertFalse(ps1.equals(ps2, "B"));
+		assertEquals(ps1.hashCode("A"), ps2.hashCode("A"));
+
+		// The original store is unaffected by changes to builders created from it.
+		PropertyStoreBuilder b = ps1.builder();
+		b.set("A.f1.s", "x");
+		assertEquals("1", ps1.getProperty("A.f1.s"));
+		assertEquals("x", b.peek("A.f1.s"));
+		assertEquals("2", b.peek("B.f2.s"));
+		assertEquals("x", b.build().getProperty("A.f1.s"));
+	}
+
+	@Test
+	public void testSystemPropertyFallback() {
+		System.setProperty("A.f9.i", "9");
+		try {
+			PropertyStore ps = PropertyStore.create().set("A.f1.s", "1").build();
+			assertEquals(9, ps.getProperty("A.f9.i", Integer.class, 0).intValue());
+			testError2(ps, "foo", "Invalid property name specified: 'foo'");
+		} finally {
+			System.clearProperty("A.f9.i");
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Utility methods
 	//-------------------------------------------------------------------------------------------------------------------
@@ -1770,6 +1822,15 @@ public class PropertyStoreTest {
 		}
 	}
 
+	private void testError2(PropertyStore ps, String key, String msg) {
+		try {
+			ps.getProperty(key);
+			fail("Exception expected.");
+		} catch (ConfigException e) {
+			assertEquals(msg, e.getMessage());
+		}
+	}
+
 	private void testEquals(PropertyStoreBuilder b1, PropertyStoreBuilder b2) {
 		assertTrue(b1.build() == b2.build());
 	}
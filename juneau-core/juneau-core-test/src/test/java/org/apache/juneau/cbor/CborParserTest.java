@@ -0,0 +1,209 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.math.*;
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+public class CborParserTest {
+
+	//====================================================================================================
+	// testBasic
+	// Input values are from the examples in RFC 7049 Appendix A.
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		assertNull(parse("F6", Object.class));
+		assertNull(parse("F7", Object.class));
+		assertEquals(false, parse("F4", Object.class));
+		assertEquals(true, parse("F5", Object.class));
+
+		assertEquals(0, parse("00", Object.class));
+		assertEquals(24, parse("18 18", Object.class));
+		assertEquals(1000000, parse("1A 00 0F 42 40", Object.class));
+		assertEquals(1000000000000L, parse("1B 00 00 00 E8 D4 A5 10 00", Object.class));
+		assertEquals(new BigInteger("18446744073709551615"), parse("1B FF FF FF FF FF FF FF FF", Object.class));
+		assertEquals(new BigInteger("18446744073709551616"), parse("C2 49 01 00 00 00 00 00 00 00 00", Object.class));
+		assertEquals(new BigInteger("-18446744073709551617"), parse("C3 49 01 00 00 00 00 00 00 00 00", Object.class));
+		assertEquals(-1, parse("20", Object.class));
+		assertEquals(-1000, parse("39 03 E7", Object.class));
+		assertEquals(Integer.MIN_VALUE, parse("3A 7F FF FF FF", Object.class));
+		assertEquals(Long.MIN_VALUE, parse("3B 7F FF FF FF FF FF FF FF", Object.class));
+
+		assertEquals(0.0f, parse("F9 00 00", Object.class));
+		assertEquals(1.0f, parse("F9 3C 00", Object.class));
+		assertEquals(1.5f, parse("F9 3E 00", Object.class));
+		assertEquals(65504.0f, parse("F9 7B FF", Object.class));
+		assertEquals(5.960464477539063e-8f, parse("F9 00 01", Object.class));
+		assertEquals(-4.0f, parse("F9 C4 00", Object.class));
+		assertEquals(Float.POSITIVE_INFINITY, parse("F9 7C 00", Object.class));
+		assertEquals(100000.0f, parse("FA 47 C3 50 00", Object.class));
+		assertEquals(1.1, parse("FB 3F F1 99 99 99 99 99 9A", Object.class));
+
+		assertEquals("", parse("60", Object.class));
+		assertEquals("IETF", parse("64 49 45 54 46", Object.class));
+		assertEquals("\u00fc", parse("62 C3 BC", Object.class));
+
+		// Tags other than bignums are ignored.
+		assertEquals(1363896240, parse("C1 1A 51 4B 67 B0", Object.class));
+		assertEquals("2013-03-21T20:04:00Z", parse("C0 74 32 30 31 33 2D 30 33 2D 32 31 54 32 30 3A 30 34 3A 30 30 5A", Object.class));
+
+		assertObjectEquals("[]", parse("80", Object.class));
+		assertObjectEquals("[1,[2,3],[4,5]]", parse("83 01 82 02 03 82 04 05", Object.class));
+		assertObjectEquals("{a:1,b:[2,3]}", parse("A2 61 61 01 61 62 82 02 03", Object.class));
+		assertObjectEquals("['a',{b:'c'}]", parse("82 61 61 A1 61 62 61 63", Object.class));
+
+		assertEquals(Long.valueOf(5), parse("05", Long.class));
+		assertEquals(BigInteger.valueOf(5), parse("05", BigInteger.class));
+		assertObjectEquals("[1,2,3]", parse("83 01 02 03", int[].class));
+		assertObjectEquals("[1.0,2.5]", parse("82 01 F9 41 00", double[].class));
+	}
+
+	//====================================================================================================
+	// testIndefiniteLength
+	//====================================================================================================
+	@Test
+	public void testIndefiniteLength() throws Exception {
+		assertObjectEquals("[]", parse("9F FF", Object.class));
+		assertObjectEquals("[1,[2,3],[4,5]]", parse("9F 01 82 02 03 9F 04 05 FF FF", Object.class));
+		assertObjectEquals("[1,[2,3],[4,5]]", parse("83 01 9F 02 03 FF 82 04 05", Object.class));
+		assertObjectEquals("{a:1,b:[2,3]}", parse("BF 61 61 01 61 62 9F 02 03 FF FF", Object.class));
+		assertObjectEquals("['a',{b:'c'}]", parse("82 61 61 BF 61 62 61 63 FF", Object.class));
+		assertObjectEquals("{Fun:true,Amt:-2}", parse("BF 63 46 75 6E F5 63 41 6D 74 21 FF", Object.class));
+
+		assertEquals("streaming", parse("7F 65 73 74 72 65 61 64 6D 69 6E 67 FF", Object.class));
+		assertEquals("", parse("7F FF", Object.class));
+		assertEquals("01 02 03 04 05", StringUtils.toSpacedHex(parse("5F 42 01 02 43 03 04 05 FF", byte[].class)));
+
+		List<Integer> l = CborParser.DEFAULT.parse(fromSpacedHex("9F 01 02 03 FF"), List.class, Integer.class);
+		assertEquals(Arrays.asList(1,2,3), l);
+		assertObjectEquals("[1,2,3]", parse("9F 01 02 03 FF", int[].class));
+		assertObjectEquals("[1,2,3]", parse("9F 01 02 03 FF", Integer[].class));
+
+		Map<String,Integer> m = CborParser.DEFAULT.parse(fromSpacedHex("BF 61 61 01 61 62 02 FF"), Map.class, String.class, Integer.class);
+		assertObjectEquals("{a:1,b:2}", m);
+
+		A a = parse("BF 62 66 31 63 66 6F 6F 62 66 32 9F 01 FF FF", A.class);
+		assertEquals("foo", a.f1);
+		assertEquals(Arrays.asList(1), a.f2);
+	}
+
+	//====================================================================================================
+	// testBinaryFields
+	//====================================================================================================
+	@Test
+	public void testBinaryFields() throws Exception {
+		byte[] in = fromSpacedHex("A2 62 66 31 43 01 02 03 62 66 32 5F 41 04 42 05 06 FF");
+
+		B b = CborParser.DEFAULT.parse(in, B.class);
+		assertEquals("01 02 03", StringUtils.toSpacedHex(b.f1));
+		assertEquals("04 05 06", StringUtils.toSpacedHex(b.f2));
+
+		// Definite-length fields are sliced directly from buffer input.
+		C c = CborParser.DEFAULT.parse(ByteBuffer.wrap(in), C.class);
+		assertTrue(c.f1.isReadOnly());
+		assertEquals(3, c.f1.remaining());
+		assertEquals(3, c.f2.remaining());
+
+		D d = CborParser.DEFAULT.parse(new ByteArrayInputStream(in), D.class);
+		assertEquals("01 02 03", StringUtils.toSpacedHex(IOUtils.readBytes(d.f1, 1024)));
+		assertEquals("04 05 06", StringUtils.toSpacedHex(IOUtils.readBytes(d.f2, 1024)));
+	}
+
+	//====================================================================================================
+	// testBinaryStreamsParseFailure
+	// Validates that temporary files of spooled binary fields are deleted when the parse fails.
+	//====================================================================================================
+	@Test
+	public void testBinaryStreamsParseFailure() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		baos.write(fromSpacedHex("A2 62 66 31 5A 00 01 86 A0"));
+		baos.write(new byte[100000]);
+		baos.write(fromSpacedHex("62 66 32"));
+		Set<String> before = spoolFiles();
+		try {
+			CborParser.DEFAULT.parse(new ByteArrayInputStream(baos.toByteArray()), D.class);
+			fail();
+		} catch (ParseException e) {}
+		assertTrue(before.containsAll(spoolFiles()));
+	}
+
+	private static Set<String> spoolFiles() {
+		Set<String> s = new HashSet<>();
+		for (String n : new File(System.getProperty("java.io.tmpdir")).list())
+			if (n.startsWith("juneau") && n.endsWith(".spool"))
+				s.add(n);
+		return s;
+	}
+
+	//====================================================================================================
+	// testErrors
+	//====================================================================================================
+	@Test
+	public void testErrors() throws Exception {
+		assertParseError("FF", "Unexpected break stop code encountered.");
+		assertParseError("82 01 FF", "Unexpected break stop code encountered.");
+		assertParseError("9F 01", "Unexpected end of file found.");
+		assertParseError("63 61 62", "Unexpected end of file found.");
+		assertParseError("1C", "Invalid additional information 28 found.");
+		assertParseError("3F", "Invalid additional information 31 found.");
+		assertParseError("F0", "Unsupported simple value 0xf0 found.");
+		assertParseError("7F 41 01 FF", "Invalid chunk of type BIN found in indefinite-length STRING.");
+	}
+
+	public static class A {
+		public String f1;
+		public List<Integer> f2;
+	}
+
+	public static class B {
+		public byte[] f1, f2;
+	}
+
+	public static class C {
+		public ByteBuffer f1, f2;
+	}
+
+	public static class D {
+		public InputStream f1, f2;
+	}
+
+	private static void assertParseError(String spacedHex, String msg) {
+		try {
+			parse(spacedHex, Object.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getLocalizedMessage(), e.getLocalizedMessage().contains(msg));
+		} catch (Exception e) {
+			fail(e.getLocalizedMessage());
+		}
+	}
+
+	private static <T> T parse(String spacedHex, Class<T> c) throws Exception {
+		return CborParser.DEFAULT.parse(fromSpacedHex(spacedHex), c);
+	}
+
+	private static byte[] fromSpacedHex(String spacedHex) {
+		return StringUtils.fromSpacedHex(spacedHex);
+	}
+}
@@ -0,0 +1,179 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.math.*;
+import java.nio.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class CborSerializerTest {
+
+	//====================================================================================================
+	// testBasic
+	// Expected values are from the examples in RFC 7049 Appendix A.
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+
+		test(null, "F6");
+
+		test(false, "F4");
+		test(true, "F5");
+
+		test(0, "00");
+		test(23, "17");
+		test(24, "18 18");
+		test(100, "18 64");
+		test(1000, "19 03 E8");
+		test(1000000, "1A 00 0F 42 40");
+		test(1000000000000L, "1B 00 00 00 E8 D4 A5 10 00");
+		test(Long.MAX_VALUE, "1B 7F FF FF FF FF FF FF FF");
+
+		test(-1, "20");
+		test(-10, "29");
+		test(-100, "38 63");
+		test(-1000, "39 03 E7");
+		test(Integer.MIN_VALUE, "3A 7F FF FF FF");
+		test(Long.MIN_VALUE, "3B 7F FF FF FF FF FF FF FF");
+
+		test(new BigInteger("18446744073709551616"), "C2 49 01 00 00 00 00 00 00 00 00");
+		test(new BigInteger("-18446744073709551617"), "C3 49 01 00 00 00 00 00 00 00 00");
+		test(BigInteger.valueOf(-5), "24");
+
+		test(1.5f, "FA 3F C0 00 00");
+		test(1.1, "FB 3F F1 99 99 99 99 99 9A");
+
+		test("", "60");
+		test("a", "61 61");
+		test("IETF", "64 49 45 54 46");
+		test("\u00fc", "62 C3 BC");
+
+		test(new int[0], "80");
+		test(new int[]{1,2,3}, "83 01 02 03");
+		test(Arrays.asList(1, Arrays.asList(2,3)), "82 01 82 02 03");
+		test(new ObjectMap("{a:1,b:[2,3]}"), "BF 61 61 01 61 62 82 02 03 FF");
+
+		test(ByteBuffer.wrap(new byte[]{1,2,3,4}), "44 01 02 03 04");
+	}
+
+	//====================================================================================================
+	// testIndefiniteLength
+	//====================================================================================================
+	@Test
+	public void testIndefiniteLength() throws Exception {
+
+		// Streams and iterators are written as indefinite-length arrays.
+		test(Stream.of(1, 2, 3), "9F 01 02 03 FF");
+		test(Arrays.asList("a").iterator(), "9F 61 61 FF");
+		test(Stream.empty(), "9F FF");
+		test(Collections.singletonMap("x", Stream.of(1)), "BF 61 78 9F 01 FF FF");
+
+		// Maps and beans are written as indefinite-length maps.
+		test(new ObjectMap(), "BF FF");
+		test(new ObjectMap("{a:{b:1}}"), "BF 61 61 BF 61 62 01 FF FF");
+		A a = new A();
+		a.f1 = "foo";
+		test(a, "BF 62 66 31 63 66 6F 6F FF");
+
+		// Input streams of known length are written as definite-length byte strings.
+		test(new ByteArrayInputStream(new byte[]{1,2}), "42 01 02");
+
+		// Others are written as indefinite-length byte strings in chunks.
+		test(new BufferedInputStream(new ByteArrayInputStream(new byte[]{1,2})), "5F 42 01 02 FF");
+		test(new BufferedInputStream(new ByteArrayInputStream(new byte[0])), "5F FF");
+
+		// Readers are written as indefinite-length text strings.
+		test(new StringReader("ab"), "7F 62 61 62 FF");
+	}
+
+	//====================================================================================================
+	// testLargeStreams
+	//====================================================================================================
+	@Test
+	public void testLargeStreams() throws Exception {
+
+		// Binary content spanning multiple chunks.
+		byte[] b = new byte[20000];
+		for (int i = 0; i < b.length; i++)
+			b[i] = (byte)i;
+		byte[] r = CborSerializer.DEFAULT.serialize(new BufferedInputStream(new ByteArrayInputStream(b)));
+		assertEquals(0x5F, r[0] & 0xFF);
+		assertArrayEquals(b, CborParser.DEFAULT.parse(r, byte[].class));
+
+		// Text content with a surrogate pair that straddles a chunk boundary.
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 8191; i++)
+			sb.append('x');
+		sb.append("\ud83d\ude00").append("yz");
+		String s = sb.toString();
+		r = CborSerializer.DEFAULT.serialize(new StringReader(s));
+		assertEquals(0x7F, r[0] & 0xFF);
+		assertEquals(s, CborParser.DEFAULT.parse(r, String.class));
+	}
+
+	//====================================================================================================
+	// testStreamFlushInterval
+	//====================================================================================================
+	@Test
+	public void testStreamFlushInterval() throws Exception {
+		final List<Integer> flushes = new ArrayList<>();
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream os = new FilterOutputStream(baos) {
+			@Override /* OutputStream */
+			public void flush() {
+				flushes.add(baos.size());
+			}
+		};
+		CborSerializer.create().streamFlushInterval(2).build().serialize(Stream.of(1,2,3,4,5), os);
+		assertEquals("9F 01 02 03 04 05 FF", StringUtils.toSpacedHex(baos.toByteArray()));
+		assertEquals("[3, 5]", flushes.subList(0, 2).toString());
+	}
+
+	//====================================================================================================
+	// testBeans
+	//====================================================================================================
+	@Test
+	public void testBeans() throws Exception {
+		A a = new A();
+		a.f1 = "foo";
+		a.f2 = Arrays.asList(1, 2);
+		a.f3 = new A();
+		a.f3.f1 = "bar";
+
+		byte[] b = CborSerializer.DEFAULT.serialize(a);
+		A a2 = CborParser.DEFAULT.parse(b, A.class);
+		assertEquals("foo", a2.f1);
+		assertEquals(Arrays.asList(1, 2), a2.f2);
+		assertEquals("bar", a2.f3.f1);
+		assertNull(a2.f3.f3);
+	}
+
+	public static class A {
+		public String f1;
+		public List<Integer> f2;
+		public A f3;
+	}
+
+	private void test(Object input, String expected) throws Exception {
+		byte[] b = CborSerializer.DEFAULT.serialize(input);
+		assertEquals(expected, StringUtils.toSpacedHex(b));
+	}
+}
@@ -14,8 +14,12 @@ package org.apache.juneau.csv;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.stream.*;
 
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -38,6 +42,175 @@ public class CsvTest {
 		assertEquals("b,c\nb1,1\nb2,2\n", r);
 	}
 
+	//====================================================================================================
+	// testRoundTrip
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<B> l = new LinkedList<>();
+		l.add(new B().init("x", 1));
+		l.add(new B().init("a,b \"c\"", 2));
+		l.add(new B().init(null, 3));
+		l.add(new B().init("", 4));
+		l.add(new B().init("null", 5));
+
+		String r = CsvSerializer.DEFAULT.serialize(l);
+		B[] b = CsvParser.DEFAULT.parse(r, B[].class);
+
+		assertEquals(5, b.length);
+		assertEquals("x", b[0].b);
+		assertEquals(1, b[0].c);
+		assertEquals("a,b \"c\"", b[1].b);
+		assertNull(b[2].b);
+		assertEquals("", b[3].b);
+		assertEquals("null", b[4].b);
+		assertEquals(5, b[4].c);
+
+		List<B> l2 = CsvParser.DEFAULT.parse(r, List.class, B.class);
+		assertEquals(5, l2.size());
+		assertEquals("a,b \"c\"", l2.get(1).b);
+	}
+
+	//====================================================================================================
+	// testParseRfc4180
+	//====================================================================================================
+	@Test
+	public void testParseRfc4180() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+
+		// CRLF line endings, quoted line breaks and escaped quotes, blank lines, and no trailing line break.
+		String in = "b,c\r\n\"x\r\ny\",1\r\n\r\n\"\"\"q\"\"\",2\r\n,3";
+		List<B> l = p.parse(in, List.class, B.class);
+		assertEquals(3, l.size());
+		assertEquals("x\r\ny", l.get(0).b);
+		assertEquals("\"q\"", l.get(1).b);
+		assertNull(l.get(2).b);
+		assertEquals(3, l.get(2).c);
+
+		// Columns can appear in any order.
+		B b = p.parse("c,b\n7,foo", B.class);
+		assertEquals("foo", b.b);
+		assertEquals(7, b.c);
+
+		// Untyped input produces a list of maps.
+		Object o = p.parse("a,b\n1,\n2,\"\"", Object.class);
+		assertEquals("[{a:'1',b:null},{a:'2',b:''}]", o.toString());
+
+		// Maps with typed values.
+		List<Map<String,Integer>> l2 = p.parse("a,b\n1,2\n3,4", List.class, Map.class, String.class, Integer.class);
+		assertEquals(Integer.valueOf(4), l2.get(1).get("b"));
+
+		// Rows as lists of column values.
+		List<List<Integer>> l3 = p.parse("a,b\n1,2\n3,4", List.class, List.class, Integer.class);
+		assertEquals("[[1,2],[3,4]]", l3.toString().replace(" ", ""));
+
+		assertNull(p.parse("", B.class));
+		assertEquals(0, p.<List<B>>parse("b,c\n", List.class, B.class).size());
+	}
+
+	//====================================================================================================
+	// testParseErrors
+	//====================================================================================================
+	@Test
+	public void testParseErrors() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+		assertParseError(p, "b,c\n\"x,1", "Unterminated quoted field found in row 2.");
+		assertParseError(p, "b,c\n\"x\"y,1", "Unexpected character 'y' found after quoted field in row 2.");
+		assertParseError(p, "b,c\nx,1,2", "Row 2 has 3 fields, but the header has 2 columns.");
+		assertParseError(p, "b,,c\nx,1,2", "Empty column name found in header at column 2.");
+		assertParseError(p, "b,c\nx,1\ny,2", "Multiple rows found in input.");
+
+		try {
+			p.parse("b,c,d\nx,1,2", B.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unknown property 'd'"));
+		}
+		B b = CsvParser.create().ignoreUnknownBeanProperties().build().parse("b,c,d\nx,1,2", B.class);
+		assertEquals("x", b.b);
+	}
+
+	private static void assertParseError(ReaderParser p, String in, String msg) {
+		try {
+			p.<List<B>>parse(in, List.class, B.class).size();
+			p.parse(in, B.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains(msg));
+		}
+	}
+
+	//====================================================================================================
+	// testParseRows
+	//====================================================================================================
+	@Test
+	public void testParseRows() throws Exception {
+		CsvParserSession s = CsvParser.DEFAULT.createSession();
+		Iterator<B> i = s.parseRows(new StringReader("b,c\nx,1\n\ny,2\n"), B.class);
+		assertTrue(i.hasNext());
+		assertEquals("x", i.next().b);
+		assertEquals(2, i.next().c);
+		assertFalse(i.hasNext());
+		try {
+			i.next();
+			fail();
+		} catch (NoSuchElementException e) {}
+
+		Iterator<ObjectMap> i2 = s.parseRows("a\n1\n\"2", ObjectMap.class);
+		assertEquals("{a:'1'}", i2.next().toString());
+		try {
+			i2.hasNext();
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+
+		Iterator<List<Integer>> i3 = s.parseRows("a,b\n1,2", List.class, Integer.class);
+		assertEquals(Integer.valueOf(2), i3.next().get(1));
+
+		assertFalse(s.parseRows(null, B.class).hasNext());
+		assertFalse(s.parseRows("", B.class).hasNext());
+	}
+
+	@Test
+	public void testParseRowsSuperseded() throws Exception {
+		CsvParserSession s = CsvParser.DEFAULT.createSession();
+		Iterator<ObjectMap> i1 = s.parseRows("a\n1\n2\n3", ObjectMap.class);
+		assertEquals("{a:'1'}", i1.next().toString());
+
+		// The first iterator must not consume rows from the second input.
+		Iterator<ObjectMap> i2 = s.parseRows("b\n10\n20", ObjectMap.class);
+		assertFalse(i1.hasNext());
+		try {
+			i1.next();
+			fail();
+		} catch (ConcurrentModificationException e) {}
+		assertEquals("{b:'10'}", i2.next().toString());
+		assertEquals("{b:'20'}", i2.next().toString());
+		assertFalse(i2.hasNext());
+	}
+
+	//====================================================================================================
+	// testSerializeStreams
+	//====================================================================================================
+	@Test
+	public void testSerializeStreams() throws Exception {
+		WriterSerializer s = CsvSerializer.DEFAULT;
+
+		assertEquals("b,c\nb1,1\nb2,2\n", s.serialize(Stream.of(new A("b1",1), new A("b2",2))));
+		assertEquals("b,c\nb1,1\n", s.serialize(Arrays.asList(new A("b1",1)).iterator()));
+		assertEquals("b,c\nb1,1\n", s.serialize(new A[]{new A("b1",1)}));
+		assertEquals("b,c\nb1,1\n", s.serialize(new A("b1",1)));
+
+		List<Map<String,Object>> l = new ArrayList<>();
+		l.add(new ObjectMap("{a:'x y',b:null}"));
+		l.add(new ObjectMap("{a:'',b:'null'}"));
+		assertEquals("a,b\n\"x y\",null\n\"\",\"null\"\n", s.serialize(l));
+
+		assertEquals("1\n2\n", s.serialize(new int[]{1,2}));
+		assertEquals("", s.serialize(Collections.emptyList()));
+	}
+
 	public static class A {
 		public String b;
 		public int c;
@@ -47,4 +220,15 @@ public class CsvTest {
 			this.c = c;
 		}
 	}
+
+	public static class B {
+		public String b;
+		public int c;
+
+		B init(String b, int c) {
+			this.b = b;
+			this.c = c;
+			return this;
+		}
+	}
 }
\ No newline at end of file
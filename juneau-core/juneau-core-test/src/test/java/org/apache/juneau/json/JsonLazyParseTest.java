@@ -0,0 +1,227 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class JsonLazyParseTest {
+
+	private static final JsonParser LAX = JsonParser.create().lazy().build();
+	private static final JsonParser STRICT = JsonParser.create().strict().validateEnd().lazy().build();
+
+	//====================================================================================================
+	// Lazy results must be equal to eagerly-parsed results.
+	//====================================================================================================
+	@Test
+	public void testSameAsEager() throws Exception {
+		String[] in = {
+			"{}",
+			"{a:1}",
+			"{a:'foo',b:\"bar\",c:true,d:false,e:null,f:-1.5e3,g:9999999999,h:0.1}",
+			"{a:{b:{c:[1,[2,{d:3}],[]],e:{}}},f:'x'}",
+			"{ /* comment */ a : 1 , // comment\n b:[ 'x' , 'y' ] }",
+			"{'a b':'c\\nd\\u00e9\\\\',\"e}\":\"f]\",g:'{['}",
+			"{a:'foo'+'bar',b:0x1F}",
+			"{null:1,$a.b-c_d:2}",
+			"{a:1,a:2}",
+			"[]",
+			"[1,{a:[{b:2}]},'x',null,[[]]]",
+		};
+		for (String s : in) {
+			assertEquals(s, JsonParser.DEFAULT.parse(s, type(s)), LAX.parse(s, type(s)));
+		}
+		String[] strictIn = {
+			"{\"a\":1,\"b\":[1,2,{\"c\":\"d\\\"e\"}],\"f\":{\"g\":-0.5E+2}}",
+			"[{\"a\":null},true]",
+		};
+		for (String s : strictIn)
+			assertEquals(s, JsonParser.DEFAULT_STRICT.parse(s, type(s)), STRICT.parse(s, type(s)));
+	}
+
+	private static Class<?> type(String s) {
+		return s.startsWith("[") ? ObjectList.class : ObjectMap.class;
+	}
+
+	//====================================================================================================
+	// Values are only decoded when accessed.
+	//====================================================================================================
+	@Test
+	public void testDeferredDecoding() throws Exception {
+		// The value of 'b' is invalid, but it's never decoded.
+		ObjectMap m = LAX.parse("{a:{x:1},b:[1,2 3],c:'foo'}", ObjectMap.class);
+		assertEquals(3, m.size());
+		assertEquals(Arrays.asList("a","b","c"), new ArrayList<>(m.keySet()));
+		assertEquals("foo", m.getString("c"));
+		assertEquals(1, (int)m.getObjectMap("a").getInt("x"));
+		assertSame(m.get("a"), m.get("a"));
+
+		try {
+			m.get("b");
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+
+		// Syntax errors in nested objects are detected when the nested object is accessed.
+		m = LAX.parse("{a:1,b:{c:1 d:2}}", ObjectMap.class);
+		assertEquals(1, (int)m.getInt("a"));
+		try {
+			m.get("b");
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+	}
+
+	//====================================================================================================
+	// Views resolve placeholders.
+	//====================================================================================================
+	@Test
+	public void testViews() throws Exception {
+		String s = "{a:1,b:{c:[2]},d:'x'}";
+
+		ObjectMap m = LAX.parse(s, ObjectMap.class);
+		for (Map.Entry<String,Object> e : m.entrySet())
+			assertFalse(e.getValue() instanceof JsonIndex.Span);
+
+		m = LAX.parse(s, ObjectMap.class);
+		assertEquals(Arrays.asList(1, new ObjectMap("{c:[2]}"), "x"), new ArrayList<>(m.values()));
+
+		m = LAX.parse(s, ObjectMap.class);
+		assertTrue(m.containsValue("x"));
+		assertEquals(1, m.remove("a"));
+		assertEquals("x", m.put("d", "y"));
+		assertEquals("{b:{c:[2]},d:'y'}", m.toString());
+
+		m = LAX.parse(s, ObjectMap.class);
+		assertEquals(JsonParser.DEFAULT.parse(s, ObjectMap.class), m);
+		assertEquals(m, JsonParser.DEFAULT.parse(s, ObjectMap.class));
+		assertEquals("[2]", m.getAt("b/c", ObjectList.class).toString());
+
+		m = LAX.parse(s, ObjectMap.class);
+		final List<Object> l = new ArrayList<>();
+		m.forEach((k,v) -> l.add(v));
+		assertEquals("[1, {c:[2]}, x]", l.toString());
+	}
+
+	//====================================================================================================
+	// Syntax errors.
+	//====================================================================================================
+	@Test
+	public void testErrors() throws Exception {
+		String[] in = {
+			"{a:1",
+			"{a:[1}",
+			"[1,2",
+			"{a:'foo}",
+		};
+		for (String s : in) {
+			try {
+				LAX.parse(s, type(s));
+				fail(s);
+			} catch (ParseException e) {}
+		}
+
+		String[] strictIn = {
+			"{a:1}",
+			"{\"a\":01}",
+			"{\"a\":'b'}",
+			"{\"a\":1,}",
+			"[1,]",
+			"{\"a\":1} x",
+		};
+		for (String s : strictIn) {
+			try {
+				Object o = STRICT.parse(s, type(s));
+				if (o instanceof Map)
+					((Map<?,?>)o).values();
+				fail(s);
+			} catch (ParseException e) {
+			} catch (RuntimeException e) {
+				assertTrue(e.getCause() instanceof ParseException);
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Strict mode doesn't allow comments, same as eager parsing.
+	//====================================================================================================
+	@Test
+	public void testStrictComments() throws Exception {
+		String[] in = {
+			"{/*c*/\"a\":1}",
+			"{\"a\"/*c*/:1}",
+			"{\"a\":1/*c*/}",
+			"{\"a\":{\"b\":1}//c\n}",
+			"[1,//c\n2]",
+		};
+		for (String s : in) {
+			for (JsonParser p : new JsonParser[]{STRICT, JsonParser.DEFAULT_STRICT}) {
+				try {
+					p.parse(s, type(s));
+					fail(s);
+				} catch (ParseException e) {
+					assertTrue(s, e.getLocalizedMessage().contains("Javascript comment detected."));
+				}
+			}
+			assertEquals(s, JsonParser.DEFAULT.parse(s, type(s)), LAX.parse(s, type(s)));
+		}
+	}
+
+	//====================================================================================================
+	// Non-container input and other target types are parsed normally.
+	//====================================================================================================
+	@Test
+	public void testFallback() throws Exception {
+		assertNull(LAX.parse("null", ObjectMap.class));
+		assertNull(LAX.parse("", ObjectMap.class));
+		assertEquals(ObjectMap.class, LAX.parse("{a:1}", ObjectMap.class).getClass().getSuperclass());
+		assertEquals(ObjectMap.class, LAX.parse("{a:1}", Object.class).getClass());
+		assertEquals(1, LAX.parse("{a:1}", Map.class).get("a"));
+		assertEquals("{a:1}", LAX.parse(new StringBuilder("{a:1}"), ObjectMap.class).toString());
+		assertEquals("{a:1}", LAX.parse(new StringReader("{a:1}"), ObjectMap.class).toString());
+		assertEquals("[1]", LAX.parse(new StringReader(" /*x*/ [1]"), ObjectList.class).toString());
+		assertNull(LAX.parse(new StringReader("null"), ObjectMap.class));
+
+		// Input larger than the initial read buffer.
+		StringBuilder sb = new StringBuilder("{");
+		for (int i = 0; i < 5000; i++)
+			sb.append(i == 0 ? "" : ",").append("a").append(i).append(":").append(i);
+		String s = sb.append("}").toString();
+		ObjectMap m = LAX.parse(new StringReader(s), ObjectMap.class);
+		assertEquals(5000, m.size());
+		assertEquals(4999, (int)m.getInt("a4999"));
+		assertEquals(JsonParser.DEFAULT.parse(s, ObjectMap.class), m);
+	}
+
+	//====================================================================================================
+	// Quoted keys from the input are not interned, same as eager parsing.
+	//====================================================================================================
+	@Test
+	public void testQuotedKeysNotInterned() throws Exception {
+		for (JsonParser p : new JsonParser[]{LAX, STRICT, JsonParser.DEFAULT}) {
+			ObjectMap m = p.parse("{\"foo\":1}", ObjectMap.class);
+			String key = m.keySet().iterator().next();
+			assertEquals("foo", key);
+			assertTrue(key != "foo");
+		}
+	}
+}
@@ -16,6 +16,7 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
@@ -370,7 +371,135 @@ public class JsonParserTest {
 		assertObjectEquals("[456]", x);
 	}
 
+	//====================================================================================================
+	// testParseArrayElements
+	//====================================================================================================
+	@Test
+	public void testParseArrayElements() throws Exception {
+		JsonParserSession s = JsonParser.DEFAULT.createSession();
+		Iterator<A> i = s.parseArrayElements(reader(" /*x*/ [ {fa:'a'}, {fa:'b'} ,{fa:'c'} ] "), A.class);
+		StringBuilder sb = new StringBuilder();
+		while (i.hasNext())
+			sb.append(i.next().fa);
+		assertEquals("abc", sb.toString());
+		try {
+			i.next();
+			fail("Exception expected");
+		} catch (NoSuchElementException e) {}
+
+		Iterator<List<Integer>> i2 = s.parseArrayElements("[[1,2],[3]]", List.class, Integer.class);
+		assertObjectEquals("[1,2]", i2.next());
+		assertObjectEquals("[3]", i2.next());
+		assertFalse(i2.hasNext());
+
+		assertFalse(s.parseArrayElements("[]", A.class).hasNext());
+		assertFalse(s.parseArrayElements(null, A.class).hasNext());
+
+		// Starting a new iteration discards the previous one.
+		Iterator<Integer> i3 = s.parseArrayElements("[1,2,3]", Integer.class);
+		assertEquals(1, i3.next().intValue());
+		Iterator<Integer> i4 = s.parseArrayElements("[4]", Integer.class);
+		assertEquals(4, i4.next().intValue());
+		assertFalse(i4.hasNext());
+	}
+
+	@Test
+	public void testParseArrayElementsSuperseded() throws Exception {
+		JsonParserSession s = JsonParser.DEFAULT.createSession();
+		Iterator<Integer> i1 = s.parseArrayElements("[1,2,3]", Integer.class);
+		assertEquals(1, i1.next().intValue());
+
+		// The first iterator must not consume elements from the second input.
+		Iterator<Integer> i2 = s.parseArrayElements("[10,20,30]", Integer.class);
+		assertFalse(i1.hasNext());
+		try {
+			i1.next();
+			fail("Exception expected");
+		} catch (ConcurrentModificationException e) {}
+		assertEquals(10, i2.next().intValue());
+		assertEquals(20, i2.next().intValue());
+
+		// Same after a reset.
+		s.reset();
+		assertFalse(i2.hasNext());
+	}
+
+	@Test
+	public void testParseArrayElementsInvalid() throws Exception {
+		JsonParserSession s = JsonParser.DEFAULT.createSession();
+		try {
+			s.parseArrayElements("{fa:'a'}", A.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Expected '[' at beginning of JSON array."));
+		}
+
+		testParseArrayElementsError(s, "[1,2,]", "Unexpected trailing comma in array.");
+		testParseArrayElementsError(s, "[1,2 3]", "Expected ',' or ']'.");
+		testParseArrayElementsError(s, "[1,2", "Expected ',' or ']'.");
+		testParseArrayElementsError(JsonParser.create().validateEnd().build().createSession(), "[1,2]x", "Remainder after parse: 'x'.");
+		testParseArrayElementsError(s, "[1,'x']", "Invalid number: 'x'");
+	}
+
+	private void testParseArrayElementsError(JsonParserSession s, String json, String msg) throws Exception {
+		Iterator<Integer> i = s.parseArrayElements(json, Integer.class);
+		try {
+			while (i.hasNext())
+				i.next();
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+			assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains(msg));
+		}
+		assertFalse(i.hasNext());
+	}
+
 	private Reader reader(String in) {
 		return new CloseableStringReader(in);
 	}
+
+	//====================================================================================================
+	// Parsing from UTF-8 encoded byte arrays and byte buffers.
+	//====================================================================================================
+	@Test
+	public void testParseUtf8Bytes() throws Exception {
+		String json = "{a:'\u00e9t\u00e9',b:['\u4e2d','\ud83d\ude00'],c:1}";
+		ObjectMap expected = JsonParser.DEFAULT.parse(json, ObjectMap.class);
+		byte[] b = json.getBytes("UTF-8");
+
+		assertEquals(expected, JsonParser.DEFAULT.parse(b, ObjectMap.class));
+		assertEquals(expected, JsonParser.DEFAULT.parse(java.nio.ByteBuffer.wrap(b), ObjectMap.class));
+		assertEquals(expected, JsonParser.create().debug().build().parse(b, ObjectMap.class));
+
+		// Non-UTF-8 charsets still go through a charset decoder.
+		JsonParser p = JsonParser.create().inputStreamCharset("UTF-16LE").build();
+		assertEquals(expected, p.parse(json.getBytes("UTF-16LE"), ObjectMap.class));
+		assertEquals(expected, p.parse(java.nio.ByteBuffer.wrap(json.getBytes("UTF-16LE")), ObjectMap.class));
+	}
+
+	//====================================================================================================
+	// Long strings, comments and escapes spanning buffer refills.
+	//====================================================================================================
+	@Test
+	public void testLongStrings() throws Exception {
+		StringBuilder in = new StringBuilder(), expected = new StringBuilder();
+		for (int i = 0; i < 3000; i++) {
+			in.append(i % 100 == 0 ? "\\n\\u00e9\\\"" : "x");
+			expected.append(i % 100 == 0 ? "\n\u00e9\"" : "x");
+		}
+		String json = "/* comment **/ {a:\"" + in + "\", // comment\n b:'" + in + "'}";
+		ObjectMap m = JsonParser.DEFAULT.parse(new StringReader(json), ObjectMap.class);
+		assertEquals(expected.toString(), m.getString("a"));
+		assertEquals(expected.toString(), m.getString("b"));
+
+		m = JsonParser.DEFAULT_STRICT.parse(new StringReader("{\"a\":\"" + in + "\"}"), ObjectMap.class);
+		assertEquals(expected.toString(), m.getString("a"));
+
+		try {
+			JsonParser.DEFAULT_STRICT.parse("{\"a\":\"" + in + "\t\"}", ObjectMap.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().startsWith("Unescaped control character"));
+		}
+	}
 }
@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class JsonUtf8SerializerTest {
+
+	//====================================================================================================
+	// Output must match JsonSerializer byte-for-byte.
+	//====================================================================================================
+	@Test
+	public void testSameAsJsonSerializer() throws Exception {
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("a", "foo");
+		m.put("b c", "x\ny\t\"z'\\/");
+		m.put("\u00e9t\u00e9", "\u00fcber \u20ac \ud83d\ude00");
+		m.put("class", Arrays.asList(1, 2.5, true, null));
+		m.put("bean", new A());
+		m.put(null, new int[]{1,2,3});
+
+		assertSame(JsonSerializer.create().build(), m);
+		assertSame(JsonSerializer.create().simple().build(), m);
+		assertSame(JsonSerializer.create().ssq().build(), m);
+		assertSame(JsonSerializer.create().ws().escapeSolidus(true).build(), m);
+		assertSame(JsonSerializer.create().trimStrings().build(), m);
+	}
+
+	private static void assertSame(JsonSerializer js, Object o) throws Exception {
+		JsonUtf8Serializer s = js.builder().build(JsonUtf8Serializer.class);
+		String expected = js.serialize(o);
+		// Twice so that the second pass uses the cached attribute names.
+		assertEquals(expected, new String(s.serialize(o), UTF8));
+		assertEquals(expected, new String(s.serialize(o), UTF8));
+		assertArrayEquals(expected.getBytes(UTF8), s.serialize(o));
+	}
+
+	public static class A {
+		public String f1 = "\u00e4";
+		public int f2 = 1;
+	}
+
+	//====================================================================================================
+	// Only bean property names are cached, not map keys.
+	//====================================================================================================
+	@Test
+	public void testAttrCache() throws Exception {
+		JsonUtf8Serializer s = JsonSerializer.create().build(JsonUtf8Serializer.class);
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("k1", new A());
+		m.put("k2", 1);
+		assertEquals("{\"k1\":{\"f1\":\"\u00e4\",\"f2\":1},\"k2\":1}", new String(s.serialize(m), UTF8));
+		assertEquals(new HashSet<>(Arrays.asList("f1", "f2")), s.getAttrCache().keySet());
+	}
+
+	//====================================================================================================
+	// Output larger than the internal buffer.
+	//====================================================================================================
+	@Test
+	public void testLargeOutput() throws Exception {
+		List<String> l = new ArrayList<>();
+		for (int i = 0; i < 5000; i++)
+			l.add("\u00e9\u4e2d\ud83d\ude00" + i);
+		String expected = JsonSerializer.DEFAULT.serialize(l);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		JsonUtf8Serializer.DEFAULT.serialize(l, baos);
+		assertEquals(expected, new String(baos.toByteArray(), UTF8));
+	}
+
+	//====================================================================================================
+	// serializeToString() returns text, not hex.
+	//====================================================================================================
+	@Test
+	public void testSerializeToString() throws Exception {
+		assertEquals("{\"a\":\"\u00e9\"}", JsonUtf8Serializer.DEFAULT.serializeToString(new ObjectMap().append("a", "\u00e9")));
+		assertFalse(JsonUtf8Serializer.DEFAULT.isWriterSerializer());
+	}
+
+	//====================================================================================================
+	// Session pooling
+	//====================================================================================================
+	@Test
+	public void testPooledSessions() throws Exception {
+		OutputStreamSerializer s = JsonSerializer.create().ssq().sessionPoolSize(2).build(JsonUtf8Serializer.class);
+		for (int i = 0; i < 5; i++)
+			assertEquals("{a:" + i + "}", new String(s.serialize(new ObjectMap().append("a", i)), UTF8));
+	}
+
+	//====================================================================================================
+	// Utf8Writer edge cases
+	//====================================================================================================
+	@Test
+	public void testUtf8Writer() throws Exception {
+		String[] tests = {
+			"",
+			"abc",
+			"\u0080\u07ff\u0800\uffff",
+			"\ud83d\ude00",
+			"x\ud83dy",
+			"x\ude00y",
+			"x\ud83d",
+		};
+		for (String t : tests) {
+			for (int size : new int[]{4, 5, 8192}) {
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				Utf8Writer w = new Utf8Writer(baos, new byte[size]);
+				for (int i = 0; i < t.length(); i++)
+					w.write(t.charAt(i));
+				w.write(t);
+				w.write(t.toCharArray(), 0, t.length());
+				w.close();
+				String e = t + t + t;
+				assertEquals(t, new String(e.getBytes(UTF8), UTF8), new String(baos.toByteArray(), UTF8));
+			}
+		}
+	}
+}
@@ -0,0 +1,183 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class NdJsonTest {
+
+	//====================================================================================================
+	// Serializer
+	//====================================================================================================
+	@Test
+	public void testSerializeCollections() throws Exception {
+		NdJsonSerializer s = NdJsonSerializer.DEFAULT;
+		assertEquals("{\"a\":1,\"b\":[1,2]}\n{\"a\":2,\"b\":[]}\n", s.serialize(Arrays.asList(new A(1, 1, 2), new A(2))));
+		assertEquals("1\n2\n3\n", s.serialize(new int[]{1,2,3}));
+		assertEquals("\"a\\nb\"\nnull\n", s.serialize(new String[]{"a\nb",null}));
+		assertEquals("{\"a\":1,\"b\":[]}\n", s.serialize(new A(1)));
+		assertEquals("null\n", s.serialize(null));
+		assertEquals("", s.serialize(new ArrayList<>()));
+	}
+
+	@Test
+	public void testSerializeStreams() throws Exception {
+		NdJsonSerializer s = NdJsonSerializer.DEFAULT;
+		assertEquals("1\n2\n", s.serialize(Arrays.asList(1, 2).iterator()));
+		assertEquals("1\n2\n", s.serialize(Collections.enumeration(Arrays.asList(1, 2))));
+		assertEquals("1\n2\n", s.serialize(Stream.of(1, 2)));
+	}
+
+	@Test
+	public void testSerializerSettings() throws Exception {
+		// Whitespace is never added.
+		NdJsonSerializer s = JsonSerializer.create().simple().ws().build(NdJsonSerializer.class);
+		assertEquals("{a:1,b:[1]}\n", s.serialize(Arrays.asList(new A(1, 1))));
+
+		// Not even when requested through the session arguments (e.g. REST "?plainText=true").
+		String out = NdJsonSerializer.DEFAULT.createSession(new SerializerSessionArgs().useWhitespace(true)).serialize(Arrays.asList(new A(1, 1), new A(2)));
+		assertEquals("{\"a\":1,\"b\":[1]}\n{\"a\":2,\"b\":[]}\n", out);
+	}
+
+	public static class A {
+		public int a;
+		public int[] b;
+
+		public A() {}
+
+		A(int a, int...b) {
+			this.a = a;
+			this.b = b;
+		}
+	}
+
+	//====================================================================================================
+	// Parser
+	//====================================================================================================
+	@Test
+	public void testParse() throws Exception {
+		NdJsonParser p = NdJsonParser.DEFAULT;
+		String in = "{a:1,b:[1,2]}\r\n\n  \n{a:2,b:[]}";
+
+		List<A> l = p.parse(in, List.class, A.class);
+		assertObjectEquals("[{a:1,b:[1,2]},{a:2,b:[]}]", l);
+		assertEquals(A.class, l.get(0).getClass());
+
+		A[] a = p.parse(in, A[].class);
+		assertEquals(2, a.length);
+
+		assertObjectEquals("[{a:1,b:[1,2]},{a:2,b:[]}]", p.parse(in, Object.class));
+		assertObjectEquals("[1,'foo',null]", p.parseIntoCollection(new StringReader("1\n'foo'\nnull\n"), new ArrayList<>(), Object.class));
+
+		assertObjectEquals("{a:1,b:[1,2]}", p.parse("{a:1,b:[1,2]}\n", A.class));
+		assertNull(p.parse("", A.class));
+		assertObjectEquals("[]", p.parse("", List.class, A.class));
+	}
+
+	@Test
+	public void testParseErrors() throws Exception {
+		NdJsonParser p = NdJsonParser.DEFAULT;
+		try {
+			p.parse("{a:1}\n{a:2}", A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Multiple values"));
+		}
+		try {
+			p.parse("{a:1}\n\n{a:2} {a:3}", List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Could not parse line 3:"));
+		}
+		try {
+			p.parse("{a:1,\nb:[1]}", List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Could not parse line 1:"));
+		}
+	}
+
+	@Test
+	public void testParseLines() throws Exception {
+		NdJsonParserSession s = NdJsonParser.DEFAULT.createSession();
+		Iterator<A> i = s.parseLines(new StringReader("{a:1}\n\n{a:2}\n"), A.class);
+		assertTrue(i.hasNext());
+		assertTrue(i.hasNext());
+		assertEquals(1, i.next().a);
+		assertEquals(2, i.next().a);
+		assertFalse(i.hasNext());
+		try {
+			i.next();
+			fail();
+		} catch (NoSuchElementException e) {}
+
+		Iterator<List<Integer>> i2 = s.parseLines("[1,2]\n[3]", List.class, Integer.class);
+		assertObjectEquals("[1,2]", i2.next());
+		assertObjectEquals("[3]", i2.next());
+		assertFalse(i2.hasNext());
+
+		Iterator<ObjectMap> i3 = s.parseLines("{a:1}\n{a:", ObjectMap.class);
+		assertEquals(1, (int)i3.next().getInt("a"));
+		try {
+			i3.next();
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+
+		assertFalse(s.parseLines(null, A.class).hasNext());
+	}
+
+	@Test
+	public void testParseLinesSuperseded() throws Exception {
+		NdJsonParserSession s = NdJsonParser.DEFAULT.createSession();
+		Iterator<Integer> i1 = s.parseLines("1\n2\n3", Integer.class);
+		assertEquals(1, i1.next().intValue());
+
+		// The first iterator must not consume lines from the second input.
+		Iterator<Integer> i2 = s.parseLines("10\n20", Integer.class);
+		assertFalse(i1.hasNext());
+		try {
+			i1.next();
+			fail();
+		} catch (ConcurrentModificationException e) {}
+		assertEquals(10, i2.next().intValue());
+		assertEquals(20, i2.next().intValue());
+		assertFalse(i2.hasNext());
+	}
+
+	//====================================================================================================
+	// Round trip
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int j = 0; j < 100; j++)
+			l.add(new A(j, j, j+1));
+		String out = NdJsonSerializer.DEFAULT.serialize(l);
+		assertEquals(100, out.split("\n").length);
+		List<A> l2 = NdJsonParser.DEFAULT.parse(out, List.class, A.class);
+		assertEquals(JsonSerializer.DEFAULT.serialize(l), JsonSerializer.DEFAULT.serialize(l2));
+	}
+}
@@ -16,6 +16,9 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -131,6 +134,201 @@ public class MsgPackParserTest {
 		assertObjectEquals("{'1':2}", r);
 	}
 
+	//====================================================================================================
+	// testByteBufferInput
+	// Validates parsing directly from heap, direct and read-only buffers.
+	//====================================================================================================
+	@Test
+	public void testByteBufferInput() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT;
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new ObjectMap("{a:'foo',b:[1,2,'bar'],c:{d:'\u00e9\u4e2d'}}"));
+
+		ByteBuffer[] buffers = {
+			ByteBuffer.wrap(b),
+			(ByteBuffer)ByteBuffer.allocateDirect(b.length).put(b).flip(),
+			ByteBuffer.wrap(b).asReadOnlyBuffer()
+		};
+		for (ByteBuffer bb : buffers) {
+			assertObjectEquals("{a:'foo',b:[1,2,'bar'],c:{d:'\u00e9\u4e2d'}}", p.parse(bb, ObjectMap.class));
+			assertEquals(0, bb.position());
+		}
+
+		// Parsing starts at the position of the buffer.
+		ByteBuffer bb = ByteBuffer.allocate(b.length + 2);
+		bb.put((byte)0x01).put(b).put((byte)0x02).flip().position(1);
+		assertObjectEquals("{a:'foo',b:[1,2,'bar'],c:{d:'\u00e9\u4e2d'}}", p.parse(bb, ObjectMap.class));
+
+		try {
+			p.parse(ByteBuffer.wrap(b, 0, b.length-2), ObjectMap.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unexpected end of file"));
+		}
+	}
+
+	//====================================================================================================
+	// testBinaryFields
+	// Validates that binary fields are returned as read-only slices of buffer input.
+	//====================================================================================================
+	@Test
+	public void testBinaryFields() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT;
+		A a = new A();
+		a.f1 = ByteBuffer.wrap(new byte[]{1,2,3});
+		a.f2 = "foo";
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(a);
+		assertEquals("82 A2 66 31 C4 03 01 02 03 A2 66 32 A3 66 6F 6F", StringUtils.toSpacedHex(b));
+
+		ByteBuffer bb = (ByteBuffer)ByteBuffer.allocateDirect(b.length).put(b).flip();
+		a = p.parse(bb, A.class);
+		assertTrue(a.f1.isReadOnly());
+		assertTrue(a.f1.isDirect());
+		assertEquals(3, a.f1.remaining());
+		assertEquals(3, a.f1.get(2));
+		assertEquals("foo", a.f2);
+
+		a = p.parse(b, A.class);
+		assertTrue(a.f1.isReadOnly());
+		assertEquals(1, a.f1.get(0));
+
+		a = p.parse(new ByteArrayInputStream(b), A.class);
+		assertTrue(a.f1.isReadOnly());
+		assertEquals(2, a.f1.get(1));
+
+		assertObjectEquals("[1,2,3]", p.parse(is("C4 03 01 02 03"), byte[].class));
+		assertTrue(Arrays.equals(new byte[]{1,2,3}, (byte[])p.parse(is("C4 03 01 02 03"), Object.class)));
+	}
+
+	//====================================================================================================
+	// testBinaryStreams
+	// Validates that binary fields can be parsed as input streams.
+	//====================================================================================================
+	@Test
+	public void testBinaryStreams() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT;
+		byte[] b = new byte[100000];
+		for (int i = 0; i < b.length; i++)
+			b[i] = (byte)i;
+		B x = new B();
+		x.f1 = new ByteArrayInputStream(b);
+		x.f2 = "foo";
+		byte[] m = MsgPackSerializer.DEFAULT.serialize(x);
+
+		// Larger than the spool threshold when read from a stream.
+		x = p.parse(new ByteArrayInputStream(m), B.class);
+		try (InputStream is = x.f1) {
+			assertTrue(Arrays.equals(b, IOUtils.readBytes(is, 1024)));
+		}
+		assertEquals("foo", x.f2);
+
+		// Slices of the input when read from a buffer.
+		x = p.parse(m, B.class);
+		try (InputStream is = x.f1) {
+			assertTrue(Arrays.equals(b, IOUtils.readBytes(is, 1024)));
+		}
+
+		try (InputStream is = p.parse(is("C4 03 01 02 03"), InputStream.class)) {
+			assertEquals("01 02 03", StringUtils.toSpacedHex(IOUtils.readBytes(is, 1024)));
+		}
+	}
+
+	//====================================================================================================
+	// testBinaryStreamsParseFailure
+	// Validates that temporary files of spooled binary fields are deleted when the parse fails.
+	//====================================================================================================
+	@Test
+	public void testBinaryStreamsParseFailure() throws Exception {
+		byte[] b = new byte[100000];
+		byte[] m = MsgPackSerializer.DEFAULT.serialize(new ObjectMap().append("f1", new ByteArrayInputStream(b)).append("f2", "foo"));
+		m = Arrays.copyOf(m, m.length - 1);
+		Set<String> before = spoolFiles();
+		try {
+			MsgPackParser.DEFAULT.parse(new ByteArrayInputStream(m), B.class);
+			fail();
+		} catch (ParseException e) {}
+		assertTrue(before.containsAll(spoolFiles()));
+	}
+
+	static Set<String> spoolFiles() {
+		Set<String> s = new HashSet<>();
+		for (String n : new File(System.getProperty("java.io.tmpdir")).list())
+			if (n.startsWith("juneau") && n.endsWith(".spool"))
+				s.add(n);
+		return s;
+	}
+
+	public static class B {
+		public InputStream f1;
+		public String f2;
+	}
+
+	public static class A {
+		public ByteBuffer f1;
+		public String f2;
+	}
+
+	//====================================================================================================
+	// testMappedFile
+	// Validates that file input is parsed from a memory-mapped buffer.
+	//====================================================================================================
+	@Test
+	public void testMappedFile() throws Exception {
+		File f = File.createTempFile("MsgPackParserTest", ".msgpack");
+		try {
+			Files.write(f.toPath(), MsgPackSerializer.DEFAULT.serialize(new ObjectList("[{a:'foo'},{a:'bar'}]")));
+			assertObjectEquals("[{a:'foo'},{a:'bar'}]", MsgPackParser.DEFAULT.parse(f, ObjectList.class));
+			assertObjectEquals("[{a:'foo'},{a:'bar'}]", MsgPackParser.DEFAULT.builder().debug().build().parse(f, ObjectList.class));
+		} finally {
+			f.delete();
+		}
+	}
+
+	//====================================================================================================
+	// testLargeMappedFile
+	// Validates that files too large to be mapped into a single buffer are read in regions.
+	//====================================================================================================
+	@Test
+	public void testLargeMappedFile() throws Exception {
+		File f = File.createTempFile("MsgPackParserTest", ".msgpack");
+		try {
+			// Sparse file just over 3GB.  Regions are at most Integer.MAX_VALUE bytes long.
+			// f2 extends past the end of the first region, and the key of f3 spans the end of the second one.
+			Assume.assumeTrue(f.getParentFile().getUsableSpace() > 0x100000000L);
+			int len1 = 0x40000000, len2 = Integer.MAX_VALUE - 2;
+			long d1 = 9, e1 = d1 + len1, d2 = e1 + 8, e2 = d2 + len2;
+			try (RandomAccessFile raf = new RandomAccessFile(f, "rw")) {
+				raf.write(StringUtils.fromSpacedHex("83 A2 66 31 C6"));
+				raf.writeInt(len1);
+				raf.seek(d1);
+				raf.write(1);
+				raf.seek(e1 - 1);
+				raf.write(2);
+				raf.write(StringUtils.fromSpacedHex("A2 66 32 C6"));
+				raf.writeInt(len2);
+				raf.write(3);
+				raf.seek(e2 - 1);
+				raf.write(4);
+				raf.write(StringUtils.fromSpacedHex("A2 66 33 A3 66 6F 6F"));
+			}
+
+			E e = MsgPackParser.DEFAULT.parse(f, E.class);
+			assertEquals(len1, e.f1.remaining());
+			assertEquals(1, e.f1.get(0));
+			assertEquals(2, e.f1.get(len1 - 1));
+			assertEquals(len2, e.f2.remaining());
+			assertEquals(3, e.f2.get(0));
+			assertEquals(4, e.f2.get(len2 - 1));
+			assertEquals("foo", e.f3);
+		} finally {
+			f.delete();
+		}
+	}
+
+	public static class E {
+		public ByteBuffer f1, f2;
+		public String f3;
+	}
+
 	private InputStream is(String spacedHex) throws Exception {
 		return new CloseableByteArrayInputStream(StringUtils.fromSpacedHex(spacedHex));
 	}
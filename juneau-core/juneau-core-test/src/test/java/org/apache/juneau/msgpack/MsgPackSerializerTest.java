@@ -14,7 +14,12 @@ package org.apache.juneau.msgpack;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
 import org.apache.juneau.*;
+import org.apache.juneau.http.*;
 import org.apache.juneau.internal.*;
 import org.junit.*;
 
@@ -204,6 +209,41 @@ public class MsgPackSerializerTest {
 		test(new ObjectMap("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// testStreams
+	// Validates that stream values are written as bin/str fields.
+	//====================================================================================================
+	@Test
+	public void testStreams() throws Exception {
+		test(new ByteArrayInputStream(new byte[]{1,2,3}), "C4 03 01 02 03");
+		test(new BufferedInputStream(new ByteArrayInputStream(new byte[]{1,2,3})), "C4 03 01 02 03");
+		test(new StringReader("foo"), "A3 66 6F 6F");
+		test(new StringReader(""), "A0");
+		String s = StringUtils.toSpacedHex(MsgPackSerializer.DEFAULT.serialize(StreamResource.create().contents(new byte[]{1,2,3}).build()));
+		assertTrue(s, s.contains("A8 63 6F 6E 74 65 6E 74 73 C4 03 01 02 03"));
+
+		// Unknown lengths larger than the spool threshold.
+		byte[] b = new byte[100000];
+		for (int i = 0; i < b.length; i++)
+			b[i] = (byte)i;
+		byte[] r = MsgPackSerializer.DEFAULT.serialize(new BufferedInputStream(new ByteArrayInputStream(b)));
+		assertEquals(b.length + 5, r.length);
+		assertEquals("C6 00 01 86 A0 00 01 02", StringUtils.toSpacedHex(Arrays.copyOf(r, 8)));
+		assertEquals((byte)(b.length-1), r[r.length-1]);
+
+		// Known lengths from files.
+		File f = File.createTempFile("MsgPackSerializerTest", ".bin");
+		try {
+			Files.write(f.toPath(), b);
+			try (InputStream is = new FileInputStream(f)) {
+				is.skip(99997);
+				test(is, "C4 03 9D 9E 9F");
+			}
+		} finally {
+			f.delete();
+		}
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
@@ -0,0 +1,111 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.urlencoding.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Parser#PARSER_keyPoolSize} setting.
+ */
+public class ParserKeyPoolTest {
+
+	@Test
+	public void testJson() throws Exception {
+		ReaderParser p = JsonParser.create().keyPoolSize(64).build();
+		assertSameKeys(p.parse("[{\"foo\":1,'bar':2,baz:3},{\"foo\":4,'bar':5,baz:6}]", List.class));
+		assertSameKeys(p.parse("{\"foo\":1,'bar':2,baz:3}", ObjectMap.class), p.parse("{\"foo\":4,'bar':5,baz:6}", ObjectMap.class));
+
+		// Keys with escape sequences are still decoded correctly.
+		assertObjectEquals("[{'f\\no':1},{'f\\no':2}]", p.parse("[{'f\\no':1},{'f\\u000ao':2}]", List.class));
+
+		ReaderParser lazy = JsonParser.create().keyPoolSize(64).lazy().build();
+		assertSameKeys(lazy.parse("{\"foo\":1,'bar':2,baz:3}", ObjectMap.class), lazy.parse("{\"foo\":4,'bar':5,baz:6}", ObjectMap.class));
+	}
+
+	@Test
+	public void testMsgPack() throws Exception {
+		InputStreamParser p = MsgPackParser.create().keyPoolSize(64).build();
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new ObjectList("[{foo:1,bar:2,'\u00e9':3},{foo:4,bar:5,'\u00e9':6}]"));
+		List<?> l = p.parse(b, List.class);
+		assertObjectEquals("[{foo:1,bar:2,'\u00e9':3},{foo:4,bar:5,'\u00e9':6}]", l);
+		Iterator<?> i1 = ((Map<?,?>)l.get(0)).keySet().iterator(), i2 = ((Map<?,?>)l.get(1)).keySet().iterator();
+		assertTrue(i1.next() == i2.next());
+		assertTrue(i1.next() == i2.next());
+
+		b = MsgPackSerializer.DEFAULT.serialize(new ObjectList("[{foo:1,bar:2},{foo:4,bar:5}]"));
+		assertSameKeys(p.parse(new ByteArrayInputStream(b), List.class));
+
+		assertObjectEquals("{f1:'a'}", p.parse(MsgPackSerializer.DEFAULT.serialize(new A()), A.class));
+	}
+
+	@Test
+	public void testUrlEncoding() throws Exception {
+		ReaderParser p = UrlEncodingParser.create().keyPoolSize(64).build();
+		assertSameKeys(p.parse("foo=1&bar=2&baz=3", ObjectMap.class), p.parse("foo=4&bar=5&baz=6", ObjectMap.class));
+		assertObjectEquals("{f1:'a'}", p.parse("f1=a", A.class));
+	}
+
+	@Test
+	public void testStringPool() throws Exception {
+		StringPool p = new StringPool(4, 8);
+		char[] c = "xfoobarx".toCharArray();
+		String s = p.get(c, 1, 3);
+		assertEquals("foo", s);
+		assertTrue(s == p.get(c, 1, 3));
+		assertTrue(s == p.get("foo".getBytes("UTF-8"), 0, 3));
+		assertEquals("", p.get(c, 0, 0));
+
+		// Strings longer than the maximum length are not pooled.
+		String s2 = p.get("abcdefghi".toCharArray(), 0, 9);
+		assertTrue(s2 != p.get("abcdefghi".toCharArray(), 0, 9));
+
+		// Non-ASCII byte ranges are decoded but not pooled.
+		byte[] b = "\u00e9t\u00e9".getBytes("UTF-8");
+		assertEquals("\u00e9t\u00e9", p.get(b, 0, b.length));
+
+		// The table is bounded, so colliding strings replace each other.
+		for (int i = 0; i < 100; i++)
+			assertEquals("k" + i, p.get(("k" + i).toCharArray(), 0, ("k" + i).length()));
+	}
+
+	private static void assertSameKeys(Object...maps) {
+		List<Map<?,?>> l = new ArrayList<>();
+		for (Object o : maps) {
+			if (o instanceof List)
+				for (Object o2 : (List<?>)o)
+					l.add((Map<?,?>)o2);
+			else
+				l.add((Map<?,?>)o);
+		}
+		for (int i = 1; i < l.size(); i++) {
+			Iterator<?> i1 = l.get(0).keySet().iterator(), i2 = l.get(i).keySet().iterator();
+			while (i1.hasNext())
+				assertTrue(i1.next() == i2.next());
+		}
+	}
+
+	public static class A {
+		public String f1 = "a";
+	}
+}
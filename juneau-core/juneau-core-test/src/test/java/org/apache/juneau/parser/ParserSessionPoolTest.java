@@ -0,0 +1,65 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Parser#PARSER_sessionPoolSize} setting.
+ */
+public class ParserSessionPoolTest {
+
+	@Test
+	public void testSessionsAreReused() throws Exception {
+		Parser p = JsonParser.create().sessionPoolSize(2).build();
+
+		ParserSession s1 = p.borrowSession();
+		p.releaseSession(s1);
+		assertTrue(s1 == p.borrowSession());
+		assertTrue(s1 != p.borrowSession());
+
+		assertObjectEquals("{f1:'a'}", p.parse("{f1:'a'}", A.class));
+		assertObjectEquals("{f1:'b'}", p.parse("{f1:'b'}", A.class));
+		assertObjectEquals("[1,2]", p.parseIntoCollection("[1,2]", new ArrayList<Integer>(), Integer.class));
+	}
+
+	@Test
+	public void testPoolingDisabled() throws Exception {
+		Parser p = JsonParser.create().build();
+		ParserSession s1 = p.borrowSession();
+		p.releaseSession(s1);
+		assertTrue(s1 != p.borrowSession());
+	}
+
+	@Test
+	public void testStateClearedAfterFailure() throws Exception {
+		Parser p = JsonParser.create().sessionPoolSize(1).build();
+		try {
+			p.parse("{f1:'a'", A.class);
+			fail();
+		} catch (ParseException e) {
+			// Expected.
+		}
+		assertObjectEquals("{f1:'b'}", p.parse("{f1:'b'}", A.class));
+	}
+
+	public static class A {
+		public String f1;
+	}
+}
@@ -0,0 +1,173 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.cbor.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+/**
+ * Validates serialization and parsing of bean collections in columnar form.
+ */
+@SuppressWarnings({"javadoc"})
+public class ColumnarBeanCollectionsTest {
+
+	static final WriterSerializer JSON = JsonSerializer.create().ssq().columnarBeanCollections().build();
+
+	//====================================================================================================
+	// JSON
+	//====================================================================================================
+	@Test
+	public void testJson() throws Exception {
+		List<A> l = Arrays.asList(new A(1, "x"), new A(2, null));
+		String json = JSON.serialize(l);
+		assertEquals("{_columns:['f1','f2'],_rows:[[1,'x'],[2,null]]}", json);
+
+		List<A> l2 = JsonParser.DEFAULT.parse(json, List.class, A.class);
+		assertEquals(2, l2.size());
+		assertEquals(2, l2.get(1).f1);
+		assertEquals("x", l2.get(0).f2);
+		assertNull(l2.get(1).f2);
+
+		A[] a = JsonParser.DEFAULT.parse(JSON.serialize(l.toArray(new A[0])), A[].class);
+		assertEquals(1, a[0].f1);
+		assertEquals("x", a[0].f2);
+	}
+
+	@Test
+	public void testJsonReadable() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().ws().columnarBeanCollections().build();
+		assertEquals("{\n\t_columns: ['f1', 'f2'],\n\t_rows: [\n\t\t[1, 'x'],\n\t\t[2, 'y']\n\t]\n}", s.serialize(Arrays.asList(new A(1, "x"), new A(2, "y"))));
+	}
+
+	@Test
+	public void testJsonParseIntoObject() throws Exception {
+		Object o = JsonParser.DEFAULT.parse(JSON.serialize(Arrays.asList(new A(1, "x"))), Object.class);
+		assertTrue(o instanceof ObjectMap);
+		assertEquals("{_columns:['f1','f2'],_rows:[[1,'x']]}", SimpleJsonSerializer.DEFAULT.serialize(o));
+	}
+
+	@Test
+	public void testDisabledByDefault() throws Exception {
+		assertEquals("[{f1:1,f2:'x'}]", SimpleJsonSerializer.DEFAULT.serialize(Arrays.asList(new A(1, "x"))));
+	}
+
+	@Test
+	public void testFallback() throws Exception {
+		// Nulls, mixed classes, non-beans, and empty collections are serialized normally.
+		assertEquals("[{f1:1,f2:'x'},null]", JSON.serialize(Arrays.asList(new A(1, "x"), null)));
+		assertEquals("[{f1:1,f2:'x'},{f1:2}]", JSON.serialize(Arrays.asList(new A(1, "x"), new C(2))));
+		assertEquals("[1,2]", JSON.serialize(Arrays.asList(1, 2)));
+		assertEquals("[]", JSON.serialize(new ArrayList<A>()));
+	}
+
+	@Test
+	public void testNested() throws Exception {
+		B b = new B();
+		b.f1 = "foo";
+		b.f2 = Arrays.asList(new A(1, "x"), new A(2, "y"));
+		B b2 = new B();
+		b2.f1 = "bar";
+		b2.f2 = Arrays.asList(new A(3, "z"));
+
+		String json = JSON.serialize(b);
+		assertEquals("{f1:'foo',f2:{_columns:['f1','f2'],_rows:[[1,'x'],[2,'y']]}}", json);
+		B b3 = JsonParser.DEFAULT.parse(json, B.class);
+		assertEquals(2, b3.f2.size());
+		assertEquals("y", b3.f2.get(1).f2);
+
+		// Row sets inside row values.
+		json = JSON.serialize(Arrays.asList(b, b2));
+		assertEquals("{_columns:['f1','f2'],_rows:[['foo',{_columns:['f1','f2'],_rows:[[1,'x'],[2,'y']]}],['bar',{_columns:['f1','f2'],_rows:[[3,'z']]}]]}", json);
+		List<B> l = JsonParser.DEFAULT.parse(json, List.class, B.class);
+		assertEquals("bar", l.get(1).f1);
+		assertEquals(3, l.get(1).f2.get(0).f1);
+		assertEquals("y", l.get(0).f2.get(1).f2);
+	}
+
+	//====================================================================================================
+	// MessagePack and CBOR
+	//====================================================================================================
+	@Test
+	public void testMsgPack() throws Exception {
+		testBinary(MsgPackSerializer.create().columnarBeanCollections().build(), MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT);
+	}
+
+	@Test
+	public void testCbor() throws Exception {
+		testBinary(CborSerializer.create().columnarBeanCollections().build(), CborSerializer.DEFAULT, CborParser.DEFAULT);
+	}
+
+	private static void testBinary(OutputStreamSerializer s, OutputStreamSerializer sDefault, InputStreamParser p) throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 10; i++)
+			l.add(new A(i, "foo" + i));
+
+		byte[] b = s.serialize(l);
+		assertTrue(b.length < sDefault.serialize(l).length);
+
+		List<A> l2 = p.parse(b, List.class, A.class);
+		assertEquals(10, l2.size());
+		assertEquals(9, l2.get(9).f1);
+		assertEquals("foo9", l2.get(9).f2);
+
+		B b1 = new B();
+		b1.f1 = "foo";
+		b1.f2 = l;
+		B b2 = p.parse(s.serialize(b1), B.class);
+		assertEquals("foo3", b2.f2.get(3).f2);
+
+		ObjectMap m = p.parse(b, ObjectMap.class);
+		assertEquals(Arrays.asList("f1","f2"), m.getList("_columns"));
+	}
+
+	//====================================================================================================
+	// Beans
+	//====================================================================================================
+	@Bean(properties="f1,f2")
+	public static class A {
+		public int f1;
+		public String f2;
+
+		public A() {}
+
+		public A(int f1, String f2) {
+			this.f1 = f1;
+			this.f2 = f2;
+		}
+	}
+
+	@Bean(properties="f1,f2")
+	public static class B {
+		public String f1;
+		public List<A> f2;
+	}
+
+	public static class C {
+		public int f1;
+
+		public C() {}
+
+		public C(int f1) {
+			this.f1 = f1;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Serializer#SERIALIZER_sessionPoolSize} setting.
+ */
+public class SerializerSessionPoolTest {
+
+	@Test
+	public void testSessionsAreReused() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().sessionPoolSize(2).build();
+
+		SerializerSession s1 = s.borrowSession();
+		s.releaseSession(s1);
+		assertTrue(s1 == s.borrowSession());
+		assertTrue(s1 != s.borrowSession());
+
+		assertEquals("{f1:'a'}", s.serialize(new A("a")));
+		assertEquals("{f1:'b'}", s.serialize(new A("b")));
+	}
+
+	@Test
+	public void testPoolingDisabled() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().build();
+		SerializerSession s1 = s.borrowSession();
+		s.releaseSession(s1);
+		assertTrue(s1 != s.borrowSession());
+
+		s = JsonSerializer.create().ssq().sessionPoolSize(2).listener(SerializerListener.class).build();
+		s1 = s.borrowSession();
+		s.releaseSession(s1);
+		assertTrue(s1 != s.borrowSession());
+	}
+
+	@Test
+	public void testStateClearedAfterFailure() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().sessionPoolSize(1).build();
+
+		B b = new B();
+		b.b = b;
+		try {
+			s.serialize(b);
+			fail();
+		} catch (SerializeException e) {
+			assertTrue(e.getMessage().contains("Recursion occurred"));
+		}
+
+		B b2 = new B();
+		b2.b = new B();
+		assertEquals("{b:{}}", s.serialize(b2));
+		assertEquals("{b:{}}", s.serialize(b2));
+	}
+
+	@Test
+	public void testXmlNamespacesReset() throws Exception {
+		WriterSerializer s = XmlSerializer.create().sq().ns().sessionPoolSize(1).build();
+		String expected = s.serialize(new A("a"));
+		assertEquals(expected, s.serialize(new A("a")));
+		assertEquals(expected, s.serialize(new A("a")));
+	}
+
+	public static class A {
+		public String f1;
+
+		public A(String f1) {
+			this.f1 = f1;
+		}
+	}
+
+	public static class B {
+		public B b;
+	}
+}
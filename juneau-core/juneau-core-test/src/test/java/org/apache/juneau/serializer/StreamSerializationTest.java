@@ -0,0 +1,144 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.junit.*;
+
+/**
+ * Validates serialization of iterators, enumerations, and streams.
+ */
+@SuppressWarnings({"javadoc"})
+public class StreamSerializationTest {
+
+	//====================================================================================================
+	// Top-level objects
+	//====================================================================================================
+	@Test
+	public void testJson() throws Exception {
+		WriterSerializer s = SimpleJsonSerializer.DEFAULT;
+		assertEquals("[1,2,3]", s.serialize(Arrays.asList(1,2,3).iterator()));
+		assertEquals("[1,2,3]", s.serialize(Collections.enumeration(Arrays.asList(1,2,3))));
+		assertEquals("[1,2,3]", s.serialize(Stream.of(1,2,3)));
+		assertEquals("[1,2,3]", s.serialize(IntStream.of(1,2,3)));
+		assertEquals("['a','b']", s.serialize(Stream.of("a","b")));
+		assertEquals("[]", s.serialize(Stream.empty()));
+		assertEquals("[{a:1}]", s.serialize(Stream.of(new A(1))));
+	}
+
+	@Test
+	public void testJsonReadable() throws Exception {
+		assertEquals("[\n\t1,\n\t2\n]", SimpleJsonSerializer.DEFAULT_READABLE.serialize(Stream.of(1,2)));
+	}
+
+	@Test
+	public void testUon() throws Exception {
+		WriterSerializer s = UonSerializer.DEFAULT;
+		assertEquals("@(1,2,3)", s.serialize(Stream.of(1,2,3)));
+		assertEquals("@(a,b)", s.serialize(Arrays.asList("a","b").iterator()));
+		assertEquals("@()", s.serialize(Stream.empty()));
+	}
+
+	@Test
+	public void testUrlEncoding() throws Exception {
+		WriterSerializer s = UrlEncodingSerializer.DEFAULT;
+		assertEquals("0=1&1=2&2=3", s.serialize(Stream.of(1,2,3)));
+		assertEquals("0=a&1=b", s.serialize(Arrays.asList("a","b").iterator()));
+		assertEquals(s.serialize(Arrays.asList(1,2,3)), s.serialize(Stream.of(1,2,3)));
+	}
+
+	@Test
+	public void testMsgPack() throws Exception {
+		OutputStreamSerializer s = MsgPackSerializer.DEFAULT;
+		assertArrayEquals(s.serialize(Arrays.asList(1,2,3)), s.serialize(Stream.of(1,2,3)));
+		assertArrayEquals(s.serialize(Arrays.asList("a","b")), s.serialize(Arrays.asList("a","b").iterator()));
+	}
+
+	//====================================================================================================
+	// Bean properties
+	//====================================================================================================
+	@Test
+	public void testBeanProperty() throws Exception {
+		B b = new B();
+		b.f1 = Stream.of(1,2);
+		b.f2 = Arrays.asList("x").iterator();
+		assertEquals("{f1:[1,2],f2:['x']}", SimpleJsonSerializer.DEFAULT.serialize(b));
+
+		b.f1 = Stream.of(1,2);
+		b.f2 = Arrays.asList("x").iterator();
+		assertEquals("(f1=@(1,2),f2=@(x))", UonSerializer.DEFAULT.serialize(b));
+	}
+
+	//====================================================================================================
+	// Sorting, closing, flushing
+	//====================================================================================================
+	@Test
+	public void testSortCollections() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().sortCollections().build();
+		assertEquals("[1,2,3]", s.serialize(Stream.of(3,1,2)));
+	}
+
+	@Test
+	public void testStreamClosed() throws Exception {
+		final boolean[] closed = new boolean[1];
+		Stream<Integer> st = Stream.of(1,2).onClose(new Runnable() {
+			@Override
+			public void run() {
+				closed[0] = true;
+			}
+		});
+		SimpleJsonSerializer.DEFAULT.serialize(st);
+		assertTrue(closed[0]);
+	}
+
+	@Test
+	public void testFlushInterval() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().streamFlushInterval(2).build();
+		final int[] flushes = new int[1];
+		StringWriter sw = new StringWriter() {
+			@Override
+			public void flush() {
+				flushes[0]++;
+			}
+		};
+		s.serialize(Stream.of(1,2,3,4,5), sw);
+		assertEquals("[1,2,3,4,5]", sw.toString());
+		int withInterval = flushes[0];
+
+		flushes[0] = 0;
+		SimpleJsonSerializer.DEFAULT.serialize(Stream.of(1,2,3,4,5), sw);
+		assertEquals(2, withInterval - flushes[0]);
+	}
+
+	public static class A {
+		public int a;
+
+		public A(int a) {
+			this.a = a;
+		}
+	}
+
+	public static class B {
+		public Stream<Integer> f1;
+		public Iterator<String> f2;
+	}
+}
@@ -0,0 +1,78 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class StringIndexTest {
+
+	//====================================================================================================
+	// test - Basic tests
+	//====================================================================================================
+	@Test
+	public void test() throws Exception {
+		StringIndex si = new StringIndex("foo", "bar", "baz", "*");
+		assertEquals(4, si.size());
+		assertEquals(0, si.indexOf("foo"));
+		assertEquals(1, si.indexOf("bar"));
+		assertEquals(2, si.indexOf("baz"));
+		assertEquals(3, si.indexOf("*"));
+		assertEquals(-1, si.indexOf("qux"));
+		assertEquals(-1, si.indexOf(""));
+		assertEquals(-1, si.indexOf(null));
+		assertEquals("baz", si.get(2));
+	}
+
+	//====================================================================================================
+	// testEmpty
+	//====================================================================================================
+	@Test
+	public void testEmpty() throws Exception {
+		StringIndex si = new StringIndex();
+		assertEquals(0, si.size());
+		assertEquals(-1, si.indexOf("foo"));
+	}
+
+	//====================================================================================================
+	// testCollisions - Strings with identical hash codes force linear probing.
+	//====================================================================================================
+	@Test
+	public void testCollisions() throws Exception {
+		assertEquals("Aa".hashCode(), "BB".hashCode());
+		StringIndex si = new StringIndex("Aa", "BB", "AaAa", "BBBB", "AaBB", "x", "Aa");
+		assertEquals(0, si.indexOf("Aa"));
+		assertEquals(1, si.indexOf("BB"));
+		assertEquals(2, si.indexOf("AaAa"));
+		assertEquals(3, si.indexOf("BBBB"));
+		assertEquals(4, si.indexOf("AaBB"));
+		assertEquals(5, si.indexOf("x"));
+		assertEquals(-1, si.indexOf("BBAa2"));
+	}
+
+	//====================================================================================================
+	// testMany
+	//====================================================================================================
+	@Test
+	public void testMany() throws Exception {
+		String[] s = new String[500];
+		for (int i = 0; i < s.length; i++)
+			s[i] = "property" + i;
+		StringIndex si = new StringIndex(s);
+		for (int i = 0; i < s.length; i++)
+			assertEquals(i, si.indexOf(new String(s[i])));
+		assertEquals(-1, si.indexOf("property500"));
+	}
+}
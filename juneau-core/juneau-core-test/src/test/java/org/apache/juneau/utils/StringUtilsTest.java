@@ -183,6 +183,53 @@ public class StringUtilsTest {
 		}
 	}
 
+	//====================================================================================================
+	// parseNumber(char[],int,int,Class)
+	//====================================================================================================
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testParseNumberFromChars() throws Exception {
+		String[] numbers = {
+			"0", "-0", "+1", "123", "-123", "2147483647", "2147483648", "-2147483648", "-2147483649",
+			"999999999999999999", "-999999999999999999", "9223372036854775807", "32767", "32768", "-129", "0123",
+			"0x1F", "#1F", "1.5", "-1.5", "0.1", ".5", "1.", "1e10", "1E-5", "-1.25e+3", "0.30000000000000004",
+			"123456789012345.6", "1e23", "1e-23", "3.4028235e38", "1.4e-45", "1.1f", "00.5", "", "-", "x", "1e", "1.2.3"
+		};
+		Class[] types = {
+			Number.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+			AtomicInteger.class, AtomicLong.class, BigInteger.class, BigDecimal.class, int.class, double.class
+		};
+		for (String s : numbers) {
+			for (Class c : types) {
+				char[] buf = ("xx" + s + "yy").toCharArray();
+				Object expected, actual;
+				try {
+					expected = parseNumber(s, c);
+				} catch (ParseException e) {
+					expected = e.getLocalizedMessage();
+				}
+				try {
+					actual = parseNumber(buf, 2, s.length(), c);
+				} catch (ParseException e) {
+					actual = e.getLocalizedMessage();
+				}
+				String msg = s + "/" + c.getSimpleName();
+				assertEquals(msg, expected == null ? null : expected.getClass(), actual == null ? null : actual.getClass());
+				assertEquals(msg, String.valueOf(expected), String.valueOf(actual));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// toChars(long,char[])
+	//====================================================================================================
+	@Test
+	public void testToChars() throws Exception {
+		char[] buf = new char[20];
+		for (long l : new long[]{0, 1, -1, 9, 10, -10, 99, 100, 12345, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE+1})
+			assertEquals(Long.toString(l), new String(buf, 0, toChars(l, buf)));
+	}
+
 	//====================================================================================================
 	// test - Basic tests
 	//====================================================================================================
@@ -386,6 +433,8 @@ public class StringUtilsTest {
 			"1.1D",
 			"0x1.fffffffffffffp1023",
 			"0x1.FFFFFFFFFFFFFP1023",
+			"1.",
+			"1.5e10 ",
 		};
 		for (String s : valid)
 			assertTrue(isFloat(s));
@@ -400,6 +449,10 @@ public class StringUtilsTest {
 			"a",
 			"+a",
 			"11a",
+			"1e",
+			"1e+",
+			"1.5ee1",
+			"1.5fd",
 		};
 		for (String s : invalid)
 			assertFalse(isFloat(s));
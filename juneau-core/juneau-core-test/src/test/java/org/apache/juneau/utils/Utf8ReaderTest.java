@@ -0,0 +1,103 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@SuppressWarnings({"resource"})
+public class Utf8ReaderTest {
+
+	//====================================================================================================
+	// Valid input
+	//====================================================================================================
+	@Test
+	public void testValid() throws Exception {
+		String[] tests = {
+			"",
+			"abc",
+			"\u0080\u07ff\u0800\uffff",
+			"a\ud83d\ude00b",
+			"\ud83d\ude00\ud83d\ude00",
+		};
+		for (String t : tests) {
+			byte[] b = t.getBytes(UTF8);
+			assertEquals(t, read(new Utf8Reader(b, true)));
+			assertEquals(t, readOneAtATime(new Utf8Reader(b, true)));
+		}
+	}
+
+	//====================================================================================================
+	// Only the bytes between the position and limit are read, and the buffer position isn't changed.
+	//====================================================================================================
+	@Test
+	public void testByteBuffer() throws Exception {
+		ByteBuffer bb = ByteBuffer.wrap("xxabcxx".getBytes(UTF8));
+		bb.position(2).limit(5);
+		assertEquals("abc", read(new Utf8Reader(bb, true)));
+		assertEquals(2, bb.position());
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(8);
+		direct.put("\u00e9t\u00e9".getBytes(UTF8)).flip();
+		assertEquals("\u00e9t\u00e9", read(new Utf8Reader(direct, true)));
+	}
+
+	//====================================================================================================
+	// Malformed input
+	//====================================================================================================
+	@Test
+	public void testMalformed() throws Exception {
+		byte[][] tests = {
+			{(byte)0x80},
+			{(byte)0xC3},
+			{'a',(byte)0xE2,(byte)0x82},
+			{(byte)0xC0,(byte)0x80},
+			{(byte)0xED,(byte)0xA0,(byte)0x80},
+			{(byte)0xFF},
+		};
+		for (byte[] b : tests) {
+			try {
+				read(new Utf8Reader(b, true));
+				fail("Exception expected");
+			} catch (MalformedInputException e) {
+				// OK
+			}
+			assertTrue(read(new Utf8Reader(b, false)).endsWith("\ufffd"));
+		}
+		assertEquals("a\ufffdb", read(new Utf8Reader(new byte[]{'a',(byte)0xE2,(byte)0x82,'b'}, false)));
+	}
+
+	private static String read(Reader r) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		char[] buf = new char[3];
+		int i;
+		while ((i = r.read(buf, 0, buf.length)) != -1)
+			sb.append(buf, 0, i);
+		return sb.toString();
+	}
+
+	private static String readOneAtATime(Reader r) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		int c;
+		while ((c = r.read()) != -1)
+			sb.append((char)c);
+		return sb.toString();
+	}
+}
@@ -17,7 +17,10 @@ import static org.apache.juneau.xml.annotation.XmlFormat.*;
 import static org.junit.Assert.*;
 
 import java.net.*;
+import java.util.*;
 
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.xml.annotation.*;
 import org.junit.*;
 
@@ -76,4 +79,47 @@ public class CommonXmlTest {
 			this.url2 = new URL(url+"/2");
 		}
 	}
+
+	//====================================================================================================
+	// Property layout and encoded names reused across beans of the same class
+	//====================================================================================================
+	@Test
+	public void testPropertyWritePlan() throws Exception {
+		XmlParser p = XmlParser.DEFAULT;
+		XmlSerializer s = XmlSerializer.DEFAULT_SQ;
+
+		C t = new C();
+		t.f1 = "a";
+		t.f2 = "b";
+		t.f3.put("x y", "c");
+		String xml = s.serialize(new C[]{t, t});
+		assertEquals("<array><object><f1>a</f1><f_x0020_2>b</f_x0020_2><x_x0020_y>c</x_x0020_y></object><object><f1>a</f1><f_x0020_2>b</f_x0020_2><x_x0020_y>c</x_x0020_y></object></array>", xml);
+
+		C[] t2 = p.parse(xml, C[].class);
+		assertEquals("a", t2[1].f1);
+		assertEquals("b", t2[1].f2);
+		assertEquals("c", t2[1].f3.get("x y"));
+
+		BeanPropertyMeta bpm = BeanContext.DEFAULT.getBeanMeta(C.class).getPropertyMeta("f 2");
+		assertEquals(1, bpm.getIndex());
+		assertEquals("<f_x0020_2", bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getStartTag());
+		assertEquals("</f_x0020_2>", bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getEndTag());
+
+		// Prebuilt tags are only used when namespaces are disabled.
+		D d = new D();
+		d.f1 = "a";
+		assertEquals("<object><f1>a</f1></object>", s.serialize(d));
+		assertEquals("<object><foo:f1>a</foo:f1></object>", XmlSerializer.DEFAULT_NS_SQ.serialize(d));
+	}
+
+	@Bean(properties="f1,f 2,*")
+	public static class C {
+		public String f1;
+		@BeanProperty(name="f 2") public String f2;
+		@BeanProperty(name="*") public Map<String,Object> f3 = new LinkedHashMap<>();
+	}
+
+	public static class D {
+		@Xml(prefix="foo", namespace="http://foo") public String f1;
+	}
 }
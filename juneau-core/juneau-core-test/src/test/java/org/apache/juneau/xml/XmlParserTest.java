@@ -14,6 +14,8 @@ package org.apache.juneau.xml;
 
 import static org.junit.Assert.*;
 
+import javax.xml.stream.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
@@ -91,4 +93,40 @@ public class XmlParserTest {
 		m = p.parse(xml, ObjectMap.class);
 		assertEquals("{A:{}}", m.toString());
 	}
+
+	@Test
+	public void testInputFactory() throws Exception {
+		XMLInputFactory f = XMLInputFactory.newFactory();
+		f.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+		// Factory instances are used as-is, so they can be shared between parsers with different settings.
+		XmlParser p = XmlParser.create().inputFactory(f).build();
+		XmlParser p2 = XmlParser.create().inputFactory(f).set(XmlParser.XML_reporter, TestReporter.class).validating().build();
+		assertTrue(f == p.getInputFactory());
+		assertTrue(f == p2.getInputFactory());
+		assertNull(f.getProperty(XMLInputFactory.REPORTER));
+		assertEquals(Boolean.FALSE, f.getProperty(XMLInputFactory.IS_VALIDATING));
+
+		// Same factory is reused across sessions.
+		assertEquals("{b:'1',c:'2'}", p.parse("<A b='1'><c>2</c></A>", ObjectMap.class).toString());
+		assertEquals("{b:'3',c:'4'}", p.parse("<A b='3'><c>4</c></A>", ObjectMap.class).toString());
+		assertTrue(f == p.getInputFactory());
+
+		// Factories created from a class are configured with the parser settings.
+		p = XmlParser.create().inputFactory(XMLInputFactory.newFactory().getClass()).set(XmlParser.XML_reporter, TestReporter.class).build();
+		assertTrue(f != p.getInputFactory());
+		assertEquals(Boolean.TRUE, p.getInputFactory().getProperty(XMLInputFactory.IS_COALESCING));
+		assertEquals(Boolean.FALSE, p.getInputFactory().getProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES));
+		assertTrue(p.getInputFactory().getProperty(XMLInputFactory.REPORTER) instanceof TestReporter);
+		assertEquals("{b:'1',c:'2'}", p.parse("<A b='1'><c>2</c></A>", ObjectMap.class).toString());
+
+		// Default factory is created once per parser.
+		assertNotNull(XmlParser.DEFAULT.getInputFactory());
+		assertTrue(XmlParser.DEFAULT.getInputFactory() == XmlParser.DEFAULT.getInputFactory());
+	}
+
+	public static class TestReporter implements XMLReporter {
+		@Override /* XMLReporter */
+		public void report(String message, String errorType, Object relatedInformation, Location location) {}
+	}
 }
\ No newline at end of file
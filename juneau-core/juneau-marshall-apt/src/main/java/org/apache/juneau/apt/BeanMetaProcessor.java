@@ -0,0 +1,363 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.apt;
+
+import static javax.lang.model.element.Modifier.*;
+import static javax.tools.Diagnostic.Kind.*;
+import static org.apache.juneau.BeanMetaDescriptor.*;
+
+import java.beans.*;
+import java.io.*;
+import java.lang.annotation.*;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.*;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+import javax.tools.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+
+/**
+ * Annotation processor that precomputes the bean fields and methods of {@link Bean @Bean}-annotated classes.
+ *
+ * <p>
+ * For each annotated class, writes a {@link BeanMetaDescriptor} resource to the class output directory that
+ * {@link BeanMeta} loads at runtime in place of scanning the class hierarchy through reflection.
+ * <br>Property discovery follows the same rules as <code>BeanMeta</code> using the default bean context settings.
+ *
+ * <p>
+ * Classes whose {@link Bean @Bean} annotation sets <code>properties</code>, <code>fluentSetters</code>,
+ * <code>propertyNamer</code>, <code>interfaceClass</code>, or <code>stopClass</code> are skipped since those settings
+ * change how properties are discovered.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<xt>&lt;plugin&gt;</xt>
+ * 		<xt>&lt;groupId&gt;</xt>org.apache.maven.plugins<xt>&lt;/groupId&gt;</xt>
+ * 		<xt>&lt;artifactId&gt;</xt>maven-compiler-plugin<xt>&lt;/artifactId&gt;</xt>
+ * 		<xt>&lt;configuration&gt;</xt>
+ * 			<xt>&lt;annotationProcessorPaths&gt;</xt>
+ * 				<xt>&lt;path&gt;</xt>
+ * 					<xt>&lt;groupId&gt;</xt>org.apache.juneau<xt>&lt;/groupId&gt;</xt>
+ * 					<xt>&lt;artifactId&gt;</xt>juneau-marshall-apt<xt>&lt;/artifactId&gt;</xt>
+ * 					<xt>&lt;version&gt;</xt>${juneau.version}<xt>&lt;/version&gt;</xt>
+ * 				<xt>&lt;/path&gt;</xt>
+ * 			<xt>&lt;/annotationProcessorPaths&gt;</xt>
+ * 		<xt>&lt;/configuration&gt;</xt>
+ * 	<xt>&lt;/plugin&gt;</xt>
+ * </p>
+ */
+@SupportedAnnotationTypes("org.apache.juneau.annotation.Bean")
+public class BeanMetaProcessor extends AbstractProcessor {
+
+	private static final Set<String> UNSUPPORTED_BEAN_ATTRS = new HashSet<>(Arrays.asList("properties", "fluentSetters", "propertyNamer", "interfaceClass", "stopClass"));
+
+	private Elements elements;
+	private Types types;
+
+	@Override /* AbstractProcessor */
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		this.elements = processingEnv.getElementUtils();
+		this.types = processingEnv.getTypeUtils();
+	}
+
+	@Override /* AbstractProcessor */
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override /* AbstractProcessor */
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element e : roundEnv.getElementsAnnotatedWith(Bean.class)) {
+			if (! (e.getKind() == ElementKind.CLASS || e.getKind() == ElementKind.INTERFACE))
+				continue;
+			TypeElement te = (TypeElement)e;
+			if (! isSupported(te))
+				continue;
+			String s = describe(te);
+			if (s == null)
+				continue;
+			try {
+				FileObject fo = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE_PREFIX + elements.getBinaryName(te), te);
+				try (Writer w = fo.openWriter()) {
+					w.write(s);
+				}
+			} catch (IOException x) {
+				processingEnv.getMessager().printMessage(ERROR, "Could not write bean descriptor: " + x.getLocalizedMessage(), te);
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Returns false if the @Bean annotation has attributes that change how properties are discovered.
+	 */
+	private boolean isSupported(TypeElement te) {
+		for (AnnotationMirror am : te.getAnnotationMirrors())
+			if (isType(am.getAnnotationType(), Bean.class))
+				for (ExecutableElement k : am.getElementValues().keySet())
+					if (UNSUPPORTED_BEAN_ATTRS.contains(k.getSimpleName().toString()))
+						return false;
+		return true;
+	}
+
+	/*
+	 * Produces the descriptor contents, or null if the class can't be described.
+	 * Mirrors BeanMeta.findBeanFields() and BeanMeta.findBeanMethods().
+	 */
+	private String describe(TypeElement c) {
+		StringBuilder sb = new StringBuilder("# Generated by ").append(getClass().getName()).append(".  Do not edit.\n");
+		LinkedList<TypeElement> classes = new LinkedList<>();
+		findClasses(c, classes);
+
+		for (TypeElement c2 : classes) {
+			for (VariableElement f : ElementFilter.fieldsIn(c2.getEnclosedElements())) {
+				Set<javax.lang.model.element.Modifier> mods = f.getModifiers();
+				if (mods.contains(STATIC) || mods.contains(TRANSIENT))
+					continue;
+				if (f.getAnnotation(BeanIgnore.class) != null)
+					continue;
+				BeanProperty bp = f.getAnnotation(BeanProperty.class);
+				if (! (mods.contains(PUBLIC) || bp != null))
+					continue;
+				String name = bpName(bp);
+				if (name == null || name.isEmpty())
+					name = Introspector.decapitalize(f.getSimpleName().toString());
+				line(sb, FIELD, name, c2, f.getSimpleName().toString());
+			}
+		}
+
+		for (TypeElement c2 : classes) {
+			for (ExecutableElement m : ElementFilter.methodsIn(c2.getEnclosedElements())) {
+				if (m.getModifiers().contains(STATIC))
+					continue;
+				if (findAnnotation(m, c2, BeanIgnore.class) != null)
+					continue;
+				BeanProperty bp = findAnnotation(m, c2, BeanProperty.class);
+				if (! (m.getModifiers().contains(PUBLIC) || bp != null))
+					continue;
+
+				String n = m.getSimpleName().toString();
+				List<? extends VariableElement> pt = m.getParameters();
+				TypeMirror rt = m.getReturnType();
+				boolean isVoid = rt.getKind() == TypeKind.VOID;
+				String kind = null;
+				String bpName = bpName(bp);
+
+				if (pt.size() == 0) {
+					if ("*".equals(bpName)) {
+						if (isSubtype(rt, Collection.class))
+							kind = EXTRAKEYS;
+						else if (isSubtype(rt, Map.class))
+							kind = GETTER;
+						n = bpName;
+					} else if (n.startsWith("get") && ! isVoid) {
+						kind = GETTER;
+						n = n.substring(3);
+					} else if (n.startsWith("is") && (rt.getKind() == TypeKind.BOOLEAN || isType(rt, Boolean.class))) {
+						kind = GETTER;
+						n = n.substring(2);
+					} else if (bpName != null) {
+						kind = GETTER;
+						if (bpName.isEmpty()) {
+							if (n.startsWith("get"))
+								n = n.substring(3);
+							else if (n.startsWith("is"))
+								n = n.substring(2);
+							bpName = n;
+						} else {
+							n = bpName;
+						}
+					}
+				} else if (pt.size() == 1) {
+					TypeMirror pt0 = pt.get(0).asType();
+					if ("*".equals(bpName)) {
+						if (isSubtype(pt0, Map.class)) {
+							kind = SETTER;
+							n = bpName;
+						} else if (isType(pt0, String.class)) {
+							kind = GETTER;
+							n = bpName;
+						}
+					} else if (n.startsWith("set") && (isVoid || isAssignable(c.asType(), rt))) {
+						kind = SETTER;
+						n = n.substring(3);
+					} else if (bpName != null) {
+						kind = SETTER;
+						if (bpName.isEmpty()) {
+							if (n.startsWith("set"))
+								n = n.substring(3);
+							bpName = n;
+						} else {
+							n = bpName;
+						}
+					}
+				} else if (pt.size() == 2) {
+					if ("*".equals(bpName) && isType(pt.get(0).asType(), String.class)) {
+						if (n.startsWith("set") && (isVoid || isAssignable(c.asType(), rt)))
+							kind = SETTER;
+						else
+							kind = GETTER;
+						n = bpName;
+					}
+				}
+				n = Introspector.decapitalize(n);
+
+				// Let the runtime report the error.
+				if ("*".equals(bpName) && kind == null)
+					return null;
+
+				if (kind != null) {
+					if (bpName != null && ! bpName.isEmpty())
+						n = bpName;
+					String[] params = new String[pt.size()];
+					for (int i = 0; i < params.length; i++)
+						params[i] = className(pt.get(i).asType());
+					line(sb, kind, n, c2, m.getSimpleName().toString(), params);
+				}
+			}
+		}
+		return sb.toString();
+	}
+
+	private void line(StringBuilder sb, String kind, String name, TypeElement c, String member, String...params) {
+		sb.append(kind).append('\t').append(name).append('\t').append(elements.getBinaryName(c)).append('\t').append(member);
+		for (String p : params)
+			sb.append('\t').append(p);
+		sb.append('\n');
+	}
+
+	/*
+	 * Same order as BeanMeta.findClasses().
+	 */
+	private void findClasses(TypeElement c, LinkedList<TypeElement> l) {
+		while (c != null && ! isType(c.asType(), Object.class)) {
+			l.addFirst(c);
+			for (TypeMirror ci : c.getInterfaces())
+				findClasses(asTypeElement(ci), l);
+			c = asTypeElement(c.getSuperclass());
+		}
+	}
+
+	/*
+	 * Same lookup as MethodInfo.getAnnotation():  the method, then overridden methods on parent classes and interfaces,
+	 * then the return type.
+	 */
+	private <A extends Annotation> A findAnnotation(ExecutableElement m, TypeElement c, Class<A> a) {
+		A x = m.getAnnotation(a);
+		if (x != null)
+			return x;
+		for (TypeElement c2 : allSupertypes(c, new LinkedHashSet<TypeElement>())) {
+			for (ExecutableElement m2 : ElementFilter.methodsIn(c2.getEnclosedElements())) {
+				if (m2.getSimpleName().equals(m.getSimpleName()) && elements.overrides(m, m2, c)) {
+					x = m2.getAnnotation(a);
+					if (x != null)
+						return x;
+				}
+			}
+		}
+		TypeElement rt = asTypeElement(m.getReturnType());
+		if (rt != null) {
+			x = rt.getAnnotation(a);
+			if (x != null)
+				return x;
+			for (TypeElement c2 : allSupertypes(rt, new LinkedHashSet<TypeElement>())) {
+				x = c2.getAnnotation(a);
+				if (x != null)
+					return x;
+			}
+		}
+		return null;
+	}
+
+	private Set<TypeElement> allSupertypes(TypeElement c, Set<TypeElement> s) {
+		for (TypeMirror t : types.directSupertypes(c.asType())) {
+			TypeElement te = asTypeElement(t);
+			if (te != null && s.add(te))
+				allSupertypes(te, s);
+		}
+		return s;
+	}
+
+	private TypeElement asTypeElement(TypeMirror t) {
+		if (t == null || t.getKind() != TypeKind.DECLARED)
+			return null;
+		return (TypeElement)types.asElement(t);
+	}
+
+	private boolean isType(TypeMirror t, Class<?> c) {
+		TypeElement te = asTypeElement(t);
+		return te != null && te.getQualifiedName().contentEquals(c.getCanonicalName());
+	}
+
+	private boolean isSubtype(TypeMirror t, Class<?> c) {
+		if (t.getKind() != TypeKind.DECLARED && t.getKind() != TypeKind.TYPEVAR)
+			return false;
+		TypeElement te = elements.getTypeElement(c.getCanonicalName());
+		return te != null && types.isSubtype(types.erasure(t), types.erasure(te.asType()));
+	}
+
+	private boolean isAssignable(TypeMirror t1, TypeMirror t2) {
+		if (t2.getKind() != TypeKind.DECLARED && t2.getKind() != TypeKind.TYPEVAR)
+			return false;
+		return types.isSubtype(types.erasure(t1), types.erasure(t2));
+	}
+
+	/*
+	 * Returns the erased type name in Class.getName() format.
+	 */
+	private String className(TypeMirror t) {
+		t = types.erasure(t);
+		switch (t.getKind()) {
+			case BOOLEAN: return "boolean";
+			case BYTE: return "byte";
+			case CHAR: return "char";
+			case SHORT: return "short";
+			case INT: return "int";
+			case LONG: return "long";
+			case FLOAT: return "float";
+			case DOUBLE: return "double";
+			case ARRAY: return "[" + descriptor(((ArrayType)t).getComponentType());
+			default: return elements.getBinaryName(asTypeElement(t)).toString();
+		}
+	}
+
+	private String descriptor(TypeMirror t) {
+		t = types.erasure(t);
+		switch (t.getKind()) {
+			case BOOLEAN: return "Z";
+			case BYTE: return "B";
+			case CHAR: return "C";
+			case SHORT: return "S";
+			case INT: return "I";
+			case LONG: return "J";
+			case FLOAT: return "F";
+			case DOUBLE: return "D";
+			case ARRAY: return "[" + descriptor(((ArrayType)t).getComponentType());
+			default: return "L" + elements.getBinaryName(asTypeElement(t)) + ";";
+		}
+	}
+
+	private static String bpName(BeanProperty bp) {
+		if (bp == null)
+			return null;
+		if (! bp.name().isEmpty())
+			return bp.name();
+		return bp.value();
+	}
+}
@@ -0,0 +1,104 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.apt;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import javax.tools.*;
+
+import org.apache.juneau.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link BeanMetaProcessor} class.
+ */
+public class BeanMetaProcessorTest {
+
+	private static String compile(String className, String source) throws Exception {
+		Path dir = Files.createTempDirectory("juneau-apt");
+		Path src = dir.resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(src.getParent());
+		Files.write(src, source.getBytes("UTF-8"));
+
+		JavaCompiler jc = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fm = jc.getStandardFileManager(null, null, null)) {
+			fm.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(dir.toFile()));
+			StringWriter out = new StringWriter();
+			JavaCompiler.CompilationTask task = jc.getTask(out, fm, null, Arrays.asList("-proc:only"), null, fm.getJavaFileObjects(src.toFile()));
+			task.setProcessors(Collections.singleton(new BeanMetaProcessor()));
+			assertTrue(out.toString(), task.call());
+		}
+
+		Path p = dir.resolve(BeanMetaDescriptor.RESOURCE_PREFIX + className);
+		if (! Files.exists(p))
+			return null;
+		StringBuilder sb = new StringBuilder();
+		for (String l : Files.readAllLines(p))
+			if (! l.startsWith("#"))
+				sb.append(l.replace('\t', '|')).append(';');
+		return sb.toString();
+	}
+
+	@Test
+	public void a01_fieldsAndMethods() throws Exception {
+		String s = compile("a.A", ""
+			+ "package a;\n"
+			+ "import org.apache.juneau.annotation.*;\n"
+			+ "@Bean public class A extends P {\n"
+			+ "  public int f1;\n"
+			+ "  @BeanProperty(\"x\") public String f2;\n"
+			+ "  public static int f3;\n"
+			+ "  public transient int f4;\n"
+			+ "  @BeanIgnore public int f5;\n"
+			+ "  public int getF6() {return 0;}\n"
+			+ "  public A setF6(int f6) {return this;}\n"
+			+ "  public boolean isF7() {return false;}\n"
+			+ "  public void setF8(int[] f8) {}\n"
+			+ "  @BeanIgnore public int getF9() {return 0;}\n"
+			+ "  int getF10() {return 0;}\n"
+			+ "}\n"
+			+ "class P { public String p1; }\n"
+		);
+		assertEquals("F|p1|a.P|p1;F|f1|a.A|f1;F|x|a.A|f2;G|f6|a.A|getF6;S|f6|a.A|setF6|int;G|f7|a.A|isF7;S|f8|a.A|setF8|[I;", s);
+	}
+
+	@Test
+	public void a02_ignoreInheritedFromInterface() throws Exception {
+		String s = compile("a.B", ""
+			+ "package a;\n"
+			+ "import org.apache.juneau.annotation.*;\n"
+			+ "@Bean public class B implements I {\n"
+			+ "  public String getF1() {return null;}\n"
+			+ "  public String getF2() {return null;}\n"
+			+ "}\n"
+			+ "interface I { @BeanIgnore String getF1(); }\n"
+		);
+		assertEquals("G|f2|a.B|getF2;", s);
+	}
+
+	@Test
+	public void a03_unsupportedBeanAttributes() throws Exception {
+		String s = compile("a.C", ""
+			+ "package a;\n"
+			+ "import org.apache.juneau.annotation.*;\n"
+			+ "@Bean(properties=\"f1\") public class C {\n"
+			+ "  public int f1;\n"
+			+ "}\n"
+		);
+		assertNull(s);
+	}
+}
@@ -224,6 +224,16 @@ public class RdfParser extends ReaderParser implements RdfCommon {
 		return collectionFormat;
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(RdfClassMeta.class);
+		if (cm.isBean()) {
+			cm.getBeanMeta().getExtendedMeta(RdfBeanMeta.class);
+			for (BeanPropertyMeta p : cm.getBeanMeta().getPropertyMetas())
+				p.getExtendedMeta(RdfBeanPropertyMeta.class);
+		}
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
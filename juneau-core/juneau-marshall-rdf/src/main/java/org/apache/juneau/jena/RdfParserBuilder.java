@@ -367,12 +367,24 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder keyPoolSize(int value) {
+		super.keyPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public RdfParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public RdfParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -721,6 +733,18 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RdfParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RdfParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RdfParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
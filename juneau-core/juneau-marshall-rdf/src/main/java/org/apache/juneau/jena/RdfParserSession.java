@@ -68,6 +68,13 @@ public class RdfParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		model.removeAll();
+		urisVisited.clear();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -483,6 +483,18 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder columnarBeanCollections(boolean value) {
+		super.columnarBeanCollections(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder columnarBeanCollections() {
+		super.columnarBeanCollections();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public RdfSerializerBuilder detectRecursions(boolean value) {
 		super.detectRecursions(value);
@@ -518,6 +530,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public RdfSerializerBuilder maxDepth(int value) {
 		super.maxDepth(value);
@@ -548,6 +566,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public RdfSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -920,6 +944,18 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RdfSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RdfSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RdfSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -88,6 +88,17 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				writer.setProperty(k.substring(15 + propPrefix.length()), getProperty(k));
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		model.removeAll();
+		model.clearNsPrefixMap();
+		addModelPrefix(ctx.getJuneauNs());
+		addModelPrefix(ctx.getJuneauBpNs());
+		for (Namespace ns : this.namespaces)
+			addModelPrefix(ns);
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -1781,6 +1781,51 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_useEnumNames = PREFIX + "useEnumNames.b";
 
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"BeanContext.useGeneratedAccessors.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link BeanContextBuilder#useGeneratedAccessors(boolean)}
+	 * 			<li class='jm'>{@link BeanContextBuilder#useGeneratedAccessors()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, bean property getters and setters are invoked through functions generated by
+	 * {@link java.lang.invoke.LambdaMetafactory} or through {@link java.lang.invoke.MethodHandle MethodHandles} that
+	 * are created once when the bean metadata is initialized, instead of through {@link Method#invoke(Object, Object...)}
+	 * and {@link Field#get(Object)}/{@link Field#set(Object, Object)} on every call.
+	 * <br>Properties whose accessors cannot be generated (e.g. access is denied) silently fall back to reflection.
+	 *
+	 * <p>
+	 * This reduces the per-property overhead of serializing and parsing beans, at the cost of slightly slower
+	 * initialization of bean metadata.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses generated accessors.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useGeneratedAccessors()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useGeneratedAccessors</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEAN_useGeneratedAccessors = PREFIX + "useGeneratedAccessors.b";
+
 	/**
 	 * Configuration property:  Use interface proxies.
 	 *
@@ -1887,14 +1932,6 @@ public class BeanContext extends Context {
 	};
 
 
-	// This map is important!
-	// We may have many Context objects that have identical BeanContext properties.
-	// This map ensures that if the BeanContext properties in the Context are the same,
-	// then we reuse the same Class->ClassMeta cache map.
-	// This significantly reduces the number of times we need to construct ClassMeta objects which can be expensive.
-	private static final ConcurrentHashMap<Integer,Map<Class,ClassMeta>> cmCacheCache
-		= new ConcurrentHashMap<>();
-
 	/** Default config.  All default settings. */
 	public static final BeanContext DEFAULT = BeanContext.create().build();
 
@@ -1915,6 +1952,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
 		useEnumNames,
+		useGeneratedAccessors,
 		sortProperties,
 		fluentSetters,
 		debug;
@@ -1941,7 +1979,12 @@ public class BeanContext extends Context {
 	private final String beanTypePropertyName;
 	private final int beanHashCode;
 
-	final Map<Class,ClassMeta> cmCache;
+	// This cache is important!
+	// We may have many Context objects that have identical BeanContext properties.
+	// ClassMetaCache ensures that if the BeanContext properties in the Context are the same,
+	// then we reuse the same Class->ClassMeta cache.
+	// This significantly reduces the number of times we need to construct ClassMeta objects which can be expensive.
+	final ClassMetaCache cmCache;
 	private final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
 	private final ClassMeta<String> cmString;  // Reusable ClassMeta that represents general Strings.
 	private final ClassMeta<Class> cmClass;  // Reusable ClassMeta that represents general Classes.
@@ -1976,6 +2019,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnGetters, false);
 		ignoreInvocationExceptionsOnSetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnSetters, false);
 		useJavaBeanIntrospector = getBooleanProperty(BEAN_useJavaBeanIntrospector, false);
+		useGeneratedAccessors = getBooleanProperty(BEAN_useGeneratedAccessors, false);
 		sortProperties = getBooleanProperty(BEAN_sortProperties, false);
 		fluentSetters = getBooleanProperty(BEAN_fluentSetters, false);
 		beanTypePropertyName = getStringProperty(BEAN_beanTypePropertyName, "_type");
@@ -2046,15 +2090,19 @@ public class BeanContext extends Context {
 		timeZone = getInstanceProperty(BEAN_timeZone, TimeZone.class, null);
 		mediaType = getInstanceProperty(BEAN_mediaType, MediaType.class, null);
 
-		if (! cmCacheCache.containsKey(beanHashCode)) {
-			ConcurrentHashMap<Class,ClassMeta> cm = new ConcurrentHashMap<>();
-			cm.putIfAbsent(String.class, new ClassMeta(String.class, this, null, null, findPojoSwaps(String.class), findChildPojoSwaps(String.class), findExample(String.class)));
-			cm.putIfAbsent(Object.class, new ClassMeta(Object.class, this, null, null, findPojoSwaps(Object.class), findChildPojoSwaps(Object.class), findExample(Object.class)));
-			cmCacheCache.putIfAbsent(beanHashCode, cm);
+		ClassMetaCache cmc = ClassMetaCache.find(beanHashCode);
+		ClassMeta cms = cmc.get(String.class), cmo = cmc.get(Object.class);
+		if (cms == null) {
+			cms = new ClassMeta(String.class, this, null, null, findPojoSwaps(String.class), findChildPojoSwaps(String.class), findExample(String.class));
+			cmc.put(String.class, cms);
 		}
-		cmCache = cmCacheCache.get(beanHashCode);
-		cmString = cmCache.get(String.class);
-		cmObject = cmCache.get(Object.class);
+		if (cmo == null) {
+			cmo = new ClassMeta(Object.class, this, null, null, findPojoSwaps(Object.class), findChildPojoSwaps(Object.class), findExample(Object.class));
+			cmc.put(Object.class, cmo);
+		}
+		cmCache = cmc;
+		cmString = cms;
+		cmObject = cmo;
 		cmClass = cmCache.get(Class.class);
 
 		beanDictionaryClasses = unmodifiableList(Arrays.asList(getClassArrayProperty(BEAN_beanDictionary)));
@@ -2199,15 +2247,28 @@ public class BeanContext extends Context {
 		return getClassMetaForObject(o).isBean();
 	}
 
+	/**
+	 * Returns the {@link ClassMeta} cache used by this bean context.
+	 *
+	 * <p>
+	 * The cache is shared by all bean contexts with equivalent settings.
+	 *
+	 * @return The {@link ClassMeta} cache used by this bean context.  Never <jk>null</jk>.
+	 */
+	public final ClassMetaCache getClassMetaCache() {
+		return cmCache;
+	}
+
 	/**
 	 * Prints meta cache statistics to <code>System.out</code>.
 	 */
 	protected static void dumpCacheStats() {
 		try {
 			int ctCount = 0;
-			for (Map<Class,ClassMeta> cm : cmCacheCache.values())
+			List<ClassMetaCache> l = ClassMetaCache.getSharedCaches();
+			for (ClassMetaCache cm : l)
 				ctCount += cm.size();
-			System.out.println(format("ClassMeta cache: {0} instances in {1} caches", ctCount, cmCacheCache.size())); // NOT DEBUG
+			System.out.println(format("ClassMeta cache: {0} instances in {1} caches", ctCount, l.size())); // NOT DEBUG
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
@@ -2332,6 +2393,94 @@ public class BeanContext extends Context {
 		return (ClassMeta<T>) getTypedClassMeta(cma, 0);
 	}
 
+	/**
+	 * Eagerly creates the metadata for the specified types and all types reachable from them.
+	 *
+	 * <p>
+	 * {@link ClassMeta} and {@link BeanMeta} objects are normally created the first time a type is serialized or
+	 * parsed.
+	 * <br>Calling this method at startup moves that cost out of the first requests.
+	 *
+	 * <p>
+	 * The type graph is walked through bean properties, collection and array elements, and map keys and values.
+	 * <br>Types are processed in parallel on the common fork-join pool.
+	 *
+	 * @param types
+	 * 	The types to preload.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 */
+	public final void preload(Type...types) {
+		preload(ForkJoinPool.commonPool(), types);
+	}
+
+	/**
+	 * Same as {@link #preload(Type...)} but uses the specified fork-join pool.
+	 *
+	 * @param pool The fork-join pool to run on.
+	 * @param types
+	 * 	The types to preload.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 */
+	public final void preload(ForkJoinPool pool, Type...types) {
+		Set<ClassMeta<?>> visited = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<ClassMeta<?>,Boolean>()));
+		List<PreloadTask> l = new ArrayList<>();
+		for (Type t : types) {
+			ClassMeta<?> cm = getClassMeta(t);
+			if (cm != null && visited.add(cm))
+				l.add(new PreloadTask(cm, visited));
+		}
+		for (PreloadTask t : l)
+			pool.execute(t);
+		for (PreloadTask t : l)
+			t.join();
+	}
+
+	/**
+	 * Creates format-specific metadata for the specified type during {@link #preload(Type...)}.
+	 *
+	 * <p>
+	 * Subclasses should override this method to create the extended metadata they use during serialization or
+	 * parsing (e.g. {@link ClassMeta#getExtendedMeta(Class)}).
+	 * <br>The default implementation does nothing.
+	 *
+	 * @param cm The type being preloaded.
+	 */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {}
+
+	/*
+	 * Preloads a single type and forks tasks for the types reachable from it.
+	 */
+	@SuppressWarnings("serial")
+	private final class PreloadTask extends RecursiveAction {
+		private final ClassMeta<?> cm;
+		private final Set<ClassMeta<?>> visited;
+
+		PreloadTask(ClassMeta<?> cm, Set<ClassMeta<?>> visited) {
+			this.cm = cm;
+			this.visited = visited;
+		}
+
+		@Override /* RecursiveAction */
+		protected void compute() {
+			cm.waitForInit();
+			List<PreloadTask> l = new ArrayList<>();
+			add(l, cm.getElementType());
+			add(l, cm.getKeyType());
+			add(l, cm.getValueType());
+			BeanMeta<?> bm = cm.getBeanMeta();
+			if (bm != null)
+				for (BeanPropertyMeta p : bm.getPropertyMetas())
+					add(l, p.getClassMeta());
+			preloadExtendedMeta(cm);
+			invokeAll(l);
+		}
+
+		private void add(List<PreloadTask> l, ClassMeta<?> cm2) {
+			if (cm2 != null && visited.add(cm2))
+				l.add(new PreloadTask(cm2, visited));
+		}
+	}
+
 	/*
 	 * Resolves the 'genericized' class meta at the specified position in the ClassMeta array.
 	 */
@@ -3002,6 +3151,17 @@ public class BeanContext extends Context {
 		return useEnumNames;
 	}
 
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * @see #BEAN_useGeneratedAccessors
+	 * @return
+	 * 	<jk>true</jk> if bean properties are accessed through generated functions or method handles instead of reflection.
+	 */
+	protected final boolean isUseGeneratedAccessors() {
+		return useGeneratedAccessors;
+	}
+
 	/**
 	 * Configuration property:  Sort bean properties.
 	 *
@@ -3182,6 +3342,7 @@ public class BeanContext extends Context {
 				.append("sortProperties", sortProperties)
 				.append("timeZone", timeZone)
 				.append("useEnumNames", useEnumNames)
+				.append("useGeneratedAccessors", useGeneratedAccessors)
 				.append("useInterfaceProxies", useInterfaceProxies)
 				.append("useJavaBeanIntrospector", useJavaBeanIntrospector)
 			);
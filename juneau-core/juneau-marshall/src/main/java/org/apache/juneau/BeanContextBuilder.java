@@ -1355,6 +1355,44 @@ public class BeanContextBuilder extends ContextBuilder {
 		return set(BEAN_useEnumNames, true);
 	}
 
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * <p>
+	 * When enabled, bean property getters and setters are invoked through generated functions or method handles
+	 * instead of reflection.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useGeneratedAccessors}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public BeanContextBuilder useGeneratedAccessors(boolean value) {
+		return set(BEAN_useGeneratedAccessors, value);
+	}
+
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useGeneratedAccessors(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useGeneratedAccessors}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public BeanContextBuilder useGeneratedAccessors() {
+		return set(BEAN_useGeneratedAccessors, true);
+	}
+
 	/**
 	 * Configuration property:  Use interface proxies.
 	 *
@@ -218,7 +218,7 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	 */
 	@Override /* Map */
 	public Object put(String property, Object value) {
-		BeanPropertyMeta p = meta.properties.get(property);
+		BeanPropertyMeta p = meta.findPropertyMeta(property);
 		if (p == null) {
 			if (meta.ctx.isIgnoreUnknownBeanProperties())
 				return null;
@@ -226,7 +226,7 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 			if (property.equals(beanTypePropertyName))
 				return null;
 
-			p = meta.properties.get("*");
+			p = meta.findPropertyMeta("*");
 			if (p == null)
 				throw new BeanRuntimeException(meta.c, "Bean property ''{0}'' not found.", property);
 		}
@@ -246,7 +246,7 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	 * @param value The value to add to the collection or array.
 	 */
 	public void add(String property, Object value) {
-		BeanPropertyMeta p = meta.properties.get(property);
+		BeanPropertyMeta p = meta.findPropertyMeta(property);
 		if (p == null) {
 			if (meta.ctx.isIgnoreUnknownBeanProperties())
 				return;
@@ -413,10 +413,7 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	 * @return Metadata on the specified property, or <jk>null</jk> if that property does not exist.
 	 */
 	public BeanPropertyMeta getPropertyMeta(String propertyName) {
-		BeanPropertyMeta bpMeta = meta.properties.get(propertyName);
-		if (bpMeta == null)
-			bpMeta = meta.dynaProperty;
-		return bpMeta;
+		return meta.getPropertyMeta(propertyName);
 	}
 
 	/**
@@ -496,7 +493,7 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	 * @return A simple collection of properties for this bean map.
 	 */
 	protected Collection<BeanPropertyMeta> getProperties() {
-		return meta.properties.values();
+		return meta.getPropertyMetas();
 	}
 
 	/**
@@ -26,6 +26,7 @@ import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.utils.*;
 
@@ -94,6 +95,11 @@ public class BeanMeta<T> {
 
 	private final MetadataMap extMeta;  // Extended metadata
 
+	// Same contents as the properties map, but indexed by position.
+	private final StringIndex propertyIndex;
+	private final BeanPropertyMeta[] propertyArray;
+	private final List<BeanPropertyMeta> propertyList;
+
 	// Other fields
 	final String typePropertyName;                         // "_type" property actual name.
 	private final BeanPropertyMeta typeProperty;           // "_type" mock bean property.
@@ -123,6 +129,16 @@ public class BeanMeta<T> {
 		this.beanFilter = beanFilter;
 		this.dictionaryName = b.dictionaryName;
 		this.properties = unmodifiableMap(b.properties);
+		if (b.properties == null) {
+			this.propertyIndex = new StringIndex();
+			this.propertyArray = new BeanPropertyMeta[0];
+		} else {
+			this.propertyIndex = new StringIndex(b.properties.keySet().toArray(new String[b.properties.size()]));
+			this.propertyArray = b.properties.values().toArray(new BeanPropertyMeta[b.properties.size()]);
+			for (int i = 0; i < propertyArray.length; i++)
+				propertyArray[i].index = i;
+		}
+		this.propertyList = Collections.unmodifiableList(Arrays.asList(propertyArray));
 		this.getterProps = unmodifiableMap(b.getterProps);
 		this.setterProps = unmodifiableMap(b.setterProps);
 		this.dynaProperty = b.dynaProperty;
@@ -290,16 +306,35 @@ public class BeanMeta<T> {
 
 				} else /* Use 'better' introspection */ {
 
-					for (Field f : findBeanFields(c2, stopClass, fVis, filterProps)) {
-						String name = findPropertyName(f, fixedBeanProps);
-						if (name != null) {
+					// Use the descriptor generated at build time if the settings match the ones it was computed with.
+					BeanMetaDescriptor bmd = null;
+					if (bean != null && c2 == c && stopClass == Object.class && fixedBeanProps.isEmpty() && filterProps.isEmpty()
+							&& ! fluentSetters && mVis == Visibility.PUBLIC && fVis == Visibility.PUBLIC && propertyNamer instanceof PropertyNamerDefault)
+						bmd = BeanMetaDescriptor.find(c);
+
+					List<BeanMethod> bms;
+
+					if (bmd != null) {
+						for (Map.Entry<Field,String> e : bmd.fields.entrySet()) {
+							String name = e.getValue();
 							if (! normalProps.containsKey(name))
 								normalProps.put(name, BeanPropertyMeta.builder(beanMeta, name));
-							normalProps.get(name).setField(f);
+							normalProps.get(name).setField(e.getKey());
+						}
+						bms = bmd.methods;
+
+					} else {
+						for (Field f : findBeanFields(c2, stopClass, fVis, filterProps)) {
+							String name = findPropertyName(f, fixedBeanProps);
+							if (name != null) {
+								if (! normalProps.containsKey(name))
+									normalProps.put(name, BeanPropertyMeta.builder(beanMeta, name));
+								normalProps.get(name).setField(f);
+							}
 						}
-					}
 
-					List<BeanMethod> bms = findBeanMethods(c2, stopClass, mVis, fixedBeanProps, filterProps, propertyNamer, fluentSetters);
+						bms = findBeanMethods(c2, stopClass, mVis, fixedBeanProps, filterProps, propertyNamer, fluentSetters);
+					}
 
 					// Iterate through all the getters.
 					for (BeanMethod bm : bms) {
@@ -530,7 +565,7 @@ public class BeanMeta<T> {
 	/*
 	 * Temporary getter/setter method struct.
 	 */
-	private static final class BeanMethod {
+	static final class BeanMethod {
 		String propertyName;
 		MethodType methodType;
 		Method method;
@@ -766,7 +801,7 @@ public class BeanMeta<T> {
 	 * @return Metadata on all properties associated with this bean.
 	 */
 	public Collection<BeanPropertyMeta> getPropertyMetas() {
-		return this.properties.values();
+		return propertyList;
 	}
 
 	/**
@@ -801,10 +836,41 @@ public class BeanMeta<T> {
 	 * @return The metadata about the property, or <jk>null</jk> if no such property exists on this bean.
 	 */
 	public BeanPropertyMeta getPropertyMeta(String name) {
-		BeanPropertyMeta bpm = properties.get(name);
-		if (bpm == null)
-			bpm = dynaProperty;
-		return bpm;
+		int i = propertyIndex.indexOf(name);
+		return i == -1 ? dynaProperty : propertyArray[i];
+	}
+
+	/**
+	 * Returns the position of the specified property in {@link #getPropertyMetas()}.
+	 *
+	 * <p>
+	 * Positions are fixed for the life of this object and can be used with {@link #getPropertyMeta(int)} to avoid
+	 * repeated lookups by name.
+	 *
+	 * @param name The name of the property on this bean.
+	 * @return The position of the property, or <code>-1</code> if no such property exists on this bean.
+	 */
+	public int getPropertyIndex(String name) {
+		return propertyIndex.indexOf(name);
+	}
+
+	/**
+	 * Returns metadata about the property at the specified position.
+	 *
+	 * @param index The position of the property as returned by {@link #getPropertyIndex(String)}.
+	 * @return The metadata about the property.
+	 * @throws ArrayIndexOutOfBoundsException If the position is invalid.
+	 */
+	public BeanPropertyMeta getPropertyMeta(int index) {
+		return propertyArray[index];
+	}
+
+	/*
+	 * Same as getPropertyMeta(String) but doesn't fall back on the dyna property.
+	 */
+	final BeanPropertyMeta findPropertyMeta(String name) {
+		int i = propertyIndex.indexOf(name);
+		return i == -1 ? null : propertyArray[i];
 	}
 
 	/**
@@ -0,0 +1,138 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.BeanMeta.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
+
+/**
+ * Precomputed list of bean fields and methods for a {@link Bean @Bean}-annotated class.
+ *
+ * <p>
+ * Descriptors are generated at build time by the <code>juneau-marshall-apt</code> annotation processor and stored as
+ * class path resources named <code>META-INF/juneau/beans/<i>binary-class-name</i></code>.
+ * <br>When present, {@link BeanMeta} uses them instead of scanning the class hierarchy for bean fields and methods.
+ *
+ * <p>
+ * Descriptors are computed against the default bean context settings, so they're only used when the following are true:
+ * <ul>
+ * 	<li>{@link BeanContext#BEAN_beanMethodVisibility} and {@link BeanContext#BEAN_beanFieldVisibility} are {@link Visibility#PUBLIC}.
+ * 	<li>The property namer is {@link PropertyNamerDefault}.
+ * 	<li>Fluent setters, {@link BeanContext#BEAN_useJavaBeanIntrospector}, and include-property lists are not used.
+ * 	<li>The bean filter does not define properties, an interface class, or a stop class.
+ * </ul>
+ *
+ * <h5 class='section'>Format:</h5>
+ * <p>
+ * UTF-8 text with one tab-delimited entry per line.  Lines starting with <js>'#'</js> are ignored.
+ * <p class='bcode w800'>
+ * 	<i>kind</i>	<i>property-name</i>	<i>declaring-class</i>	<i>member-name</i>	<i>parameter-types...</i>
+ * </p>
+ * <p>
+ * Where <i>kind</i> is one of {@link #FIELD}, {@link #GETTER}, {@link #SETTER}, or {@link #EXTRAKEYS}, and class
+ * names are in {@link Class#getName()} format.
+ * <br>Entries are listed in parent-to-child class order, fields first.
+ */
+public final class BeanMetaDescriptor {
+
+	/** Prefix of the class path resources containing bean descriptors. */
+	public static final String RESOURCE_PREFIX = "META-INF/juneau/beans/";
+
+	/** Entry kind:  Bean field. */
+	public static final String FIELD = "F";
+
+	/** Entry kind:  Getter method. */
+	public static final String GETTER = "G";
+
+	/** Entry kind:  Setter method. */
+	public static final String SETTER = "S";
+
+	/** Entry kind:  Extra-keys method on dyna beans. */
+	public static final String EXTRAKEYS = "E";
+
+	final Map<Field,String> fields;
+	final List<BeanMethod> methods;
+
+	private BeanMetaDescriptor(Map<Field,String> fields, List<BeanMethod> methods) {
+		this.fields = fields;
+		this.methods = methods;
+	}
+
+	/**
+	 * Finds and loads the descriptor for the specified class.
+	 *
+	 * @param c The bean class.
+	 * @return
+	 * 	The descriptor, or <jk>null</jk> if the class doesn't have one or it could not be resolved against the class
+	 * 	(e.g. it's out-of-date).
+	 */
+	static BeanMetaDescriptor find(Class<?> c) {
+		ClassLoader cl = c.getClassLoader();
+		if (cl == null)
+			return null;
+		try (InputStream is = cl.getResourceAsStream(RESOURCE_PREFIX + c.getName())) {
+			if (is == null)
+				return null;
+			return parse(IOUtils.read(is, IOUtils.UTF8), cl);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static BeanMetaDescriptor parse(String s, ClassLoader cl) throws Exception {
+		Map<Field,String> fields = new LinkedHashMap<>();
+		List<BeanMethod> methods = new LinkedList<>();
+		for (String line : s.split("\\r?\\n")) {
+			if (line.isEmpty() || line.charAt(0) == '#')
+				continue;
+			String[] e = line.split("\t");
+			if (e.length < 4)
+				throw new FormattedException("Invalid bean descriptor line ''{0}''", line);
+			String kind = e[0], name = e[1], member = e[3];
+			Class<?> dc = forName(e[2], cl);
+			if (FIELD.equals(kind)) {
+				fields.put(dc.getDeclaredField(member), name);
+			} else {
+				Class<?>[] pt = new Class<?>[e.length-4];
+				for (int i = 0; i < pt.length; i++)
+					pt[i] = forName(e[i+4], cl);
+				Method m = dc.getDeclaredMethod(member, pt);
+				if (GETTER.equals(kind))
+					methods.add(new BeanMethod(name, MethodType.GETTER, m));
+				else if (SETTER.equals(kind))
+					methods.add(new BeanMethod(name, MethodType.SETTER, m));
+				else if (EXTRAKEYS.equals(kind))
+					methods.add(new BeanMethod(name, MethodType.EXTRAKEYS, m));
+				else
+					throw new FormattedException("Invalid bean descriptor kind ''{0}''", kind);
+			}
+		}
+		return new BeanMetaDescriptor(fields, methods);
+	}
+
+	private static Class<?> forName(String name, ClassLoader cl) throws ClassNotFoundException {
+		Class<?> c = PRIMITIVES.get(name);
+		return c != null ? c : Class.forName(name, false, cl);
+	}
+
+	private static final Map<String,Class<?>> PRIMITIVES = new HashMap<>();
+	static {
+		for (Class<?> c : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class})
+			PRIMITIVES.put(c.getName(), c);
+	}
+}
@@ -18,10 +18,12 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.net.*;
 import java.net.URI;
 import java.util.*;
+import java.util.function.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.internal.*;
@@ -53,6 +55,8 @@ public final class BeanPropertyMeta {
 	private final Field innerField;                                // The bean property field (if it has one).
 	private final Method getter, setter, extraKeys;           // The bean property getter and setter.
 	private final MethodInfo getterInfo, setterInfo, extraKeysInfo;           // The bean property getter and setter.
+	private final Getter propertyGetter;                      // Accessor used to read non-dyna property values.
+	private final Setter propertySetter;                      // Accessor used to write non-dyna property values.
 	private final boolean isUri;                              // True if this is a URL/URI or annotated with @URI.
 	private final boolean isDyna, isDynaGetterMap;            // This is a dyna property (i.e. name="*")
 
@@ -69,6 +73,7 @@ public final class BeanPropertyMeta {
 	private final Object overrideValue;                       // The bean property value (if it's an overridden delegate).
 	private final BeanPropertyMeta delegateFor;               // The bean property that this meta is a delegate for.
 	private final boolean canRead, canWrite;
+	int index = -1;                                           // Position of this property in BeanMeta.getPropertyMetas().
 
 	/**
 	 * Creates a builder for {@link #BeanPropertyMeta} objects.
@@ -392,6 +397,10 @@ public final class BeanPropertyMeta {
 		this.isDynaGetterMap = b.isDynaGetterMap;
 		this.canRead = b.canRead;
 		this.canWrite = b.canWrite;
+
+		boolean generated = beanContext.isUseGeneratedAccessors();
+		this.propertyGetter = isDyna ? null : findGetter(getter, field, generated);
+		this.propertySetter = isDyna ? null : findSetter(setter, field, generated);
 	}
 
 	/**
@@ -403,6 +412,15 @@ public final class BeanPropertyMeta {
 		return name;
 	}
 
+	/**
+	 * Returns the position of this property in {@link BeanMeta#getPropertyMetas()}.
+	 *
+	 * @return The position of this property, or <code>-1</code> if it's not part of the bean metadata (e.g. a delegate).
+	 */
+	public int getIndex() {
+		return index;
+	}
+
 	/**
 	 * Returns the bean meta that this property belongs to.
 	 *
@@ -802,7 +820,7 @@ public final class BeanPropertyMeta {
 		}
 	}
 
-	private Object invokeGetter(Object bean, String pName) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+	private Object invokeGetter(Object bean, String pName) throws Exception {
 		if (isDyna) {
 			Map m = null;
 			if (getter != null) {
@@ -816,14 +834,12 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
-		if (getter != null)
-			return getter.invoke(bean);
-		if (field != null)
-			return field.get(bean);
+		if (propertyGetter != null)
+			return propertyGetter.get(bean);
 		throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 	}
 
-	private Object invokeSetter(Object bean, String pName, Object val) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+	private Object invokeSetter(Object bean, String pName, Object val) throws Exception {
 		if (isDyna) {
 			if (setter != null)
 				return setter.invoke(bean, pName, val);
@@ -836,10 +852,8 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
-		if (setter != null)
-			return setter.invoke(bean, val);
-		if (field != null) {
-			field.set(bean, val);
+		if (propertySetter != null) {
+			propertySetter.set(bean, val);
 			return null;
 		}
 		throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
@@ -885,11 +899,9 @@ public final class BeanPropertyMeta {
 	 *
 	 * @param bean The bean of the field.
 	 * @param l The collection to use to set the array field.
-	 * @throws IllegalArgumentException Thrown by method invocation.
-	 * @throws IllegalAccessException Thrown by method invocation.
-	 * @throws InvocationTargetException Thrown by method invocation.
+	 * @throws Exception Thrown by method invocation.
 	 */
-	protected void setArray(Object bean, List l) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+	protected void setArray(Object bean, List l) throws Exception {
 		Object array = toArray(l, this.rawTypeMeta.getElementType().getInnerClass());
 		invokeSetter(bean, name, array);
 	}
@@ -1166,6 +1178,120 @@ public final class BeanPropertyMeta {
 		return o;
 	}
 
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/*
+	 * Finds the accessor for reading the property value.
+	 * If generated accessors are enabled, tries a LambdaMetafactory-spun function first, then a method handle, and
+	 * finally falls back to plain reflection if access is denied.
+	 */
+	private static Getter findGetter(Method getter, Field field, boolean generated) {
+		if (getter != null) {
+			if (generated) {
+				try {
+					MethodHandle mh = LOOKUP.unreflect(getter);
+					if (canSpinLambda(getter)) {
+						try {
+							CallSite cs = LambdaMetafactory.metafactory(LOOKUP, "apply",
+								MethodType.methodType(Function.class),
+								MethodType.methodType(Object.class, Object.class),
+								mh,
+								MethodType.methodType(getWrapperIfPrimitive(getter.getReturnType()), getter.getDeclaringClass())
+							);
+							return new Getter.LambdaGetter((Function<Object,Object>)cs.getTarget().invoke());
+						} catch (Throwable t) {
+							// Fall through to method handle.
+						}
+					}
+					return new Getter.MethodHandleGetter(mh);
+				} catch (IllegalAccessException e) {
+					// Fall through to reflection.
+				}
+			}
+			return new Getter.MethodGetter(getter);
+		}
+		if (field != null) {
+			if (generated) {
+				try {
+					return new Getter.MethodHandleGetter(LOOKUP.unreflectGetter(field));
+				} catch (IllegalAccessException e) {
+					// Fall through to reflection.
+				}
+			}
+			return new Getter.FieldGetter(field);
+		}
+		return null;
+	}
+
+	/*
+	 * Finds the accessor for writing the property value.
+	 * Same lookup order as findGetter().
+	 */
+	private static Setter findSetter(Method setter, Field field, boolean generated) {
+		if (setter != null) {
+			if (generated) {
+				try {
+					MethodHandle mh = LOOKUP.unreflect(setter);
+					if (canSpinLambda(setter)) {
+						try {
+							CallSite cs = LambdaMetafactory.metafactory(LOOKUP, "accept",
+								MethodType.methodType(BiConsumer.class),
+								MethodType.methodType(void.class, Object.class, Object.class),
+								mh,
+								MethodType.methodType(void.class, setter.getDeclaringClass(), getWrapperIfPrimitive(setter.getParameterTypes()[0]))
+							);
+							return new Setter.LambdaSetter((BiConsumer<Object,Object>)cs.getTarget().invoke());
+						} catch (Throwable t) {
+							// Fall through to method handle.
+						}
+					}
+					return new Setter.MethodHandleSetter(mh);
+				} catch (IllegalAccessException e) {
+					// Fall through to reflection.
+				}
+			}
+			return new Setter.MethodSetter(setter);
+		}
+		if (field != null) {
+			if (generated) {
+				try {
+					return new Setter.MethodHandleSetter(LOOKUP.unreflectSetter(field));
+				} catch (IllegalAccessException e) {
+					// Fall through to reflection (e.g. final fields).
+				}
+			}
+			return new Setter.FieldSetter(field);
+		}
+		return null;
+	}
+
+	/*
+	 * Lambdas are spun in this class's loader and call the method directly, so they can only be used on public
+	 * methods of public classes whose signature types are visible from here.
+	 */
+	private static boolean canSpinLambda(Method m) {
+		if (! (Modifier.isPublic(m.getModifiers()) && Modifier.isPublic(m.getDeclaringClass().getModifiers())))
+			return false;
+		if (! isVisible(m.getDeclaringClass()) || ! isVisible(m.getReturnType()))
+			return false;
+		for (Class<?> pt : m.getParameterTypes())
+			if (! isVisible(pt))
+				return false;
+		return true;
+	}
+
+	private static boolean isVisible(Class<?> c) {
+		while (c.isArray())
+			c = c.getComponentType();
+		if (c.isPrimitive())
+			return true;
+		try {
+			return Class.forName(c.getName(), false, BeanPropertyMeta.class.getClassLoader()) == c;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
 	private static String findClassName(Object o) {
 		if (o == null)
 			return null;
@@ -1196,4 +1322,4 @@ public final class BeanPropertyMeta {
 	public boolean canWrite() {
 		return canWrite;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -486,6 +486,18 @@ public class BeanTraverseBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public BeanTraverseBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public BeanTraverseBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public BeanTraverseBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -75,6 +75,17 @@ public class BeanTraverseSession extends BeanSession {
 		}
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		set.clear();
+		stack.clear();
+		isBottom = false;
+		currentProperty = null;
+		currentClass = null;
+		indent = getInitialDepth();
+	}
+
 	/**
 	 * Sets the current bean property being traversed for proper error messages.
 	 *
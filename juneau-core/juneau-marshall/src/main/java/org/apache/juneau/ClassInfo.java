@@ -34,6 +34,14 @@ public class ClassInfo {
 
 	private static final Map<Type,ClassInfo> CACHE = new ConcurrentHashMap<>();
 
+	// Cache for classes from foreign class loaders so that they can be unloaded.
+	private static final ClassValue<ClassInfo> FOREIGN_CACHE = new ClassValue<ClassInfo>() {
+		@Override /* ClassValue */
+		protected ClassInfo computeValue(Class<?> type) {
+			return create(type);
+		}
+	};
+
 	/**
 	 * Constructor.
 	 *
@@ -65,6 +73,9 @@ public class ClassInfo {
 	public synchronized static ClassInfo lookup(Type t) {
 		if (t == null)
 			return null;
+		Class<?> c = ClassUtils.toClass(t);
+		if (c != null && ClassUtils.isFromForeignClassLoader(c))
+			return t == c ? FOREIGN_CACHE.get(c) : create(t);
 		ClassInfo ci = CACHE.get(t);
 		if (ci == null) {
 			ci = create(t);
@@ -26,6 +26,7 @@ import java.util.*;
 import java.util.Date;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.*;
+import java.util.stream.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
@@ -61,7 +62,7 @@ public final class ClassMeta<T> implements Type {
 
 	/** Class categories. */
 	enum ClassCategory {
-		MAP, COLLECTION, CLASS, METHOD, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM, VOID, ARGS
+		MAP, COLLECTION, CLASS, METHOD, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM, VOID, ARGS, STREAM
 	}
 
 	final Class<T> innerClass;                              // The class being wrapped.
@@ -456,6 +457,8 @@ public final class ClassMeta<T> implements Type {
 					cc = READER;
 				else if (isParentClass(InputStream.class, c))
 					cc = INPUTSTREAM;
+				else if (isParentClass(Iterator.class, c) || isParentClass(Enumeration.class, c) || isParentClass(BaseStream.class, c))
+					cc = STREAM;
 			}
 
 			isMemberClass = c.isMemberClass() && ! isStatic(c);
@@ -663,6 +666,10 @@ public final class ClassMeta<T> implements Type {
 					}
 				}
 
+				// Elements of iterators and streams are resolved from the actual element values.
+				else if (cc == STREAM)
+					elementType = findClassMeta(Object.class);
+
 				// If the category is unknown, see if it's a bean.
 				// Note that this needs to be done after all other initialization has been done.
 				else if (cc == OTHER) {
@@ -1433,6 +1440,18 @@ public final class ClassMeta<T> implements Type {
 		return cc == INPUTSTREAM;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class is an {@link Iterator}, {@link Enumeration}, or {@link BaseStream}.
+	 *
+	 * <p>
+	 * Serializers write the elements of these objects as arrays as they're being pulled from the source.
+	 *
+	 * @return <jk>true</jk> if this class is an {@link Iterator}, {@link Enumeration}, or {@link BaseStream}.
+	 */
+	public boolean isStream() {
+		return cc == STREAM;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this class is {@link Void} or <jk>void</jk>.
 	 *
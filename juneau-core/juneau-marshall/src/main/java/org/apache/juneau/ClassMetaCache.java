@@ -0,0 +1,316 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Cache of {@link ClassMeta} objects shared between bean contexts with identical bean settings.
+ *
+ * <p>
+ * Class metadata is strongly referenced until it's evicted, but entries never prevent classes from discarded class
+ * loaders (e.g. redeployed web applications) from being garbage collected:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Metadata for classes loaded by the class loader of this library (or one of its parents) is kept in a map owned
+ * 		by the cache.
+ * 		<br>These classes can't be unloaded before this library is.
+ * 	<li>
+ * 		Metadata for classes loaded by any other class loader is attached to the class itself through a
+ * 		{@link ClassValue}, so it becomes unreachable together with the class and its class loader.
+ * 		<br>The cache itself only keeps weak references to these classes.
+ * </ul>
+ *
+ * <p>
+ * The number of entries in each cache and the number of caches are bounded.
+ * When a cache grows past its maximum size, the least-recently-used entries are evicted.
+ * When the number of caches grows past its maximum, the least-recently-used cache is no longer shared with new
+ * bean contexts.
+ *
+ * <p>
+ * The bounds can be set through the following system properties:
+ * <ul>
+ * 	<li><js>"juneau.classMetaCache.maxSize"</js> - Maximum number of entries in each cache (default <code>10000</code>).
+ * 	<li><js>"juneau.classMetaCache.maxCaches"</js> - Maximum number of shared caches (default <code>100</code>).
+ * </ul>
+ */
+public final class ClassMetaCache {
+
+	static final int MAX_SIZE = Integer.getInteger("juneau.classMetaCache.maxSize", 10000);
+	static final int MAX_CACHES = Integer.getInteger("juneau.classMetaCache.maxCaches", 100);
+
+	// Maps BeanContext.beanHashCode values to caches.
+	private static final Map<Integer,ClassMetaCache> CACHES = new LinkedHashMap<Integer,ClassMetaCache>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override /* LinkedHashMap */
+		protected boolean removeEldestEntry(Map.Entry<Integer,ClassMetaCache> eldest) {
+			return size() > MAX_CACHES;
+		}
+	};
+
+	/**
+	 * Returns the shared cache for bean contexts with the specified bean hash code.
+	 *
+	 * @param beanHashCode The hash code of the bean context settings.
+	 * @return The cache.  Never <jk>null</jk>.
+	 */
+	static ClassMetaCache find(int beanHashCode) {
+		synchronized(CACHES) {
+			ClassMetaCache c = CACHES.get(beanHashCode);
+			if (c == null) {
+				c = new ClassMetaCache(MAX_SIZE);
+				CACHES.put(beanHashCode, c);
+			}
+			return c;
+		}
+	}
+
+	/**
+	 * Returns the caches currently shared between bean contexts.
+	 *
+	 * @return An unmodifiable snapshot of the shared caches.
+	 */
+	public static List<ClassMetaCache> getSharedCaches() {
+		synchronized(CACHES) {
+			return Collections.unmodifiableList(new ArrayList<>(CACHES.values()));
+		}
+	}
+
+	// Entries for classes from the local class loaders.
+	private final ConcurrentHashMap<Class<?>,Entry> map = new ConcurrentHashMap<>();
+
+	// Entries for classes from other class loaders, and weak references to those classes for sizing and eviction.
+	private final ClassValue<Entry> foreign = new ClassValue<Entry>() {
+		@Override /* ClassValue */
+		protected Entry computeValue(Class<?> type) {
+			return new Entry();
+		}
+	};
+	private final Set<WeakKey> foreignKeys = ConcurrentHashMap.newKeySet();
+	private final ReferenceQueue<Class<?>> queue = new ReferenceQueue<>();
+
+	private final int maxSize;
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
+
+	// Approximate access clock used for LRU eviction.  Lost updates only affect eviction order.
+	private long clock;
+
+	ClassMetaCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the cached class metadata for the specified class.
+	 *
+	 * @param c The class.
+	 * @return The cached class metadata, or <jk>null</jk> if not cached.
+	 */
+	@SuppressWarnings("rawtypes")
+	ClassMeta get(Class<?> c) {
+		Entry e = map.get(c);
+		if (e == null && isFromForeignClassLoader(c))
+			e = foreign.get(c);
+		ClassMeta cm = e == null ? null : e.cm;
+		if (cm != null) {
+			e.lastAccess = ++clock;
+			hits.incrementAndGet();
+		}
+		return cm;
+	}
+
+	/**
+	 * Adds class metadata to this cache.
+	 *
+	 * @param c The class.
+	 * @param cm The class metadata.
+	 */
+	void put(Class<?> c, ClassMeta<?> cm) {
+		expunge();
+		Entry e;
+		if (isFromForeignClassLoader(c)) {
+			e = foreign.get(c);
+			foreignKeys.add(new WeakKey(c, queue));
+		} else {
+			e = new Entry();
+			map.put(c, e);
+		}
+		e.cm = cm;
+		e.lastAccess = ++clock;
+		misses.incrementAndGet();
+		if (map.size() + foreignKeys.size() > maxSize)
+			evict();
+	}
+
+	/*
+	 * Removes the weak references to classes that have been garbage collected.
+	 */
+	private void expunge() {
+		for (Reference<?> r = queue.poll(); r != null; r = queue.poll())
+			foreignKeys.remove(r);
+	}
+
+	/*
+	 * Removes the least-recently-used tenth of the entries.
+	 */
+	private synchronized void evict() {
+		expunge();
+		int size = map.size() + foreignKeys.size();
+		if (size <= maxSize)
+			return;
+		List<Object[]> l = new ArrayList<>(size);
+		for (Map.Entry<Class<?>,Entry> e : map.entrySet())
+			l.add(new Object[]{e.getKey(), e.getValue()});
+		for (WeakKey k : foreignKeys) {
+			Class<?> c = k.get();
+			if (c != null)
+				l.add(new Object[]{k, foreign.get(c)});
+		}
+		Collections.sort(l, new Comparator<Object[]>() {
+			@Override
+			public int compare(Object[] e1, Object[] e2) {
+				return Long.compare(((Entry)e1[1]).lastAccess, ((Entry)e2[1]).lastAccess);
+			}
+		});
+		int n = Math.min(l.size(), size - maxSize + Math.max(1, maxSize / 10));
+		for (int i = 0; i < n; i++) {
+			Object k = l.get(i)[0];
+			Entry e = (Entry)l.get(i)[1];
+			boolean removed;
+			if (k instanceof WeakKey) {
+				Class<?> c = ((WeakKey)k).get();
+				removed = foreignKeys.remove(k);
+				if (c != null)
+					foreign.remove(c);
+			} else {
+				removed = map.remove(k, e);
+			}
+			if (removed)
+				evictions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	public int size() {
+		expunge();
+		return map.size() + foreignKeys.size();
+	}
+
+	/**
+	 * Returns the maximum number of entries in this cache.
+	 *
+	 * @return The maximum number of entries in this cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of lookups that found cached class metadata.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of class metadata objects added to this cache.
+	 *
+	 * <p>
+	 * Each one corresponds to a lookup that didn't find cached class metadata.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of entries removed because this cache exceeded its maximum size.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Returns the statistics of this cache as a simple map.
+	 *
+	 * @return A new map containing the statistics of this cache.
+	 */
+	public ObjectMap asMap() {
+		return new ObjectMap()
+			.append("size", size())
+			.append("maxSize", maxSize)
+			.append("hits", getHits())
+			.append("misses", getMisses())
+			.append("evictions", getEvictions());
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return asMap().toString();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Keys and entries
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Weak reference to a class from a foreign class loader.
+	 */
+	private static final class WeakKey extends WeakReference<Class<?>> {
+		private final int hashCode;
+
+		WeakKey(Class<?> c, ReferenceQueue<Class<?>> queue) {
+			super(c, queue);
+			this.hashCode = c.hashCode();
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (o == this)
+				return true;
+			if (o instanceof WeakKey) {
+				Class<?> c = get();
+				return c != null && c == ((WeakKey)o).get();
+			}
+			return false;
+		}
+	}
+
+	/*
+	 * Cached class metadata.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class Entry {
+		volatile ClassMeta cm;
+		volatile long lastAccess;
+	}
+}
@@ -14,7 +14,9 @@ package org.apache.juneau;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.internal.*;
 
 /**
@@ -26,6 +28,16 @@ import org.apache.juneau.internal.*;
  *
  * <p>
  * Since serializers and parsers are immutable and thread-safe, we reuse them whenever possible.
+ *
+ * <p>
+ * Contexts are matched on equality of the property groups used by the context class, so hash collisions between
+ * different property stores never return the wrong context.
+ * <br>The property groups used by a context class are the ones named after the class and its parent classes, plus
+ * those of any classes identified through the {@link ContextProperties @ContextProperties} annotation.
+ * <br>The cache is bounded.  When it grows past its maximum size, the least-recently-used contexts are evicted.
+ * <br>Lookups of cached contexts don't lock.  Only adding a context to a full cache does.
+ * The maximum size can be set through the <js>"juneau.contextCache.maxSize"</js> system property
+ * (default <code>1000</code>).
  */
 @SuppressWarnings("unchecked")
 public class ContextCache {
@@ -33,12 +45,15 @@ public class ContextCache {
 	/**
 	 * Reusable cache instance.
 	 */
-	public static final ContextCache INSTANCE = new ContextCache();
+	public static final ContextCache INSTANCE = new ContextCache(Integer.getInteger("juneau.contextCache.maxSize", 1000));
 
-	private final static boolean USE_DEEP_MATCHING = Boolean.getBoolean("ContextCache.useDeepMatching");
-
-	private final ConcurrentHashMap<Class<?>,ConcurrentHashMap<Integer,CacheEntry>> contextCache = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<CacheKey,Entry> contextCache = new ConcurrentHashMap<>();
 	private final ConcurrentHashMap<Class<?>,String[]> prefixCache = new ConcurrentHashMap<>();
+	private final int maxSize;
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
+
+	// Approximate access clock used for LRU eviction.  Lost updates only affect eviction order.
+	private long clock;
 
 	// When enabled, this will spit out cache-hit metrics to the console on shutdown.
 	private static final boolean TRACK_CACHE_HITS = Boolean.getBoolean("juneau.trackCacheHits");
@@ -85,7 +100,9 @@ public class ContextCache {
 		public int creates, cached;
 	}
 
-	ContextCache() {}
+	ContextCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
 
 	/**
 	 * Creates a new instance of the specified context-based class, or an existing instance if one with the same
@@ -96,40 +113,122 @@ public class ContextCache {
 	 * @return The
 	 */
 	public <T extends Context> T create(Class<T> c, PropertyStore ps) {
-		ConcurrentHashMap<Integer,CacheEntry> m = getContextCache(c);
-		String[] prefixes = getPrefixes(c);
-
-		Integer hashCode = ps.hashCode(prefixes);
-		CacheEntry ce = m.get(hashCode);
+		CacheKey k = new CacheKey(c, ps, getPrefixes(c));
 
-		if (ce != null && USE_DEEP_MATCHING && ! ce.ps.equals(ps))
-			throw new ContextRuntimeException("Property store hashcode mismatch!", new Object[0]);
+		Entry ce = contextCache.get(k);
 
 		logCache(c, ce != null);
 
-		if (ce == null) {
-			try {
-				ce = new CacheEntry(ps, newInstance(c, ps));
-			} catch (ContextRuntimeException e) {
-				throw e;
-			} catch (Exception e) {
-				throw new ContextRuntimeException(e, "Could not create instance of class ''{0}''", c);
-			}
-			m.putIfAbsent(hashCode, ce);
+		if (ce != null) {
+			ce.lastAccess = ++clock;
+			hits.incrementAndGet();
+			return (T)ce.context;
 		}
 
-		return (T)ce.context;
+		// Contexts are created outside any lock since their constructors can create other contexts.
+		Context x;
+		try {
+			x = newInstance(c, ps);
+		} catch (ContextRuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ContextRuntimeException(e, "Could not create instance of class ''{0}''", c);
+		}
+
+		misses.incrementAndGet();
+		ce = new Entry(x);
+		ce.lastAccess = ++clock;
+		Entry ce2 = contextCache.putIfAbsent(k, ce);
+		if (ce2 != null)
+			return (T)ce2.context;
+		if (contextCache.size() > maxSize)
+			evict();
+		return (T)x;
 	}
 
-	private ConcurrentHashMap<Integer,CacheEntry> getContextCache(Class<?> c) {
-		ConcurrentHashMap<Integer,CacheEntry> m = contextCache.get(c);
-		if (m == null) {
-			m = new ConcurrentHashMap<>();
-			ConcurrentHashMap<Integer,CacheEntry> m2 = contextCache.putIfAbsent(c, m);
-			if (m2 != null)
-				m = m2;
+	/*
+	 * Removes the least-recently-used entries until the cache is back to its maximum size.
+	 */
+	private synchronized void evict() {
+		int n = contextCache.size() - maxSize;
+		if (n <= 0)
+			return;
+		List<Map.Entry<CacheKey,Entry>> l = new ArrayList<>(contextCache.entrySet());
+		Collections.sort(l, new Comparator<Map.Entry<CacheKey,Entry>>() {
+			@Override
+			public int compare(Map.Entry<CacheKey,Entry> e1, Map.Entry<CacheKey,Entry> e2) {
+				return Long.compare(e1.getValue().lastAccess, e2.getValue().lastAccess);
+			}
+		});
+		for (int i = 0; i < n && i < l.size(); i++) {
+			Map.Entry<CacheKey,Entry> e = l.get(i);
+			if (contextCache.remove(e.getKey(), e.getValue()))
+				evictions.incrementAndGet();
 		}
-		return m;
+	}
+
+	/**
+	 * Returns the number of contexts in this cache.
+	 *
+	 * @return The number of contexts in this cache.
+	 */
+	public int size() {
+		return contextCache.size();
+	}
+
+	/**
+	 * Returns the maximum number of contexts in this cache.
+	 *
+	 * @return The maximum number of contexts in this cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of calls to {@link #create(Class, PropertyStore)} that returned a cached context.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #create(Class, PropertyStore)} that created a new context.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of contexts removed because this cache exceeded its maximum size.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Returns the statistics of this cache as a simple map.
+	 *
+	 * @return A new map containing the statistics of this cache.
+	 */
+	public ObjectMap asMap() {
+		return new ObjectMap()
+			.append("size", size())
+			.append("maxSize", maxSize)
+			.append("hits", getHits())
+			.append("misses", getMisses())
+			.append("evictions", getEvictions());
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return asMap().toString();
 	}
 
 	private String[] getPrefixes(Class<?> c) {
@@ -138,6 +237,10 @@ public class ContextCache {
 			Set<String> ps = new HashSet<>();
 			for (Iterator<Class<?>> i = ClassUtils.getParentClasses(c, false, true); i.hasNext();)
 				ps.add(i.next().getSimpleName());
+			ContextProperties cp = c.getAnnotation(ContextProperties.class);
+			if (cp != null)
+				for (Class<?> c2 : cp.value())
+					ps.addAll(Arrays.asList(getPrefixes(c2)));
 			prefixes = ps.toArray(new String[ps.size()]);
 			String[] p2 = prefixCache.putIfAbsent(c, prefixes);
 			if (p2 != null)
@@ -150,13 +253,49 @@ public class ContextCache {
 		return (T)ClassUtils.newInstance(Context.class, cc, true, ps);
 	}
 
-	private static class CacheEntry {
-		final PropertyStore ps;
+	/*
+	 * Cached context and the time it was last accessed.
+	 */
+	private static final class Entry {
 		final Context context;
+		volatile long lastAccess;
 
-		CacheEntry(PropertyStore ps, Context context) {
-			this.ps = ps;
+		Entry(Context context) {
 			this.context = context;
 		}
 	}
+
+	/*
+	 * Key of a context in the cache.
+	 * Two keys are equal if they have the same context class and the same values in the property groups used by it.
+	 */
+	private static final class CacheKey {
+		private final Class<?> c;
+		private final PropertyStore ps;
+		private final String[] prefixes;
+		private final int hashCode;
+
+		CacheKey(Class<?> c, PropertyStore ps, String[] prefixes) {
+			this.c = c;
+			this.ps = ps;
+			this.prefixes = prefixes;
+			this.hashCode = 31 * c.hashCode() + ps.hashCode(prefixes);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof CacheKey))
+				return false;
+			CacheKey k = (CacheKey)o;
+			if (c != k.c || hashCode != k.hashCode)
+				return false;
+			// Fast path for identical property stores.
+			return ps == k.ps || ps.equals(k.ps, prefixes);
+		}
+	}
 }
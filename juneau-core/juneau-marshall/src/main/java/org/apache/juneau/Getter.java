@@ -0,0 +1,116 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.function.*;
+
+/**
+ * Encapsulate a bean getter method that may be a method or field.
+ */
+public interface Getter {
+
+	/**
+	 * Call the getter on the specified object.
+	 *
+	 * @param object The object to call the getter on
+	 * @return The value returned by the getter.
+	 * @throws Exception
+	 */
+	Object get(Object object) throws Exception;
+
+	/**
+	 * Field getter
+	 */
+	static class FieldGetter implements Getter {
+
+		private final Field f;
+
+		public FieldGetter(Field f) {
+			this.f = f;
+		}
+
+		@Override /* Getter */
+		public Object get(Object object) throws Exception {
+			return f.get(object);
+		}
+	}
+
+	/**
+	 * Method getter
+	 */
+	static class MethodGetter implements Getter {
+
+		private final Method m;
+
+		public MethodGetter(Method m) {
+			this.m = m;
+		}
+
+		@Override /* Getter */
+		public Object get(Object object) throws Exception {
+			return m.invoke(object);
+		}
+	}
+
+	/**
+	 * Method handle getter.
+	 *
+	 * <p>
+	 * Wraps a handle to a getter method or field.
+	 * <br>Exceptions thrown by the target are wrapped in {@link InvocationTargetException} just like {@link Method#invoke(Object, Object...)}.
+	 */
+	static class MethodHandleGetter implements Getter {
+
+		private final MethodHandle mh;
+
+		public MethodHandleGetter(MethodHandle mh) {
+			this.mh = mh.asType(MethodType.methodType(Object.class, Object.class));
+		}
+
+		@Override /* Getter */
+		public Object get(Object object) throws Exception {
+			try {
+				return mh.invokeExact(object);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+	}
+
+	/**
+	 * Lambda getter.
+	 *
+	 * <p>
+	 * Wraps a {@link Function} spun by {@link LambdaMetafactory} that calls the getter method directly.
+	 * <br>Exceptions thrown by the target are wrapped in {@link InvocationTargetException} just like {@link Method#invoke(Object, Object...)}.
+	 */
+	static class LambdaGetter implements Getter {
+
+		private final Function<Object,Object> f;
+
+		public LambdaGetter(Function<Object,Object> f) {
+			this.f = f;
+		}
+
+		@Override /* Getter */
+		public Object get(Object object) throws Exception {
+			try {
+				return f.apply(object);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+	}
+}
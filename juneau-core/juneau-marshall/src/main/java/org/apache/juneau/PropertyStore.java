@@ -193,14 +193,23 @@ public final class PropertyStore {
 	public static PropertyStore DEFAULT = PropertyStore.create().build();
 
 	final SortedMap<String,PropertyGroup> groups;
+
+	// All properties in all groups keyed by full property name (e.g. "BeanContext.debug.b").
+	private final Map<String,Property> properties;
+
 	private final int hashCode;
 
 	// Created by PropertyStoreBuilder.build()
 	PropertyStore(Map<String,PropertyGroupBuilder> propertyMaps) {
 		TreeMap<String,PropertyGroup> m = new TreeMap<>();
-		for (Map.Entry<String,PropertyGroupBuilder> p : propertyMaps.entrySet())
-			m.put(p.getKey(), p.getValue().build());
+		Map<String,Property> m2 = new HashMap<>();
+		for (Map.Entry<String,PropertyGroupBuilder> p : propertyMaps.entrySet()) {
+			PropertyGroup g = p.getValue().build(p.getKey());
+			m.put(p.getKey(), g);
+			m2.putAll(g.byKey);
+		}
 		this.groups = Collections.unmodifiableSortedMap(m);
+		this.properties = m2;
 		this.hashCode = groups.hashCode();
 	}
 
@@ -223,19 +232,14 @@ public final class PropertyStore {
 	}
 
 	private Property findProperty(String key) {
-		String g = group(key);
-		String k = key.substring(g.length()+1);
-		PropertyGroup pm = groups.get(g);
-
-		if (pm != null) {
-			Property p = pm.get(k);
-			if (p != null)
-				return p;
-		}
+		Property p = properties.get(key);
+		if (p != null)
+			return p;
 
+		String g = group(key);
 		String s = System.getProperty(key);
 		if (s != null)
-			return PropertyStoreBuilder.MutableProperty.create(k, s).build();
+			return PropertyStoreBuilder.MutableProperty.create(key.substring(g.length()+1), s).build();
 
 		return null;
 	}
@@ -627,8 +631,10 @@ public final class PropertyStore {
 	public boolean equals(Object o) {
 		if (this == o)
 			return true;
-		if (o instanceof PropertyStore)
-			return (this.groups.equals(((PropertyStore)o).groups));
+		if (o instanceof PropertyStore) {
+			PropertyStore ps = (PropertyStore)o;
+			return hashCode == ps.hashCode && groups.equals(ps.groups);
+		}
 		return false;
 	}
 
@@ -645,7 +651,7 @@ public final class PropertyStore {
 		for (String p : groups) {
 			if (p != null) {
 				PropertyGroup pg1 = this.groups.get(p), pg2 = ps.groups.get(p);
-				if (pg1 == null && pg2 == null)
+				if (pg1 == pg2)
 					continue;
 				if (pg1 == null || pg2 == null)
 					return false;
@@ -675,18 +681,27 @@ public final class PropertyStore {
 
 	static class PropertyGroup {
 		final SortedMap<String,Property> properties;
+
+		// Same properties keyed by full property name (e.g. "BeanContext.debug.b").
+		final Map<String,Property> byKey;
+
 		private final int hashCode;
 
-		PropertyGroup(Map<String,MutableProperty> properties) {
+		PropertyGroup(String name, Map<String,MutableProperty> properties) {
 			TreeMap<String,Property> m = new TreeMap<>();
-			for (Map.Entry<String,MutableProperty> p : properties.entrySet())
-				m.put(p.getKey(), p.getValue().build());
+			Map<String,Property> m2 = new HashMap<>();
+			for (Map.Entry<String,MutableProperty> p : properties.entrySet()) {
+				Property p2 = p.getValue().build();
+				m.put(p.getKey(), p2);
+				m2.put(name + '.' + p.getKey(), p2);
+			}
 			this.properties = Collections.unmodifiableSortedMap(m);
+			this.byKey = Collections.unmodifiableMap(m2);
 			this.hashCode = this.properties.hashCode();
 		}
 
 		PropertyGroupBuilder builder() {
-			return new PropertyGroupBuilder(properties);
+			return new PropertyGroupBuilder(this);
 		}
 
 		Property get(String key) {
@@ -700,8 +715,12 @@ public final class PropertyStore {
 
 		@Override /* Object */
 		public boolean equals(Object o) {
-			if (o instanceof PropertyGroup)
-				return properties.equals(((PropertyGroup)o).properties);
+			if (this == o)
+				return true;
+			if (o instanceof PropertyGroup) {
+				PropertyGroup g = (PropertyGroup)o;
+				return hashCode == g.hashCode && properties.equals(g.properties);
+			}
 			return false;
 		}
 
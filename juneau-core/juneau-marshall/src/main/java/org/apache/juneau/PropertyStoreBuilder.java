@@ -28,9 +28,10 @@ import org.apache.juneau.json.*;
  */
 public class PropertyStoreBuilder {
 
-	// Contains a cache of all created PropertyStore objects keyed by hashcode.
-	// Used to minimize memory consumption by reusing identical PropertyStores.
-	private static final Map<Integer,PropertyStore> CACHE = new ConcurrentHashMap<>();
+	// Contains a cache of all created PropertyStore objects.
+	// Used to minimize memory consumption by reusing identical PropertyStores, and so that equal stores are
+	// usually the same instance.
+	private static final Map<PropertyStore,PropertyStore> CACHE = new ConcurrentHashMap<>();
 
 	// Maps property suffixes (e.g. "lc") to PropertyType (e.g. LIST_CLASS)
 	static final Map<String,PropertyType> SUFFIX_MAP = new ConcurrentHashMap<>();
@@ -63,12 +64,8 @@ public class PropertyStoreBuilder {
 		if (propertyStore == null)
 			propertyStore = new PropertyStore(groups);
 
-		PropertyStore ps = CACHE.get(propertyStore.hashCode());
-		if (ps == null)
-			CACHE.put(propertyStore.hashCode(), propertyStore);
-		else if (! ps.equals(propertyStore))
-			throw new RuntimeException("Property store mismatch!  This shouldn't happen.");
-		else
+		PropertyStore ps = CACHE.putIfAbsent(propertyStore, propertyStore);
+		if (ps != null)
 			propertyStore = ps;
 
 		return propertyStore;
@@ -310,11 +307,7 @@ public class PropertyStoreBuilder {
 		if (gb == null)
 			return null;
 
-		MutableProperty bp = gb.properties.get(n);
-		if (bp == null)
-			return null;
-
-		return bp.peek();
+		return gb.peek(n);
 	}
 
 	/**
@@ -330,13 +323,37 @@ public class PropertyStoreBuilder {
 	//-------------------------------------------------------------------------------------------------------------------
 
 	static class PropertyGroupBuilder {
-		final Map<String,MutableProperty> properties = new ConcurrentSkipListMap<>();
+		private final Map<String,MutableProperty> properties = new ConcurrentSkipListMap<>();
+
+		// The group this builder was copied from.
+		// Its properties are only copied into this builder when the builder is first modified.
+		private PropertyGroup base;
+
+		// The last group built, reused until this builder is modified.
+		private PropertyGroup built;
+
+		PropertyGroupBuilder() {}
 
-		PropertyGroupBuilder() {
-			this(EMPTY_MAP);
+		PropertyGroupBuilder(PropertyGroup copyFrom) {
+			this.base = copyFrom;
+			this.built = copyFrom;
+		}
+
+		/*
+		 * Returns the modifiable properties in this builder, discarding any previously-built group.
+		 */
+		private Map<String,MutableProperty> mutate() {
+			built = null;
+			if (base != null) {
+				for (Map.Entry<String,Property> p : base.properties.entrySet())
+					properties.put(p.getKey(), p.getValue().mutable());
+				base = null;
+			}
+			return properties;
 		}
 
 		synchronized void apply(PropertyGroup copyFrom) {
+			Map<String,MutableProperty> properties = mutate();
 			for (Map.Entry<String,Property> e : copyFrom.properties.entrySet()) {
 				String pName = e.getKey();
 				MutableProperty p1 = properties.get(pName);
@@ -348,12 +365,17 @@ public class PropertyStoreBuilder {
 			}
 		}
 
-		PropertyGroupBuilder(Map<String,Property> properties) {
-			for (Map.Entry<String,Property> p : properties.entrySet())
-				this.properties.put(p.getKey(), p.getValue().mutable());
+		synchronized Object peek(String key) {
+			if (base != null) {
+				Property p = base.get(key);
+				return p == null ? null : p.mutable().peek();
+			}
+			MutableProperty p = properties.get(key);
+			return p == null ? null : p.peek();
 		}
 
 		synchronized void set(String key, Object value) {
+			Map<String,MutableProperty> properties = mutate();
 			MutableProperty p = properties.get(key);
 			if (p == null) {
 				p = MutableProperty.create(key, value);
@@ -369,6 +391,7 @@ public class PropertyStoreBuilder {
 		}
 
 		synchronized void addTo(String key, String arg, Object value) {
+			Map<String,MutableProperty> properties = mutate();
 			MutableProperty p = properties.get(key);
 			if (p == null) {
 				p = MutableProperty.create(key, null);
@@ -385,6 +408,7 @@ public class PropertyStoreBuilder {
 		}
 
 		synchronized void removeFrom(String key, Object value) {
+			Map<String,MutableProperty> properties = mutate();
 			MutableProperty p = properties.get(key);
 			if (p == null) {
 				// Create property anyway to generate a good error message.
@@ -400,11 +424,13 @@ public class PropertyStoreBuilder {
 		}
 
 		synchronized boolean isEmpty() {
-			return properties.isEmpty();
+			return base != null ? base.properties.isEmpty() : properties.isEmpty();
 		}
 
-		synchronized PropertyGroup build() {
-			return new PropertyGroup(properties);
+		synchronized PropertyGroup build(String name) {
+			if (built == null)
+				built = new PropertyGroup(name, properties);
+			return built;
 		}
 	}
 
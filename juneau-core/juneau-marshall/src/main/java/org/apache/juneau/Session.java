@@ -278,6 +278,22 @@ public abstract class Session {
 		return warnings;
 	}
 
+	/**
+	 * Resets the state of this session so that it can be reused for another call.
+	 *
+	 * <p>
+	 * Clears any warnings and cached objects collected during previous calls.
+	 * <br>Session properties and other arguments passed in through the constructor are retained.
+	 *
+	 * <p>
+	 * Subclasses that maintain state across calls should override this method and call
+	 * <code><jk>super</jk>.reset()</code>.
+	 */
+	public void reset() {
+		cache = null;
+		warnings = null;
+	}
+
 	/**
 	 * Returns the logger associated with this session.
 	 *
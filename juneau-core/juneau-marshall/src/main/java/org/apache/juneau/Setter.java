@@ -12,7 +12,9 @@
 // ***************************************************************************************************************************
 package org.apache.juneau;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
+import java.util.function.*;
 
 /**
  * Encapsulate a bean setter method that may be a method or field.
@@ -61,4 +63,54 @@ public interface Setter {
 			m.invoke(object, value);
 		}
 	}
+
+	/**
+	 * Method handle setter.
+	 *
+	 * <p>
+	 * Wraps a handle to a setter method or field.
+	 * <br>Exceptions thrown by the target are wrapped in {@link InvocationTargetException} just like {@link Method#invoke(Object, Object...)}.
+	 */
+	static class MethodHandleSetter implements Setter {
+
+		private final MethodHandle mh;
+
+		public MethodHandleSetter(MethodHandle mh) {
+			this.mh = mh.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		}
+
+		@Override /* Setter */
+		public void set(Object object, Object value) throws Exception {
+			try {
+				mh.invokeExact(object, value);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+	}
+
+	/**
+	 * Lambda setter.
+	 *
+	 * <p>
+	 * Wraps a {@link BiConsumer} spun by {@link LambdaMetafactory} that calls the setter method directly.
+	 * <br>Exceptions thrown by the target are wrapped in {@link InvocationTargetException} just like {@link Method#invoke(Object, Object...)}.
+	 */
+	static class LambdaSetter implements Setter {
+
+		private final BiConsumer<Object,Object> f;
+
+		public LambdaSetter(BiConsumer<Object,Object> f) {
+			this.f = f;
+		}
+
+		@Override /* Setter */
+		public void set(Object object, Object value) throws Exception {
+			try {
+				f.accept(object, value);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+	}
 }
@@ -0,0 +1,48 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.annotation;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Identifies other context classes whose configuration properties are used by the annotated context class.
+ *
+ * <p>
+ * By default, {@link ContextCache} only compares the property groups named after the context class and its parent
+ * classes when looking for a reusable instance.
+ * <br>Context classes that delegate to contexts outside of their class hierarchy must use this annotation so that
+ * the properties of those contexts are also taken into account.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Uses the properties defined on JsonSerializer even though it's not a subclass.</jc>
+ * 	<ja>@ContextProperties</ja>(JsonSerializer.<jk>class</jk>)
+ * 	<jk>public class</jk> JsonUtf8Serializer <jk>extends</jk> OutputStreamSerializer {...}
+ * </p>
+ */
+@Documented
+@Target(TYPE)
+@Retention(RUNTIME)
+@Inherited
+public @interface ContextProperties {
+
+	/**
+	 * The context classes whose properties are used by the annotated class.
+	 */
+	Class<? extends Context>[] value();
+}
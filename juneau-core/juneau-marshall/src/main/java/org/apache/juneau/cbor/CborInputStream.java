@@ -0,0 +1,453 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.math.*;
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Specialized input stream for parsing CBOR streams.
+ *
+ * <p>
+ * Indefinite-length strings, binary fields, arrays and maps are supported.
+ * <br>For indefinite-length arrays and maps, {@link #readLength()} returns <code>-1</code> and the end of the entries
+ * is detected through {@link #isEnd(long, int)}.
+ *
+ * <p>
+ * Tags are skipped except for bignums (tags 2 and 3) which are read as {@link BigInteger BigIntegers}.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+public final class CborInputStream extends ParserInputStream {
+
+	/** The size above which binary fields read as input streams are spooled to a temporary file. */
+	static final int SPOOL_THRESHOLD = 0x10000;
+
+	private DataType currentDataType;
+	private int lastByte;
+	private long arg;
+	private boolean indefinite;
+	private BigInteger bigInteger;
+	private int peeked = -1;
+	private byte[] scratch = new byte[64];
+	private List<InputStream> spooled;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pipe The parser input.
+	 * @throws Exception
+	 */
+	protected CborInputStream(ParserPipe pipe) throws Exception {
+		super(pipe);
+	}
+
+	/**
+	 * Constructor for reading directly from a buffer.
+	 *
+	 * @param pipe The parser input.
+	 * @param bb The buffer containing the CBOR content.
+	 */
+	protected CborInputStream(ParserPipe pipe, ByteBuffer bb) {
+		super(pipe, bb);
+	}
+
+	/**
+	 * Reads the data type flag from the stream.
+	 *
+	 * <p>
+	 * This is the initial byte of the data item plus its argument.
+	 */
+	DataType readDataType() throws IOException {
+		int i = peeked;
+		if (i == -1)
+			i = read();
+		else
+			peeked = -1;
+		if (i == -1)
+			throw new IOException("Unexpected end of file found.");
+		lastByte = i;
+		indefinite = false;
+
+		int mt = i >>> 5, ai = i & 0x1F;
+
+		if (mt == MT_SIMPLE) {
+			switch (i) {
+				case FALSE:
+				case TRUE: return currentDataType = BOOLEAN;
+				case NIL:
+				case UNDEFINED: return currentDataType = NULL;
+				case FLOAT16:
+				case FLOAT32: return currentDataType = FLOAT;
+				case FLOAT64: return currentDataType = DOUBLE;
+				case BRK: return currentDataType = BREAK;
+				default: throw new IOException("Unsupported simple value 0x" + Integer.toHexString(i) + " found.");
+			}
+		}
+
+		if (ai < AI_UINT8)
+			arg = ai;
+		else if (ai == AI_UINT8)
+			arg = readUInt1();
+		else if (ai == AI_UINT16)
+			arg = readUInt2();
+		else if (ai == AI_UINT32)
+			arg = readUInt4();
+		else if (ai == AI_UINT64)
+			arg = readUInt8();
+		else if (ai == AI_INDEF && mt >= MT_BYTES && mt <= MT_MAP)
+			indefinite = true;
+		else
+			throw new IOException("Invalid additional information " + ai + " found.");
+
+		switch (mt) {
+			case MT_UINT:
+				if (arg >= 0 && arg <= Integer.MAX_VALUE)
+					return currentDataType = INT;
+				if (arg >= 0)
+					return currentDataType = LONG;
+				bigInteger = toUnsigned(arg);
+				return currentDataType = BIGINT;
+			case MT_NINT:
+				if (arg >= 0 && arg <= Integer.MAX_VALUE)
+					return currentDataType = INT;
+				if (arg >= 0)
+					return currentDataType = LONG;
+				bigInteger = toUnsigned(arg).not();
+				return currentDataType = BIGINT;
+			case MT_BYTES:
+				return currentDataType = BIN;
+			case MT_TEXT:
+				return currentDataType = STRING;
+			case MT_ARRAY:
+				return currentDataType = ARRAY;
+			case MT_MAP:
+				return currentDataType = MAP;
+			default:
+				// Tagged data item.
+				if (arg == TAG_POSBIGNUM || arg == TAG_NEGBIGNUM) {
+					boolean neg = arg == TAG_NEGBIGNUM;
+					if (readDataType() != BIN)
+						throw new IOException("Bignum tag not followed by a binary field.");
+					BigInteger bi = new BigInteger(1, readBinary());
+					bigInteger = neg ? bi.not() : bi;
+					return currentDataType = BIGINT;
+				}
+				return readDataType();
+		}
+	}
+
+	/**
+	 * Returns the length value for the field.
+	 *
+	 * <p>
+	 * For bins/strings, this is the number of bytes in the field.
+	 * For arrays, it's the number of array entries.
+	 * For maps, it's the number of map entries.
+	 * For indefinite-length fields, it's <code>-1</code>.
+	 */
+	long readLength() {
+		if (! currentDataType.isOneOf(STRING, BIN, ARRAY, MAP))
+			return 0;
+		return indefinite ? -1 : arg;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there are no more entries in the current array or map.
+	 *
+	 * <p>
+	 * For definite-length arrays and maps, compares the index against the length.
+	 * <br>For indefinite-length arrays and maps, consumes the break stop code if it's the next byte in the stream.
+	 *
+	 * @param length The value returned by {@link #readLength()} for the array or map.
+	 * @param index The index of the next entry.
+	 */
+	boolean isEnd(long length, int index) throws IOException {
+		if (length >= 0)
+			return index >= length;
+		if (peeked == -1)
+			peeked = read();
+		if (peeked == -1)
+			throw new IOException("Unexpected end of file found.");
+		if (peeked != BRK)
+			return false;
+		peeked = -1;
+		return true;
+	}
+
+	/**
+	 * Read a boolean from the stream.
+	 */
+	boolean readBoolean() {
+		return lastByte == TRUE;
+	}
+
+	/**
+	 * Read an integer from the stream.
+	 */
+	int readInt() {
+		return (lastByte >>> 5) == MT_NINT ? -1 - (int)arg : (int)arg;
+	}
+
+	/**
+	 * Read 64-bit long from the stream.
+	 */
+	long readLong() {
+		return (lastByte >>> 5) == MT_NINT ? ~arg : arg;
+	}
+
+	/**
+	 * Read an integer that doesn't fit in 64 bits from the stream.
+	 */
+	BigInteger readBigInteger() {
+		return bigInteger;
+	}
+
+	/**
+	 * Read a half or single-precision float from the stream.
+	 */
+	float readFloat() throws IOException {
+		if (lastByte == FLOAT16)
+			return halfToFloat(readUInt2());
+		return Float.intBitsToFloat((int)readUInt4());
+	}
+
+	/**
+	 * Read a double from the stream.
+	 */
+	double readDouble() throws IOException {
+		return Double.longBitsToDouble(readUInt8());
+	}
+
+	/**
+	 * Read a string from the stream.
+	 */
+	String readString() throws IOException {
+		return readString(null);
+	}
+
+	/**
+	 * Read a string from the stream, looking it up in the specified pool if it's not <jk>null</jk>.
+	 */
+	String readString(StringPool pool) throws IOException {
+		if (indefinite) {
+			byte[] b = readChunks(STRING);
+			return pool != null ? pool.get(b, 0, b.length) : new String(b, UTF8);
+		}
+		int len = (int)arg;
+		ByteBuffer bb = getBuffer();
+		if (bb != null && bb.hasArray()) {
+			bb = getBuffer(len);
+			int p = bb.position();
+			bb.position(p + len);
+			if (pool != null)
+				return pool.get(bb.array(), bb.arrayOffset() + p, len);
+			return new String(bb.array(), bb.arrayOffset() + p, len, UTF8);
+		}
+		// Strings are decoded from a reusable buffer so that only the resulting string is allocated.
+		byte[] b = len <= 8192 ? scratch(len) : new byte[len];
+		readFully(b, len);
+		if (pool != null)
+			return pool.get(b, 0, len);
+		return new String(b, 0, len, UTF8);
+	}
+
+	/**
+	 * Read a binary field from the stream.
+	 */
+	byte[] readBinary() throws IOException {
+		if (indefinite)
+			return readChunks(BIN);
+		byte[] b = new byte[(int)arg];
+		readFully(b, b.length);
+		return b;
+	}
+
+	/**
+	 * Read a binary field from the stream as a read-only buffer.
+	 *
+	 * <p>
+	 * If this stream is reading from a buffer, the returned buffer is a slice that shares its content without copying.
+	 */
+	ByteBuffer readBinaryBuffer() throws IOException {
+		ByteBuffer bb = getBuffer();
+		if (bb == null || indefinite)
+			return ByteBuffer.wrap(readBinary()).asReadOnlyBuffer();
+		int len = (int)arg;
+		bb = getBuffer(len);
+		ByteBuffer b = bb.slice();
+		b.limit(len);
+		bb.position(bb.position() + len);
+		return b.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Read a binary field from the stream as an input stream.
+	 *
+	 * <p>
+	 * The returned stream must be closed so that any temporary file backing it is deleted.
+	 * <br>Streams backed by temporary files are also closed by {@link #closeSpooledStreams()}.
+	 */
+	InputStream readBinaryStream() throws IOException {
+		if (getBuffer() != null && ! indefinite)
+			return new ByteBufferInputStream(readBinaryBuffer());
+		if (! indefinite && arg <= SPOOL_THRESHOLD)
+			return new ByteArrayInputStream(readBinary());
+		SpoolOutputStream s = new SpoolOutputStream(SPOOL_THRESHOLD);
+		try {
+			if (indefinite) {
+				while (readChunk(BIN))
+					copyChunk(s);
+			} else {
+				copyChunk(s);
+			}
+			boolean isSpooled = s.isSpooled();
+			InputStream is = s.getInputStream();
+			if (isSpooled) {
+				if (spooled == null)
+					spooled = new ArrayList<>();
+				spooled.add(is);
+			}
+			return is;
+		} catch (IOException e) {
+			s.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes all streams returned by {@link #readBinaryStream()} that are backed by temporary files.
+	 *
+	 * <p>
+	 * Called when a parse fails so that the temporary files of values that never reach the caller are deleted.
+	 */
+	void closeSpooledStreams() {
+		if (spooled != null)
+			for (InputStream is : spooled)
+				closeQuietly(is);
+	}
+
+	/*
+	 * Reads the definite-length chunks of an indefinite-length string or binary field.
+	 */
+	private byte[] readChunks(DataType dt) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		while (readChunk(dt))
+			copyChunk(baos);
+		return baos.toByteArray();
+	}
+
+	/*
+	 * Reads the header of the next chunk of an indefinite-length field.
+	 * Returns false if the break stop code was found.
+	 */
+	private boolean readChunk(DataType dt) throws IOException {
+		DataType cdt = readDataType();
+		if (cdt == BREAK)
+			return false;
+		if (cdt != dt || indefinite)
+			throw new IOException("Invalid chunk of type " + cdt + " found in indefinite-length " + dt + ".");
+		return true;
+	}
+
+	/*
+	 * Copies the contents of the current definite-length field to the specified stream.
+	 */
+	private void copyChunk(OutputStream os) throws IOException {
+		byte[] b = scratch(8192);
+		for (long remaining = arg; remaining > 0;) {
+			int i = read(b, 0, (int)Math.min(b.length, remaining));
+			if (i == -1)
+				throw new IOException("Unexpected end of file found.");
+			os.write(b, 0, i);
+			remaining -= i;
+		}
+	}
+
+	private byte[] scratch(int len) {
+		if (scratch.length < len)
+			scratch = new byte[Math.max(len, scratch.length * 2)];
+		return scratch;
+	}
+
+	private void readFully(byte[] b, int len) throws IOException {
+		for (int off = 0; off < len;) {
+			int i = read(b, off, len - off);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found.");
+			off += i;
+		}
+	}
+
+	/*
+	 * Converts an IEEE 754 half-precision float to a float.
+	 */
+	private static float halfToFloat(int h) {
+		int sign = h >> 15, exp = (h >> 10) & 0x1F, mant = h & 0x3FF;
+		float f;
+		if (exp == 0)
+			f = mant * (float)Math.pow(2, -24);
+		else if (exp == 31)
+			f = mant == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+		else
+			f = (mant + 1024) * (float)Math.pow(2, exp - 25);
+		return sign == 0 ? f : -f;
+	}
+
+	private static BigInteger toUnsigned(long l) {
+		return BigInteger.valueOf(l >>> 1).shiftLeft(1).or(BigInteger.valueOf(l & 1));
+	}
+
+	/**
+	 * Read one byte from the stream.
+	 */
+	private int readUInt1() throws IOException {
+		int i = read();
+		if (i == -1)
+			throw new IOException("Unexpected end of file found.");
+		return i;
+	}
+
+	/**
+	 * Read two bytes from the stream.
+	 */
+	private int readUInt2() throws IOException {
+		return (readUInt1() << 8) | readUInt1();
+	}
+
+	/**
+	 * Read four bytes from the stream.
+	 */
+	private long readUInt4() throws IOException {
+		return ((long)readUInt2() << 16) | readUInt2();
+	}
+
+	/**
+	 * Read eight bytes from the stream.
+	 */
+	private long readUInt8() throws IOException {
+		return (readUInt4() << 32) | readUInt4();
+	}
+}
@@ -0,0 +1,375 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+
+import java.io.*;
+import java.math.*;
+import java.nio.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Specialized output stream for serializing CBOR streams.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+public final class CborOutputStream extends OutputStream {
+
+	private final OutputStream os;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param os The output stream being wrapped.
+	 */
+	protected CborOutputStream(OutputStream os) {
+		this.os = os;
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		os.write(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		os.write(b, off, len);
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		os.flush();
+	}
+
+	/**
+	 * Same as {@link #write(byte[])}.
+	 */
+	final CborOutputStream append(byte[] b) throws IOException {
+		os.write(b);
+		return this;
+	}
+
+	/**
+	 * Appends one byte to the stream.
+	 */
+	final CborOutputStream append1(int i) throws IOException {
+		os.write(i);
+		return this;
+	}
+
+	/**
+	 * Appends two bytes to the stream.
+	 */
+	final CborOutputStream append2(int i) throws IOException {
+		return append1(i>>8).append1(i);
+	}
+
+	/**
+	 * Appends four bytes to the stream.
+	 */
+	final CborOutputStream append4(int i) throws IOException {
+		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+	}
+
+	/**
+	 * Appends eight bytes to the stream.
+	 */
+	final CborOutputStream append8(long l) throws IOException {
+		return append4((int)(l>>32)).append4((int)l);
+	}
+
+	/**
+	 * Appends the initial byte of a data item and its argument to the stream.
+	 *
+	 * <p>
+	 * The argument is treated as an unsigned value and written in the shortest form possible.
+	 */
+	final CborOutputStream appendHead(int majorType, long arg) throws IOException {
+		// +--------+
+		// |MMMAAAAA|                                   argument is AAAAA (0 - 23)
+		// +--------+--------+
+		// |MMM11000|XXXXXXXX|                          argument follows in 1 byte
+		// +--------+--------+--------+
+		// |MMM11001|XXXXXXXX|XXXXXXXX|                 argument follows in 2 bytes
+		// +--------+--------+--------+--------+--------+
+		// |MMM11010|XXXXXXXX|XXXXXXXX|XXXXXXXX|XXXXXXXX|   argument follows in 4 bytes
+		// +--------+--------+--------+--------+--------+
+		// |MMM11011|      argument in 8 bytes     ...
+		// +--------+--------+--------+--------+--------+
+		int mt = majorType << 5;
+		if (arg >= 0 && arg < 24)
+			return append1(mt | (int)arg);
+		if (arg >= 0 && arg < (1<<8))
+			return append1(mt | AI_UINT8).append1((int)arg);
+		if (arg >= 0 && arg < (1<<16))
+			return append1(mt | AI_UINT16).append2((int)arg);
+		if (arg >= 0 && arg <= 0xFFFFFFFFL)
+			return append1(mt | AI_UINT32).append4((int)arg);
+		return append1(mt | AI_UINT64).append8(arg);
+	}
+
+	/**
+	 * Appends a NULL flag to the stream.
+	 */
+	final CborOutputStream appendNull() throws IOException {
+		return append1(NIL);
+	}
+
+	/**
+	 * Appends a boolean to the stream.
+	 */
+	final CborOutputStream appendBoolean(boolean b) throws IOException {
+		return append1(b ? TRUE : FALSE);
+	}
+
+	/**
+	 * Appends an integer to the stream.
+	 */
+	final CborOutputStream appendInt(int i) throws IOException {
+		return appendLong(i);
+	}
+
+	/**
+	 * Appends a long to the stream.
+	 */
+	final CborOutputStream appendLong(long l) throws IOException {
+		// Negative integers are encoded as -1 minus the argument.
+		if (l >= 0)
+			return appendHead(MT_UINT, l);
+		return appendHead(MT_NINT, ~l);
+	}
+
+	/**
+	 * Appends a big integer to the stream.
+	 *
+	 * <p>
+	 * Values that don't fit in 64 bits are written as tagged bignums.
+	 */
+	final CborOutputStream appendBigInteger(BigInteger bi) throws IOException {
+		if (bi.bitLength() < 64)
+			return appendLong(bi.longValue());
+		boolean neg = bi.signum() < 0;
+		if (neg)
+			bi = bi.not();
+		byte[] b = bi.toByteArray();
+		int off = b[0] == 0 ? 1 : 0;
+		appendHead(MT_TAG, neg ? TAG_NEGBIGNUM : TAG_POSBIGNUM);
+		appendHead(MT_BYTES, b.length - off);
+		os.write(b, off, b.length - off);
+		return this;
+	}
+
+	/**
+	 * Appends a generic Number to the stream.
+	 */
+	final CborOutputStream appendNumber(Number n) throws IOException {
+		Class<?> c = n.getClass();
+		if (c == Integer.class || c == Short.class || c == Byte.class || c == AtomicInteger.class)
+			return appendInt(n.intValue());
+		if (c == Long.class || c == AtomicLong.class)
+			return appendLong(n.longValue());
+		if (c == Float.class)
+			return appendFloat(n.floatValue());
+		if (c == Double.class)
+			return appendDouble(n.doubleValue());
+		if (c == BigInteger.class)
+			return appendBigInteger((BigInteger)n);
+		return appendDouble(n.doubleValue());
+	}
+
+	/**
+	 * Appends a float to the stream.
+	 */
+	final CborOutputStream appendFloat(float f) throws IOException {
+		return append1(FLOAT32).append4(Float.floatToIntBits(f));
+	}
+
+	/**
+	 * Appends a double to the stream.
+	 */
+	final CborOutputStream appendDouble(double d) throws IOException {
+		return append1(FLOAT64).append8(Double.doubleToLongBits(d));
+	}
+
+	/**
+	 * Appends a string to the stream.
+	 */
+	final CborOutputStream appendString(CharSequence cs) throws IOException {
+		byte[] b = cs.toString().getBytes("UTF-8");
+		return appendHead(MT_TEXT, b.length).append(b);
+	}
+
+	/**
+	 * Appends a binary field to the stream.
+	 */
+	final CborOutputStream appendBinary(byte[] b) throws IOException {
+		return appendHead(MT_BYTES, b.length).append(b);
+	}
+
+	/**
+	 * Appends the remaining contents of a buffer as a binary field to the stream.
+	 *
+	 * <p>
+	 * The position of the buffer is not changed.
+	 */
+	final CborOutputStream appendBinary(ByteBuffer bb) throws IOException {
+		int len = bb.remaining();
+		appendHead(MT_BYTES, len);
+		if (bb.hasArray()) {
+			os.write(bb.array(), bb.arrayOffset() + bb.position(), len);
+		} else {
+			ByteBuffer d = bb.duplicate();
+			byte[] b = new byte[Math.min(len, 8192)];
+			while (d.hasRemaining()) {
+				int n = Math.min(b.length, d.remaining());
+				d.get(b, 0, n);
+				os.write(b, 0, n);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Appends a binary data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by exactly <code>len</code> bytes of data.
+	 */
+	final CborOutputStream startBinary(long len) throws IOException {
+		return appendHead(MT_BYTES, len);
+	}
+
+	/**
+	 * Appends a string data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by exactly <code>len</code> bytes of UTF-8 encoded data.
+	 */
+	final CborOutputStream startString(long len) throws IOException {
+		return appendHead(MT_TEXT, len);
+	}
+
+	/**
+	 * Appends an indefinite-length binary data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by zero or more definite-length binary fields and a {@link #appendBreak() break}.
+	 */
+	final CborOutputStream startIndefiniteBinary() throws IOException {
+		return append1((MT_BYTES << 5) | AI_INDEF);
+	}
+
+	/**
+	 * Appends an indefinite-length string data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by zero or more definite-length string fields and a {@link #appendBreak() break}.
+	 */
+	final CborOutputStream startIndefiniteString() throws IOException {
+		return append1((MT_TEXT << 5) | AI_INDEF);
+	}
+
+	/**
+	 * Appends an array data type flag to the stream.
+	 */
+	final CborOutputStream startArray(int size) throws IOException {
+		return appendHead(MT_ARRAY, size);
+	}
+
+	/**
+	 * Appends an indefinite-length array data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by the array entries and a {@link #appendBreak() break}.
+	 */
+	final CborOutputStream startIndefiniteArray() throws IOException {
+		return append1((MT_ARRAY << 5) | AI_INDEF);
+	}
+
+	/**
+	 * Appends a map data type flag to the stream.
+	 */
+	final CborOutputStream startMap(int size) throws IOException {
+		return appendHead(MT_MAP, size);
+	}
+
+	/**
+	 * Appends an indefinite-length map data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by the map keys and values and a {@link #appendBreak() break}.
+	 */
+	final CborOutputStream startIndefiniteMap() throws IOException {
+		return append1((MT_MAP << 5) | AI_INDEF);
+	}
+
+	/**
+	 * Appends the stop code that ends an indefinite-length data item.
+	 */
+	final CborOutputStream appendBreak() throws IOException {
+		return append1(BRK);
+	}
+
+	/**
+	 * Appends a primitive array to the stream without boxing the elements.
+	 *
+	 * <p>
+	 * The array must be an array of a numeric or boolean primitive type.
+	 */
+	final CborOutputStream appendPrimitiveArray(Object array) throws IOException {
+		if (array instanceof int[]) {
+			int[] a = (int[])array;
+			startArray(a.length);
+			for (int v : a)
+				appendInt(v);
+		} else if (array instanceof long[]) {
+			long[] a = (long[])array;
+			startArray(a.length);
+			for (long v : a)
+				appendLong(v);
+		} else if (array instanceof double[]) {
+			double[] a = (double[])array;
+			startArray(a.length);
+			for (double v : a)
+				appendDouble(v);
+		} else if (array instanceof float[]) {
+			float[] a = (float[])array;
+			startArray(a.length);
+			for (float v : a)
+				appendFloat(v);
+		} else if (array instanceof short[]) {
+			short[] a = (short[])array;
+			startArray(a.length);
+			for (short v : a)
+				appendInt(v);
+		} else if (array instanceof byte[]) {
+			byte[] a = (byte[])array;
+			startArray(a.length);
+			for (byte v : a)
+				appendInt(v);
+		} else if (array instanceof boolean[]) {
+			boolean[] a = (boolean[])array;
+			startArray(a.length);
+			for (boolean v : a)
+				appendBoolean(v);
+		} else {
+			throw new IllegalArgumentException("Unsupported array type: " + array.getClass().getName());
+		}
+		return this;
+	}
+}
@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses a CBOR (RFC 7049) stream into a POJO model.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Content-Type</code> types:  <code><b>application/cbor</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Both definite and indefinite-length strings, binary fields, arrays and maps are supported.
+ * <br>Bignums (tags 2 and 3) are parsed as {@link java.math.BigInteger BigIntegers}, and other tags are ignored.
+ *
+ * <h5 class='topic'>Binary streams</h5>
+ *
+ * <code>bin</code> fields can be parsed into {@link java.io.InputStream} properties.
+ * <br>When parsing from a stream, values larger than 64KB are spooled to a temporary file that is deleted when the
+ * returned stream is closed, so these streams should always be closed by the caller.
+ * <br>The temporary files are also deleted if the parse fails, or when an unclosed stream is garbage collected.
+ */
+public class CborParser extends InputStreamParser {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, all default settings.*/
+	public static final CborParser DEFAULT = new CborParser(PropertyStore.DEFAULT);
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps The property store containing all the settings for this object.
+	 */
+	public CborParser(PropertyStore ps) {
+		super(ps, "application/cbor");
+	}
+
+	@Override /* Context */
+	public CborParserBuilder builder() {
+		return new CborParserBuilder(getPropertyStore());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link CborParserBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> CborParserBuilder()</code>.
+	 *
+	 * <p>
+	 * Note that this method creates a builder initialized to all default settings, whereas {@link #builder()} copies
+	 * the settings of the object called on.
+	 *
+	 * @return A new {@link CborParserBuilder} object.
+	 */
+	public static CborParserBuilder create() {
+		return new CborParserBuilder();
+	}
+
+	@Override /* Parser */
+	public CborParserSession createSession(ParserSessionArgs args) {
+		return new CborParserSession(this, args);
+	}
+
+	@Override /* Context */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("CborParser", new ObjectMap());
+	}
+}
@@ -0,0 +1,291 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link CborParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused against multiple inputs.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class CborParserSession extends InputStreamParserSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected CborParserSession(CborParser ctx, ParserSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		ByteBuffer bb = pipe.getByteBuffer();
+		try (CborInputStream is = bb == null ? new CborInputStream(pipe) : new CborInputStream(pipe, bb)) {
+			try {
+				return parseAnything(type, is, getOuter(), null);
+			} catch (Exception e) {
+				is.closeSpooledStreams();
+				throw e;
+			}
+		}
+	}
+
+	/*
+	 * Workhorse method.
+	 */
+	private <T> T parseAnything(ClassMeta<?> eType, CborInputStream is, Object outer, BeanPropertyMeta pMeta) throws Exception {
+		return parseAnything(eType, readDataType(is), is, outer, pMeta);
+	}
+
+	/*
+	 * Reads the data type of the next data item, failing if it's a break stop code outside of an indefinite-length
+	 * array or map.
+	 */
+	private DataType readDataType(CborInputStream is) throws Exception {
+		DataType dt = is.readDataType();
+		if (dt == BREAK)
+			throw new ParseException(this, "Unexpected break stop code encountered.");
+		return dt;
+	}
+
+	/*
+	 * Parses a map key or bean property name.
+	 * String keys are looked up in the key pool if it's enabled.
+	 */
+	private String parseKey(CborInputStream is, Object outer, BeanPropertyMeta pMeta) throws Exception {
+		DataType dt = readDataType(is);
+		StringPool pool = getKeyPool();
+		if (dt == STRING && pool != null)
+			return trim(is.readString(pool));
+		return parseAnything(string(), dt, is, outer, pMeta);
+	}
+
+	/*
+	 * Same as above, but the data type flag of the value has already been read from the stream.
+	 */
+	private <T> T parseAnything(ClassMeta<?> eType, DataType dt, CborInputStream is, Object outer, BeanPropertyMeta pMeta) throws Exception {
+
+		if (eType == null)
+			eType = object();
+		PojoSwap<T,Object> swap = (PojoSwap<T,Object>)eType.getPojoSwap(this);
+		BuilderSwap<T,Object> builder = (BuilderSwap<T,Object>)eType.getBuilderSwap(this);
+		ClassMeta<?> sType = null;
+		if (builder != null)
+			sType = builder.getBuilderClassMeta(this);
+		else if (swap != null)
+			sType = swap.getSwapClassMeta(this);
+		else
+			sType = eType;
+		setCurrentClass(sType);
+
+		Object o = null;
+		// -1 for indefinite-length arrays and maps.
+		long length = is.readLength();
+
+		if (dt != DataType.NULL) {
+			if (dt == BOOLEAN)
+				o = is.readBoolean();
+			else if (dt == INT)
+				o = is.readInt();
+			else if (dt == LONG)
+				o = is.readLong();
+			else if (dt == BIGINT)
+				o = is.readBigInteger();
+			else if (dt == FLOAT)
+				o = is.readFloat();
+			else if (dt == DOUBLE)
+				o = is.readDouble();
+			else if (dt == STRING)
+				o = trim(is.readString());
+			else if (dt == BIN && sType.isInputStream())
+				o = is.readBinaryStream();
+			else if (dt == BIN)
+				o = ByteBuffer.class.isAssignableFrom(sType.getInnerClass()) ? is.readBinaryBuffer() : is.readBinary();
+			else if (dt == ARRAY && sType.isObject()) {
+				ObjectList ol = new ObjectList(this);
+				for (int i = 0; ! is.isEnd(length, i); i++)
+					ol.add(parseAnything(object(), is, outer, pMeta));
+				o = ol;
+			} else if (dt == MAP && sType.isObject()) {
+				ObjectMap om = new ObjectMap(this);
+				for (int i = 0; ! is.isEnd(length, i); i++)
+					om.put(parseKey(is, outer, pMeta), parseAnything(object(), is, om, pMeta));
+				o = cast(om, pMeta, eType);
+			}
+
+			if (sType.isObject()) {
+				// Do nothing.
+			} else if (dt == BIN && sType.isInstance(o)) {
+				// Do nothing.
+			} else if (sType.isBoolean() || sType.isCharSequence() || sType.isChar() || sType.isNumber()) {
+				o = convertToType(o, sType);
+			} else if (sType.isMap()) {
+				if (dt == MAP) {
+					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+					for (int i = 0; ! is.isEnd(length, i); i++) {
+						Object key = parseAnything(sType.getKeyType(), is, outer, pMeta);
+						ClassMeta<?> vt = sType.getValueType();
+						Object value = parseAnything(vt, is, m, pMeta);
+						setName(vt, value, key);
+						m.put(key, value);
+					}
+					o = m;
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (builder != null || sType.canCreateNewBean(outer)) {
+				if (dt == MAP) {
+					BeanMap m = builder == null ? newBeanMap(outer, sType.getInnerClass()) : toBeanMap(builder.create(this, eType));
+					for (int i = 0; ! is.isEnd(length, i); i++) {
+						String pName = parseKey(is, m.getBean(false), null);
+						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
+						if (bpm == null) {
+							if (pName.equals(getBeanTypePropertyName(eType)))
+								parseAnything(string(), is, null, null);
+							else
+								onUnknownProperty(pName, m);
+						} else {
+							ClassMeta<?> cm = bpm.getClassMeta();
+							Object value = parseAnything(cm, is, m.getBean(false), bpm);
+							setName(cm, value, pName);
+							bpm.set(m, pName, value);
+						}
+					}
+					o = builder == null ? m.getBean() : builder.build(this, m.getBean(), eType);
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.canCreateNewInstanceFromString(outer) && dt == STRING) {
+				o = sType.newInstanceFromString(outer, o == null ? "" : o.toString());
+			} else if (sType.canCreateNewInstanceFromNumber(outer) && dt.isOneOf(INT, LONG, BIGINT, FLOAT, DOUBLE)) {
+				o = sType.newInstanceFromNumber(this, outer, (Number)o);
+			} else if (sType.isCollection()) {
+				if (dt == MAP) {
+					ObjectMap m = new ObjectMap(this);
+					for (int i = 0; ! is.isEnd(length, i); i++)
+						m.put(parseKey(is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY) {
+					Collection l = (
+						sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new ObjectList(this)
+					);
+					for (int i = 0; ! is.isEnd(length, i); i++)
+						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
+					o = l;
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.isArray() || sType.isArgs()) {
+				if (dt == MAP) {
+					ObjectMap m = new ObjectMap(this);
+					for (int i = 0; ! is.isEnd(length, i); i++)
+						m.put(parseKey(is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY && canParsePrimitiveArray(sType)) {
+					o = parsePrimitiveArray(sType.getElementType(), is, length);
+				} else if (dt == ARRAY) {
+					Collection l = (
+						sType.isCollection() && sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new ObjectList(this)
+					);
+					for (int i = 0; ! is.isEnd(length, i); i++)
+						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
+					o = toArray(sType, l);
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (dt == MAP) {
+				ObjectMap m = new ObjectMap(this);
+				for (int i = 0; ! is.isEnd(length, i); i++)
+					m.put(parseKey(is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+				if (m.containsKey(getBeanTypePropertyName(eType)))
+					o = cast(m, pMeta, eType);
+				else
+					throw new ParseException(this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+						sType.getInnerClass().getName(), sType.getNotABeanReason());
+			} else {
+				throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+			}
+		}
+
+		if (swap != null && o != null)
+			o = swap.unswap(this, o, eType);
+
+		if (outer != null)
+			setParent(eType, o, outer);
+
+		return (T)o;
+	}
+
+	/*
+	 * Reads the entries of a CBOR array directly into a primitive array.
+	 * Values whose data type matches the array type are added without being boxed.
+	 */
+	private Object parsePrimitiveArray(ClassMeta<?> eType, CborInputStream is, long length) throws Exception {
+		PrimitiveArrayBuilder pa = new PrimitiveArrayBuilder(eType.getInnerClass(), length < 0 ? 16 : (int)length);
+		boolean isNumeric = pa.isNumeric();
+		for (int i = 0; ! is.isEnd(length, i); i++) {
+			DataType dt = readDataType(is);
+			if (dt == NULL)
+				pa.add((Object)null);
+			else if (dt == INT && isNumeric)
+				pa.add(is.readInt());
+			else if (dt == LONG && isNumeric)
+				pa.add(is.readLong());
+			else if (dt == FLOAT && isNumeric)
+				pa.add(is.readFloat());
+			else if (dt == DOUBLE && isNumeric)
+				pa.add(is.readDouble());
+			else if (dt == BOOLEAN && ! isNumeric)
+				pa.add(is.readBoolean());
+			else if (dt == BOOLEAN)
+				pa.add(convertToType(is.readBoolean(), eType));
+			else if (dt == INT)
+				pa.add(convertToType(is.readInt(), eType));
+			else if (dt == LONG)
+				pa.add(convertToType(is.readLong(), eType));
+			else if (dt == BIGINT)
+				pa.add(convertToType(is.readBigInteger(), eType));
+			else if (dt == FLOAT)
+				pa.add(convertToType(is.readFloat(), eType));
+			else if (dt == DOUBLE)
+				pa.add(convertToType(is.readDouble(), eType));
+			else if (dt == STRING)
+				pa.add(convertToType(trim(is.readString()), eType));
+			else
+				throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, eType);
+		}
+		return pa.toArray();
+	}
+}
@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes POJO models to CBOR (RFC 7049).
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Accept</code> types:  <code><b>application/cbor</b></code>
+ * <p>
+ * Produces <code>Content-Type</code> types: <code><b>application/cbor</b></code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * Collections and arrays are written as definite-length CBOR arrays.
+ * <br>Maps and beans are written as indefinite-length CBOR maps as their entries are read, so their entries are never
+ * counted or copied beforehand.
+ * <br>{@link java.util.Iterator Iterators}, {@link java.util.Enumeration Enumerations} and
+ * {@link java.util.stream.Stream Streams} are written as indefinite-length arrays as their elements are read, so
+ * sequences of unknown size are never buffered.
+ * <br>{@link java.io.InputStream} and {@link java.io.Reader} values of unknown length are likewise written as
+ * indefinite-length byte and text strings.
+ */
+public class CborSerializer extends OutputStreamSerializer {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private static final String PREFIX = "CborSerializer.";
+
+	/**
+	 * Configuration property:  Add <js>"_type"</js> properties when needed.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"CborSerializer.addBeanTypes.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link CborSerializerBuilder#addBeanTypes(boolean)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, then <js>"_type"</js> properties will be added to beans if their type cannot be inferred
+	 * through reflection.
+	 *
+	 * <p>
+	 * When present, this value overrides the {@link #SERIALIZER_addBeanTypes} setting and is
+	 * provided to customize the behavior of specific serializers in a {@link SerializerGroup}.
+	 */
+	public static final String CBOR_addBeanTypes = PREFIX + "addBeanTypes.b";
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, all default settings.*/
+	public static final CborSerializer DEFAULT = new CborSerializer(PropertyStore.DEFAULT);
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private final boolean
+		addBeanTypes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps The property store containing all the settings for this object.
+	 */
+	public CborSerializer(PropertyStore ps) {
+		super(ps, "application/cbor", null);
+		this.addBeanTypes = getBooleanProperty(CBOR_addBeanTypes, getBooleanProperty(SERIALIZER_addBeanTypes, false));
+	}
+
+	@Override /* Context */
+	public CborSerializerBuilder builder() {
+		return new CborSerializerBuilder(getPropertyStore());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link CborSerializerBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> CborSerializerBuilder()</code>.
+	 *
+	 * <p>
+	 * Note that this method creates a builder initialized to all default settings, whereas {@link #builder()} copies
+	 * the settings of the object called on.
+	 *
+	 * @return A new {@link CborSerializerBuilder} object.
+	 */
+	public static CborSerializerBuilder create() {
+		return new CborSerializerBuilder();
+	}
+
+	@Override /* Serializer */
+	public CborSerializerSession createSession(SerializerSessionArgs args) {
+		return new CborSerializerSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override
+	protected final boolean isAddBeanTypes() {
+		return addBeanTypes;
+	}
+
+	@Override /* Context */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("CborSerializer", new ObjectMap()
+				.append("addBeanTypes", addBeanTypes)
+			);
+	}
+}
@@ -0,0 +1,387 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link CborSerializer}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+public final class CborSerializerSession extends OutputStreamSerializerSession {
+
+	// Size of the chunks used when writing streams of unknown length as indefinite-length fields.
+	private static final int CHUNK_SIZE = 8192;
+
+	private final CborSerializer ctx;
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 */
+	protected CborSerializerSession(CborSerializer ctx, SerializerSessionArgs args) {
+		super(ctx, args);
+		this.ctx = ctx;
+	}
+
+	@Override /* Session */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("CborSerializerSession", new ObjectMap()
+			);
+	}
+
+	@Override /* SerializerSession */
+	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
+		serializeAnything(getCborOutputStream(out), o, getExpectedRootType(o), "root", null);
+	}
+
+	/*
+	 * Converts the specified output target object to an {@link CborOutputStream}.
+	 */
+	private static final CborOutputStream getCborOutputStream(SerializerPipe out) throws Exception {
+		Object output = out.getRawOutput();
+		if (output instanceof CborOutputStream)
+			return (CborOutputStream)output;
+		CborOutputStream os = new CborOutputStream(out.getOutputStream());
+		out.setOutputStream(os);
+		return os;
+	}
+
+	/*
+	 * Workhorse method.
+	 * Determines the type of object, and then calls the appropriate type-specific serialization method.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private CborOutputStream serializeAnything(CborOutputStream out, Object o, ClassMeta<?> eType, String attrName, BeanPropertyMeta pMeta) throws Exception {
+
+		if (o == null)
+			return out.appendNull();
+
+		if (eType == null)
+			eType = object();
+
+		ClassMeta<?> aType;			// The actual type
+		ClassMeta<?> sType;			// The serialized type
+
+		aType = push(attrName, o, eType);
+		boolean isRecursion = aType == null;
+
+		// Handle recursion
+		if (aType == null) {
+			o = null;
+			aType = object();
+		}
+
+		sType = aType;
+		String typeName = getBeanTypeName(eType, aType, pMeta);
+
+		// Swap if necessary
+		PojoSwap swap = aType.getPojoSwap(this);
+		if (swap != null) {
+			o = swap.swap(this, o);
+			sType = swap.getSwapClassMeta(this);
+
+			// If the getSwapClass() method returns Object, we need to figure out
+			// the actual type now.
+			if (sType.isObject())
+				sType = getClassMetaForObject(o);
+		}
+
+		// '\0' characters are considered null.
+		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0))
+			out.appendNull();
+		else if (sType.isBoolean())
+			out.appendBoolean((Boolean)o);
+		else if (sType.isNumber())
+			out.appendNumber((Number)o);
+		else if (sType.isBean())
+			serializeBeanMap(out, toBeanMap(o), typeName);
+		else if (sType.isUri() || (pMeta != null && pMeta.isUri()))
+			out.appendString(resolveUri(o.toString()));
+		else if (sType.isMap()) {
+			if (o instanceof BeanMap)
+				serializeBeanMap(out, (BeanMap)o, typeName);
+			else
+				serializeMap(out, (Map)o, eType);
+		}
+		else if (sType.isCollection()) {
+			serializeCollection(out, (Collection) o, eType);
+		}
+		else if (sType.isArray()) {
+			if (canSerializePrimitiveArray(sType))
+				out.appendPrimitiveArray(o);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isStream()) {
+			try {
+				serializeStream(out, toIterator(o), eType);
+			} finally {
+				closeStream(o);
+			}
+		}
+		else if (sType.isInputStream())
+			serializeInputStream(out, (InputStream)o);
+		else if (sType.isReader())
+			serializeReader(out, (Reader)o);
+		else if (o instanceof ByteBuffer)
+			out.appendBinary((ByteBuffer)o);
+		else
+			out.appendString(toString(o));
+
+		if (! isRecursion)
+			pop();
+		return out;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void serializeMap(CborOutputStream out, Map m, ClassMeta<?> type) throws Exception {
+
+		ClassMeta<?> keyType = type.getKeyType(), valueType = type.getValueType();
+
+		m = sort(m);
+
+		// The map size may change as we're iterating over it, so the entries are written as an
+		// indefinite-length map instead of counting them up front.
+		out.startIndefiniteMap();
+
+		for (Map.Entry e : (Set<Map.Entry>)m.entrySet()) {
+			Object value = e.getValue();
+			Object key = generalize(e.getKey(), keyType);
+
+			serializeAnything(out, key, keyType, null, null);
+			serializeAnything(out, value, valueType, null, null);
+		}
+
+		out.appendBreak();
+	}
+
+	private void serializeBeanMap(CborOutputStream out, final BeanMap<?> m, String typeName) throws Exception {
+
+		List<BeanPropertyValue> values = m.getValues(isTrimNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null);
+
+		// Properties whose getters throw exceptions are skipped, so the entries aren't counted up front.
+		out.startIndefiniteMap();
+
+		for (BeanPropertyValue p : values) {
+			BeanPropertyMeta pMeta = p.getMeta();
+			if (pMeta.canRead()) {
+				ClassMeta<?> cMeta = p.getClassMeta();
+				String key = p.getName();
+				Object value = p.getValue();
+				Throwable t = p.getThrown();
+				if (t != null)
+					onBeanGetterException(pMeta, t);
+				else {
+					serializeAnything(out, key, null, null, null);
+					serializeAnything(out, value, cMeta, key, pMeta);
+				}
+			}
+		}
+
+		out.appendBreak();
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void serializeCollection(CborOutputStream out, Collection c, ClassMeta<?> type) throws Exception {
+
+		ClassMeta<?> elementType = type.getElementType();
+		List<Object> l = new ArrayList<>(c.size());
+
+		c = sort(c);
+		l.addAll(c);
+
+		List<BeanPropertyMeta> columns = getRowSetColumns(l, elementType);
+		if (columns != null) {
+			serializeRowSet(out, l, elementType, columns);
+			return;
+		}
+
+		out.startArray(l.size());
+
+		for (Object o : l)
+			serializeAnything(out, o, elementType, "<iterator>", null);
+	}
+
+	private void serializeRowSet(CborOutputStream out, List<Object> l, ClassMeta<?> elementType, List<BeanPropertyMeta> columns) throws Exception {
+		out.startMap(2);
+
+		out.appendString("_columns").startArray(columns.size());
+		for (BeanPropertyMeta p : columns)
+			out.appendString(p.getName());
+
+		out.appendString("_rows").startArray(l.size());
+		for (Object o : l) {
+			if (push("<iterator>", o, elementType) == null) {
+				out.appendNull();
+			} else {
+				Object[] row = getRowSetValues(o, columns);
+				out.startArray(row.length);
+				for (int i = 0; i < row.length; i++) {
+					BeanPropertyMeta pMeta = columns.get(i);
+					serializeAnything(out, row[i], pMeta.getClassMeta(), pMeta.getName(), pMeta);
+				}
+			}
+			pop();
+		}
+	}
+
+	/*
+	 * Writes the elements of an iterator as an indefinite-length array as they're read.
+	 * The output is flushed every streamFlushInterval elements.
+	 */
+	private void serializeStream(CborOutputStream out, Iterator<Object> i, ClassMeta<?> type) throws Exception {
+
+		ClassMeta<?> elementType = type.getElementType();
+		int flushInterval = getStreamFlushInterval();
+
+		out.startIndefiniteArray();
+
+		for (int count = 1; i.hasNext(); count++) {
+			serializeAnything(out, i.next(), elementType, "<iterator>", null);
+			if (flushInterval > 0 && count % flushInterval == 0)
+				out.flush();
+		}
+
+		out.appendBreak();
+	}
+
+	/*
+	 * Writes the contents of an input stream as a binary field.
+	 * If the length of the stream is known, the contents are copied directly to the output.
+	 * Otherwise they're written as an indefinite-length field in chunks.
+	 */
+	private static void serializeInputStream(CborOutputStream out, InputStream is) throws Exception {
+		try {
+			long len = getLength(is);
+			if (len == -1) {
+				byte[] b = new byte[CHUNK_SIZE];
+				out.startIndefiniteBinary();
+				int i;
+				while ((i = readFully(is, b)) > 0) {
+					out.startBinary(i);
+					out.write(b, 0, i);
+				}
+				out.appendBreak();
+			} else {
+				out.startBinary(len);
+				if (copy(is, out, len) != len)
+					throw new IOException("Input stream ended before " + len + " bytes could be read.");
+			}
+		} finally {
+			is.close();
+		}
+	}
+
+	/*
+	 * Writes the contents of a reader as an indefinite-length UTF-8 string field.
+	 * Each chunk is a complete UTF-8 sequence, so surrogate pairs are never split across chunks.
+	 */
+	private static void serializeReader(CborOutputStream out, Reader r) throws Exception {
+		try {
+			char[] c = new char[CHUNK_SIZE];
+			int len = 0;
+			out.startIndefiniteString();
+			while (true) {
+				int i = r.read(c, len, c.length - len);
+				if (i == -1)
+					break;
+				len += i;
+				if (len < c.length)
+					continue;
+				int n = Character.isHighSurrogate(c[len-1]) ? len-1 : len;
+				out.appendString(new String(c, 0, n));
+				len -= n;
+				if (len > 0)
+					c[0] = c[n];
+			}
+			if (len > 0)
+				out.appendString(new String(c, 0, len));
+			out.appendBreak();
+		} finally {
+			r.close();
+		}
+	}
+
+	/*
+	 * Returns the number of bytes remaining in the specified stream, or -1 if it can't be determined without reading
+	 * the stream.
+	 */
+	private static long getLength(InputStream is) throws IOException {
+		if (is instanceof ByteArrayInputStream || is instanceof ByteBufferInputStream)
+			return is.available();
+		if (is instanceof FileInputStream) {
+			FileChannel fc = ((FileInputStream)is).getChannel();
+			return fc.size() - fc.position();
+		}
+		return -1;
+	}
+
+	/*
+	 * Fills the specified buffer from the stream and returns the number of bytes read.
+	 * Fewer bytes are only returned at the end of the stream.
+	 */
+	private static int readFully(InputStream is, byte[] b) throws IOException {
+		int off = 0;
+		while (off < b.length) {
+			int i = is.read(b, off, b.length - off);
+			if (i == -1)
+				break;
+			off += i;
+		}
+		return off;
+	}
+
+	/*
+	 * Copies up to the specified number of bytes and returns the number of bytes copied.
+	 */
+	private static long copy(InputStream is, OutputStream os, long max) throws IOException {
+		byte[] b = new byte[8192];
+		long count = 0;
+		int i;
+		while (count < max && (i = is.read(b, 0, (int)Math.min(b.length, max - count))) != -1) {
+			os.write(b, 0, i);
+			count += i;
+		}
+		return count;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override
+	protected final boolean isAddBeanTypes() {
+		return ctx.isAddBeanTypes();
+	}
+}
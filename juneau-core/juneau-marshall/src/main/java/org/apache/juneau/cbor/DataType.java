@@ -0,0 +1,59 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+/**
+ * Constants for the CBOR format (RFC 7049).
+ */
+enum DataType {
+	NULL, BOOLEAN, INT, LONG, BIGINT, FLOAT, DOUBLE, STRING, BIN, ARRAY, MAP, BREAK;
+
+	boolean isOneOf(DataType...dataTypes) {
+		for (DataType dt : dataTypes)
+			if (this == dt)
+				return true;
+		return false;
+	}
+
+	// The initial byte of each data item is a 3-bit major type followed by 5 bits of additional information.
+	static final int
+		MT_UINT      = 0,     //   unsigned integer             000xxxxx     0x00 - 0x1b
+		MT_NINT      = 1,     //   negative integer             001xxxxx     0x20 - 0x3b
+		MT_BYTES     = 2,     //   byte string                  010xxxxx     0x40 - 0x5f
+		MT_TEXT      = 3,     //   UTF-8 text string            011xxxxx     0x60 - 0x7f
+		MT_ARRAY     = 4,     //   array of data items          100xxxxx     0x80 - 0x9f
+		MT_MAP       = 5,     //   map of pairs of data items   101xxxxx     0xa0 - 0xbf
+		MT_TAG       = 6,     //   tagged data item             110xxxxx     0xc0 - 0xdb
+		MT_SIMPLE    = 7;     //   simple values and floats     111xxxxx     0xe0 - 0xff
+
+	static final int
+		AI_UINT8     = 24,    //   argument follows in 1 byte
+		AI_UINT16    = 25,    //   argument follows in 2 bytes
+		AI_UINT32    = 26,    //   argument follows in 4 bytes
+		AI_UINT64    = 27,    //   argument follows in 8 bytes
+		AI_INDEF     = 31;    //   indefinite length
+
+	static final int
+		FALSE        = 0xF4,  //   false                        11110100     0xf4
+		TRUE         = 0xF5,  //   true                         11110101     0xf5
+		NIL          = 0xF6,  //   null                         11110110     0xf6
+		UNDEFINED    = 0xF7,  //   undefined                    11110111     0xf7
+		FLOAT16      = 0xF9,  //   half-precision float         11111001     0xf9
+		FLOAT32      = 0xFA,  //   single-precision float       11111010     0xfa
+		FLOAT64      = 0xFB,  //   double-precision float       11111011     0xfb
+		BRK          = 0xFF;  //   "break" stop code            11111111     0xff
+
+	static final int
+		TAG_POSBIGNUM = 2,    //   positive bignum (byte string)
+		TAG_NEGBIGNUM = 3;    //   negative bignum (byte string)
+}
@@ -16,7 +16,22 @@ import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
 /**
- * TODO - Work in progress.  CSV parser.
+ * Parses RFC 4180 CSV into POJOs.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Content-Type</code> types:  <code><b>text/csv</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * The first record in the input is the header row.
+ * <br>Each following record is converted to a row POJO whose properties are matched to the header columns by name.
+ * <br>Rows can be beans, maps, or collections/arrays of column values.
+ * <br>Unquoted empty fields and unquoted <js>"null"</js> are parsed as <jk>null</jk> values.
+ *
+ * <p>
+ * Use {@link CsvParserSession#parseRows(Object, Class)} to process large inputs one row at a time without loading
+ * them into memory.
  */
 public class CsvParser extends ReaderParser {
 
@@ -60,10 +75,15 @@ public class CsvParser extends ReaderParser {
 	}
 
 	@Override /* Parser */
-	public ReaderParserSession createSession(ParserSessionArgs args) {
+	public CsvParserSession createSession(ParserSessionArgs args) {
 		return new CsvParserSession(this, args);
 	}
 
+	@Override /* Parser */
+	public CsvParserSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -78,12 +78,24 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder keyPoolSize(int value) {
+		super.keyPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -432,6 +444,18 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public CsvParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public CsvParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public CsvParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -12,7 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import java.lang.reflect.*;
+import java.util.*;
+
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -22,8 +26,24 @@ import org.apache.juneau.parser.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public final class CsvParserSession extends ReaderParserSession {
 
+	private static final AsciiSet QUOTE = AsciiSet.create().chars('"').build();
+	private static final AsciiSet FIELD_END = AsciiSet.create().chars(',', '\r', '\n').build();
+
+	// State of the input being iterated over by parseRows().
+	private ParserReader rowsReader;
+	private ClassMeta<?> rowsType;
+	private boolean hasNextRow;
+
+	// State of the current input.
+	private List<String> header;
+	private List<String> fields = new ArrayList<>();
+	private BeanMeta<?> columnsMeta;
+	private BeanPropertyMeta[] columns;
+	private int rowNumber;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -40,14 +60,279 @@ public final class CsvParserSession extends ReaderParserSession {
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
 		try (ParserReader r = pipe.getParserReader()) {
-			if (r == null)
+			if (r == null || ! readHeader(r))
+				return null;
+
+			if (type.isObject())
+				return (T)parseRows(r, new ObjectList(this), object());
+
+			if (type.isCollection()) {
+				Collection c = (type.canCreateNewInstance() ? (Collection)type.newInstance() : new ObjectList(this));
+				return (T)parseRows(r, c, type.getElementType());
+			}
+
+			if (type.isArray() && ! isRowArray(type))
+				return (T)toArray(type, parseRows(r, new ArrayList(), type.getElementType()));
+
+			if (! readRecord(r))
 				return null;
-			return parseAnything(type, r, getOuter(), null);
+			T o = toRow(type);
+			if (readRecord(r))
+				throw new ParseException(this, "Multiple rows found in input.  Row {0} is not the only row in the input.", rowNumber);
+			return o;
 		}
 	}
 
-	@SuppressWarnings({})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
-		throw new NoSuchMethodException("Not implemented.");
+	@Override /* ReaderParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
+		try (ParserReader r = pipe.getParserReader()) {
+			if (r == null || ! readHeader(r))
+				return c;
+			return parseRows(r, c, getClassMeta(elementType));
+		}
+	}
+
+	/**
+	 * Parses the rows in the input one at a time.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)}, the rows are not collected in memory.
+	 * <br>The header is read when this method is called, and each call to {@link Iterator#next()} reads and converts
+	 * the next record from the input, so arbitrarily large inputs can be processed in constant memory.
+	 *
+	 * <p>
+	 * Rows can be parsed into beans (header names are matched to bean property names), maps (keyed by header name),
+	 * or collections and arrays of column values.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	CsvParserSession s = CsvParser.<jsf>DEFAULT</jsf>.createSession();
+	 * 	Iterator&lt;MyBean&gt; i = s.parseRows(reader, MyBean.<jk>class</jk>);
+	 * 	<jk>while</jk> (i.hasNext())
+	 * 		process(i.next());
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		The iteration state is kept in this session, so only one input can be iterated at a time per session.
+	 * 		<br>Calling this method again (or calling {@link #reset()}) closes the previous iteration, and the previous
+	 * 		iterator no longer returns rows.
+	 * 	<li>
+	 * 		The input is closed once the last row has been read.
+	 * 	<li>
+	 * 		Syntax errors encountered during iteration are thrown from {@link Iterator#hasNext()} and
+	 * 		{@link Iterator#next()} as {@link RuntimeException RuntimeExceptions} wrapping a {@link ParseException}.
+	 * </ul>
+	 *
+	 * @param <T> The class type of the rows.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for details.
+	 * @param type The class type of the rows.
+	 * @return An iterator over the parsed rows.
+	 * @throws ParseException If the input could not be opened or the header could not be read.
+	 */
+	public <T> Iterator<T> parseRows(Object input, Class<T> type) throws ParseException {
+		return parseRows(input, getClassMeta(type));
+	}
+
+	/**
+	 * Same as {@link #parseRows(Object, Class)} except allows you to parse rows of parameterized types.
+	 *
+	 * @param <T> The class type of the rows.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for details.
+	 * @param type
+	 * 	The class type of the rows.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * @return An iterator over the parsed rows.
+	 * @throws ParseException If the input could not be opened or the header could not be read.
+	 */
+	public <T> Iterator<T> parseRows(Object input, Type type, Type...args) throws ParseException {
+		return parseRows(input, (ClassMeta<T>)getClassMeta(type, args));
+	}
+
+	private <T> Iterator<T> parseRows(Object input, final ClassMeta<T> type) throws ParseException {
+		return iterate(input, new ValueReader<T>() {
+			@Override /* ValueReader */
+			public boolean open(ParserPipe pipe) throws Exception {
+				rowsReader = pipe.getParserReader();
+				rowsType = type;
+				return rowsReader != null && readHeader(rowsReader);
+			}
+
+			@Override /* ValueReader */
+			public boolean hasNext() throws Exception {
+				if (! hasNextRow)
+					hasNextRow = readRecord(rowsReader);
+				return hasNextRow;
+			}
+
+			@Override /* ValueReader */
+			public T next() throws Exception {
+				hasNextRow = false;
+				return (T)toRow(rowsType);
+			}
+
+			@Override /* ValueReader */
+			public void close() {
+				rowsReader = null;
+				rowsType = null;
+				hasNextRow = false;
+			}
+		});
+	}
+
+	private <E> Collection<E> parseRows(ParserReader r, Collection<E> c, ClassMeta<?> elementType) throws Exception {
+		while (readRecord(r))
+			c.add((E)toRow(elementType));
+		return c;
+	}
+
+	/*
+	 * Reads the header record.
+	 * Returns false if the input is empty.
+	 */
+	private boolean readHeader(ParserReader r) throws Exception {
+		rowNumber = 0;
+		columnsMeta = null;
+		columns = null;
+		if (! readRecord(r)) {
+			header = null;
+			return false;
+		}
+		header = new ArrayList<>(fields);
+		for (int i = 0; i < header.size(); i++)
+			if (header.get(i) == null)
+				throw new ParseException(this, "Empty column name found in header at column {0}.", i+1);
+		return true;
+	}
+
+	/*
+	 * Reads the next non-blank record into the fields list as described in RFC 4180.
+	 * Unquoted empty fields and unquoted 'null' are read as null values.
+	 * Returns false if the end of the input has been reached.
+	 */
+	private boolean readRecord(ParserReader r) throws Exception {
+		while (true) {
+			fields.clear();
+			if (r.peek() == -1)
+				return false;
+			rowNumber++;
+			int c;
+			do {
+				if (r.peek() == '"') {
+					r.read();
+					r.mark();
+					while (true) {
+						if (r.scan(QUOTE) == -1)
+							throw new ParseException(this, "Unterminated quoted field found in row {0}.", rowNumber);
+						r.read();
+						if (r.peek() != '"')
+							break;
+						// Escaped quote.  Drop one of the pair.
+						r.read();
+						r.delete();
+					}
+					fields.add(r.getMarked(0, -1));
+					c = r.read();
+					if (! (c == ',' || c == '\r' || c == '\n' || c == -1))
+						throw new ParseException(this, "Unexpected character ''{0}'' found after quoted field in row {1}.", (char)c, rowNumber);
+				} else {
+					r.mark();
+					c = r.scan(FIELD_END);
+					String s = r.getMarked();
+					r.read();
+					fields.add(s.isEmpty() || s.equals("null") ? null : s);
+				}
+			} while (c == ',');
+			if (c == '\r' && r.peek() == '\n')
+				r.read();
+			// Skip blank lines.
+			if (fields.size() > 1 || fields.get(0) != null)
+				return true;
+		}
+	}
+
+	/*
+	 * Converts the current record to the specified row type.
+	 */
+	private <T> T toRow(ClassMeta<T> type) throws Exception {
+		if (header.size() != fields.size() && ! (type.isCollectionOrArray()))
+			throw new ParseException(this, "Row {0} has {1} fields, but the header has {2} columns.", rowNumber, fields.size(), header.size());
+
+		Object o;
+		if (type.isObject()) {
+			ObjectMap m = new ObjectMap(this);
+			for (int i = 0; i < fields.size(); i++)
+				m.put(header.get(i), fields.get(i));
+			o = m;
+		} else if (type.isMap()) {
+			Map m = (type.canCreateNewInstance() ? (Map)type.newInstance() : new ObjectMap(this));
+			ClassMeta<?> kt = type.getKeyType(), vt = type.getValueType();
+			for (int i = 0; i < fields.size(); i++)
+				m.put(convertToType(header.get(i), kt), convertToType(fields.get(i), vt));
+			o = m;
+		} else if (type.canCreateNewBean(null)) {
+			BeanMap m = newBeanMap(type.getInnerClass());
+			BeanPropertyMeta[] cols = getColumns(m.getMeta());
+			for (int i = 0; i < fields.size(); i++) {
+				BeanPropertyMeta bpm = cols[i];
+				String name = header.get(i), value = fields.get(i);
+				if (bpm == null)
+					onUnknownProperty(name, m);
+				else if (value != null)
+					bpm.set(m, name, value);
+			}
+			o = m.getBean();
+		} else if (type.isCollection()) {
+			Collection c = (type.canCreateNewInstance() ? (Collection)type.newInstance() : new ObjectList(this));
+			for (String s : fields)
+				c.add(convertToType(s, type.getElementType()));
+			o = c;
+		} else if (type.isArray()) {
+			List l = new ArrayList(fields.size());
+			for (String s : fields)
+				l.add(convertToType(s, type.getElementType()));
+			o = toArray(type, l);
+		} else {
+			throw new ParseException(this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+				type.getInnerClass().getName(), type.getNotABeanReason());
+		}
+		return (T)o;
+	}
+
+	/*
+	 * Returns the bean properties matching the header columns.
+	 * Computed once per input and bean type.
+	 */
+	private BeanPropertyMeta[] getColumns(BeanMeta<?> bm) {
+		if (columnsMeta != bm) {
+			columns = new BeanPropertyMeta[header.size()];
+			for (int i = 0; i < columns.length; i++)
+				columns[i] = bm.getPropertyMeta(header.get(i));
+			columnsMeta = bm;
+		}
+		return columns;
+	}
+
+	/*
+	 * Returns true if the specified type is an array whose elements are column values (e.g. String[]) rather than
+	 * rows.
+	 */
+	private static boolean isRowArray(ClassMeta<?> type) {
+		ClassMeta<?> et = type.getElementType();
+		return ! (et.isObject() || et.isMap() || et.isBean() || et.isCollectionOrArray());
+	}
+
+	@Override /* Session */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("CsvParserSession", new ObjectMap()
+			);
 	}
 }
@@ -16,7 +16,20 @@ import org.apache.juneau.*;
 import org.apache.juneau.serializer.*;
 
 /**
- * TODO - Work in progress.  CSV serializer.
+ * Serializes POJOs to RFC 4180 CSV.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Accept</code> types:  <code><b>text/csv</b></code>
+ * <p>
+ * Produces <code>Content-Type</code> types:  <code><b>text/csv</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Serializes collections, arrays, {@link java.util.Iterator iterators} and {@link java.util.stream.Stream streams}
+ * of beans or maps as rows.
+ * <br>The columns are determined by the first row and are written as a header row.
+ * <br>Rows are written as they are read from the input, so iterators and streams are never collected in memory.
  */
 public final class CsvSerializer extends WriterSerializer {
 
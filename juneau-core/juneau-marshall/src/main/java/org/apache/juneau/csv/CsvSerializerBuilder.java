@@ -109,6 +109,18 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder columnarBeanCollections(boolean value) {
+		super.columnarBeanCollections(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder columnarBeanCollections() {
+		super.columnarBeanCollections();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public CsvSerializerBuilder detectRecursions(boolean value) {
 		super.detectRecursions(value);
@@ -144,6 +156,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public CsvSerializerBuilder maxDepth(int value) {
 		super.maxDepth(value);
@@ -174,6 +192,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public CsvSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -546,6 +570,18 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public CsvSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public CsvSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public CsvSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -44,61 +44,132 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 	}
 
 	@Override /* SerializerSession */
+	@SuppressWarnings("rawtypes")
 	protected final void doSerialize(SerializerPipe pipe, Object o) throws Exception {
 		try (Writer w = pipe.getWriter()) {
+			if (o == null)
+				return;
 			ClassMeta<?> cm = getClassMetaForObject(o);
-			Collection<?> l = null;
-			if (cm.isArray()) {
-				l = Arrays.asList((Object[])o);
+			if (cm.isStream()) {
+				try {
+					serializeRows(w, toIterator(o));
+				} finally {
+					closeStream(o);
+				}
+			} else if (cm.isArray()) {
+				serializeRows(w, toList(cm.getInnerClass(), o).iterator());
+			} else if (cm.isCollection()) {
+				serializeRows(w, sort((Collection<?>)o).iterator());
 			} else {
-				l = (Collection<?>)o;
+				serializeRows(w, Collections.singleton(o).iterator());
 			}
-			// TODO - Doesn't support DynaBeans.
-			if (l.size() > 0) {
-				ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
-				if (entryType.isBean()) {
-					BeanMeta<?> bm = entryType.getBeanMeta();
-					int i = 0;
-					for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-						if (pm.canRead()) {
-							if (i++ > 0)
-								w.append(',');
-							append(w, pm.getName());
-						}
-					}
-					w.append('\n');
-					for (Object o2 : l) {
-						i = 0;
-						BeanMap<?> bean = toBeanMap(o2);
-						for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-							if (pm.canRead()) {
-								if (i++ > 0)
-									w.append(',');
-								append(w, pm.get(bean, pm.getName()));
-							}
-						}
-						w.append('\n');
-					}
+		}
+	}
+
+	/*
+	 * Writes the header and one line per row as the rows are pulled from the iterator.
+	 * The columns are determined by the first row:  the readable properties of a bean, the keys of a map, or a
+	 * single unnamed column for anything else.
+	 */
+	@SuppressWarnings("rawtypes")
+	private void serializeRows(Writer w, Iterator<?> i) throws Exception {
+		if (! i.hasNext())
+			return;
+
+		int flushInterval = getStreamFlushInterval(), count = 0;
+		Object o = i.next();
+		ClassMeta<?> cm = getClassMetaForObject(o);
+
+		// TODO - Doesn't support DynaBeans.
+		if (cm.isBean()) {
+			List<BeanPropertyMeta> columns = new ArrayList<>();
+			for (BeanPropertyMeta pm : cm.getBeanMeta().getPropertyMetas())
+				if (pm.canRead())
+					columns.add(pm);
+			for (int j = 0; j < columns.size(); j++) {
+				if (j > 0)
+					w.append(',');
+				append(w, columns.get(j).getName());
+			}
+			w.append('\n');
+			while (true) {
+				BeanMap<?> bean = toBeanMap(o);
+				for (int j = 0; j < columns.size(); j++) {
+					if (j > 0)
+						w.append(',');
+					BeanPropertyMeta pm = columns.get(j);
+					append(w, pm.get(bean, pm.getName()));
 				}
+				w.append('\n');
+				if (flushInterval > 0 && ++count % flushInterval == 0)
+					w.flush();
+				if (! i.hasNext())
+					break;
+				o = i.next();
+			}
+		} else if (cm.isMap()) {
+			List<Object> columns = new ArrayList<Object>(((Map<?,?>)o).keySet());
+			for (int j = 0; j < columns.size(); j++) {
+				if (j > 0)
+					w.append(',');
+				append(w, columns.get(j));
+			}
+			w.append('\n');
+			while (true) {
+				Map m = (Map)o;
+				for (int j = 0; j < columns.size(); j++) {
+					if (j > 0)
+						w.append(',');
+					append(w, m == null ? null : m.get(columns.get(j)));
+				}
+				w.append('\n');
+				if (flushInterval > 0 && ++count % flushInterval == 0)
+					w.flush();
+				if (! i.hasNext())
+					break;
+				o = i.next();
+			}
+		} else {
+			while (true) {
+				append(w, o);
+				w.append('\n');
+				if (flushInterval > 0 && ++count % flushInterval == 0)
+					w.flush();
+				if (! i.hasNext())
+					break;
+				o = i.next();
 			}
 		}
 	}
 
-	private static void append(Writer w, Object o) throws IOException {
-		if (o == null)
+	/*
+	 * Writes a single field.
+	 * Fields containing separators, quotes, line breaks or whitespace are quoted as described in RFC 4180, and
+	 * empty strings and the string "null" are quoted to distinguish them from null values.
+	 */
+	private void append(Writer w, Object o) throws IOException {
+		String s = toString(o);
+		if (s == null) {
 			w.append("null");
-		else {
-			String s = o.toString();
-			boolean mustQuote = false;
-			for (int i = 0; i < s.length() && ! mustQuote; i++) {
-				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
-					mustQuote = true;
-			}
-			if (mustQuote)
-				w.append('"').append(s).append('"');
-			else
-				w.append(s);
+			return;
+		}
+		boolean mustQuote = s.isEmpty() || s.equals("null");
+		for (int i = 0; i < s.length() && ! mustQuote; i++) {
+			char c = s.charAt(i);
+			if (Character.isWhitespace(c) || c == ',' || c == '"')
+				mustQuote = true;
+		}
+		if (! mustQuote) {
+			w.append(s);
+			return;
+		}
+		w.append('"');
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '"')
+				w.append('"');
+			w.append(c);
 		}
+		w.append('"');
 	}
 }
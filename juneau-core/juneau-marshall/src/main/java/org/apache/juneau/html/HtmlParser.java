@@ -78,6 +78,15 @@ public class HtmlParser extends XmlParser {
 		return new HtmlParserSession(this, args);
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		super.preloadExtendedMeta(cm);
+		cm.getExtendedMeta(HtmlClassMeta.class);
+		if (cm.isBean())
+			for (BeanPropertyMeta p : cm.getBeanMeta().getPropertyMetas())
+				p.getExtendedMeta(HtmlBeanPropertyMeta.class);
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -89,6 +89,18 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* XmlParserBuilder */
+	public HtmlParserBuilder inputFactory(Class<? extends XMLInputFactory> value) {
+		super.inputFactory(value);
+		return this;
+	}
+
+	@Override /* XmlParserBuilder */
+	public HtmlParserBuilder inputFactory(XMLInputFactory value) {
+		super.inputFactory(value);
+		return this;
+	}
+
 	@Override /* ReaderParserBuilder */
 	public HtmlParserBuilder inputStreamCharset(String value) {
 		super.inputStreamCharset(value);
@@ -113,12 +125,24 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder keyPoolSize(int value) {
+		super.keyPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -455,6 +479,18 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public HtmlParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
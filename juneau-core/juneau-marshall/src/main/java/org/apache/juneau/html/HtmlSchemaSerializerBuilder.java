@@ -249,6 +249,18 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder columnarBeanCollections(boolean value) {
+		super.columnarBeanCollections(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder columnarBeanCollections() {
+		super.columnarBeanCollections();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSchemaSerializerBuilder detectRecursions(boolean value) {
 		super.detectRecursions(value);
@@ -284,6 +296,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSchemaSerializerBuilder maxDepth(int value) {
 		super.maxDepth(value);
@@ -326,6 +344,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSchemaSerializerBuilder sq() {
 		super.sq();
@@ -722,6 +746,18 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlSchemaSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlSchemaSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public HtmlSchemaSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -790,6 +790,15 @@ public class HtmlSerializer extends XmlSerializer {
 		return uriAnchorText;
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		super.preloadExtendedMeta(cm);
+		cm.getExtendedMeta(HtmlClassMeta.class);
+		if (cm.isBean())
+			for (BeanPropertyMeta p : cm.getBeanMeta().getPropertyMetas())
+				p.getExtendedMeta(HtmlBeanPropertyMeta.class);
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
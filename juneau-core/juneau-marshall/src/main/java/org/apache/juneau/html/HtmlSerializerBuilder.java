@@ -254,6 +254,18 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSerializerBuilder columnarBeanCollections(boolean value) {
+		super.columnarBeanCollections(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public HtmlSerializerBuilder columnarBeanCollections() {
+		super.columnarBeanCollections();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSerializerBuilder detectRecursions(boolean value) {
 		super.detectRecursions(value);
@@ -289,6 +301,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSerializerBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSerializerBuilder maxDepth(int value) {
 		super.maxDepth(value);
@@ -331,6 +349,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSerializerBuilder sq() {
 		super.sq();
@@ -727,6 +751,18 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public HtmlSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
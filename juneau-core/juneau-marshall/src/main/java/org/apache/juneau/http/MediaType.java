@@ -41,6 +41,7 @@ public class MediaType implements Comparable<MediaType> {
 	/** Reusable predefined media type */
 	@SuppressWarnings("javadoc")
 	public static final MediaType
+		CBOR = forString("application/cbor"),
 		CSV = forString("text/csv"),
 		HTML = forString("text/html"),
 		JSON = forString("application/json"),
@@ -0,0 +1,81 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * Input stream that reads the remaining contents of a {@link ByteBuffer} without copying them.
+ *
+ * <p>
+ * The position of the original buffer is not changed.
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer bb;
+	private int mark;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bb The buffer to read from.
+	 */
+	public ByteBufferInputStream(ByteBuffer bb) {
+		this.bb = bb.duplicate();
+		this.mark = this.bb.position();
+	}
+
+	@Override /* InputStream */
+	public int read() {
+		return bb.hasRemaining() ? bb.get() & 0xFF : -1;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) {
+		if (len == 0)
+			return 0;
+		if (! bb.hasRemaining())
+			return -1;
+		len = Math.min(len, bb.remaining());
+		bb.get(b, off, len);
+		return len;
+	}
+
+	@Override /* InputStream */
+	public long skip(long n) {
+		int i = (int)Math.min(Math.max(n, 0), bb.remaining());
+		bb.position(bb.position() + i);
+		return i;
+	}
+
+	@Override /* InputStream */
+	public int available() {
+		return bb.remaining();
+	}
+
+	@Override /* InputStream */
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override /* InputStream */
+	public void mark(int readlimit) {
+		mark = bb.position();
+	}
+
+	@Override /* InputStream */
+	public void reset() {
+		bb.position(mark);
+	}
+}
@@ -29,8 +29,39 @@ import org.apache.juneau.utils.*;
  */
 public final class ClassUtils {
 
+	// Class loaders whose classes can't be unloaded before this class is.
+	private static final Set<ClassLoader> LOCAL_LOADERS = Collections.newSetFromMap(new IdentityHashMap<ClassLoader,Boolean>());
+	static {
+		for (ClassLoader cl = ClassUtils.class.getClassLoader(); cl != null; cl = cl.getParent())
+			LOCAL_LOADERS.add(cl);
+	}
+
 	private static final Map<Class<?>,ConstructorCacheEntry> CONSTRUCTOR_CACHE = new ConcurrentHashMap<>();
 
+	// Constructor cache for classes from foreign class loaders.
+	private static final ClassValue<ConstructorCacheEntry[]> FOREIGN_CONSTRUCTOR_CACHE = new ClassValue<ConstructorCacheEntry[]>() {
+		@Override /* ClassValue */
+		protected ConstructorCacheEntry[] computeValue(Class<?> type) {
+			return new ConstructorCacheEntry[1];
+		}
+	};
+
+	/**
+	 * Returns <jk>true</jk> if the specified class was loaded by a class loader other than the one that loaded this
+	 * library (or one of its parents).
+	 *
+	 * <p>
+	 * Such classes (e.g. classes of a redeployed web application) can be unloaded independently of this library, so
+	 * static caches must not hold strong references to them.
+	 *
+	 * @param c The class to check.
+	 * @return <jk>true</jk> if the class was loaded by a foreign class loader.
+	 */
+	public static boolean isFromForeignClassLoader(Class<?> c) {
+		ClassLoader cl = c.getClassLoader();
+		return cl != null && ! LOCAL_LOADERS.contains(cl);
+	}
+
 	/**
 	 * Given the specified list of objects, return readable names for the class types of the objects.
 	 *
@@ -1337,7 +1368,8 @@ public final class ClassUtils {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T> Constructor<T> findConstructor(Class<T> c, Visibility vis, boolean fuzzyArgs, Class<?>...argTypes) {
-		ConstructorCacheEntry cce = CONSTRUCTOR_CACHE.get(c);
+		boolean foreign = isFromForeignClassLoader(c);
+		ConstructorCacheEntry cce = foreign ? FOREIGN_CONSTRUCTOR_CACHE.get(c)[0] : CONSTRUCTOR_CACHE.get(c);
 		if (cce != null && argsMatch(cce.paramTypes, argTypes) && cce.isVisible(vis))
 			return (Constructor<T>)cce.constructor;
 
@@ -1354,7 +1386,7 @@ public final class ClassUtils {
 				}
 			}
 			if (bestCount >= 0)
-				CONSTRUCTOR_CACHE.put(c, new ConstructorCacheEntry(c, bestMatch));
+				cacheConstructor(c, foreign, new ConstructorCacheEntry(c, bestMatch));
 			return (Constructor<T>)bestMatch;
 		}
 
@@ -1364,7 +1396,7 @@ public final class ClassUtils {
 			if (isMemberClass)
 				paramTypes = Arrays.copyOfRange(paramTypes, 1, paramTypes.length);
 			if (argsMatch(paramTypes, argTypes) && vis.isVisible(n)) {
-				CONSTRUCTOR_CACHE.put(c, new ConstructorCacheEntry(c, n));
+				cacheConstructor(c, foreign, new ConstructorCacheEntry(c, n));
 				return (Constructor<T>)n;
 			}
 		}
@@ -1372,7 +1404,12 @@ public final class ClassUtils {
 		return null;
 	}
 
-
+	private static void cacheConstructor(Class<?> c, boolean foreign, ConstructorCacheEntry cce) {
+		if (foreign)
+			FOREIGN_CONSTRUCTOR_CACHE.get(c)[0] = cce;
+		else
+			CONSTRUCTOR_CACHE.put(c, cce);
+	}
 
 	private static final class ConstructorCacheEntry {
 		final Constructor<?> constructor;
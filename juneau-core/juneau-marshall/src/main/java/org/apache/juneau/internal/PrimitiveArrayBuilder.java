@@ -0,0 +1,299 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * Builds a primitive array (e.g. <code><jk>int</jk>[]</code>) one element at a time without boxing the elements.
+ *
+ * <p>
+ * Used by parsers to read numeric and boolean arrays directly into their final form instead of collecting boxed
+ * values in a list and converting them afterwards.
+ *
+ * <p>
+ * Values passed to the typed <code>add</code> methods are narrowed or widened to the component type the same way as
+ * the corresponding {@link Number} methods (e.g. {@link Number#intValue()}).
+ *
+ * <p>
+ * This class is NOT thread safe.
+ */
+public final class PrimitiveArrayBuilder {
+
+	private static final int BOOLEAN=0, BYTE=1, SHORT=2, INT=3, LONG=4, FLOAT=5, DOUBLE=6;
+
+	private final Class<?> componentType;
+	private final int kind;
+	private Object array;
+	private int size, capacity;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param componentType
+	 * 	The component type of the array being built.
+	 * 	<br>Must be one of the numeric or boolean primitive types.
+	 * @param capacity The initial capacity.
+	 * @throws IllegalArgumentException If the component type is not supported.
+	 */
+	public PrimitiveArrayBuilder(Class<?> componentType, int capacity) {
+		this.componentType = componentType;
+		this.kind = kind(componentType);
+		if (kind == -1)
+			throw new IllegalArgumentException("Unsupported array component type: " + componentType);
+		this.capacity = Math.max(capacity, 1);
+		this.array = newArray(this.capacity);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified class is a primitive type supported by this class.
+	 *
+	 * <p>
+	 * All primitive types are supported except <jk>char</jk> and <jk>void</jk>.
+	 *
+	 * @param c The class to check.
+	 * @return <jk>true</jk> if the specified class is a primitive type supported by this class.
+	 */
+	public static boolean isSupported(Class<?> c) {
+		return kind(c) != -1;
+	}
+
+	private static int kind(Class<?> c) {
+		if (c == int.class)
+			return INT;
+		if (c == long.class)
+			return LONG;
+		if (c == double.class)
+			return DOUBLE;
+		if (c == float.class)
+			return FLOAT;
+		if (c == short.class)
+			return SHORT;
+		if (c == byte.class)
+			return BYTE;
+		if (c == boolean.class)
+			return BOOLEAN;
+		return -1;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the component type is a numeric type.
+	 *
+	 * @return <jk>true</jk> if the component type is a numeric type.
+	 */
+	public boolean isNumeric() {
+		return kind != BOOLEAN;
+	}
+
+	/**
+	 * Returns the component type of the array being built.
+	 *
+	 * @return The component type of the array being built.
+	 */
+	public Class<?> getComponentType() {
+		return componentType;
+	}
+
+	/**
+	 * Returns the number of elements added so far.
+	 *
+	 * @return The number of elements added so far.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds an <jk>int</jk> value.
+	 *
+	 * @param v The value to add.
+	 * @return This object (for method chaining).
+	 */
+	public PrimitiveArrayBuilder add(int v) {
+		ensureCapacity();
+		switch (kind) {
+			case INT: ((int[])array)[size++] = v; break;
+			case LONG: ((long[])array)[size++] = v; break;
+			case DOUBLE: ((double[])array)[size++] = v; break;
+			case FLOAT: ((float[])array)[size++] = v; break;
+			case SHORT: ((short[])array)[size++] = (short)v; break;
+			case BYTE: ((byte[])array)[size++] = (byte)v; break;
+			default: throw new IllegalStateException("Cannot add numeric value to boolean array.");
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a <jk>long</jk> value.
+	 *
+	 * @param v The value to add.
+	 * @return This object (for method chaining).
+	 */
+	public PrimitiveArrayBuilder add(long v) {
+		ensureCapacity();
+		switch (kind) {
+			case INT: ((int[])array)[size++] = (int)v; break;
+			case LONG: ((long[])array)[size++] = v; break;
+			case DOUBLE: ((double[])array)[size++] = v; break;
+			case FLOAT: ((float[])array)[size++] = v; break;
+			case SHORT: ((short[])array)[size++] = (short)v; break;
+			case BYTE: ((byte[])array)[size++] = (byte)v; break;
+			default: throw new IllegalStateException("Cannot add numeric value to boolean array.");
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a <jk>double</jk> value.
+	 *
+	 * @param v The value to add.
+	 * @return This object (for method chaining).
+	 */
+	public PrimitiveArrayBuilder add(double v) {
+		ensureCapacity();
+		switch (kind) {
+			case INT: ((int[])array)[size++] = (int)v; break;
+			case LONG: ((long[])array)[size++] = (long)v; break;
+			case DOUBLE: ((double[])array)[size++] = v; break;
+			case FLOAT: ((float[])array)[size++] = (float)v; break;
+			case SHORT: ((short[])array)[size++] = (short)v; break;
+			case BYTE: ((byte[])array)[size++] = (byte)v; break;
+			default: throw new IllegalStateException("Cannot add numeric value to boolean array.");
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a <jk>float</jk> value.
+	 *
+	 * @param v The value to add.
+	 * @return This object (for method chaining).
+	 */
+	public PrimitiveArrayBuilder add(float v) {
+		if (kind == FLOAT) {
+			ensureCapacity();
+			((float[])array)[size++] = v;
+			return this;
+		}
+		return add((double)v);
+	}
+
+	/**
+	 * Adds a <jk>boolean</jk> value.
+	 *
+	 * @param v The value to add.
+	 * @return This object (for method chaining).
+	 */
+	public PrimitiveArrayBuilder add(boolean v) {
+		if (kind != BOOLEAN)
+			throw new IllegalStateException("Cannot add boolean value to numeric array.");
+		ensureCapacity();
+		((boolean[])array)[size++] = v;
+		return this;
+	}
+
+	/**
+	 * Adds a boxed value.
+	 *
+	 * <p>
+	 * Used for values that could not be read directly as primitives (e.g. quoted numbers).
+	 *
+	 * @param o
+	 * 	The value to add.
+	 * 	<br>Must be a {@link Number} for numeric arrays or a {@link Boolean} for boolean arrays.
+	 * 	<br><jk>null</jk> values are added as the default value of the primitive type.
+	 * @return This object (for method chaining).
+	 */
+	public PrimitiveArrayBuilder add(Object o) {
+		if (kind == BOOLEAN)
+			return add(o != null && (Boolean)o);
+		if (o == null)
+			return add(0);
+		Number n = (Number)o;
+		switch (kind) {
+			case INT: return add(n.intValue());
+			case LONG: return add(n.longValue());
+			case FLOAT: return add(n.floatValue());
+			default: return add(n.doubleValue());
+		}
+	}
+
+	/**
+	 * Parses the number between the mark and the current position of the specified reader and adds it to this array.
+	 *
+	 * <p>
+	 * Equivalent to <code>add(r.getMarkedNumber(wrapperType))</code>, which converts plain decimal numbers directly
+	 * from the reader buffer without creating an intermediate string.
+	 *
+	 * @param r The reader positioned at the end of the marked number.
+	 * @return This object (for method chaining).
+	 * @throws ParseException If the marked characters are not a valid number for the component type.
+	 */
+	@SuppressWarnings("unchecked")
+	public PrimitiveArrayBuilder addNumber(ParserReader r) throws ParseException {
+		if (kind == BOOLEAN)
+			throw new ParseException("Cannot add numeric value to boolean array.");
+		return add(r.getMarkedNumber((Class<? extends Number>)ClassUtils.getWrapperIfPrimitive(componentType)));
+	}
+
+	/**
+	 * Returns the built array.
+	 *
+	 * <p>
+	 * The returned array is sized to exactly the number of elements added.
+	 *
+	 * @return The built array.
+	 */
+	public Object toArray() {
+		if (size == capacity)
+			return array;
+		switch (kind) {
+			case INT: return Arrays.copyOf((int[])array, size);
+			case LONG: return Arrays.copyOf((long[])array, size);
+			case DOUBLE: return Arrays.copyOf((double[])array, size);
+			case FLOAT: return Arrays.copyOf((float[])array, size);
+			case SHORT: return Arrays.copyOf((short[])array, size);
+			case BYTE: return Arrays.copyOf((byte[])array, size);
+			default: return Arrays.copyOf((boolean[])array, size);
+		}
+	}
+
+	private void ensureCapacity() {
+		if (size < capacity)
+			return;
+		capacity *= 2;
+		switch (kind) {
+			case INT: array = Arrays.copyOf((int[])array, capacity); break;
+			case LONG: array = Arrays.copyOf((long[])array, capacity); break;
+			case DOUBLE: array = Arrays.copyOf((double[])array, capacity); break;
+			case FLOAT: array = Arrays.copyOf((float[])array, capacity); break;
+			case SHORT: array = Arrays.copyOf((short[])array, capacity); break;
+			case BYTE: array = Arrays.copyOf((byte[])array, capacity); break;
+			default: array = Arrays.copyOf((boolean[])array, capacity);
+		}
+	}
+
+	private Object newArray(int length) {
+		switch (kind) {
+			case INT: return new int[length];
+			case LONG: return new long[length];
+			case DOUBLE: return new double[length];
+			case FLOAT: return new float[length];
+			case SHORT: return new short[length];
+			case BYTE: return new byte[length];
+			default: return new boolean[length];
+		}
+	}
+}
@@ -0,0 +1,215 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Output stream that keeps its contents in memory up to a threshold and spools anything beyond that to a temporary
+ * file.
+ *
+ * <p>
+ * Used for content whose total size has to be known before it can be written out (e.g. length-prefixed binary
+ * formats) without holding arbitrarily large content on the heap.
+ *
+ * <p>
+ * The temporary file is deleted when this stream is closed, or when the stream returned by {@link #getInputStream()}
+ * is closed.
+ * <br>If the owning stream is garbage collected without being closed, the file is deleted the next time another
+ * temporary file is created by this class.
+ *
+ * <p>
+ * <b>Warning:</b>  Not thread safe.
+ */
+public final class SpoolOutputStream extends OutputStream {
+
+	// Temporary files whose owning streams haven't been closed yet.
+	private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+	private static final Set<FileRef> REFS = Collections.newSetFromMap(new ConcurrentHashMap<FileRef,Boolean>());
+
+	/*
+	 * Deletes a temporary file when its owning stream is closed or garbage collected.
+	 */
+	private static final class FileRef extends PhantomReference<Object> {
+		final File file;
+
+		FileRef(Object owner, File file) {
+			super(owner, QUEUE);
+			this.file = file;
+			REFS.add(this);
+		}
+
+		void delete() {
+			REFS.remove(this);
+			clear();
+			file.delete();
+		}
+	}
+
+	/*
+	 * Deletes the temporary files of streams that were garbage collected without being closed.
+	 */
+	private static void expunge() {
+		for (Reference<?> r; (r = QUEUE.poll()) != null;)
+			((FileRef)r).delete();
+	}
+
+	/*
+	 * Input stream over a temporary file that deletes the file when closed.
+	 */
+	private static final class SpoolInputStream extends FileInputStream {
+		private final FileRef ref;
+
+		SpoolInputStream(File f) throws IOException {
+			super(f);
+			ref = new FileRef(this, f);
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				ref.delete();
+			}
+		}
+	}
+
+	private final int threshold;
+	private ByteArrayInOutStream mem = new ByteArrayInOutStream();
+	private File file;
+	private FileRef ref;
+	private OutputStream fos;
+	private long size;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param threshold The maximum number of bytes to keep in memory before switching to a temporary file.
+	 */
+	public SpoolOutputStream(int threshold) {
+		this.threshold = threshold;
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		out(1).write(b);
+		size++;
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		out(len).write(b, off, len);
+		size += len;
+	}
+
+	private OutputStream out(int len) throws IOException {
+		if (fos != null)
+			return fos;
+		if (size + len <= threshold)
+			return mem;
+		expunge();
+		file = File.createTempFile("juneau", ".spool");
+		ref = new FileRef(this, file);
+		fos = new BufferedOutputStream(new FileOutputStream(file));
+		mem.writeTo(fos);
+		mem = null;
+		return fos;
+	}
+
+	/**
+	 * Returns the number of bytes written to this stream.
+	 *
+	 * @return The number of bytes written to this stream.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the contents of this stream have been spooled to a temporary file.
+	 *
+	 * @return <jk>true</jk> if the contents of this stream have been spooled to a temporary file.
+	 */
+	public boolean isSpooled() {
+		return file != null;
+	}
+
+	/**
+	 * Writes the contents of this stream to the specified output stream.
+	 *
+	 * @param os The output stream to write to.
+	 * @throws IOException
+	 */
+	public void writeTo(OutputStream os) throws IOException {
+		if (file == null) {
+			mem.writeTo(os);
+		} else {
+			fos.flush();
+			try (InputStream is = new FileInputStream(file)) {
+				byte[] b = new byte[8192];
+				int i;
+				while ((i = is.read(b)) != -1)
+					os.write(b, 0, i);
+			}
+		}
+	}
+
+	/**
+	 * Returns the contents of this stream as an input stream.
+	 *
+	 * <p>
+	 * If the contents were spooled to a temporary file, ownership of the file passes to the returned stream and the
+	 * file is deleted when that stream is closed.
+	 * <br>No more data should be written to this stream after this method is called.
+	 *
+	 * @return The contents of this stream as an input stream.
+	 * @throws IOException
+	 */
+	public InputStream getInputStream() throws IOException {
+		if (file == null)
+			return mem.getInputStream();
+		fos.close();
+		InputStream is = new SpoolInputStream(file);
+		REFS.remove(ref);
+		ref.clear();
+		ref = null;
+		file = null;
+		fos = null;
+		mem = new ByteArrayInOutStream();
+		return is;
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		if (fos != null)
+			fos.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		if (file != null) {
+			try {
+				fos.close();
+			} finally {
+				ref.delete();
+				ref = null;
+				file = null;
+				fos = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+/**
+ * Maps a fixed set of strings to their positions in the set.
+ *
+ * <p>
+ * Used in place of a <code>Map&lt;String,Integer&gt;</code> for small sets of names that are looked up frequently
+ * (e.g. bean property names).
+ * <br>Whenever possible, the lookup table is sized so that no two strings share a slot, so a lookup is a single array
+ * access followed by one string comparison.
+ * Otherwise, it falls back to linear probing.
+ */
+public final class StringIndex {
+
+	private final String[] keys;
+	private final int[] table;  // Slot to index + 1, or 0 if empty.
+	private final int mask;
+	private final boolean perfect;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param keys The strings to index.  Duplicate strings resolve to the first occurrence.
+	 */
+	public StringIndex(String...keys) {
+		this.keys = keys.clone();
+
+		int size = 2;
+		while (size < keys.length * 2)
+			size <<= 1;
+
+		// Look for a collision-free table up to 8 times the minimum size.
+		int[] t = null;
+		for (int s = size; s <= size * 8 && t == null; s <<= 1)
+			t = perfectTable(s);
+
+		if (t != null) {
+			this.perfect = true;
+		} else {
+			this.perfect = false;
+			t = new int[size];
+			for (int i = 0; i < keys.length; i++) {
+				int j = hash(keys[i]) & (size-1);
+				while (t[j] != 0 && ! keys[t[j]-1].equals(keys[i]))
+					j = (j+1) & (size-1);
+				if (t[j] == 0)
+					t[j] = i+1;
+			}
+		}
+		this.table = t;
+		this.mask = t.length - 1;
+	}
+
+	private int[] perfectTable(int size) {
+		int[] t = new int[size];
+		for (int i = 0; i < keys.length; i++) {
+			int j = hash(keys[i]) & (size-1);
+			if (t[j] != 0)
+				return null;
+			t[j] = i+1;
+		}
+		return t;
+	}
+
+	private static int hash(String s) {
+		int h = s.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Returns the position of the specified string.
+	 *
+	 * @param key The string to look up.
+	 * @return The position of the string, or <code>-1</code> if it's not in this index.
+	 */
+	public int indexOf(String key) {
+		if (key == null)
+			return -1;
+		int j = hash(key) & mask;
+		if (perfect) {
+			int i = table[j] - 1;
+			return i >= 0 && keys[i].equals(key) ? i : -1;
+		}
+		while (true) {
+			int i = table[j] - 1;
+			if (i < 0)
+				return -1;
+			if (keys[i].equals(key))
+				return i;
+			j = (j+1) & mask;
+		}
+	}
+
+	/**
+	 * Returns the string at the specified position.
+	 *
+	 * @param index The position.
+	 * @return The string at the specified position.
+	 */
+	public String get(int index) {
+		return keys[index];
+	}
+
+	/**
+	 * Returns the number of strings in this index.
+	 *
+	 * @return The number of strings in this index.
+	 */
+	public int size() {
+		return keys.length;
+	}
+}
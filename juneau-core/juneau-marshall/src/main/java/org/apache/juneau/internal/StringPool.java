@@ -0,0 +1,122 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.internal.IOUtils.*;
+
+/**
+ * A bounded pool of strings that can be looked up directly from character and byte ranges.
+ *
+ * <p>
+ * Used by parsers to reuse the same {@link String} instances for repeated map keys and bean property names instead
+ * of allocating a new string for every occurrence.
+ *
+ * <p>
+ * The pool is a fixed-size direct-mapped table.
+ * When two strings hash to the same slot, the most recently used one replaces the other, so memory use never grows
+ * beyond the size of the table.
+ *
+ * <p>
+ * Lookups are safe to perform concurrently.
+ * Slots are overwritten without locking, so a racing lookup at worst creates a string that would otherwise have been
+ * reused.
+ */
+public final class StringPool {
+
+	private final String[] table;
+	private final int mask, maxLength;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param size The number of slots in the table.  Rounded up to the next power of two.
+	 * @param maxLength The maximum length of strings to pool.  Longer strings are always newly created.
+	 */
+	public StringPool(int size, int maxLength) {
+		int n = Integer.highestOneBit(Math.max(size, 1) - 1) << 1;
+		this.table = new String[Math.max(n, 1)];
+		this.mask = table.length - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Returns the pooled string for the specified range of characters.
+	 *
+	 * @param buf The character buffer.
+	 * @param off The offset of the first character.
+	 * @param len The number of characters.
+	 * @return The pooled string, never <jk>null</jk>.
+	 */
+	public String get(char[] buf, int off, int len) {
+		if (len > maxLength)
+			return new String(buf, off, len);
+		int h = 0;
+		for (int i = 0; i < len; i++)
+			h = 31*h + buf[off+i];
+		int slot = slot(h);
+		String s = table[slot];
+		if (s != null && s.length() == len && s.hashCode() == h && equals(s, buf, off, len))
+			return s;
+		s = new String(buf, off, len);
+		table[slot] = s;
+		return s;
+	}
+
+	/**
+	 * Returns the pooled string for the specified range of UTF-8 encoded bytes.
+	 *
+	 * <p>
+	 * Only strings consisting entirely of ASCII characters are pooled.
+	 *
+	 * @param buf The byte buffer.
+	 * @param off The offset of the first byte.
+	 * @param len The number of bytes.
+	 * @return The pooled string, never <jk>null</jk>.
+	 */
+	public String get(byte[] buf, int off, int len) {
+		if (len > maxLength)
+			return new String(buf, off, len, UTF8);
+		int h = 0;
+		for (int i = 0; i < len; i++) {
+			byte b = buf[off+i];
+			if (b < 0)
+				return new String(buf, off, len, UTF8);
+			h = 31*h + b;
+		}
+		int slot = slot(h);
+		String s = table[slot];
+		if (s != null && s.length() == len && s.hashCode() == h && equals(s, buf, off, len))
+			return s;
+		s = new String(buf, off, len, UTF8);
+		table[slot] = s;
+		return s;
+	}
+
+	private int slot(int h) {
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private static boolean equals(String s, char[] buf, int off, int len) {
+		for (int i = 0; i < len; i++)
+			if (s.charAt(i) != buf[off+i])
+				return false;
+		return true;
+	}
+
+	private static boolean equals(String s, byte[] buf, int off, int len) {
+		for (int i = 0; i < len; i++)
+			if (s.charAt(i) != buf[off+i])
+				return false;
+		return true;
+	}
+}
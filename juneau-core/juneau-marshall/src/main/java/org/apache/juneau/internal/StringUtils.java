@@ -86,7 +86,9 @@ public final class StringUtils {
 	 * @throws Exception
 	 */
 	public static Number parseNumber(ParserReader r, Class<? extends Number> type) throws Exception {
-		return parseNumber(parseNumberString(r), type);
+		r.mark();
+		r.skip(numberChars);
+		return r.getMarkedNumber(type);
 	}
 
 	/**
@@ -98,16 +100,7 @@ public final class StringUtils {
 	 */
 	public static String parseNumberString(ParserReader r) throws Exception {
 		r.mark();
-		int c = 0;
-		while (true) {
-			c = r.read();
-			if (c == -1)
-				break;
-			if (! numberChars.contains((char)c)) {
-				r.unread();
-				break;
-			}
-		}
+		r.skip(numberChars);
 		return r.getMarked();
 	}
 
@@ -209,6 +202,167 @@ public final class StringUtils {
 		}
 	}
 
+	/**
+	 * Parses a number from the specified character buffer.
+	 *
+	 * <p>
+	 * Same as {@link #parseNumber(String, Class)}, but plain decimal integers and floating point numbers (the only
+	 * kinds found in JSON) are converted directly from the buffer without creating an intermediate string.
+	 * <br>All other formats (e.g. hexadecimal, octal, very long or very precise numbers) fall back to
+	 * {@link #parseNumber(String, Class)}.
+	 *
+	 * @param buf The character buffer.
+	 * @param off The offset of the first character of the number in the buffer.
+	 * @param len The number of characters in the number.
+	 * @param type
+	 * 	The number type to created.
+	 * 	If <jk>null</jk> or <code>Number</code>, uses the best guess.
+	 * @return The parsed number.
+	 * @throws ParseException
+	 */
+	public static Number parseNumber(char[] buf, int off, int len, Class<? extends Number> type) throws ParseException {
+		if (type == null)
+			type = Number.class;
+
+		if (len > 0 && len <= 18) {
+			int i = off, end = off + len;
+			boolean isNegative = false;
+			char c = buf[i];
+			if (c == '-' || c == '+') {
+				isNegative = (c == '-');
+				i++;
+			}
+
+			int intStart = i;
+			long m = 0;
+			while (i < end && (c = buf[i]) >= '0' && c <= '9') {
+				m = m * 10 + (c - '0');
+				i++;
+			}
+			int intDigits = i - intStart;
+
+			// Leading zeros denote octal numbers.
+			if (intDigits > 1 && buf[intStart] == '0') {
+				// Fall through.
+
+			} else if (i == end) {
+				if (intDigits > 0) {
+					long l = isNegative ? -m : m;
+					boolean isInt = l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE;
+					if (type == Number.class)
+						return isInt ? (Number)Integer.valueOf((int)l) : (Number)Long.valueOf(l);
+					if ((type == Integer.class || type == Integer.TYPE) && isInt)
+						return Integer.valueOf((int)l);
+					if (type == Long.class || type == Long.TYPE)
+						return Long.valueOf(l);
+					if ((type == Short.class || type == Short.TYPE) && l >= Short.MIN_VALUE && l <= Short.MAX_VALUE)
+						return Short.valueOf((short)l);
+					if ((type == Byte.class || type == Byte.TYPE) && l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE)
+						return Byte.valueOf((byte)l);
+					if (type == Double.class || type == Double.TYPE)
+						return Double.valueOf(isNegative ? -(double)m : (double)m);
+					if (type == Float.class || type == Float.TYPE)
+						return Float.valueOf(isNegative ? -(float)m : (float)m);
+					if (type == AtomicLong.class)
+						return new AtomicLong(l);
+					if (type == AtomicInteger.class && isInt)
+						return new AtomicInteger((int)l);
+				}
+
+			// Auto-detected floating point numbers are left to the string version since it chooses between
+			// Float and Double based on their string representations.
+			} else if (type == Double.class || type == Double.TYPE || type == Float.class || type == Float.TYPE) {
+				int fracDigits = 0;
+				if (buf[i] == '.') {
+					i++;
+					while (i < end && (c = buf[i]) >= '0' && c <= '9') {
+						m = m * 10 + (c - '0');
+						i++;
+						fracDigits++;
+					}
+				}
+				int exp = 0;
+				boolean isValid = intDigits + fracDigits > 0;
+				if (isValid && i < end && (buf[i] == 'e' || buf[i] == 'E')) {
+					i++;
+					boolean isNegativeExp = false;
+					if (i < end && (buf[i] == '-' || buf[i] == '+'))
+						isNegativeExp = buf[i++] == '-';
+					int expStart = i;
+					while (i < end && (c = buf[i]) >= '0' && c <= '9') {
+						exp = exp * 10 + (c - '0');
+						i++;
+					}
+					isValid = i > expStart;
+					if (isNegativeExp)
+						exp = -exp;
+				}
+				exp -= fracDigits;
+				int digits = intDigits + fracDigits;
+
+				// Numbers with few enough digits and a small enough exponent can be computed exactly with a
+				// single multiplication or division of two exactly-representable values.
+				if (isValid && i == end) {
+					if (type == Double.class || type == Double.TYPE) {
+						if (digits <= 15 && exp >= -22 && exp <= 22) {
+							double d = exp >= 0 ? m * DOUBLE_POWERS_OF_TEN[exp] : m / DOUBLE_POWERS_OF_TEN[-exp];
+							return Double.valueOf(isNegative ? -d : d);
+						}
+					} else {
+						if (digits <= 7 && exp >= -10 && exp <= 10) {
+							float f = exp >= 0 ? m * FLOAT_POWERS_OF_TEN[exp] : m / FLOAT_POWERS_OF_TEN[-exp];
+							return Float.valueOf(isNegative ? -f : f);
+						}
+					}
+				}
+			}
+		}
+
+		return parseNumber(new String(buf, off, len), type);
+	}
+
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	private static final char[] LONG_MIN_VALUE_CHARS = Long.toString(Long.MIN_VALUE).toCharArray();
+
+	/**
+	 * Writes the decimal representation of the specified number into a character buffer.
+	 *
+	 * <p>
+	 * Produces the same characters as {@link Long#toString(long)} without creating a string.
+	 *
+	 * @param value The number to write.
+	 * @param buf The buffer to write to.  Must be at least 20 characters long.
+	 * @return The number of characters written to the beginning of the buffer.
+	 */
+	public static int toChars(long value, char[] buf) {
+		if (value == Long.MIN_VALUE) {
+			System.arraycopy(LONG_MIN_VALUE_CHARS, 0, buf, 0, LONG_MIN_VALUE_CHARS.length);
+			return LONG_MIN_VALUE_CHARS.length;
+		}
+		int len = 0;
+		if (value < 0) {
+			buf[len++] = '-';
+			value = -value;
+		}
+		int digits = 1;
+		for (long v = value; v >= 10; v /= 10)
+			digits++;
+		len += digits;
+		for (int i = len - 1; i >= len - digits; i--) {
+			buf[i] = (char)('0' + (value % 10));
+			value /= 10;
+		}
+		return len;
+	}
+
 	private static final Pattern fpRegex = Pattern.compile(
 		"[+-]?(NaN|Infinity|((((\\p{Digit}+)(\\.)?((\\p{Digit}+)?)([eE][+-]?(\\p{Digit}+))?)|(\\.((\\p{Digit}+))([eE][+-]?(\\p{Digit}+))?)|(((0[xX](\\p{XDigit}+)(\\.)?)|(0[xX](\\p{XDigit}+)?(\\.)(\\p{XDigit}+)))[pP][+-]?(\\p{Digit}+)))[fFdD]?))[\\x00-\\x20]*"
 	);
@@ -275,11 +429,58 @@ public final class StringUtils {
 			return false;
 		c = s.charAt(i++);
 		if (c == '.' || decChars.contains(c)) {
-			return fpRegex.matcher(s).matches();
+			// Hexadecimal floating point numbers are rare enough to be left to the regular expression.
+			if (s.indexOf('x') != -1 || s.indexOf('X') != -1)
+				return fpRegex.matcher(s).matches();
+			return isPlainFloat(s);
 		}
 		return false;
 	}
 
+	/*
+	 * Same as matching the non-hexadecimal forms of fpRegex.
+	 */
+	private static boolean isPlainFloat(String s) {
+		int i = 0, l = s.length();
+
+		// Trailing whitespace and control characters are ignored by Double.valueOf().
+		while (l > 0 && s.charAt(l-1) <= ' ')
+			l--;
+
+		char c = s.charAt(0);
+		if (c == '+' || c == '-')
+			i++;
+		int digits = 0;
+		while (i < l && decChars.contains(s.charAt(i))) {
+			i++;
+			digits++;
+		}
+		if (i < l && s.charAt(i) == '.') {
+			i++;
+			while (i < l && decChars.contains(s.charAt(i))) {
+				i++;
+				digits++;
+			}
+		}
+		if (digits == 0)
+			return false;
+		if (i < l && ((c = s.charAt(i)) == 'e' || c == 'E')) {
+			i++;
+			if (i < l && ((c = s.charAt(i)) == '+' || c == '-'))
+				i++;
+			int expDigits = 0;
+			while (i < l && decChars.contains(s.charAt(i))) {
+				i++;
+				expDigits++;
+			}
+			if (expDigits == 0)
+				return false;
+		}
+		if (i < l && ((c = s.charAt(i)) == 'f' || c == 'F' || c == 'd' || c == 'D'))
+			i++;
+		return i == l;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the specified string is numeric.
 	 *
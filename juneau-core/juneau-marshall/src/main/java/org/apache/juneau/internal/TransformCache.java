@@ -26,6 +26,14 @@ import java.util.*;
 public class TransformCache {
 	private static final ConcurrentHashMap<Class<?>,Map<Class<?>,Transform<?,?>>> CACHE = new ConcurrentHashMap<>();
 
+	// Transforms to classes from foreign class loaders, attached to the output class so that it can be unloaded.
+	private static final ClassValue<Map<Class<?>,Transform<?,?>>> FOREIGN_CACHE = new ClassValue<Map<Class<?>,Transform<?,?>>>() {
+		@Override /* ClassValue */
+		protected Map<Class<?>,Transform<?,?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	/**
 	 * Represents a non-existent transform.
 	 */
@@ -86,12 +94,31 @@ public class TransformCache {
 	 * @param t The transform for converting the input to the output.
 	 */
 	public static synchronized void add(Class<?> ic, Class<?> oc, Transform<?,?> t) {
+		getTransforms(oc).put(ic, t);
+	}
+
+	/*
+	 * Returns the cached transforms to the specified output type keyed by input type.
+	 */
+	private static Map<Class<?>,Transform<?,?>> getTransforms(Class<?> oc) {
+		if (isFromForeignClassLoader(oc))
+			return FOREIGN_CACHE.get(oc);
 		Map<Class<?>,Transform<?,?>> m = CACHE.get(oc);
 		if (m == null) {
 			m = new ConcurrentHashMap<>();
-			CACHE.put(oc, m);
+			CACHE.putIfAbsent(oc, m);
+			m = CACHE.get(oc);
 		}
-		m.put(ic, t);
+		return m;
+	}
+
+	/*
+	 * Transforms from classes of foreign class loaders are only cached on output classes of foreign class loaders,
+	 * since they would otherwise prevent the input class from being unloaded.
+	 */
+	private static void cache(Map<Class<?>,Transform<?,?>> m, Class<?> ic, Class<?> oc, Transform<?,?> t) {
+		if (isFromForeignClassLoader(oc) || ! isFromForeignClassLoader(ic))
+			m.put(ic, t);
 	}
 
 	/**
@@ -107,12 +134,7 @@ public class TransformCache {
 		if (ic == null || oc == null)
 			return null;
 
-		Map<Class<?>,Transform<?,?>> m = CACHE.get(oc);
-		if (m == null) {
-			m = new ConcurrentHashMap<>();
-			CACHE.putIfAbsent(oc, m);
-			m = CACHE.get(oc);
-		}
+		Map<Class<?>,Transform<?,?>> m = getTransforms(oc);
 
 		Transform t = m.get(ic);
 		if (t != null)
@@ -122,7 +144,7 @@ public class TransformCache {
 			Class pic = i.next();
 			t = m.get(pic);
 			if (t != null) {
-				m.put(pic, t);
+				cache(m, pic, oc, t);
 				return t == NULL ? null : t;
 			}
 		}
@@ -217,7 +239,7 @@ public class TransformCache {
 		if (t == null)
 			t = NULL;
 
-		m.put(ic, t);
+		cache(m, ic, oc, t);
 
 		return t == NULL ? null : t;
 	}
@@ -0,0 +1,149 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * Reader that decodes UTF-8 encoded bytes directly from a {@link ByteBuffer} or byte array.
+ *
+ * <p>
+ * Replaces {@link InputStreamReader} for in-memory UTF-8 input to avoid the overhead of
+ * {@link java.nio.charset.CharsetDecoder} and the intermediate buffers it uses.
+ * <br>ASCII characters are simply widened to chars.
+ *
+ * <p>
+ * The position of the buffer passed in is not modified.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class Utf8Reader extends Reader {
+
+	private static final char REPLACEMENT = '\ufffd';
+
+	private final ByteBuffer bb;
+	private final boolean strict;
+	private char pendingLowSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bb The buffer containing the UTF-8 encoded bytes between its position and limit.
+	 * @param strict
+	 * 	If <jk>true</jk>, malformed input causes a {@link MalformedInputException} to be thrown.
+	 * 	<br>Otherwise, malformed input is replaced with <code>U+FFFD</code>.
+	 */
+	public Utf8Reader(ByteBuffer bb, boolean strict) {
+		this.bb = bb.duplicate();
+		this.strict = strict;
+		lock = null;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param b The UTF-8 encoded bytes.
+	 * @param strict
+	 * 	If <jk>true</jk>, malformed input causes a {@link MalformedInputException} to be thrown.
+	 * 	<br>Otherwise, malformed input is replaced with <code>U+FFFD</code>.
+	 */
+	public Utf8Reader(byte[] b, boolean strict) {
+		this(ByteBuffer.wrap(b), strict);
+	}
+
+	@Override /* Reader */
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+
+		int i = off, end = off + len;
+		if (pendingLowSurrogate != 0) {
+			cbuf[i++] = pendingLowSurrogate;
+			pendingLowSurrogate = 0;
+		}
+
+		int p = bb.position(), lim = bb.limit();
+
+		while (i < end && p < lim) {
+			int b = bb.get(p);
+
+			// ASCII
+			if (b >= 0) {
+				cbuf[i++] = (char)b;
+				p++;
+				continue;
+			}
+
+			int n, cp, min;
+			if ((b & 0xE0) == 0xC0) {
+				n = 1; cp = b & 0x1F; min = 0x80;
+			} else if ((b & 0xF0) == 0xE0) {
+				n = 2; cp = b & 0x0F; min = 0x800;
+			} else if ((b & 0xF8) == 0xF0) {
+				n = 3; cp = b & 0x07; min = 0x10000;
+			} else {
+				malformed(1);
+				cbuf[i++] = REPLACEMENT;
+				p++;
+				continue;
+			}
+
+			int j = 1;
+			for (; j <= n && p + j < lim; j++) {
+				int b2 = bb.get(p + j);
+				if ((b2 & 0xC0) != 0x80)
+					break;
+				cp = (cp << 6) | (b2 & 0x3F);
+			}
+			if (j <= n || cp < min || cp > Character.MAX_CODE_POINT || (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE)) {
+				malformed(j);
+				cbuf[i++] = REPLACEMENT;
+				p += j;
+				continue;
+			}
+
+			p += j;
+			if (cp < 0x10000) {
+				cbuf[i++] = (char)cp;
+			} else {
+				cbuf[i++] = Character.highSurrogate(cp);
+				char low = Character.lowSurrogate(cp);
+				if (i < end)
+					cbuf[i++] = low;
+				else
+					pendingLowSurrogate = low;
+			}
+		}
+
+		bb.position(p);
+		return i == off ? -1 : i - off;
+	}
+
+	@Override /* Reader */
+	public boolean ready() {
+		return pendingLowSurrogate != 0 || bb.hasRemaining();
+	}
+
+	@Override /* Reader */
+	public void close() {
+		// No-op
+	}
+
+	private void malformed(int length) throws MalformedInputException {
+		if (strict)
+			throw new MalformedInputException(length);
+	}
+}
@@ -0,0 +1,209 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * Writer that encodes characters as UTF-8 directly into a byte buffer and flushes the buffer to an output stream.
+ *
+ * <p>
+ * Replaces {@link OutputStreamWriter} for UTF-8 output to avoid the overhead of {@link java.nio.charset.CharsetEncoder}
+ * and allows callers to write pre-encoded bytes through {@link #writeBytes(byte[])}.
+ *
+ * <p>
+ * Unpaired surrogate characters are written as <js>'?'</js>.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class Utf8Writer extends Writer {
+
+	private final OutputStream os;
+	private final byte[] buf;
+	private int pos;
+	private char highSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param os The output stream to write the encoded bytes to.
+	 * @param buf
+	 * 	The buffer to encode characters into before they're written to the output stream.
+	 * 	<br>Can be reused across writers as long as they're not used concurrently.
+	 * 	<br>Must be at least 4 bytes long.
+	 */
+	public Utf8Writer(OutputStream os, byte[] buf) {
+		this.os = os;
+		this.buf = buf;
+		lock = null;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param os The output stream to write the encoded bytes to.
+	 */
+	public Utf8Writer(OutputStream os) {
+		this(os, new byte[8192]);
+	}
+
+	/**
+	 * Writes bytes that have already been UTF-8 encoded.
+	 *
+	 * @param b The bytes to write.
+	 * @return This object (for method chaining).
+	 * @throws IOException
+	 */
+	public Utf8Writer writeBytes(byte[] b) throws IOException {
+		endSurrogate();
+		if (b.length > buf.length - pos) {
+			flushBuffer();
+			if (b.length > buf.length) {
+				os.write(b);
+				return this;
+			}
+		}
+		System.arraycopy(b, 0, buf, pos, b.length);
+		pos += b.length;
+		return this;
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		if (c < 0x80 && highSurrogate == 0) {
+			if (pos == buf.length)
+				flushBuffer();
+			buf[pos++] = (byte)c;
+		} else {
+			encode((char)c);
+		}
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		for (int i = off, end = off + len; i < end; i++) {
+			char c = cbuf[i];
+			if (c < 0x80 && highSurrogate == 0) {
+				if (pos == buf.length)
+					flushBuffer();
+				buf[pos++] = (byte)c;
+			} else {
+				encode(c);
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		for (int i = off, end = off + len; i < end; i++) {
+			char c = str.charAt(i);
+			if (c < 0x80 && highSurrogate == 0) {
+				if (pos == buf.length)
+					flushBuffer();
+				buf[pos++] = (byte)c;
+			} else {
+				encode(c);
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(CharSequence csq) throws IOException {
+		if (csq == null)
+			write("null");
+		else
+			write(csq.toString());
+		return this;
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		flushBuffer();
+		os.flush();
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		endSurrogate();
+		flush();
+		os.close();
+	}
+
+	/*
+	 * Encodes a non-ASCII character or a character following a high surrogate.
+	 */
+	private void encode(char c) throws IOException {
+		if (buf.length - pos < 4)
+			flushBuffer();
+		if (highSurrogate != 0) {
+			char h = highSurrogate;
+			highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(h, c);
+				buf[pos++] = (byte)(0xF0 | (cp >> 18));
+				buf[pos++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				buf[pos++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				buf[pos++] = (byte)(0x80 | (cp & 0x3F));
+				return;
+			}
+			buf[pos++] = '?';
+			if (buf.length - pos < 4)
+				flushBuffer();
+		}
+		if (c < 0x80) {
+			buf[pos++] = (byte)c;
+		} else if (c < 0x800) {
+			buf[pos++] = (byte)(0xC0 | (c >> 6));
+			buf[pos++] = (byte)(0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			buf[pos++] = '?';
+		} else {
+			buf[pos++] = (byte)(0xE0 | (c >> 12));
+			buf[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+			buf[pos++] = (byte)(0x80 | (c & 0x3F));
+		}
+	}
+
+	/*
+	 * Writes out a dangling high surrogate as a replacement character.
+	 */
+	private void endSurrogate() throws IOException {
+		if (highSurrogate != 0) {
+			highSurrogate = 0;
+			if (pos == buf.length)
+				flushBuffer();
+			buf[pos++] = '?';
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			os.write(buf, 0, pos);
+			pos = 0;
+		}
+	}
+}
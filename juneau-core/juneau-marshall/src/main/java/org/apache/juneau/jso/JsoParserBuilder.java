@@ -73,12 +73,24 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsoParserBuilder keyPoolSize(int value) {
+		super.keyPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsoParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsoParserBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsoParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -427,6 +439,18 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsoParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsoParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsoParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
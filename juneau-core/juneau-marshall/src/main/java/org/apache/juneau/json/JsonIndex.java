@@ -0,0 +1,442 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Structural index over a JSON document used by the lazy parse mode.
+ *
+ * <p>
+ * A single pass over the input records the offsets of the opening and closing brackets of every object and array in
+ * the document, in document order.
+ * <br>Values are not decoded during this pass.
+ * <br>Instead, objects are returned as {@link ObjectMap ObjectMaps} whose entries are decoded from the original
+ * character buffer the first time they're accessed.
+ *
+ * <p>
+ * Containers are identified by their ordinal in document order.
+ * <br>The children of container <code>k</code> start at ordinal <code>k+1</code>, and the first container after the
+ * subtree of <code>k</code> is at ordinal <code>after[k]</code>, so siblings can be skipped without rescanning
+ * their contents.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ */
+final class JsonIndex {
+
+	private static final AsciiSet VALID_BARE_CHARS = AsciiSet.create().range('A','Z').range('a','z').range('0','9').chars("$_-.").build();
+
+	private final JsonParser ctx;
+	private final BeanSession session;
+	private final boolean strict;
+	private final StringPool keyPool;
+	private final char[] buf;
+	private final int len;
+	private int[] opens, closes, after;
+	private int end;
+
+	/**
+	 * Placeholder for a value that has not been decoded yet.
+	 */
+	static final class Span {
+		final int start, end, ord;
+
+		Span(int start, int end, int ord) {
+			this.start = start;
+			this.end = end;
+			this.ord = ord;
+		}
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ctx The parser used to decode values that can't be handled by the fast paths in this class.
+	 * @param session The bean session to associate with the created maps and lists.
+	 * @param strict Whether strict mode is enabled.
+	 * @param keyPool
+	 * 	The pool to look up keys in, or <jk>null</jk> to decode keys the same way as {@link JsonParserSession}
+	 * 	(unquoted keys are interned, quoted keys are not).
+	 * @param buf The input buffer.
+	 *	<br>This buffer is retained until all values have been decoded, and must not be modified.
+	 * @param len The number of characters of input in the buffer.
+	 */
+	JsonIndex(JsonParser ctx, BeanSession session, boolean strict, StringPool keyPool, char[] buf, int len) {
+		this.ctx = ctx;
+		this.session = session;
+		this.strict = strict;
+		this.keyPool = keyPool;
+		this.buf = buf;
+		this.len = len;
+	}
+
+	/**
+	 * Indexes the object or array starting at the specified position.
+	 *
+	 * @param start The position of the opening <js>'{'</js> or <js>'['</js>.
+	 * @return The position immediately after the matching closing bracket.
+	 * @throws ParseException Brackets are not balanced.
+	 */
+	int index(int start) throws ParseException {
+		int n = 0, sp = 0;
+		opens = new int[16];
+		closes = new int[16];
+		after = new int[16];
+		int[] stack = new int[16];
+		for (int i = start; i < len; i++) {
+			char c = buf[i];
+			if (c == '"' || c == '\'') {
+				i = skipString(i);
+			} else if (c == '/') {
+				int j = skipComment(i);
+				if (j != -1)
+					i = j - 1;
+			} else if (c == '{' || c == '[') {
+				if (n == opens.length) {
+					opens = grow(opens);
+					closes = grow(closes);
+					after = grow(after);
+				}
+				if (sp == stack.length)
+					stack = grow(stack);
+				opens[n] = i;
+				stack[sp++] = n++;
+			} else if (c == '}' || c == ']') {
+				if (sp == 0)
+					break;
+				int k = stack[--sp];
+				if (buf[opens[k]] != (c == '}' ? '{' : '['))
+					throw new ParseException("Unexpected ''{0}'' found at position {1}.", c, i);
+				closes[k] = i;
+				after[k] = n;
+				if (sp == 0) {
+					end = i + 1;
+					return end;
+				}
+			}
+		}
+		throw new ParseException(
+			buf[opens[stack[sp-1]]] == '{'
+			? "Could not find '}' marking end of JSON object."
+			: "Expected ',' or ']'."
+		);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the container with the specified ordinal is an object.
+	 */
+	boolean isObject(int ord) {
+		return buf[opens[ord]] == '{';
+	}
+
+	/**
+	 * Returns the position immediately after the outermost container.
+	 */
+	int getEnd() {
+		return end;
+	}
+
+	/**
+	 * Scans the members of the object with the specified ordinal and adds them to the map as {@link Span} placeholders.
+	 */
+	void scanObject(int ord, JsonLazyObjectMap m) throws ParseException {
+		int p = skipCommentsAndSpace(opens[ord] + 1), close = closes[ord], child = ord + 1;
+		if (p == close)
+			return;
+		while (true) {
+			String key;
+			char c = buf[p];
+			if (p == close)
+				throw new ParseException("Unexpected '}' found in JSON object.");
+			if (c == '"' || c == '\'') {
+				int q = skipString(p);
+				key = decodeKey(p, q + 1);
+				p = q + 1;
+			} else if (strict) {
+				throw new ParseException("Unquoted attribute detected.");
+			} else {
+				int s = p;
+				while (p < close && VALID_BARE_CHARS.contains(buf[p]))
+					p++;
+				if (p == s)
+					throw new ParseException("Could not find the start of the field name.");
+				key = keyPool == null ? new String(buf, s, p - s).intern() : keyPool.get(buf, s, p - s);
+				if (key.equals("null"))
+					key = null;
+			}
+			p = skipCommentsAndSpace(p);
+			if (buf[p] != ':')
+				throw new ParseException("Could not find ':' following attribute name on JSON object.");
+			p = skipCommentsAndSpace(p + 1);
+			c = buf[p];
+			if (c == '{' || c == '[') {
+				m.putSpan(key, new Span(p, closes[child] + 1, child));
+				p = closes[child] + 1;
+				child = after[child];
+			} else {
+				int s = p;
+				p = scanScalar(p, close);
+				if (p == s && strict)
+					throw new ParseException("Missing value detected.");
+				m.putSpan(key, new Span(s, p, -1));
+			}
+			p = skipCommentsAndSpace(p);
+			if (p == close)
+				return;
+			if (buf[p] != ',')
+				throw new ParseException("Could not find '}' marking end of JSON object.");
+			p = skipCommentsAndSpace(p + 1);
+		}
+	}
+
+	/**
+	 * Creates a list from the array with the specified ordinal.
+	 *
+	 * <p>
+	 * Arrays are materialized as soon as they're accessed, but objects inside them are still decoded lazily.
+	 */
+	ObjectList toList(int ord) throws ParseException {
+		ObjectList l = new ObjectList(session);
+		int p = skipCommentsAndSpace(opens[ord] + 1), close = closes[ord], child = ord + 1;
+		if (p == close)
+			return l;
+		while (true) {
+			char c = buf[p];
+			if (c == '{' || c == '[') {
+				l.add(resolve(new Span(p, closes[child] + 1, child)));
+				p = closes[child] + 1;
+				child = after[child];
+			} else {
+				int s = p;
+				p = scanScalar(p, close);
+				if (p == s && strict)
+					throw new ParseException("Missing value detected.");
+				l.add(decodeScalar(s, p));
+			}
+			p = skipCommentsAndSpace(p);
+			if (p == close)
+				return l;
+			if (buf[p] != ',')
+				throw new ParseException("Expected ',' or ']'.");
+			p = skipCommentsAndSpace(p + 1);
+			if (p == close)
+				throw new ParseException("Unexpected trailing comma in array.");
+		}
+	}
+
+	/**
+	 * Decodes the value represented by the specified placeholder.
+	 */
+	Object resolve(Span s) throws ParseException {
+		if (s.ord == -1)
+			return decodeScalar(s.start, s.end);
+		if (isObject(s.ord))
+			return new JsonLazyObjectMap(this, session, s.ord);
+		return toList(s.ord);
+	}
+
+	/*
+	 * Scans a string, number, boolean or null value and returns the position after its last non-whitespace character.
+	 */
+	private int scanScalar(int p, int close) throws ParseException {
+		int e = p;
+		while (p < close) {
+			char c = buf[p];
+			if (c == ',' || c == ':' || c == '{' || c == '[')
+				break;
+			int j = (c == '/' ? skipComment(p) : -1);
+			if (j != -1) {
+				p = j;
+			} else if (c == '"' || c == '\'') {
+				p = skipString(p) + 1;
+				e = p;
+			} else {
+				p++;
+				if (! Character.isWhitespace(c))
+					e = p;
+			}
+		}
+		return e;
+	}
+
+	private Object decodeScalar(int s, int e) throws ParseException {
+		int len = e - s;
+		if (len == 0)
+			return null;
+		char c = buf[s];
+		if (c == '"' || (c == '\'' && ! strict)) {
+			if (skipString(s) == e - 1) {
+				String str = decodeSimpleString(s, e);
+				if (str != null)
+					return str;
+			}
+		} else if (c == 'n' && matches(s, e, "null")) {
+			return null;
+		} else if (c == 't' && matches(s, e, "true")) {
+			return Boolean.TRUE;
+		} else if (c == 'f' && matches(s, e, "false")) {
+			return Boolean.FALSE;
+		} else if ((c >= '0' && c <= '9') || c == '-' || c == '.') {
+			if (! strict || isJsonNumber(s, e))
+				return StringUtils.parseNumber(buf, s, len, null);
+		}
+		return ctx.parse(new String(buf, s, len), Object.class);
+	}
+
+	private String decodeKey(int s, int e) throws ParseException {
+		if (buf[s] == '"' || ! strict) {
+			if (keyPool != null && isSimpleString(s, e))
+				return keyPool.get(buf, s + 1, e - s - 2);
+			String str = decodeSimpleString(s, e);
+			if (str != null)
+				return str;
+		}
+		return ctx.parse(new String(buf, s, e - s), String.class);
+	}
+
+	/*
+	 * Returns the contents of the quoted string at the specified location, or null if the string contains escape
+	 * sequences (or unescaped control characters in strict mode) and must be decoded by the parser.
+	 */
+	private String decodeSimpleString(int s, int e) {
+		return isSimpleString(s, e) ? new String(buf, s + 1, e - s - 2) : null;
+	}
+
+	private boolean isSimpleString(int s, int e) {
+		for (int i = s + 1; i < e - 1; i++) {
+			char c = buf[i];
+			if (c == '\\' || (strict && c <= 0x1F))
+				return false;
+		}
+		return true;
+	}
+
+	private boolean matches(int s, int e, String keyword) {
+		if (e - s != keyword.length())
+			return false;
+		for (int i = 0; i < keyword.length(); i++)
+			if (buf[s + i] != keyword.charAt(i))
+				return false;
+		return true;
+	}
+
+	/*
+	 * Returns true if the specified characters form a number according to the JSON grammar.
+	 * Anything else is handed to the parser so that strict mode reports the same errors as a normal parse.
+	 */
+	private boolean isJsonNumber(int s, int e) {
+		int i = s;
+		if (buf[i] == '-')
+			i++;
+		if (i == e)
+			return false;
+		if (buf[i] == '0')
+			i++;
+		else if (buf[i] >= '1' && buf[i] <= '9')
+			i = skipDigits(i, e);
+		else
+			return false;
+		if (i < e && buf[i] == '.') {
+			int j = skipDigits(i + 1, e);
+			if (j == i + 1)
+				return false;
+			i = j;
+		}
+		if (i < e && (buf[i] == 'e' || buf[i] == 'E')) {
+			i++;
+			if (i < e && (buf[i] == '+' || buf[i] == '-'))
+				i++;
+			int j = skipDigits(i, e);
+			if (j == i)
+				return false;
+			i = j;
+		}
+		return i == e;
+	}
+
+	private int skipDigits(int i, int e) {
+		while (i < e && buf[i] >= '0' && buf[i] <= '9')
+			i++;
+		return i;
+	}
+
+	/*
+	 * Returns the position of the closing quote of the string starting at the specified position.
+	 */
+	private int skipString(int p) throws ParseException {
+		char qc = buf[p];
+		for (int i = p + 1; i < len; i++) {
+			char c = buf[i];
+			if (c == '\\')
+				i++;
+			else if (c == qc)
+				return i;
+		}
+		throw new ParseException("Could not find expected end character ''{0}''.", qc);
+	}
+
+	/*
+	 * Returns the position after the comment starting at the specified position, or -1 if it's not a comment.
+	 * Strict mode doesn't allow comments, so any '/' outside a string is an error.
+	 */
+	private int skipComment(int p) throws ParseException {
+		if (strict)
+			throw new ParseException("Javascript comment detected.");
+		if (p + 1 >= len)
+			return -1;
+		char c = buf[p + 1];
+		if (c == '*') {
+			for (int i = p + 3; i < len; i++)
+				if (buf[i] == '/' && buf[i-1] == '*')
+					return i + 1;
+			throw new ParseException("Open ended comment.");
+		}
+		if (c == '/') {
+			int i = p + 2;
+			while (i < len && buf[i] != '\n')
+				i++;
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the position of the first character at or after the specified position that isn't whitespace or part
+	 * of a comment.
+	 */
+	int skipCommentsAndSpace(int p) throws ParseException {
+		while (p < len) {
+			char c = buf[p];
+			if (c == '/') {
+				int j = skipComment(p);
+				if (j == -1)
+					return p;
+				p = j;
+			} else if (Character.isWhitespace(c)) {
+				p++;
+			} else {
+				return p;
+			}
+		}
+		return p;
+	}
+
+	private static int[] grow(int[] a) {
+		int[] a2 = new int[a.length * 2];
+		System.arraycopy(a, 0, a2, 0, a.length);
+		return a2;
+	}
+}
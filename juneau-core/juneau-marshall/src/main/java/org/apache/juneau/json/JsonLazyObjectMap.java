@@ -0,0 +1,219 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.JsonIndex.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * {@link ObjectMap} returned by the lazy parse mode of {@link JsonParser}.
+ *
+ * <p>
+ * The keys are read when the map is created, but each value is decoded from the original input the first time it is
+ * accessed and then replaced by the decoded value.
+ *
+ * <p>
+ * Syntax errors in values are detected when the values are accessed and are thrown as
+ * {@link RuntimeException RuntimeExceptions} wrapping a {@link ParseException}.
+ *
+ * <p>
+ * This class is NOT thread safe, even when only read from.
+ * <br>Read methods such as {@link #get(Object)} and iterating over {@link #entrySet()} store the decoded values
+ * back into the map.
+ *
+ * @see JsonParser#JSON_lazy
+ */
+final class JsonLazyObjectMap extends ObjectMap {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient JsonIndex index;
+
+	JsonLazyObjectMap(JsonIndex index, BeanSession session, int ord) throws ParseException {
+		super(session);
+		this.index = index;
+		index.scanObject(ord, this);
+	}
+
+	/*
+	 * Adds a value placeholder without resolving any value it replaces.
+	 */
+	void putSpan(String key, Span span) {
+		super.put(key, span);
+	}
+
+	private Object resolve(Object o) {
+		if (o instanceof Span) {
+			try {
+				return index.resolve((Span)o);
+			} catch (ParseException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		return o;
+	}
+
+	private void resolveKey(Object key) {
+		Object o = super.get(key);
+		if (o instanceof Span)
+			super.put((String)key, resolve(o));
+	}
+
+	private void resolveAll() {
+		for (Map.Entry<String,Object> e : super.entrySet())
+			if (e.getValue() instanceof Span)
+				e.setValue(resolve(e.getValue()));
+	}
+
+	@Override /* Map */
+	public Object get(Object key) {
+		Object o = super.get(key);
+		if (o instanceof Span) {
+			o = resolve(o);
+			super.put((String)key, o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object getOrDefault(Object key, Object def) {
+		Object o = get(key);
+		return (o != null || containsKey(key)) ? o : def;
+	}
+
+	@Override /* ObjectMap */
+	public <T> T getSwapped(String key, PojoSwap<T,?> pojoSwap) throws ParseException {
+		resolveKey(key);
+		return super.getSwapped(key, pojoSwap);
+	}
+
+	@Override /* Map */
+	public Object put(String key, Object value) {
+		return resolve(super.put(key, value));
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		return resolve(super.remove(key));
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		resolveAll();
+		return super.containsValue(value);
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		resolveAll();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,Object>> entrySet() {
+		final Set<Map.Entry<String,Object>> s = super.entrySet();
+		return new AbstractSet<Map.Entry<String,Object>>() {
+
+			@Override /* Iterable */
+			public Iterator<Map.Entry<String,Object>> iterator() {
+				final Iterator<Map.Entry<String,Object>> i = s.iterator();
+				return new Iterator<Map.Entry<String,Object>>() {
+
+					@Override /* Iterator */
+					public boolean hasNext() {
+						return i.hasNext();
+					}
+
+					@Override /* Iterator */
+					public Map.Entry<String,Object> next() {
+						Map.Entry<String,Object> e = i.next();
+						if (e.getValue() instanceof Span)
+							e.setValue(resolve(e.getValue()));
+						return e;
+					}
+
+					@Override /* Iterator */
+					public void remove() {
+						i.remove();
+					}
+				};
+			}
+
+			@Override /* Set */
+			public int size() {
+				return s.size();
+			}
+		};
+	}
+
+	@Override /* Map */
+	public void forEach(BiConsumer<? super String,? super Object> action) {
+		resolveAll();
+		super.forEach(action);
+	}
+
+	@Override /* Map */
+	public void replaceAll(BiFunction<? super String,? super Object,? extends Object> function) {
+		resolveAll();
+		super.replaceAll(function);
+	}
+
+	@Override /* Map */
+	public Object replace(String key, Object value) {
+		resolveKey(key);
+		return super.replace(key, value);
+	}
+
+	@Override /* Map */
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		resolveKey(key);
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override /* Map */
+	public Object compute(String key, BiFunction<? super String,? super Object,? extends Object> function) {
+		resolveKey(key);
+		return super.compute(key, function);
+	}
+
+	@Override /* Map */
+	public Object computeIfPresent(String key, BiFunction<? super String,? super Object,? extends Object> function) {
+		resolveKey(key);
+		return super.computeIfPresent(key, function);
+	}
+
+	@Override /* Map */
+	public Object merge(String key, Object value, BiFunction<? super Object,? super Object,? extends Object> function) {
+		resolveKey(key);
+		return super.merge(key, value, function);
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		resolveAll();
+		return super.clone();
+	}
+
+	/*
+	 * Serialize as a regular ObjectMap since the index is not serializable.
+	 */
+	private Object writeReplace() {
+		resolveAll();
+		return new ObjectMap(this);
+	}
+}
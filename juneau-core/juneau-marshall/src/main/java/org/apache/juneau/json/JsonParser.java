@@ -106,6 +106,74 @@ public class JsonParser extends ReaderParser {
 
 	private static final String PREFIX = "JsonParser.";
 
+	/**
+	 * Configuration property:  Lazy parsing.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"JsonParser.lazy.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link JsonParserBuilder#lazy(boolean)}
+	 * 			<li class='jm'>{@link JsonParserBuilder#lazy()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, parsing into an {@link ObjectMap} or {@link ObjectList} only builds an index of the positions
+	 * of the objects and arrays in the input.
+	 * <br>Values are decoded from the input the first time they're accessed, so documents where only a few entries are
+	 * read are parsed much faster.
+	 *
+	 * <p>
+	 * Objects are returned as {@link ObjectMap ObjectMaps} whose keys are read up-front and whose values are decoded on
+	 * access.
+	 * <br>Arrays are returned as {@link ObjectList ObjectLists} that are populated when the array itself is accessed,
+	 * although objects inside them are still decoded lazily.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		The entire input is read into memory and retained until all values that refer to it have been accessed.
+	 * 	<li>
+	 * 		Mismatched brackets are detected during parsing, but other syntax errors are detected when the containing
+	 * 		object or array is accessed and are thrown as {@link RuntimeException RuntimeExceptions} wrapping a
+	 * 		{@link ParseException}.
+	 * 	<li>
+	 * 		Bean dictionary type names (e.g. <js>"_type"</js>) are not resolved.
+	 * 		<br>Nested objects are always returned as {@link ObjectMap ObjectMaps}.
+	 * 	<li>
+	 * 		Other target types are parsed normally.
+	 * 	<li>
+	 * 		The returned maps are not thread safe, even when only read from, since accessing a value stores the decoded
+	 * 		value back into the map.
+	 * 		<br>Maps that are shared between threads must be externally synchronized.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that decodes values on demand.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.lazy()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>JSON_lazy</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Only the "id" entry is decoded.  The "items" array is skipped.</jc>
+	 * 	ObjectMap m = p.parse(<js>"{id:123,items:[...]}"</js>, ObjectMap.<jk>class</jk>);
+	 * 	<jk>int</jk> id = m.getInt(<js>"id"</js>);
+	 * </p>
+	 */
+	public static final String JSON_lazy = PREFIX + "lazy.b";
+
 	/**
 	 * Configuration property:  Validate end.
 	 *
@@ -193,7 +261,7 @@ public class JsonParser extends ReaderParser {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean validateEnd;
+	private final boolean validateEnd, lazy;
 
 	/**
 	 * Constructor.
@@ -213,6 +281,7 @@ public class JsonParser extends ReaderParser {
 	public JsonParser(PropertyStore ps, String...consumes) {
 		super(ps, consumes);
 		validateEnd = getBooleanProperty(JSON_validateEnd, false);
+		lazy = getBooleanProperty(JSON_lazy, false);
 	}
 
 	@Override /* Context */
@@ -237,14 +306,31 @@ public class JsonParser extends ReaderParser {
 	}
 
 	@Override /* Parser */
-	public ReaderParserSession createSession(ParserSessionArgs args) {
+	public JsonParserSession createSession(ParserSessionArgs args) {
 		return new JsonParserSession(this, args);
 	}
 
+	@Override /* Parser */
+	public JsonParserSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Lazy parsing.
+	 *
+	 * @see #JSON_lazy
+	 * @return
+	 * 	<jk>true</jk> if values in {@link ObjectMap ObjectMaps} and {@link ObjectList ObjectLists} are decoded when
+	 * 	they're first accessed.
+	 */
+	protected final boolean isLazy() {
+		return lazy;
+	}
+
 	/**
 	 * Configuration property:  Validate end.
 	 *
@@ -257,9 +343,16 @@ public class JsonParser extends ReaderParser {
 		return validateEnd;
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(JsonClassMeta.class);
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
-			.append("JsonParser", new ObjectMap());
+			.append("JsonParser", new ObjectMap()
+				.append("lazy", lazy)
+			);
 	}
 }
@@ -51,6 +51,44 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Lazy parsing.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, values in parsed {@link ObjectMap ObjectMaps} and {@link ObjectList ObjectLists} are decoded
+	 * from the input when they're first accessed.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link JsonParser#JSON_lazy}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public JsonParserBuilder lazy(boolean value) {
+		return set(JSON_lazy, value);
+	}
+
+	/**
+	 * Configuration property:  Lazy parsing.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>lazy(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link JsonParser#JSON_lazy}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public JsonParserBuilder lazy() {
+		return set(JSON_lazy, true);
+	}
+
 	/**
 	 * Configuration property:  Validate end.
 	 *
@@ -119,12 +157,24 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder keyPoolSize(int value) {
+		super.keyPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -473,6 +523,18 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsonParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
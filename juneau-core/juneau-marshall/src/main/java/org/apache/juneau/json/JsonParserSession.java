@@ -34,9 +34,19 @@ import org.apache.juneau.transform.*;
 public final class JsonParserSession extends ReaderParserSession {
 
 	private static final AsciiSet decChars = AsciiSet.create().ranges("0-9").build();
+	private static final AsciiSet numberChars = AsciiSet.create("-xX.+-#pP0123456789abcdefABCDEF");
 
 	private final JsonParser ctx;
 
+	// State of the array being iterated over by parseArrayElements().
+	private static final int
+		ELEMENTS_START = 1,  // Looking for first element or ']'.
+		ELEMENTS_NEXT = 2,   // Looking for ',' or ']'.
+		ELEMENTS_READY = 3;  // Positioned at the start of the next element.
+	private ParserReader elementsReader;
+	private ClassMeta<?> elementsType;
+	private int elementsState;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -84,6 +94,8 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		if (isLazy() && (type.getInnerClass() == ObjectMap.class || type.getInnerClass() == ObjectList.class))
+			return (T)parseLazy(pipe, type);
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
@@ -93,6 +105,47 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	/*
+	 * Indexes the input and returns an ObjectMap or ObjectList whose values are decoded on access.
+	 * Falls back to a normal parse if the input is not the expected object or array (e.g. null).
+	 */
+	private Object parseLazy(ParserPipe pipe, ClassMeta<?> type) throws Exception {
+		char[] buf;
+		int len;
+		try (Reader r = pipe.getReader()) {
+			if (r == null)
+				return null;
+			if (pipe.isString()) {
+				buf = pipe.getInputAsString().toCharArray();
+				len = buf.length;
+			} else {
+				// Read directly into the buffer so that the input is only held in memory once.
+				buf = new char[8192];
+				len = 0;
+				for (int i = r.read(buf); i != -1; i = r.read(buf, len, buf.length - len)) {
+					len += i;
+					if (len == buf.length)
+						buf = Arrays.copyOf(buf, buf.length * 2);
+				}
+			}
+		}
+		JsonIndex index = new JsonIndex(ctx, this, isStrict(), getKeyPool(), buf, len);
+		int p = index.skipCommentsAndSpace(0);
+		boolean isMap = type.getInnerClass() == ObjectMap.class;
+		if (p == len || buf[p] != (isMap ? '{' : '[')) {
+			try (ParserReader r = new ParserReader(createPipe(new CharArrayReader(buf, 0, len)))) {
+				Object o = parseAnything(type, r, getOuter(), null);
+				validateEnd(r);
+				return o;
+			}
+		}
+		index.index(p);
+		p = index.skipCommentsAndSpace(index.getEnd());
+		if (isValidateEnd() && p < len && buf[p] != ';')
+			throw new ParseException(this, "Remainder after parse: ''{0}''.", buf[p]);
+		return isMap ? new JsonLazyObjectMap(index, this, 0) : index.toList(0);
+	}
+
 	@Override /* ReaderParserSession */
 	protected <K,V> Map<K,V> doParseIntoMap(ParserPipe pipe, Map<K,V> m, Type keyType, Type valueType) throws Exception {
 		try (ParserReader r = pipe.getParserReader()) {
@@ -111,6 +164,138 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	/**
+	 * Parses the elements of a JSON array one at a time.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)}, the array is not materialized in memory.
+	 * <br>Each call to {@link Iterator#next()} parses the next element from the input, so arbitrarily large arrays
+	 * can be processed in constant memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	JsonParserSession s = JsonParser.<jsf>DEFAULT</jsf>.createSession();
+	 * 	Iterator&lt;MyBean&gt; i = s.parseArrayElements(reader, MyBean.<jk>class</jk>);
+	 * 	<jk>while</jk> (i.hasNext())
+	 * 		process(i.next());
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		The iteration state is kept in this session, so only one array can be iterated at a time per session.
+	 * 		<br>Calling this method again (or calling {@link #reset()}) closes the previous iteration, and the previous
+	 * 		iterator no longer returns elements.
+	 * 	<li>
+	 * 		The input is closed once the end of the array has been reached.
+	 * 	<li>
+	 * 		Syntax errors encountered during iteration are thrown from {@link Iterator#hasNext()} and
+	 * 		{@link Iterator#next()} as {@link RuntimeException RuntimeExceptions} wrapping a {@link ParseException}.
+	 * </ul>
+	 *
+	 * @param <T> The class type of the array elements.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for details.
+	 * @param type The class type of the array elements.
+	 * @return An iterator over the parsed elements of the array.
+	 * @throws ParseException If the input does not start with a JSON array.
+	 */
+	public <T> Iterator<T> parseArrayElements(Object input, Class<T> type) throws ParseException {
+		return parseArrayElements(input, getClassMeta(type));
+	}
+
+	/**
+	 * Same as {@link #parseArrayElements(Object, Class)} except allows you to parse elements of parameterized types.
+	 *
+	 * @param <T> The class type of the array elements.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for details.
+	 * @param type
+	 * 	The class type of the array elements.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * @return An iterator over the parsed elements of the array.
+	 * @throws ParseException If the input does not start with a JSON array.
+	 */
+	public <T> Iterator<T> parseArrayElements(Object input, Type type, Type...args) throws ParseException {
+		return parseArrayElements(input, (ClassMeta<T>)getClassMeta(type, args));
+	}
+
+	private <T> Iterator<T> parseArrayElements(Object input, final ClassMeta<T> type) throws ParseException {
+		return iterate(input, new ValueReader<T>() {
+			@Override /* ValueReader */
+			public boolean open(ParserPipe pipe) throws Exception {
+				ParserReader r = pipe.getParserReader();
+				if (r == null)
+					return false;
+				skipCommentsAndSpace(r);
+				if (r.read() != '[')
+					throw new ParseException(JsonParserSession.this, "Expected '[' at beginning of JSON array.");
+				elementsReader = r;
+				elementsType = type;
+				elementsState = ELEMENTS_START;
+				return true;
+			}
+
+			@Override /* ValueReader */
+			public boolean hasNext() throws Exception {
+				return hasNextElement();
+			}
+
+			@Override /* ValueReader */
+			public T next() throws Exception {
+				T o = parseAnything(elementsType, elementsReader, getOuter(), null);
+				elementsState = ELEMENTS_NEXT;
+				return o;
+			}
+
+			@Override /* ValueReader */
+			public void close() {
+				elementsReader = null;
+				elementsType = null;
+				elementsState = 0;
+			}
+		});
+	}
+
+	/*
+	 * Moves the reader to the start of the next array element.
+	 * Returns false once the end of the array has been reached.
+	 */
+	private boolean hasNextElement() throws Exception {
+		ParserReader r = elementsReader;
+		if (elementsState == ELEMENTS_READY)
+			return true;
+
+		skipCommentsAndSpace(r);
+		int c = r.peek();
+		if (elementsState == ELEMENTS_NEXT) {
+			if (c == ',') {
+				r.read();
+				skipCommentsAndSpace(r);
+				c = r.peek();
+				if (c == ']' || c == -1)
+					throw new ParseException(this, "Unexpected trailing comma in array.");
+				elementsState = ELEMENTS_READY;
+				return true;
+			}
+			if (c != ']')
+				throw new ParseException(this, "Expected ',' or ']'.");
+		} else if (c == -1) {
+			throw new ParseException(this, "Expected one of the following characters: {,[,',\",LITERAL.");
+		} else if (c != ']') {
+			elementsState = ELEMENTS_READY;
+			return true;
+		}
+
+		r.read();
+		validateEnd(r);
+		return false;
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
@@ -199,6 +384,10 @@ public final class JsonParserSession extends ReaderParserSession {
 				ObjectMap m = new ObjectMap(this);
 				parseIntoMap2(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
+			} else if (canParsePrimitiveArray(sType)) {
+				PrimitiveArrayBuilder pa = new PrimitiveArrayBuilder(sType.getElementType().getInnerClass(), 16);
+				parseIntoCollection2(r, null, sType, pMeta, pa);
+				o = pa.toArray();
 			} else {
 				ArrayList l = (ArrayList)parseIntoCollection2(r, new ArrayList(), sType, pMeta);
 				o = toArray(sType, l);
@@ -234,10 +423,17 @@ public final class JsonParserSession extends ReaderParserSession {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return parseNumber(r, parseString(r), type);
+		if (! isStrict())
+			return StringUtils.parseNumber(r, type);
 		return parseNumber(r, parseNumberString(r), type);
 	}
 
 	private Number parseNumber(ParserReader r, String s, Class<? extends Number> type) throws Exception {
+		validateNumber(s);
+		return StringUtils.parseNumber(s, type);
+	}
+
+	private void validateNumber(String s) throws Exception {
 
 		// JSON has slightly different number rules from Java.
 		// Strict mode enforces these different rules, lax does not.
@@ -274,7 +470,46 @@ public final class JsonParserSession extends ReaderParserSession {
 				throw new ParseException(this, "Invalid JSON number: ''{0}''", s);
 
 		}
-		return StringUtils.parseNumber(s, type);
+	}
+
+	/*
+	 * Marks the reader and skips over the characters of an unquoted number.
+	 * In strict mode, the characters are checked against the same rules as validateNumber(String) as they're read,
+	 * so that no string is created for valid numbers.
+	 */
+	private void markNumber(ParserReader r) throws Exception {
+		r.mark();
+		if (! isStrict()) {
+			r.skip(numberChars);
+			return;
+		}
+		int c, len = 0, c0 = 0, c1 = 0, c2 = 0, iDot = -1;
+		boolean isValid = true;
+		while ((c = r.read()) != -1 && numberChars.contains(c)) {
+			if (len == 0)
+				c0 = c;
+			else if (len == 1)
+				c1 = c;
+			else if (len == 2)
+				c2 = c;
+			if (c == '.' && iDot == -1)
+				iDot = len;
+			else if (iDot != -1 && len == iDot + 1 && ! decChars.contains(c))
+				isValid = false;
+			len++;
+		}
+		if (c != -1)
+			r.unread();
+
+		// Same checks as validateNumber(String):  '', '.1', '-.1', '01', '-01', '0x1', '1.', '0.e1'.
+		boolean isNegative = c0 == '-';
+		int first = isNegative ? c1 : c0, second = isNegative ? c2 : c1;
+		if (len == 0 || first == '.' || iDot == len - 1)
+			isValid = false;
+		else if (first == '0' && len > (isNegative ? 2 : 1) && second != '.' && second != 'e' && second != 'E')
+			isValid = false;
+		if (! isValid)
+			throw new ParseException(this, "Invalid JSON number: ''{0}''", r.getMarked());
 	}
 
 	private Boolean parseBoolean(ParserReader r) throws Exception {
@@ -382,28 +617,39 @@ public final class JsonParserSession extends ReaderParserSession {
 	private String parseFieldName(ParserReader r) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(r);
+			return parseString(r, getKeyPool());
 		if (isStrict())
 			throw new ParseException(this, "Unquoted attribute detected.");
 		if (! VALID_BARE_CHARS.contains(c))
 			throw new ParseException(this, "Could not find the start of the field name.");
 		r.mark();
 		// Look for whitespace.
-		while (c != -1) {
-			c = r.read();
-			if (! VALID_BARE_CHARS.contains(c)) {
-				r.unread();
-				String s = r.getMarked().intern();
-				return s.equals("null") ? null : s;
-			}
+		if (r.skip(VALID_BARE_CHARS) != -1) {
+			StringPool pool = getKeyPool();
+			String s = pool == null ? r.getMarked().intern() : r.getMarked(0, 0, pool);
+			return s.equals("null") ? null : s;
 		}
 		throw new ParseException(this, "Could not find the end of the field name.");
 	}
 
+	// Characters that end a run of ordinary characters in a quoted string.
+	private static final AsciiSet
+		sqStopChars = AsciiSet.create("'\\"),
+		dqStopChars = AsciiSet.create("\"\\"),
+		strictDqStopChars = dqStopChars.copy().range((char)0, (char)0x1F).build();
+
 	private static final AsciiSet VALID_BARE_CHARS = AsciiSet.create().range('A','Z').range('a','z').range('0','9').chars("$_-.").build();
 
 	private <E> Collection<E> parseIntoCollection2(ParserReader r, Collection<E> l,
 			ClassMeta<?> type, BeanPropertyMeta pMeta) throws Exception {
+		return parseIntoCollection2(r, l, type, pMeta, null);
+	}
+
+	/*
+	 * If a primitive array builder is specified, elements are added to it directly instead of to the collection.
+	 */
+	private <E> Collection<E> parseIntoCollection2(ParserReader r, Collection<E> l,
+			ClassMeta<?> type, BeanPropertyMeta pMeta, PrimitiveArrayBuilder pa) throws Exception {
 
 		int S0=0; // Looking for outermost [
 		int S1=1; // Looking for starting [ or { or " or ' or LITERAL or ]
@@ -429,7 +675,10 @@ public final class JsonParserSession extends ReaderParserSession {
 				} else if (isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(r.unread());
 				} else if (c != -1) {
-					l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
+					if (pa != null)
+						parsePrimitive(r.unread(), pa, type.getElementType(), pMeta);
+					else
+						l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
 					state = S2;
 				}
 			} else if (state == S2) {
@@ -448,7 +697,10 @@ public final class JsonParserSession extends ReaderParserSession {
 				} else if (c == ']') {
 					break;
 				} else if (c != -1) {
-					l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
+					if (pa != null)
+						parsePrimitive(r.unread(), pa, type.getElementType(), pMeta);
+					else
+						l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
 					state = S2;
 				}
 			}
@@ -465,6 +717,23 @@ public final class JsonParserSession extends ReaderParserSession {
 		return null;  // Unreachable.
 	}
 
+	/*
+	 * Parses a single element of a primitive array.
+	 * Unquoted numbers and booleans are added to the builder without creating wrapper objects.
+	 */
+	private void parsePrimitive(ParserReader r, PrimitiveArrayBuilder pa, ClassMeta<?> type, BeanPropertyMeta pMeta) throws Exception {
+		int c = r.peek();
+		if (pa.isNumeric() && (c == '-' || (c >= '0' && c <= '9'))) {
+			markNumber(r);
+			pa.addNumber(r);
+		} else if (! pa.isNumeric() && (c == 't' || c == 'f')) {
+			parseKeyword(c == 't' ? "true" : "false", r);
+			pa.add(c == 't');
+		} else {
+			pa.add(parseAnything(type, r, null, pMeta));
+		}
+	}
+
 	private <T> BeanMap<T> parseIntoBeanMap2(ParserReader r, BeanMap<T> m) throws Exception {
 
 		int S0=0; // Looking for outer {
@@ -558,6 +827,13 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * will automatically concatenate the strings and return the result.
 	 */
 	private String parseString(ParserReader r) throws Exception  {
+		return parseString(r, null);
+	}
+
+	/*
+	 * Same as parseString(ParserReader) but looks up the string in the specified pool if it's not null.
+	 */
+	private String parseString(ParserReader r, StringPool pool) throws Exception  {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -572,7 +848,11 @@ public final class JsonParserSession extends ReaderParserSession {
 		String s = null;
 		boolean isInEscape = false;
 		int c = 0;
+		AsciiSet stopChars = (! isQuoted ? null : qc == '\'' ? sqStopChars : isStrict() ? strictDqStopChars : dqStopChars);
 		while (c != -1) {
+			// Skip over runs of ordinary characters in quoted strings.
+			if (stopChars != null && ! isInEscape)
+				r.scan(stopChars);
 			c = r.read();
 			// Strict syntax requires that all control characters be escaped.
 			if (isStrict() && c <= 0x1F)
@@ -607,16 +887,16 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = r.getMarked(1, -1, pool);
 						break;
 					}
 				} else {
 					if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
-						s = r.getMarked(0, -1);
+						s = r.getMarked(0, -1, pool);
 						r.unread();
 						break;
 					} else if (c == -1) {
-						s = r.getMarked(0, 0);
+						s = r.getMarked(0, 0, pool);
 						break;
 					}
 				}
@@ -660,7 +940,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 */
 	private void skipCommentsAndSpace(ParserReader r) throws Exception {
 		int c = 0;
-		while ((c = r.read()) != -1) {
+		while ((c = (isStrict() ? r.read() : r.readSkipWs())) != -1) {
 			if (! isWhitespace(c)) {
 				if (c == '/') {
 					if (isStrict())
@@ -750,21 +1030,24 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Doesn't actually parse anything, but when positioned at the beginning of comment,
 	 * it will move the pointer to the last character in the comment.
 	 */
+	private static final AsciiSet STAR = AsciiSet.create("*"), NEWLINE = AsciiSet.create("\n");
+
 	private void skipComments(ParserReader r) throws ParseException, IOException {
 		int c = r.read();
 		//  "/* */" style comments
 		if (c == '*') {
-			while (c != -1)
-				if ((c = r.read()) == '*')
-					if ((c = r.read()) == '/')
-						return;
-		//  "//" style comments
-		} else if (c == '/') {
 			while (c != -1) {
-				c = r.read();
-				if (c == -1 || c == '\n')
+				r.scan(STAR);
+				if ((c = r.read()) == '*' && r.peek() == '/') {
+					r.read();
 					return;
+				}
 			}
+		//  "//" style comments
+		} else if (c == '/') {
+			r.scan(NEWLINE);
+			r.read();
+			return;
 		}
 		throw new ParseException(this, "Open ended comment.");
 	}
@@ -797,4 +1080,16 @@ public final class JsonParserSession extends ReaderParserSession {
 	protected final boolean isValidateEnd() {
 		return ctx.isValidateEnd();
 	}
+
+	/**
+	 * Configuration property:  Lazy parsing.
+	 *
+	 * @see JsonParser#JSON_lazy
+	 * @return
+	 * 	<jk>true</jk> if values in {@link ObjectMap ObjectMaps} and {@link ObjectList ObjectLists} are decoded when
+	 * 	they're first accessed.
+	 */
+	protected final boolean isLazy() {
+		return ctx.isLazy();
+	}
 }
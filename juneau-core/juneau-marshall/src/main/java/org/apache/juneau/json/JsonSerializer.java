@@ -438,6 +438,11 @@ public class JsonSerializer extends WriterSerializer {
 		return addBeanTypes;
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(JsonClassMeta.class);
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -135,6 +135,8 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		// '\0' characters are considered null.
 		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0)) {
 			out.append("null");
+		} else if (o instanceof Number) {
+			out.appendNumber((Number)o);
 		} else if (sType.isNumber() || sType.isBoolean()) {
 			out.append(o);
 		} else if (sType.isBean()) {
@@ -149,7 +151,12 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		} else if (sType.isCollection()) {
 			serializeCollection(out, (Collection) o, eType);
 		} else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			if (canSerializePrimitiveArray(sType))
+				out.primitiveArray(o, indent);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		} else if (sType.isStream()) {
+			serializeStream(out, o, eType);
 		} else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		} else {
@@ -218,7 +225,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 				if (addComma)
 					out.append(',').smi(i);
 
-				out.cr(i).attr(key).append(':').s(i);
+				out.cr(i).cachedAttr(key).append(':').s(i);
 
 				serializeAnything(out, value, cMeta, key, pMeta);
 
@@ -236,6 +243,10 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 		c = sort(c);
 
+		List<BeanPropertyMeta> columns = getRowSetColumns(c, elementType);
+		if (columns != null)
+			return serializeRowSet(out, c, elementType, columns);
+
 		out.append('[');
 
 		for (Iterator i = c.iterator(); i.hasNext();) {
@@ -249,6 +260,74 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	@SuppressWarnings({"rawtypes"})
+	private SerializerWriter serializeRowSet(JsonWriter out, Collection c, ClassMeta<?> elementType, List<BeanPropertyMeta> columns) throws Exception {
+		int i = indent;
+		out.append('{').cr(i).attr("_columns").append(':').s(i).append('[');
+
+		for (int j = 0; j < columns.size(); j++) {
+			if (j > 0)
+				out.append(',').s(i);
+			out.stringValue(columns.get(j).getName());
+		}
+
+		out.append(']').append(',').smi(i).cr(i).attr("_rows").append(':').s(i).append('[');
+
+		// Row values are nested one level deeper than the row itself.
+		indent++;
+		for (Iterator j = c.iterator(); j.hasNext();) {
+			Object o = j.next();
+			out.cr(i+1);
+			if (push("<iterator>", o, elementType) == null) {
+				out.append("null");
+			} else {
+				Object[] row = getRowSetValues(o, columns);
+				out.append('[');
+				for (int k = 0; k < row.length; k++) {
+					BeanPropertyMeta pMeta = columns.get(k);
+					if (k > 0)
+						out.append(',').s(i);
+					serializeAnything(out, row[k], pMeta.getClassMeta(), pMeta.getName(), pMeta);
+				}
+				out.append(']');
+			}
+			pop();
+			if (j.hasNext())
+				out.append(',').smi(i+1);
+		}
+		indent--;
+
+		out.cre(i).append(']').cre(i-1).append('}');
+		return out;
+	}
+
+	@SuppressWarnings({"rawtypes"})
+	private SerializerWriter serializeStream(JsonWriter out, Object o, ClassMeta<?> type) throws Exception {
+
+		ClassMeta<?> elementType = type.getElementType();
+		int flushInterval = getStreamFlushInterval(), count = 0;
+		if (flushInterval <= 0)
+			flushInterval = Integer.MAX_VALUE;
+
+		out.append('[');
+
+		try {
+			for (Iterator i = toIterator(o); i.hasNext();) {
+				Object value = i.next();
+				out.cr(indent);
+				serializeAnything(out, value, elementType, "<iterator>", null);
+				if (++count % flushInterval == 0)
+					out.flush();
+				if (i.hasNext())
+					out.append(',').smi(indent);
+			}
+		} finally {
+			closeStream(o);
+		}
+		out.cre(indent-1).append(']');
+		return out;
+	}
+
 	/**
 	 * Converts the specified output target object to an {@link JsonWriter}.
 	 *
@@ -266,6 +345,21 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return w;
 	}
 
+	/**
+	 * Creates a JSON writer that encodes its output as UTF-8 bytes.
+	 *
+	 * <p>
+	 * Used by {@link JsonUtf8SerializerSession}.
+	 *
+	 * @param out The UTF-8 writer to wrap.
+	 * @param attrCache The cache of encoded attribute names.
+	 * @return A new JSON writer.
+	 */
+	final JsonWriter getJsonWriter(Utf8Writer out, Map<String,byte[]> attrCache) {
+		return new JsonWriter(out, attrCache, isUseWhitespace(), getMaxIndent(), isEscapeSolidus(), getQuoteChar(),
+			isSimpleMode(), isTrimStrings(), getUriResolver());
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
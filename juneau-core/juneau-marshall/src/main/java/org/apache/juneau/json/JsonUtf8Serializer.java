@@ -0,0 +1,153 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes POJO models to JSON as UTF-8 encoded bytes.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Accept</code> types:  <code><b>application/json, text/json</b></code>
+ * <p>
+ * Produces <code>Content-Type</code> types:  <code><b>application/json</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Produces the same output as {@link JsonSerializer} with the same settings, but is an {@link OutputStreamSerializer}
+ * that encodes characters into a reusable byte buffer instead of writing them to a {@link java.io.Writer}.
+ * <br>Bean property names are encoded once per serializer and copied directly into the output buffer afterwards.
+ *
+ * <p>
+ * This avoids the cost of character-to-byte conversion when the output is ultimately sent to an output stream, such
+ * as an HTTP response body.
+ *
+ * <p>
+ * Unlike other stream serializers, {@link #serializeToString(Object)} returns the JSON text and not a hex or
+ * BASE64 representation of the bytes.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Use the default serializer to serialize a POJO</jc>
+ * 	<jk>byte</jk>[] json = JsonUtf8Serializer.<jsf>DEFAULT</jsf>.serialize(someObject);
+ *
+ * 	<jc>// Create a custom serializer from a JSON serializer builder</jc>
+ * 	JsonUtf8Serializer serializer = JsonSerializer.<jsm>create</jsm>().simple().build(JsonUtf8Serializer.<jk>class</jk>);
+ *
+ * 	<jc>// Serialize a POJO to an output stream</jc>
+ * 	serializer.serialize(someObject, outputStream);
+ * </p>
+ */
+@ContextProperties(JsonSerializer.class)
+public class JsonUtf8Serializer extends OutputStreamSerializer {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, all default settings.*/
+	public static final JsonUtf8Serializer DEFAULT = new JsonUtf8Serializer(PropertyStore.DEFAULT);
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private final JsonSerializer jsonSerializer;
+	private final Map<String,byte[]> attrCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps
+	 * 	The property store containing all the settings for this object.
+	 * 	<br>Uses the same properties as {@link JsonSerializer}.
+	 */
+	public JsonUtf8Serializer(PropertyStore ps) {
+		this(ps, "application/json", "application/json,text/json");
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps
+	 * 	The property store containing all the settings for this object.
+	 * @param produces
+	 * 	The media type that this serializer produces.
+	 * @param accept
+	 * 	The accept media types that the serializer can handle.
+	 * 	<p>
+	 * 	Can contain meta-characters per the <code>media-type</code> specification of {@doc RFC2616.section14.1}
+	 * 	<p>
+	 * 	If empty, then assumes the only media type supported is <code>produces</code>.
+	 */
+	public JsonUtf8Serializer(PropertyStore ps, String produces, String accept) {
+		super(ps, produces, accept);
+		jsonSerializer = new JsonSerializer(ps, produces, accept);
+	}
+
+	@Override /* Context */
+	public JsonSerializerBuilder builder() {
+		return new JsonSerializerBuilder(getPropertyStore());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Entry point methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Serializer */
+	public JsonUtf8SerializerSession createSession(SerializerSessionArgs args) {
+		return new JsonUtf8SerializerSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the character-based JSON serializer with the same settings as this serializer.
+	 *
+	 * @return The character-based JSON serializer with the same settings as this serializer.
+	 */
+	public JsonSerializer getJsonSerializer() {
+		return jsonSerializer;
+	}
+
+	/**
+	 * Returns the cache of UTF-8 encoded bean property names shared by all sessions of this serializer.
+	 *
+	 * @return The cache of UTF-8 encoded bean property names.
+	 */
+	final Map<String,byte[]> getAttrCache() {
+		return attrCache;
+	}
+
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(JsonClassMeta.class);
+	}
+
+	@Override /* Context */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("JsonUtf8Serializer", new ObjectMap()
+				.append("jsonSerializer", jsonSerializer.asMap())
+			);
+	}
+}
@@ -0,0 +1,81 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.internal.IOUtils.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link JsonUtf8Serializer}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+public class JsonUtf8SerializerSession extends OutputStreamSerializerSession {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final JsonUtf8Serializer ctx;
+	private final JsonSerializerSession jsonSession;
+	private byte[] buffer;
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 */
+	protected JsonUtf8SerializerSession(JsonUtf8Serializer ctx, SerializerSessionArgs args) {
+		super(ctx, args);
+		this.ctx = ctx;
+		this.jsonSession = ctx.getJsonSerializer().createSession(args);
+	}
+
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		jsonSession.reset();
+	}
+
+	@Override /* Session */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("JsonUtf8SerializerSession", new ObjectMap()
+			);
+	}
+
+	@Override /* SerializerSession */
+	public String serializeToString(Object o) throws SerializeException {
+		return new String(serialize(o), UTF8);
+	}
+
+	@Override /* SerializerSession */
+	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
+		// The buffer is kept for the life of the session so that pooled sessions don't reallocate it.
+		if (buffer == null)
+			buffer = new byte[BUFFER_SIZE];
+		Utf8Writer w = new Utf8Writer(out.getOutputStream(), buffer);
+		jsonSession.serialize(o, jsonSession.getJsonWriter(w, ctx.getAttrCache()));
+		w.flush();
+	}
+}
@@ -13,6 +13,8 @@
 package org.apache.juneau.json;
 
 import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -54,6 +56,13 @@ public final class JsonWriter extends SerializerWriter {
 
 	private final AsciiSet ec;
 
+	// Only set when writing UTF-8 bytes directly to an output stream.
+	private final Utf8Writer utf8;
+	private final Map<String,byte[]> attrCache;
+
+	// Upper bound on the number of encoded attribute names kept in the attribute cache.
+	private static final int MAX_ATTR_CACHE_SIZE = 10000;
+
 	/**
 	 * Constructor.
 	 *
@@ -68,10 +77,40 @@ public final class JsonWriter extends SerializerWriter {
 	 */
 	protected JsonWriter(Writer out, boolean useWhitespace, int maxIndent, boolean escapeSolidus, char quoteChar,
 			boolean simpleMode, boolean trimStrings, UriResolver uriResolver) {
+		this(out, null, useWhitespace, maxIndent, escapeSolidus, quoteChar, simpleMode, trimStrings, uriResolver);
+	}
+
+	/**
+	 * Constructor for writing UTF-8 bytes directly to an output stream.
+	 *
+	 * <p>
+	 * Attribute names written with {@link #cachedAttr(String)} are encoded once and the resulting bytes are stored in
+	 * the specified cache so that subsequent occurrences can be copied straight into the output buffer.
+	 * <br>The cache must only be shared between writers created with the same settings.
+	 *
+	 * @param out The writer being wrapped.
+	 * @param attrCache The cache of encoded attribute names.
+	 * @param useWhitespace If <jk>true</jk>, tabs and spaces will be used in output.
+	 * @param maxIndent The maximum indentation level.
+	 * @param escapeSolidus If <jk>true</jk>, forward slashes should be escaped in the output.
+	 * @param quoteChar The quote character to use (i.e. <js>'\''</js> or <js>'"'</js>)
+	 * @param simpleMode If <jk>true</jk>, JSON attributes will only be quoted when necessary.
+	 * @param trimStrings If <jk>true</jk>, strings will be trimmed before being serialized.
+	 * @param uriResolver The URI resolver for resolving URIs to absolute or root-relative form.
+	 */
+	JsonWriter(Utf8Writer out, Map<String,byte[]> attrCache, boolean useWhitespace, int maxIndent, boolean escapeSolidus,
+			char quoteChar, boolean simpleMode, boolean trimStrings, UriResolver uriResolver) {
+		this((Writer)out, attrCache, useWhitespace, maxIndent, escapeSolidus, quoteChar, simpleMode, trimStrings, uriResolver);
+	}
+
+	private JsonWriter(Writer out, Map<String,byte[]> attrCache, boolean useWhitespace, int maxIndent, boolean escapeSolidus,
+			char quoteChar, boolean simpleMode, boolean trimStrings, UriResolver uriResolver) {
 		super(out, useWhitespace, maxIndent, trimStrings, quoteChar, uriResolver);
 		this.simpleMode = simpleMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		this.utf8 = attrCache == null ? null : (Utf8Writer)out;
+		this.attrCache = attrCache;
 	}
 
 	/**
@@ -121,6 +160,34 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Same as {@link #attr(String)}, but when writing UTF-8 bytes, the encoded name is cached by the serializer and
+	 * reused on later calls.
+	 *
+	 * <p>
+	 * Only use for names from a fixed set (e.g. bean property names), since cached names are retained for the life of
+	 * the serializer.
+	 * <br>Arbitrary map keys should be written with {@link #attr(String)}.
+	 *
+	 * @param s The attribute name being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter cachedAttr(String s) throws IOException {
+		if (attrCache == null || s == null)
+			return attr(s);
+		byte[] b = attrCache.get(s);
+		if (b == null) {
+			StringBuilder sb = new StringBuilder();
+			new JsonWriter(new StringBuilderWriter(sb), false, maxIndent, escapeSolidus, quoteChar, simpleMode, trimStrings, uriResolver).attr(s);
+			b = sb.toString().getBytes(IOUtils.UTF8);
+			if (attrCache.size() < MAX_ATTR_CACHE_SIZE)
+				attrCache.put(s, b);
+		}
+		utf8.writeBytes(b);
+		return this;
+	}
+
 	/**
 	 * Serializes the specified object as a JSON attribute name.
 	 *
@@ -180,6 +247,25 @@ public final class JsonWriter extends SerializerWriter {
 		return stringValue(uriResolver.resolve(uri));
 	}
 
+	/**
+	 * Serializes the contents of a primitive array as a JSON array without boxing the elements.
+	 *
+	 * @param array The array.  Must be an array of a numeric or boolean primitive type.
+	 * @param depth The current indentation depth.
+	 * @return This object (for method chaining).
+	 * @throws IOException
+	 */
+	public JsonWriter primitiveArray(Object array, int depth) throws IOException {
+		append('[');
+		for (int i = 0, l = Array.getLength(array); i < l; i++) {
+			if (i > 0)
+				append(',').smi(depth);
+			cr(depth).appendPrimitive(array, i);
+		}
+		cre(depth-1).append(']');
+		return this;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Overridden methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,131 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses newline-delimited JSON (also known as JSON Lines) into POJO models.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Content-Type</code> types:  <code><b>application/x-ndjson, application/jsonl</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Each non-blank line of the input is parsed as a single JSON value.
+ *
+ * <p>
+ * When parsing into a collection or array, each line becomes an element.
+ * <br>When parsing into any other type, the input must contain exactly one value.
+ *
+ * <p>
+ * The input is read one line at a time, so memory usage is bounded by the length of the longest line.
+ * <br>Use {@link NdJsonParserSession#parseLines(Object, Class)} to process the values one at a time without
+ * collecting them.
+ *
+ * <p>
+ * Uses the same properties as {@link JsonParser}.
+ * <br>{@link JsonParser#JSON_validateEnd} is always enabled since each line must contain exactly one value.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Parse all lines into a list of beans.</jc>
+ * 	List&lt;MyBean&gt; l = NdJsonParser.<jsf>DEFAULT</jsf>.parse(reader, List.<jk>class</jk>, MyBean.<jk>class</jk>);
+ *
+ * 	<jc>// Create a parser with custom settings.</jc>
+ * 	NdJsonParser p = JsonParser.<jsm>create</jsm>().strict().build(NdJsonParser.<jk>class</jk>);
+ * </p>
+ */
+@ContextProperties(JsonParser.class)
+public class NdJsonParser extends ReaderParser {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, all default settings.*/
+	public static final NdJsonParser DEFAULT = new NdJsonParser(PropertyStore.DEFAULT);
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private final JsonParser jsonParser;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps
+	 * 	The property store containing all the settings for this object.
+	 * 	<br>Uses the same properties as {@link JsonParser}.
+	 */
+	public NdJsonParser(PropertyStore ps) {
+		this(ps, "application/x-ndjson", "application/jsonl");
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps The property store containing all the settings for this object.
+	 * @param consumes The list of media types that this parser consumes (e.g. <js>"application/x-ndjson"</js>).
+	 */
+	public NdJsonParser(PropertyStore ps, String...consumes) {
+		super(ps, consumes);
+		jsonParser = new JsonParser(ps.builder().set(JsonParser.JSON_validateEnd, true).build());
+	}
+
+	@Override /* Context */
+	public JsonParserBuilder builder() {
+		return new JsonParserBuilder(getPropertyStore());
+	}
+
+	@Override /* Parser */
+	public NdJsonParserSession createSession(ParserSessionArgs args) {
+		return new NdJsonParserSession(this, args);
+	}
+
+	@Override /* Parser */
+	public NdJsonParserSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the JSON parser used to parse individual lines.
+	 *
+	 * @return The JSON parser used to parse individual lines.
+	 */
+	public JsonParser getJsonParser() {
+		return jsonParser;
+	}
+
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(JsonClassMeta.class);
+	}
+
+	@Override /* Context */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("NdJsonParser", new ObjectMap()
+				.append("jsonParser", jsonParser.asMap())
+			);
+	}
+}
@@ -0,0 +1,228 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link NdJsonParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused against multiple inputs.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class NdJsonParserSession extends ReaderParserSession {
+
+	private final JsonParserSession jsonSession;
+
+	// State of the input being iterated over by parseLines().
+	private BufferedReader linesReader;
+	private ClassMeta<?> linesType;
+	private String nextLine;
+	private int lineNumber;
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected NdJsonParserSession(NdJsonParser ctx, ParserSessionArgs args) {
+		super(ctx, args);
+		jsonSession = ctx.getJsonParser().createSession(args);
+	}
+
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		jsonSession.reset();
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		BufferedReader r = getLineReader(pipe);
+		if (r == null)
+			return null;
+
+		if (type.isObject())
+			return (T)parseLines(r, new ObjectList(this), object());
+
+		if (type.isCollection()) {
+			Collection c = (type.canCreateNewInstance() ? (Collection)type.newInstance() : new ObjectList(this));
+			return (T)parseLines(r, c, type.getElementType());
+		}
+
+		if (type.isArray())
+			return (T)toArray(type, parseLines(r, new ArrayList(), type.getElementType()));
+
+		lineNumber = 0;
+		String line = readLine(r);
+		if (line == null)
+			return null;
+		T o = parseLine(line, type);
+		if (readLine(r) != null)
+			throw new ParseException("Multiple values found in input.  Line {0} is not the only line in the input.", lineNumber);
+		return o;
+	}
+
+	@Override /* ReaderParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
+		BufferedReader r = getLineReader(pipe);
+		if (r == null)
+			return c;
+		return parseLines(r, c, getClassMeta(elementType));
+	}
+
+	/**
+	 * Parses the values in the input one line at a time.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)}, the values are not collected in memory.
+	 * <br>Each call to {@link Iterator#next()} reads and parses the next non-blank line from the input, so arbitrarily
+	 * large inputs can be processed in constant memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	NdJsonParserSession s = NdJsonParser.<jsf>DEFAULT</jsf>.createSession();
+	 * 	Iterator&lt;MyBean&gt; i = s.parseLines(reader, MyBean.<jk>class</jk>);
+	 * 	<jk>while</jk> (i.hasNext())
+	 * 		process(i.next());
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		The iteration state is kept in this session, so only one input can be iterated at a time per session.
+	 * 		<br>Calling this method again (or calling {@link #reset()}) closes the previous iteration, and the previous
+	 * 		iterator no longer returns values.
+	 * 	<li>
+	 * 		The input is closed once the last line has been read.
+	 * 	<li>
+	 * 		Syntax errors encountered during iteration are thrown from {@link Iterator#hasNext()} and
+	 * 		{@link Iterator#next()} as {@link RuntimeException RuntimeExceptions} wrapping a {@link ParseException}.
+	 * </ul>
+	 *
+	 * @param <T> The class type of the values.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for details.
+	 * @param type The class type of the values.
+	 * @return An iterator over the parsed values.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public <T> Iterator<T> parseLines(Object input, Class<T> type) throws ParseException {
+		return parseLines(input, getClassMeta(type));
+	}
+
+	/**
+	 * Same as {@link #parseLines(Object, Class)} except allows you to parse values of parameterized types.
+	 *
+	 * @param <T> The class type of the values.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for details.
+	 * @param type
+	 * 	The class type of the values.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * @return An iterator over the parsed values.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public <T> Iterator<T> parseLines(Object input, Type type, Type...args) throws ParseException {
+		return parseLines(input, (ClassMeta<T>)getClassMeta(type, args));
+	}
+
+	private <T> Iterator<T> parseLines(Object input, final ClassMeta<T> type) throws ParseException {
+		return iterate(input, new ValueReader<T>() {
+			@Override /* ValueReader */
+			public boolean open(ParserPipe pipe) throws Exception {
+				linesReader = getLineReader(pipe);
+				linesType = type;
+				lineNumber = 0;
+				return linesReader != null;
+			}
+
+			@Override /* ValueReader */
+			public boolean hasNext() throws Exception {
+				if (nextLine == null)
+					nextLine = readLine(linesReader);
+				return nextLine != null;
+			}
+
+			@Override /* ValueReader */
+			public T next() throws Exception {
+				String line = nextLine;
+				nextLine = null;
+				return (T)parseLine(line, linesType);
+			}
+
+			@Override /* ValueReader */
+			public void close() {
+				linesReader = null;
+				linesType = null;
+				nextLine = null;
+			}
+		});
+	}
+
+	private <E> Collection<E> parseLines(BufferedReader r, Collection<E> c, ClassMeta<?> elementType) throws Exception {
+		lineNumber = 0;
+		for (String line = readLine(r); line != null; line = readLine(r))
+			c.add((E)parseLine(line, elementType));
+		return c;
+	}
+
+	private static BufferedReader getLineReader(ParserPipe pipe) throws Exception {
+		Reader r = pipe.getReader();
+		if (r == null)
+			return null;
+		return r instanceof BufferedReader ? (BufferedReader)r : new BufferedReader(r);
+	}
+
+	/*
+	 * Returns the next non-blank line, or null if the end of the input has been reached.
+	 */
+	private String readLine(BufferedReader r) throws IOException {
+		for (String s = r.readLine(); s != null; s = r.readLine()) {
+			lineNumber++;
+			if (! s.trim().isEmpty())
+				return s;
+		}
+		return null;
+	}
+
+	private <T> T parseLine(String line, ClassMeta<T> type) throws ParseException {
+		try {
+			return jsonSession.parse(line, type);
+		} catch (ParseException e) {
+			throw new ParseException(e, "Could not parse line {0}: {1}", lineNumber, e.getMessage());
+		}
+	}
+
+	@Override /* Session */
+	public ObjectMap asMap() {
+		return super.asMap()
+			.append("NdJsonParserSession", new ObjectMap()
+			);
+	}
+}
@@ -0,0 +1,103 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes POJO models to newline-delimited JSON (also known as JSON Lines).
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Accept</code> types:  <code><b>application/x-ndjson, application/jsonl</b></code>
+ * <p>
+ * Produces <code>Content-Type</code> types:  <code><b>application/x-ndjson</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Collections, arrays, iterators, enumerations and streams are written as one compact JSON value per line.
+ * <br>Any other object is written as a single line.
+ *
+ * <p>
+ * Elements of iterators, enumerations and streams are serialized as they're read, so arbitrarily large inputs can be
+ * written in constant memory.
+ * <br>The output is flushed every {@link Serializer#SERIALIZER_streamFlushInterval} lines.
+ *
+ * <p>
+ * Uses the same properties as {@link JsonSerializer} except for {@link Serializer#SERIALIZER_useWhitespace} which is
+ * always disabled.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	List&lt;MyBean&gt; l = ...;
+ *
+ * 	<jc>// Produces "{...}\n{...}\n"</jc>
+ * 	String ndjson = NdJsonSerializer.<jsf>DEFAULT</jsf>.serialize(l);
+ *
+ * 	<jc>// Create a serializer with custom settings.</jc>
+ * 	NdJsonSerializer s = JsonSerializer.<jsm>create</jsm>().simple().build(NdJsonSerializer.<jk>class</jk>);
+ * </p>
+ */
+public class NdJsonSerializer extends JsonSerializer {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, all default settings.*/
+	public static final NdJsonSerializer DEFAULT = new NdJsonSerializer(PropertyStore.DEFAULT);
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps
+	 * 	The property store containing all the settings for this object.
+	 */
+	public NdJsonSerializer(PropertyStore ps) {
+		this(ps, "application/x-ndjson", "application/x-ndjson,application/jsonl");
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps
+	 * 	The property store containing all the settings for this object.
+	 * @param produces
+	 * 	The media type that this serializer produces.
+	 * @param accept
+	 * 	The accept media types that the serializer can handle.
+	 * 	<p>
+	 * 	Can contain meta-characters per the <code>media-type</code> specification of {@doc RFC2616.section14.1}
+	 * 	<p>
+	 * 	If empty, then assumes the only media type supported is <code>produces</code>.
+	 */
+	public NdJsonSerializer(PropertyStore ps, String produces, String accept) {
+		super(ps.builder().set(SERIALIZER_useWhitespace, false).build(), produces, accept);
+	}
+
+	@Override /* Context */
+	public NdJsonSerializerSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Serializer */
+	public NdJsonSerializerSession createSession(SerializerSessionArgs args) {
+		return new NdJsonSerializerSession(this, args);
+	}
+}
@@ -0,0 +1,89 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link NdJsonSerializer}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+public class NdJsonSerializerSession extends JsonSerializerSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 */
+	protected NdJsonSerializerSession(NdJsonSerializer ctx, SerializerSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* SerializerSession */
+	@SuppressWarnings("rawtypes")
+	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
+		JsonWriter w = getLineWriter(out);
+		ClassMeta<?> cm = o == null ? null : getClassMetaForObject(o);
+
+		if (cm == null || ! (cm.isCollectionOrArray() || cm.isStream())) {
+			serializeLine(w, o);
+		} else if (cm.isStream()) {
+			int flushInterval = getStreamFlushInterval(), count = 0;
+			try {
+				for (Iterator i = toIterator(o); i.hasNext();) {
+					serializeLine(w, i.next());
+					if (flushInterval > 0 && ++count % flushInterval == 0)
+						w.flush();
+				}
+			} finally {
+				closeStream(o);
+			}
+		} else {
+			Collection<?> c = cm.isArray() ? toList(cm.getInnerClass(), o) : sort((Collection<?>)o);
+			for (Object o2 : c)
+				serializeLine(w, o2);
+		}
+	}
+
+	/*
+	 * Same as getJsonWriter(SerializerPipe) except whitespace is always disabled, since each value must fit on a
+	 * single line regardless of any session-level useWhitespace argument.
+	 */
+	private JsonWriter getLineWriter(SerializerPipe out) throws Exception {
+		Object output = out.getRawOutput();
+		if (output instanceof JsonWriter)
+			return (JsonWriter)output;
+		JsonWriter w = new JsonWriter(out.getWriter(), false, getMaxIndent(), isEscapeSolidus(), getQuoteChar(),
+			isSimpleMode(), isTrimStrings(), getUriResolver());
+		out.setWriter(w);
+		return w;
+	}
+
+	private void serializeLine(JsonWriter w, Object o) throws Exception {
+		serializeAnything(w, o, getExpectedRootType(o), "root", null);
+		w.append('\n');
+	}
+}
@@ -540,6 +540,18 @@ public class JsonSchemaGeneratorBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonSchemaGeneratorBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsonSchemaGeneratorBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonSchemaGeneratorBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -16,12 +16,24 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
+import java.nio.*;
+import java.util.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
  * Specialized input stream for parsing MessagePack streams.
  *
+ * <p>
+ * When constructed over a {@link ByteBuffer}, strings are decoded directly from the buffer and binary fields can be
+ * returned as read-only slices of the buffer through {@link #readBinaryBuffer()}.
+ *
+ * <p>
+ * Binary fields can also be read as input streams through {@link #readBinaryStream()}.
+ * Fields larger than {@value #SPOOL_THRESHOLD} bytes read from a stream are spooled through a temporary file so that
+ * they are never held on the heap in full.
+ *
  * <h5 class='section'>Notes:</h5>
  * <ul class='spaced-list'>
  * 	<li>
@@ -30,10 +42,15 @@ import org.apache.juneau.parser.*;
  */
 public final class MsgPackInputStream extends ParserInputStream {
 
+	/** The size above which binary fields read as input streams are spooled to a temporary file. */
+	static final int SPOOL_THRESHOLD = 0x10000;
+
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
 	private int extType;
+	private byte[] scratch = new byte[64];
+	private List<InputStream> spooled;
 	int pos = 0;
 
 	// Data type quick-lookup table.
@@ -66,6 +83,16 @@ public final class MsgPackInputStream extends ParserInputStream {
 		super(pipe);
 	}
 
+	/**
+	 * Constructor for reading directly from a buffer.
+	 *
+	 * @param pipe The parser input.
+	 * @param bb The buffer containing the MessagePack content.
+	 */
+	protected MsgPackInputStream(ParserPipe pipe, ByteBuffer bb) {
+		super(pipe, bb);
+	}
+
 	/**
 	 * Reads the data type flag from the stream.
 	 *
@@ -394,7 +421,29 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), UTF8);
+		return readString(null);
+	}
+
+	/**
+	 * Read a string from the stream, looking it up in the specified pool if it's not <jk>null</jk>.
+	 */
+	String readString(StringPool pool) throws IOException {
+		int len = (int)length;
+		ByteBuffer bb = getBuffer();
+		if (bb != null && bb.hasArray()) {
+			bb = getBuffer(len);
+			int p = bb.position();
+			bb.position(p + len);
+			if (pool != null)
+				return pool.get(bb.array(), bb.arrayOffset() + p, len);
+			return new String(bb.array(), bb.arrayOffset() + p, len, UTF8);
+		}
+		// Strings are decoded from a reusable buffer so that only the resulting string is allocated.
+		byte[] b = len <= 8192 ? scratch(len) : new byte[len];
+		readFully(b, len);
+		if (pool != null)
+			return pool.get(b, 0, len);
+		return new String(b, 0, len, UTF8);
 	}
 
 	/**
@@ -402,10 +451,91 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 */
 	byte[] readBinary() throws IOException {
 		byte[] b = new byte[(int)length];
-		read(b);
+		readFully(b, b.length);
 		return b;
 	}
 
+	/**
+	 * Read a binary field from the stream as a read-only buffer.
+	 *
+	 * <p>
+	 * If this stream is reading from a buffer, the returned buffer is a slice that shares its content without copying.
+	 */
+	ByteBuffer readBinaryBuffer() throws IOException {
+		ByteBuffer bb = getBuffer();
+		if (bb == null)
+			return ByteBuffer.wrap(readBinary()).asReadOnlyBuffer();
+		int len = (int)length;
+		bb = getBuffer(len);
+		ByteBuffer b = bb.slice();
+		b.limit(len);
+		bb.position(bb.position() + len);
+		return b.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Read a binary field from the stream as an input stream.
+	 *
+	 * <p>
+	 * The returned stream must be closed so that any temporary file backing it is deleted.
+	 * <br>Streams backed by temporary files are also closed by {@link #closeSpooledStreams()}.
+	 */
+	InputStream readBinaryStream() throws IOException {
+		if (getBuffer() != null)
+			return new ByteBufferInputStream(readBinaryBuffer());
+		if (length <= SPOOL_THRESHOLD)
+			return new ByteArrayInputStream(readBinary());
+		SpoolOutputStream s = new SpoolOutputStream(SPOOL_THRESHOLD);
+		try {
+			byte[] b = scratch(8192);
+			for (long remaining = length; remaining > 0;) {
+				int i = read(b, 0, (int)Math.min(b.length, remaining));
+				if (i == -1)
+					throw new IOException("Unexpected end of file found.");
+				s.write(b, 0, i);
+				remaining -= i;
+			}
+			boolean isSpooled = s.isSpooled();
+			InputStream is = s.getInputStream();
+			if (isSpooled) {
+				if (spooled == null)
+					spooled = new ArrayList<>();
+				spooled.add(is);
+			}
+			return is;
+		} catch (IOException e) {
+			s.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes all streams returned by {@link #readBinaryStream()} that are backed by temporary files.
+	 *
+	 * <p>
+	 * Called when a parse fails so that the temporary files of values that never reach the caller are deleted.
+	 */
+	void closeSpooledStreams() {
+		if (spooled != null)
+			for (InputStream is : spooled)
+				closeQuietly(is);
+	}
+
+	private byte[] scratch(int len) {
+		if (scratch.length < len)
+			scratch = new byte[Math.max(len, scratch.length * 2)];
+		return scratch;
+	}
+
+	private void readFully(byte[] b, int len) throws IOException {
+		for (int off = 0; off < len;) {
+			int i = read(b, off, len - off);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found.");
+			off += i;
+		}
+	}
+
 	/**
 	 * Read an integer from the stream.
 	 */
@@ -16,6 +16,7 @@ import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
 import java.math.*;
+import java.nio.*;
 import java.util.concurrent.atomic.*;
 
 /**
@@ -45,6 +46,11 @@ public final class MsgPackOutputStream extends OutputStream {
 		os.write(b);
 	}
 
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		os.write(b, off, len);
+	}
+
 	/**
 	 * Same as {@link #write(int)}.
 	 */
@@ -257,6 +263,63 @@ public final class MsgPackOutputStream extends OutputStream {
 		return append1(BIN32).append4(b.length).append(b);
 	}
 
+	/**
+	 * Appends the remaining contents of a buffer as a binary field to the stream.
+	 *
+	 * <p>
+	 * The position of the buffer is not changed.
+	 */
+	final MsgPackOutputStream appendBinary(ByteBuffer bb) throws IOException {
+		int len = bb.remaining();
+		startBinary(len);
+		if (bb.hasArray()) {
+			os.write(bb.array(), bb.arrayOffset() + bb.position(), len);
+		} else {
+			ByteBuffer d = bb.duplicate();
+			byte[] b = new byte[Math.min(len, 8192)];
+			while (d.hasRemaining()) {
+				int n = Math.min(b.length, d.remaining());
+				d.get(b, 0, n);
+				os.write(b, 0, n);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Appends a binary data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by exactly <code>len</code> bytes of data.
+	 */
+	final MsgPackOutputStream startBinary(long len) throws IOException {
+		if (len < (1<<8))
+			return append1(BIN8).append1((int)len);
+		if (len < (1<<16))
+			return append1(BIN16).append2((int)len);
+		if (len <= 0xFFFFFFFFL)
+			return append1(BIN32).append4((int)len);
+		throw new IOException("Binary field too large: " + len + " bytes");
+	}
+
+	/**
+	 * Appends a string data type flag to the stream.
+	 *
+	 * <p>
+	 * Must be followed by exactly <code>len</code> bytes of UTF-8 encoded data.
+	 */
+	final MsgPackOutputStream startString(long len) throws IOException {
+		if (len < 32)
+			return append1(0xA0 + (int)len);
+		if (len < (1<<8))
+			return append1(STR8).append1((int)len);
+		if (len < (1<<16))
+			return append1(STR16).append2((int)len);
+		if (len <= 0xFFFFFFFFL)
+			return append1(STR32).append4((int)len);
+		throw new IOException("String field too large: " + len + " bytes");
+	}
+
 	/**
 	 * Appends an array data type flag to the stream.
 	 */
@@ -289,6 +352,54 @@ public final class MsgPackOutputStream extends OutputStream {
 		return append1(ARRAY32).append4(size);
 	}
 
+	/**
+	 * Appends a primitive array to the stream without boxing the elements.
+	 *
+	 * <p>
+	 * The array must be an array of a numeric or boolean primitive type.
+	 */
+	final MsgPackOutputStream appendPrimitiveArray(Object array) throws IOException {
+		if (array instanceof int[]) {
+			int[] a = (int[])array;
+			startArray(a.length);
+			for (int v : a)
+				appendInt(v);
+		} else if (array instanceof long[]) {
+			long[] a = (long[])array;
+			startArray(a.length);
+			for (long v : a)
+				appendLong(v);
+		} else if (array instanceof double[]) {
+			double[] a = (double[])array;
+			startArray(a.length);
+			for (double v : a)
+				appendDouble(v);
+		} else if (array instanceof float[]) {
+			float[] a = (float[])array;
+			startArray(a.length);
+			for (float v : a)
+				appendFloat(v);
+		} else if (array instanceof short[]) {
+			short[] a = (short[])array;
+			startArray(a.length);
+			for (short v : a)
+				appendInt(v);
+		} else if (array instanceof byte[]) {
+			byte[] a = (byte[])array;
+			startArray(a.length);
+			for (byte v : a)
+				appendInt(v);
+		} else if (array instanceof boolean[]) {
+			boolean[] a = (boolean[])array;
+			startArray(a.length);
+			for (boolean v : a)
+				appendBoolean(v);
+		} else {
+			throw new IllegalArgumentException("Unsupported array type: " + array.getClass().getName());
+		}
+		return this;
+	}
+
 	/**
 	 * Appends a map data type flag to the stream.
 	 */
@@ -21,6 +21,13 @@ import org.apache.juneau.parser.*;
  * <h5 class='topic'>Media types</h5>
  *
  * Handles <code>Content-Type</code> types:  <code><b>octal/msgpack</b></code>
+ *
+ * <h5 class='topic'>Binary streams</h5>
+ *
+ * <code>bin</code> fields can be parsed into {@link java.io.InputStream} properties.
+ * <br>When parsing from a stream, values larger than 64KB are spooled to a temporary file that is deleted when the
+ * returned stream is closed, so these streams should always be closed by the caller.
+ * <br>The temporary files are also deleted if the parse fails, or when an unclosed stream is garbage collected.
  */
 public class MsgPackParser extends InputStreamParser {
 
@@ -14,9 +14,11 @@ package org.apache.juneau.msgpack;
 
 import static org.apache.juneau.msgpack.DataType.*;
 
+import java.nio.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.transform.*;
 
@@ -45,8 +47,14 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
-		try (MsgPackInputStream is = new MsgPackInputStream(pipe)) {
-			return parseAnything(type, is, getOuter(), null);
+		ByteBuffer bb = pipe.getByteBuffer();
+		try (MsgPackInputStream is = bb == null ? new MsgPackInputStream(pipe) : new MsgPackInputStream(pipe, bb)) {
+			try {
+				return parseAnything(type, is, getOuter(), null);
+			} catch (Exception e) {
+				is.closeSpooledStreams();
+				throw e;
+			}
 		}
 	}
 
@@ -54,6 +62,25 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 	 * Workhorse method.
 	 */
 	private <T> T parseAnything(ClassMeta<?> eType, MsgPackInputStream is, Object outer, BeanPropertyMeta pMeta) throws Exception {
+		return parseAnything(eType, is.readDataType(), is, outer, pMeta);
+	}
+
+	/*
+	 * Parses a map key or bean property name.
+	 * String keys are looked up in the key pool if it's enabled.
+	 */
+	private String parseKey(MsgPackInputStream is, Object outer, BeanPropertyMeta pMeta) throws Exception {
+		DataType dt = is.readDataType();
+		StringPool pool = getKeyPool();
+		if (dt == STRING && pool != null)
+			return trim(is.readString(pool));
+		return parseAnything(string(), dt, is, outer, pMeta);
+	}
+
+	/*
+	 * Same as above, but the data type flag of the value has already been read from the stream.
+	 */
+	private <T> T parseAnything(ClassMeta<?> eType, DataType dt, MsgPackInputStream is, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
 			eType = object();
@@ -69,7 +96,6 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 		setCurrentClass(sType);
 
 		Object o = null;
-		DataType dt = is.readDataType();
 		int length = (int)is.readLength();
 
 		if (dt != DataType.NULL) {
@@ -85,8 +111,10 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = is.readDouble();
 			else if (dt == STRING)
 				o = trim(is.readString());
+			else if (dt == BIN && sType.isInputStream())
+				o = is.readBinaryStream();
 			else if (dt == BIN)
-				o = is.readBinary();
+				o = ByteBuffer.class.isAssignableFrom(sType.getInnerClass()) ? is.readBinaryBuffer() : is.readBinary();
 			else if (dt == ARRAY && sType.isObject()) {
 				ObjectList ol = new ObjectList(this);
 				for (int i = 0; i < length; i++)
@@ -95,12 +123,14 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			} else if (dt == MAP && sType.isObject()) {
 				ObjectMap om = new ObjectMap(this);
 				for (int i = 0; i < length; i++)
-					om.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, om, pMeta));
+					om.put(parseKey(is, outer, pMeta), parseAnything(object(), is, om, pMeta));
 				o = cast(om, pMeta, eType);
 			}
 
 			if (sType.isObject()) {
 				// Do nothing.
+			} else if (dt == BIN && sType.isInstance(o)) {
+				// Do nothing.
 			} else if (sType.isBoolean() || sType.isCharSequence() || sType.isChar() || sType.isNumber()) {
 				o = convertToType(o, sType);
 			} else if (sType.isMap()) {
@@ -121,7 +151,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				if (dt == MAP) {
 					BeanMap m = builder == null ? newBeanMap(outer, sType.getInnerClass()) : toBeanMap(builder.create(this, eType));
 					for (int i = 0; i < length; i++) {
-						String pName = parseAnything(string(), is, m.getBean(false), null);
+						String pName = parseKey(is, m.getBean(false), null);
 						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
 						if (bpm == null) {
 							if (pName.equals(getBeanTypePropertyName(eType)))
@@ -147,7 +177,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				if (dt == MAP) {
 					ObjectMap m = new ObjectMap(this);
 					for (int i = 0; i < length; i++)
-						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+						m.put(parseKey(is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 					o = cast(m, pMeta, eType);
 				} else if (dt == ARRAY) {
 					Collection l = (
@@ -165,8 +195,10 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				if (dt == MAP) {
 					ObjectMap m = new ObjectMap(this);
 					for (int i = 0; i < length; i++)
-						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+						m.put(parseKey(is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY && canParsePrimitiveArray(sType)) {
+					o = parsePrimitiveArray(sType.getElementType(), is, length);
 				} else if (dt == ARRAY) {
 					Collection l = (
 						sType.isCollection() && sType.canCreateNewInstance(outer)
@@ -182,7 +214,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			} else if (dt == MAP) {
 				ObjectMap m = new ObjectMap(this);
 				for (int i = 0; i < length; i++)
-					m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					m.put(parseKey(is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 				if (m.containsKey(getBeanTypePropertyName(eType)))
 					o = cast(m, pMeta, eType);
 				else
@@ -201,4 +233,44 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 
 		return (T)o;
 	}
+
+	/*
+	 * Reads the entries of a MessagePack array directly into a primitive array.
+	 * Values whose data type matches the array type are added without being boxed.
+	 */
+	private Object parsePrimitiveArray(ClassMeta<?> eType, MsgPackInputStream is, int length) throws Exception {
+		PrimitiveArrayBuilder pa = new PrimitiveArrayBuilder(eType.getInnerClass(), length);
+		boolean isNumeric = pa.isNumeric();
+		for (int i = 0; i < length; i++) {
+			DataType dt = is.readDataType();
+			is.readLength();
+			if (dt == NULL)
+				pa.add((Object)null);
+			else if (dt == INT && isNumeric)
+				pa.add(is.readInt());
+			else if (dt == LONG && isNumeric)
+				pa.add(is.readLong());
+			else if (dt == FLOAT && isNumeric)
+				pa.add(is.readFloat());
+			else if (dt == DOUBLE && isNumeric)
+				pa.add(is.readDouble());
+			else if (dt == BOOLEAN && ! isNumeric)
+				pa.add(is.readBoolean());
+			else if (dt == BOOLEAN)
+				pa.add(convertToType(is.readBoolean(), eType));
+			else if (dt == INT)
+				pa.add(convertToType(is.readInt(), eType));
+			else if (dt == LONG)
+				pa.add(convertToType(is.readLong(), eType));
+			else if (dt == FLOAT)
+				pa.add(convertToType(is.readFloat(), eType));
+			else if (dt == DOUBLE)
+				pa.add(convertToType(is.readDouble(), eType));
+			else if (dt == STRING)
+				pa.add(convertToType(trim(is.readString()), eType));
+			else
+				throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, eType);
+		}
+		return pa.toArray();
+	}
 }
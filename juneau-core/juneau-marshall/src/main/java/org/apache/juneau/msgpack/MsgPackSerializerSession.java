@@ -12,6 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -28,6 +33,9 @@ import org.apache.juneau.transform.*;
  */
 public final class MsgPackSerializerSession extends OutputStreamSerializerSession {
 
+	// Stream contents of unknown length larger than this are spooled to a temporary file.
+	private static final int SPOOL_THRESHOLD = 0x10000;
+
 	private final MsgPackSerializer ctx;
 
 	/**
@@ -132,11 +140,28 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			serializeCollection(out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			if (canSerializePrimitiveArray(sType))
+				out.appendPrimitiveArray(o);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
-		else if (sType.isReader() || sType.isInputStream()) {
-			IOUtils.pipe(o, out);
+		else if (sType.isStream()) {
+			// MessagePack arrays are length-prefixed, so the elements have to be gathered first.
+			List<Object> l = new ArrayList<>();
+			try {
+				for (Iterator<Object> i = toIterator(o); i.hasNext();)
+					l.add(i.next());
+			} finally {
+				closeStream(o);
+			}
+			serializeCollection(out, l, eType);
 		}
+		else if (sType.isInputStream())
+			serializeInputStream(out, (InputStream)o);
+		else if (sType.isReader())
+			serializeReader(out, (Reader)o);
+		else if (o instanceof ByteBuffer)
+			out.appendBinary((ByteBuffer)o);
 		else
 			out.appendString(toString(o));
 
@@ -215,12 +240,106 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		c = sort(c);
 		l.addAll(c);
 
+		List<BeanPropertyMeta> columns = getRowSetColumns(l, elementType);
+		if (columns != null) {
+			serializeRowSet(out, l, elementType, columns);
+			return;
+		}
+
 		out.startArray(l.size());
 
 		for (Object o : l)
 			serializeAnything(out, o, elementType, "<iterator>", null);
 	}
 
+	private void serializeRowSet(MsgPackOutputStream out, List<Object> l, ClassMeta<?> elementType, List<BeanPropertyMeta> columns) throws Exception {
+		out.startMap(2);
+
+		out.appendString("_columns").startArray(columns.size());
+		for (BeanPropertyMeta p : columns)
+			out.appendString(p.getName());
+
+		out.appendString("_rows").startArray(l.size());
+		for (Object o : l) {
+			if (push("<iterator>", o, elementType) == null) {
+				out.appendNull();
+			} else {
+				Object[] row = getRowSetValues(o, columns);
+				out.startArray(row.length);
+				for (int i = 0; i < row.length; i++) {
+					BeanPropertyMeta pMeta = columns.get(i);
+					serializeAnything(out, row[i], pMeta.getClassMeta(), pMeta.getName(), pMeta);
+				}
+			}
+			pop();
+		}
+	}
+
+	/*
+	 * Writes the contents of an input stream as a binary field.
+	 * If the length of the stream is known, the contents are copied directly to the output.
+	 * Otherwise they're spooled first so that the length can be written ahead of the data.
+	 */
+	private void serializeInputStream(MsgPackOutputStream out, InputStream is) throws Exception {
+		try {
+			long len = getLength(is);
+			if (len == -1) {
+				try (SpoolOutputStream s = new SpoolOutputStream(SPOOL_THRESHOLD)) {
+					copy(is, s, Long.MAX_VALUE);
+					out.startBinary(s.size());
+					s.writeTo(out);
+				}
+			} else {
+				out.startBinary(len);
+				if (copy(is, out, len) != len)
+					throw new IOException("Input stream ended before " + len + " bytes could be read.");
+			}
+		} finally {
+			is.close();
+		}
+	}
+
+	/*
+	 * Writes the contents of a reader as a UTF-8 string field.
+	 */
+	private static void serializeReader(MsgPackOutputStream out, Reader r) throws Exception {
+		try (SpoolOutputStream s = new SpoolOutputStream(SPOOL_THRESHOLD)) {
+			Writer w = new OutputStreamWriter(s, UTF8);
+			IOUtils.pipe(r, w);
+			w.flush();
+			out.startString(s.size());
+			s.writeTo(out);
+		}
+	}
+
+	/*
+	 * Returns the number of bytes remaining in the specified stream, or -1 if it can't be determined without reading
+	 * the stream.
+	 */
+	private static long getLength(InputStream is) throws IOException {
+		if (is instanceof ByteArrayInputStream || is instanceof ByteBufferInputStream)
+			return is.available();
+		if (is instanceof FileInputStream) {
+			FileChannel fc = ((FileInputStream)is).getChannel();
+			return fc.size() - fc.position();
+		}
+		return -1;
+	}
+
+	/*
+	 * Copies up to the specified number of bytes and returns the number of bytes copied.
+	 */
+	private static long copy(InputStream is, OutputStream os, long max) throws IOException {
+		byte[] b = new byte[8192];
+		long count = 0;
+		int i;
+		while (count < max && (i = is.read(b, 0, (int)Math.min(b.length, max - count))) != -1) {
+			os.write(b, 0, i);
+			count += i;
+		}
+		return count;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -74,6 +74,18 @@ public class OpenApiSerializerBuilder extends UonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public OpenApiSerializerBuilder columnarBeanCollections(boolean value) {
+		super.columnarBeanCollections(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public OpenApiSerializerBuilder columnarBeanCollections() {
+		super.columnarBeanCollections();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public OpenApiSerializerBuilder detectRecursions(boolean value) {
 		super.detectRecursions(value);
@@ -109,6 +121,12 @@ public class OpenApiSerializerBuilder extends UonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public OpenApiSerializerBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public OpenApiSerializerBuilder maxDepth(int value) {
 		super.maxDepth(value);
@@ -151,6 +169,12 @@ public class OpenApiSerializerBuilder extends UonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public OpenApiSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public OpenApiSerializerBuilder sq() {
 		super.sq();
@@ -547,6 +571,18 @@ public class OpenApiSerializerBuilder extends UonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public OpenApiSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public OpenApiSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public OpenApiSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
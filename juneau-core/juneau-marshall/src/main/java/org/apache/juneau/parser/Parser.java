@@ -15,10 +15,12 @@ package org.apache.juneau.parser;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.msgpack.*;
 import org.apache.juneau.transform.*;
@@ -212,6 +214,56 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_debugOutputLines = PREFIX + "debugOutputLines.i";
 
+	/**
+	 * Configuration property:  Key pool size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Parser.keyPoolSize.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ParserBuilder#keyPoolSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The number of slots in a pool of strings used for map keys and bean property names.
+	 *
+	 * <p>
+	 * When enabled, parsers look up keys in the pool directly from their input buffers so that repeated keys (e.g. the
+	 * same field names in every record of a large array of objects) share a single {@link String} instance instead of
+	 * allocating a new one each time.
+	 * <br>This reduces both the allocation rate and the retained heap when parsing into generic maps.
+	 *
+	 * <p>
+	 * The pool is shared by all sessions of the parser and never grows beyond the specified size.
+	 * Keys longer than 64 characters are not pooled.
+	 * <br>Currently used by the JSON, MessagePack, UON and URL-encoding parsers.
+	 *
+	 * <p>
+	 * A value of <code>0</code> disables pooling.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that pools up to 1024 distinct keys.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.keyPoolSize(1024)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_keyPoolSize</jsf>, 1024)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String PARSER_keyPoolSize = PREFIX + "keyPoolSize.i";
+
 	/**
 	 * Configuration property:  Parser listener.
 	 *
@@ -275,6 +327,53 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Parser.sessionPoolSize.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ParserBuilder#sessionPoolSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of idle sessions kept by this parser for reuse by the convenience methods
+	 * (e.g. {@link #parse(Object, Class)}, {@link #parseIntoMap(Object, Map, Type, Type)}).
+	 *
+	 * <p>
+	 * Sessions created through these methods always use the default session arguments, so they can be
+	 * {@link Session#reset() reset} and handed to the next call instead of being constructed from scratch.
+	 *
+	 * <p>
+	 * A value of <code>0</code> disables pooling.
+	 * <br>Pooling is also disabled when a {@link #PARSER_listener listener} is defined since listeners are
+	 * created per-session.
+	 * <br>Sessions created through {@link #createSession(ParserSessionArgs)} are never pooled.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that keeps up to 16 idle sessions for reuse.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.sessionPoolSize(16)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_sessionPoolSize</jsf>, 16)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String PARSER_sessionPoolSize = PREFIX + "sessionPoolSize.i";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -472,8 +571,10 @@ public abstract class Parser extends BeanContext {
 	//-------------------------------------------------------------------------------------------------------------------
 
 	private final boolean trimStrings, strict, autoCloseStreams, unbuffered;
-	private final int debugOutputLines;
+	private final int debugOutputLines, keyPoolSize, sessionPoolSize;
 	private final Class<? extends ParserListener> listener;
+	private final Queue<ParserSession> sessionPool;
+	private final StringPool keyPool;
 
 	/** General parser properties currently set on this parser. */
 	private final MediaType[] consumes;
@@ -493,6 +594,10 @@ public abstract class Parser extends BeanContext {
 		debugOutputLines = getIntegerProperty(PARSER_debugOutputLines, 5);
 		unbuffered = getBooleanProperty(PARSER_unbuffered, false);
 		listener = getClassProperty(PARSER_listener, ParserListener.class, null);
+		sessionPoolSize = getIntegerProperty(PARSER_sessionPoolSize, 0);
+		sessionPool = sessionPoolSize > 0 && listener == null ? new ArrayBlockingQueue<ParserSession>(sessionPoolSize) : null;
+		keyPoolSize = getIntegerProperty(PARSER_keyPoolSize, 0);
+		keyPool = keyPoolSize > 0 ? new StringPool(keyPoolSize, 64) : null;
 		this.consumes = new MediaType[consumes.length];
 		for (int i = 0; i < consumes.length; i++) {
 			this.consumes[i] = MediaType.forString(consumes[i]);
@@ -605,6 +710,8 @@ public abstract class Parser extends BeanContext {
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset} property value).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or charset defined by
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset} property value).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or charset defined by
+	 * 			{@link ReaderParser#RPARSER_inputStreamCharset} property value).
 	 * 		<li>{@link File} containing system encoded text (or charset defined by
 	 * 			{@link ReaderParser#RPARSER_fileCharset} property value).
 	 * 	</ul>
@@ -629,7 +736,12 @@ public abstract class Parser extends BeanContext {
 	 * @see BeanSession#getClassMeta(Type,Type...) for argument syntax for maps and collections.
 	 */
 	public final <T> T parse(Object input, Type type, Type...args) throws ParseException {
-		return createSession().parse(input, type, args);
+		ParserSession s = borrowSession();
+		try {
+			return s.parse(input, type, args);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -668,7 +780,12 @@ public abstract class Parser extends BeanContext {
 	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
 	 */
 	public final <T> T parse(Object input, Class<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = borrowSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -688,7 +805,12 @@ public abstract class Parser extends BeanContext {
 	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
 	 */
 	public final <T> T parse(Object input, ClassMeta<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = borrowSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	@Override /* Context */
@@ -701,6 +823,38 @@ public abstract class Parser extends BeanContext {
 		return new ParserSessionArgs().mediaType(getPrimaryMediaType());
 	}
 
+	/**
+	 * Returns a session with default arguments for a single call from one of the convenience methods.
+	 *
+	 * <p>
+	 * Reuses an idle session from the session pool if one is available.
+	 *
+	 * @return A session that must be passed to {@link #releaseSession(ParserSession)} when the call completes.
+	 */
+	final ParserSession borrowSession() {
+		if (sessionPool != null) {
+			ParserSession s = sessionPool.poll();
+			if (s != null)
+				return s;
+		}
+		return createSession(createDefaultSessionArgs());
+	}
+
+	/**
+	 * Resets the specified session and returns it to the session pool.
+	 *
+	 * <p>
+	 * No-op if session pooling is disabled or the pool is full.
+	 *
+	 * @param s The session returned by {@link #borrowSession()}.
+	 */
+	final void releaseSession(ParserSession s) {
+		if (sessionPool != null) {
+			s.reset();
+			sessionPool.offer(s);
+		}
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Optional methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -730,7 +884,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <K,V> Map<K,V> parseIntoMap(Object input, Map<K,V> m, Type keyType, Type valueType) throws ParseException {
-		return createSession().parseIntoMap(input, m, keyType, valueType);
+		ParserSession s = borrowSession();
+		try {
+			return s.parseIntoMap(input, m, keyType, valueType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -754,7 +913,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <E> Collection<E> parseIntoCollection(Object input, Collection<E> c, Type elementType) throws ParseException {
-		return createSession().parseIntoCollection(input, c, elementType);
+		ParserSession s = borrowSession();
+		try {
+			return s.parseIntoCollection(input, c, elementType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -781,7 +945,12 @@ public abstract class Parser extends BeanContext {
 	public final Object[] parseArgs(Object input, Type[] argTypes) throws ParseException {
 		if (argTypes == null || argTypes.length == 0)
 			return new Object[0];
-		return createSession().parseArgs(input, argTypes);
+		ParserSession s = borrowSession();
+		try {
+			return s.parseArgs(input, argTypes);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 
@@ -814,6 +983,8 @@ public abstract class Parser extends BeanContext {
 				.append("trimStrings", trimStrings)
 				.append("strict", strict)
 				.append("listener", listener)
+				.append("keyPoolSize", keyPoolSize)
+				.append("sessionPoolSize", sessionPoolSize)
 			);
 	}
 
@@ -902,4 +1073,36 @@ public abstract class Parser extends BeanContext {
 	protected final Class<? extends ParserListener> getListenerClass() {
 		return listener;
 	}
+
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * @see #PARSER_sessionPoolSize
+	 * @return
+	 * 	The maximum number of idle sessions kept by this parser for reuse.
+	 */
+	protected final int getSessionPoolSize() {
+		return sessionPoolSize;
+	}
+
+	/**
+	 * Configuration property:  Key pool size.
+	 *
+	 * @see #PARSER_keyPoolSize
+	 * @return
+	 * 	The number of slots in the pool of strings used for map keys and bean property names.
+	 */
+	protected final int getKeyPoolSize() {
+		return keyPoolSize;
+	}
+
+	/**
+	 * Returns the pool of strings used for map keys and bean property names.
+	 *
+	 * @see #PARSER_keyPoolSize
+	 * @return The key pool, or <jk>null</jk> if key pooling is disabled.
+	 */
+	protected final StringPool getKeyPool() {
+		return keyPool;
+	}
 }
@@ -103,6 +103,26 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_debugOutputLines, value);
 	}
 
+	/**
+	 * Configuration property:  Key pool size.
+	 *
+	 * <p>
+	 * The number of slots in a pool of strings shared by all sessions for repeated map keys and bean property names.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_keyPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder keyPoolSize(int value) {
+		return set(PARSER_keyPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Parser listener.
 	 *
@@ -121,6 +141,26 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <p>
+	 * The maximum number of idle sessions kept by this parser for reuse by its convenience methods.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_sessionPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder sessionPoolSize(int value) {
+		return set(PARSER_sessionPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -545,6 +585,18 @@ public class ParserBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public ParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public ParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -14,6 +14,7 @@ package org.apache.juneau.parser;
 
 import static org.apache.juneau.internal.CollectionUtils.*;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -214,4 +215,21 @@ public final class ParserGroup extends BeanContext {
 	public List<Parser> getParsers() {
 		return parsers;
 	}
+
+	/**
+	 * Eagerly creates the metadata used by the parsers in this group for the specified types.
+	 *
+	 * <p>
+	 * Equivalent to calling {@link BeanContext#preload(Type...)} on each parser in this group.
+	 *
+	 * @param types
+	 * 	The types to preload.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroup warmUp(Type...types) {
+		for (Parser x : parsers)
+			x.preload(types);
+		return this;
+	}
 }
@@ -189,6 +189,26 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Configuration property:  Key pool size.
+	 *
+	 * <p>
+	 * The number of slots in a pool of strings shared by all sessions for repeated map keys and bean property names.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_keyPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder keyPoolSize(int value) {
+		return set(PARSER_keyPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Parser listener.
 	 *
@@ -207,6 +227,26 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <p>
+	 * The maximum number of idle sessions kept by each parser for reuse by its convenience methods.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_sessionPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder sessionPoolSize(int value) {
+		return set(PARSER_sessionPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -692,6 +732,18 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ParserGroupBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public ParserGroupBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public ParserGroupBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -13,6 +13,7 @@
 package org.apache.juneau.parser;
 
 import java.io.*;
+import java.nio.*;
 
 /**
  * Input stream meant to be used as input for stream-based parsers.
@@ -21,11 +22,20 @@ import java.io.*;
  * Keeps track of current byte position.
  *
  * <p>
+ * Input can also be read directly from a {@link ByteBuffer} (e.g. a {@link MappedByteBuffer} over a file) in which
+ * case no intermediate stream is created and subclasses can access the buffer through {@link #getBuffer()}.
+ * <br>Files too large to be mapped into a single buffer are read one region at a time, with the next region mapped
+ * through {@link ParserPipe#getByteBuffer(long)} when the current one is exhausted.
+ *
+ * <p>
  * <b>Warning:</b>  Not thread safe.
  */
 public class ParserInputStream extends InputStream implements Positionable {
 
+	private final ParserPipe pipe;
 	private final InputStream is;
+	private ByteBuffer bb;
+	private long regionStart;
 	int pos = 0;
 
 	/**
@@ -35,20 +45,101 @@ public class ParserInputStream extends InputStream implements Positionable {
 	 * @throws Exception
 	 */
 	protected ParserInputStream(ParserPipe pipe) throws Exception {
+		this.pipe = pipe;
 		this.is = pipe.getInputStream();
+		this.bb = null;
+		pipe.setPositionable(this);
+	}
+
+	/**
+	 * Constructor for reading directly from a buffer.
+	 *
+	 * @param pipe The parser input.
+	 * @param bb
+	 * 	The buffer to read from.
+	 * 	<br>Reading starts at the current position of the buffer and advances it.
+	 */
+	protected ParserInputStream(ParserPipe pipe, ByteBuffer bb) {
+		this.pipe = pipe;
+		this.is = null;
+		this.bb = bb;
 		pipe.setPositionable(this);
 	}
 
+	/**
+	 * Returns the buffer this stream is reading from.
+	 *
+	 * <p>
+	 * When reading a file in regions, this is the current region.
+	 *
+	 * @return The buffer, or <jk>null</jk> if this stream is reading from an {@link InputStream}.
+	 */
+	protected final ByteBuffer getBuffer() {
+		return bb;
+	}
+
+	/**
+	 * Returns the buffer this stream is reading from, ensuring that it contains at least the specified number of bytes.
+	 *
+	 * <p>
+	 * When reading a file in regions, a new region starting at the current position is mapped if the current one
+	 * doesn't contain enough bytes.
+	 *
+	 * @param len The number of bytes needed.
+	 * @return The buffer, or <jk>null</jk> if this stream is reading from an {@link InputStream}.
+	 * @throws IOException If fewer than the specified number of bytes remain in the input.
+	 */
+	protected final ByteBuffer getBuffer(int len) throws IOException {
+		if (bb != null && bb.remaining() < len) {
+			nextRegion();
+			if (bb.remaining() < len)
+				throw new IOException("Unexpected end of file found.");
+		}
+		return bb;
+	}
+
+	/*
+	 * Maps the region of the file starting at the current position.
+	 * Returns false if there are no more bytes in the input.
+	 */
+	private boolean nextRegion() throws IOException {
+		ByteBuffer b = pipe.getByteBuffer(regionStart + bb.position());
+		if (b == null)
+			return false;
+		regionStart += bb.position();
+		bb = b;
+		return true;
+	}
+
 	@Override /* InputStream */
 	public int read() throws IOException {
+		if (bb != null)
+			return bb.hasRemaining() || nextRegion() ? bb.get() & 0xFF : -1;
 		int i = is.read();
 		if (i > 0)
 			pos++;
 		return i;
 	}
 
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (bb == null) {
+			int i = is.read(b, off, len);
+			if (i > 0)
+				pos += i;
+			return i;
+		}
+		if (len == 0)
+			return 0;
+		if (! bb.hasRemaining() && ! nextRegion())
+			return -1;
+		len = Math.min(len, bb.remaining());
+		bb.get(b, off, len);
+		return len;
+	}
+
 	@Override /* Positionable */
 	public Position getPosition() {
-		return new Position(pos);
+		return new Position(bb == null ? pos : (int)(regionStart + bb.position()));
 	}
 }
@@ -16,7 +16,10 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -31,21 +34,32 @@ import org.apache.juneau.internal.*;
  * 	<li>{@link CharSequence}
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer}
  * 	<li>{@link File}
  * 	<li><code><jk>null</jk></code>
  * </ul>
  *
  * <p>
+ * UTF-8 encoded <code><jk>byte</jk>[]</code> and {@link ByteBuffer} input is decoded directly from memory without
+ * going through an {@link InputStreamReader}.
+ *
+ * <p>
  * For stream-based parsers, the input object can be any of the following:
  * <ul>
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer}
  * 	<li>{@link File}
  * 	<li>{@link String} - Hex-encoded bytes.  (not BASE-64!)
  * 	<li><code><jk>null</jk></code>
  * </ul>
  *
  * <p>
+ * Stream-based parsers that can work directly on memory can use {@link #getByteBuffer()} instead of
+ * {@link #getInputStream()} to access <code><jk>byte</jk>[]</code>, {@link ByteBuffer} and {@link File} input without
+ * copying it.
+ *
+ * <p>
  * Note that Readers and InputStreams will NOT be automatically closed when {@link #close()} is called, but
  * streams and readers created from other types (e.g. Files) WILL be automatically closed.
  */
@@ -62,6 +76,7 @@ public final class ParserPipe implements Closeable {
 	private boolean doClose;
 	private BinaryFormat binaryFormat;
 	private Positionable positionable;
+	private FileChannel fileChannel;
 
 	/**
 	 * Constructor for reader-based parsers.
@@ -169,6 +184,12 @@ public final class ParserPipe implements Closeable {
 				inputString = toHex((byte[])input);
 			inputStream = new ByteArrayInputStream((byte[])input);
 			doClose = false;
+		} else if (input instanceof ByteBuffer) {
+			ByteBuffer bb = (ByteBuffer)input;
+			if (debug)
+				inputString = toHex(toBytes(bb));
+			inputStream = new ByteBufferInputStream(bb);
+			doClose = false;
 		} else if (input instanceof String) {
 			inputString = (String)input;
 			inputStream = new ByteArrayInputStream(convertFromString((String)input));
@@ -189,6 +210,75 @@ public final class ParserPipe implements Closeable {
 		return inputStream;
 	}
 
+	/**
+	 * Returns the input as a buffer that can be read directly from memory.
+	 *
+	 * <p>
+	 * The following input types are supported:
+	 * <ul>
+	 * 	<li>{@link ByteBuffer} - A duplicate of the buffer is returned so that the position of the original is not
+	 * 		affected.
+	 * 	<li><code><jk>byte</jk>[]</code> - The array is wrapped without being copied.
+	 * 	<li>{@link File} - The file is memory-mapped as a read-only {@link MappedByteBuffer}.
+	 * 		<br>Files larger than {@link Integer#MAX_VALUE} bytes cannot be mapped into a single buffer, so only the
+	 * 		first region of the file is returned and the rest is mapped through {@link #getByteBuffer(long)}.
+	 * 		<br>Files are not mapped when debug mode is enabled since the contents need to be copied anyway.
+	 * </ul>
+	 *
+	 * @return The input as a buffer, or <jk>null</jk> if the input has to be read through {@link #getInputStream()}.
+	 * @throws IOException If the file could not be mapped.
+	 */
+	public ByteBuffer getByteBuffer() throws IOException {
+		if (input instanceof ByteBuffer) {
+			ByteBuffer bb = ((ByteBuffer)input).duplicate();
+			if (debug)
+				inputString = toHex(toBytes(bb));
+			return bb;
+		}
+		if (input instanceof byte[]) {
+			if (debug)
+				inputString = toHex((byte[])input);
+			return ByteBuffer.wrap((byte[])input);
+		}
+		if (input instanceof File && ! debug) {
+			// Kept open until this pipe is closed so that later regions can be mapped.
+			fileChannel = FileChannel.open(((File)input).toPath(), StandardOpenOption.READ);
+			ByteBuffer bb = getByteBuffer(0);
+			return bb == null ? ByteBuffer.allocate(0) : bb;
+		}
+		return null;
+	}
+
+	/**
+	 * Maps the region of a {@link File} input starting at the specified position.
+	 *
+	 * <p>
+	 * Each region is as large as possible up to {@link Integer#MAX_VALUE} bytes, so any field that fits in a single
+	 * buffer is contained in the region that starts at the beginning of that field.
+	 * <br>Used by {@link ParserInputStream} to read files that are too large to be mapped into a single buffer.
+	 *
+	 * @param position The position in the file where the region starts.
+	 * @return
+	 * 	The region as a read-only buffer, or <jk>null</jk> if the position is at the end of the file or the input was
+	 * 	not mapped by {@link #getByteBuffer()}.
+	 * @throws IOException If the file could not be mapped.
+	 */
+	public ByteBuffer getByteBuffer(long position) throws IOException {
+		if (fileChannel == null)
+			return null;
+		long size = fileChannel.size();
+		if (position >= size)
+			return null;
+		// The mapping remains valid after the channel is closed.
+		return fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, Integer.MAX_VALUE));
+	}
+
+	private static byte[] toBytes(ByteBuffer bb) {
+		byte[] b = new byte[bb.remaining()];
+		bb.duplicate().get(b);
+		return b;
+	}
+
 	private byte[] convertFromString(String in) {
 		switch(binaryFormat) {
 			case BASE64: return base64Decode(in);
@@ -223,26 +313,35 @@ public final class ParserPipe implements Closeable {
 			inputString = input.toString();
 			reader = new ParserReader(this);
 			doClose = false;
-		} else if (input instanceof InputStream || input instanceof byte[]) {
+		} else if (input instanceof InputStream || input instanceof byte[] || input instanceof ByteBuffer) {
 			doClose = input instanceof InputStream && autoCloseStreams;
-			InputStream is = (
-				input instanceof InputStream
-				? (InputStream)input
-				: new ByteArrayInputStream((byte[])input)
-			);
-			CharsetDecoder cd = (
-				"default".equalsIgnoreCase(inputStreamCharset)
+			Charset cs = (
+				inputStreamCharset == null
+				? UTF8
+				: "default".equalsIgnoreCase(inputStreamCharset)
 				? Charset.defaultCharset()
 				: Charset.forName(inputStreamCharset)
-			).newDecoder();
-			if (strict) {
-				cd.onMalformedInput(CodingErrorAction.REPORT);
-				cd.onUnmappableCharacter(CodingErrorAction.REPORT);
+			);
+			if (cs.equals(UTF8) && ! (input instanceof InputStream)) {
+				reader = (
+					input instanceof byte[]
+					? new Utf8Reader((byte[])input, strict)
+					: new Utf8Reader((ByteBuffer)input, strict)
+				);
 			} else {
-				cd.onMalformedInput(CodingErrorAction.REPLACE);
-				cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+				CharsetDecoder cd = cs.newDecoder();
+				if (strict) {
+					cd.onMalformedInput(CodingErrorAction.REPORT);
+					cd.onUnmappableCharacter(CodingErrorAction.REPORT);
+				} else {
+					cd.onMalformedInput(CodingErrorAction.REPLACE);
+					cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+				}
+				if (input instanceof ByteBuffer)
+					reader = new CharSequenceReader(cd.decode(((ByteBuffer)input).duplicate()));
+				else
+					reader = new InputStreamReader(input instanceof InputStream ? (InputStream)input : new ByteArrayInputStream((byte[])input), cd);
 			}
-			reader = new InputStreamReader(is, cd);
 			if (debug) {
 				inputString = read(reader);
 				reader = new StringReader(inputString);
@@ -349,6 +448,8 @@ public final class ParserPipe implements Closeable {
 		try {
 			if (doClose)
 				IOUtils.close(reader, inputStream);
+			if (fileChannel != null)
+				fileChannel.close();
 		} catch (IOException e) {
 			throw new BeanRuntimeException(e);
 		}
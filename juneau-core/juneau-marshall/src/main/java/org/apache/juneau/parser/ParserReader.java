@@ -27,6 +27,10 @@ import org.apache.juneau.internal.*;
  * characters from the previous mark point.
  *
  * <p>
+ * The line and column numbers are only computed when {@link #getPosition()} is called, so the bulk scanning methods
+ * (e.g. {@link #scan(AsciiSet)} and {@link #skipWs()}) can work directly on the internal buffer.
+ *
+ * <p>
  * <b>Warning:</b>  Not thread safe.
  */
 public class ParserReader extends Reader implements Positionable {
@@ -35,8 +39,9 @@ public class ParserReader extends Reader implements Positionable {
 	protected final Reader r;
 
 	private char[] buff;       // Internal character buffer
-	private int line = 1;      // Current line number
-	private int column;        // Current column number
+	private int line = 1;      // Line number at iPos
+	private int column;        // Column number at iPos
+	private int iPos = 0;      // Position in buffer up to which line and column have been computed
 	private int iCurrent = 0;  // Current pointer into character buffer
 	private int iMark = -1;    // Mark position in buffer
 	private int iEnd = 0;      // The last good character position in the buffer
@@ -79,16 +84,9 @@ public class ParserReader extends Reader implements Positionable {
 	 */
 	@Override /* Reader */
 	public final int read() throws IOException {
-		int c = readFromBuff();
-		if (c == -1)
-			return -1;
-		if (c == '\n') {
-			line++;
-			column = 0;
-		} else {
-			column++;
-		}
-		return c;
+		if (iCurrent < iEnd)
+			return buff[iCurrent++];
+		return readFromBuff();
 	}
 
 	/**
@@ -98,13 +96,131 @@ public class ParserReader extends Reader implements Positionable {
 	 * @throws IOException
 	 */
 	public final int readSkipWs() throws IOException {
+		skipWs();
+		return read();
+	}
+
+	/**
+	 * Skips over a run of whitespace characters.
+	 *
+	 * <p>
+	 * Whitespace is determined using {@link Character#isWhitespace(int)}.
+	 *
+	 * @return The next non-whitespace character without consuming it, or -1 if the end of the stream has been reached.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 */
+	public final int skipWs() throws IOException {
 		while (true) {
-			int c = read();
-			if (c == -1 || ! Character.isWhitespace(c))
-				return c;
+			while (iCurrent < iEnd) {
+				char c = buff[iCurrent];
+				if (! Character.isWhitespace(c))
+					return c;
+				iCurrent++;
+			}
+			if (! fill())
+				return -1;
+		}
+	}
+
+	/**
+	 * Skips over characters until one of the specified characters is found.
+	 *
+	 * <p>
+	 * Scans the internal buffer directly, so it's considerably faster than calling {@link #read()} repeatedly.
+	 * <br>The skipped characters remain part of the marked region if {@link #mark()} was called, so this can be used
+	 * to quickly collect runs of ordinary characters (e.g. the contents of a quoted string up to the closing quote or
+	 * an escape character).
+	 *
+	 * @param stopChars
+	 * 	The characters to stop at.
+	 * 	<br>Characters above 0x7F are never stop characters.
+	 * @return The stop character found without consuming it, or -1 if the end of the stream has been reached.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 */
+	public final int scan(AsciiSet stopChars) throws IOException {
+		while (true) {
+			while (iCurrent < iEnd) {
+				char c = buff[iCurrent];
+				if (stopChars.contains(c))
+					return c;
+				iCurrent++;
+			}
+			if (! fill())
+				return -1;
+		}
+	}
+
+	/**
+	 * Skips over a run of the specified characters.
+	 *
+	 * <p>
+	 * Like {@link #scan(AsciiSet)}, the skipped characters remain part of the marked region if {@link #mark()} was
+	 * called.
+	 *
+	 * @param chars
+	 * 	The characters to skip.
+	 * 	<br>Characters above 0x7F are never skipped.
+	 * @return The first character not in the set without consuming it, or -1 if the end of the stream has been reached.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 */
+	public final int skip(AsciiSet chars) throws IOException {
+		while (true) {
+			while (iCurrent < iEnd) {
+				char c = buff[iCurrent];
+				if (! chars.contains(c))
+					return c;
+				iCurrent++;
+			}
+			if (! fill())
+				return -1;
 		}
 	}
 
+	/**
+	 * Reads characters until one of the specified characters or the end of the stream is found.
+	 *
+	 * <p>
+	 * The stop character is not consumed.
+	 * <br>Note that this method replaces the current mark point.
+	 *
+	 * @param stopChars
+	 * 	The characters to stop at.
+	 * 	<br>Characters above 0x7F are never stop characters.
+	 * @return The characters read.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 */
+	public final String readUntil(AsciiSet stopChars) throws IOException {
+		mark();
+		scan(stopChars);
+		return getMarked();
+	}
+
+	/*
+	 * Makes at least one more character available in the buffer without consuming it.
+	 * Returns false if the end of the stream has been reached.
+	 */
+	private boolean fill() throws IOException {
+		if (readFromBuff() == -1)
+			return false;
+		iCurrent--;
+		return true;
+	}
+
+	/*
+	 * Computes the line and column numbers up to the current position.
+	 */
+	private void syncPosition() {
+		for (int i = iPos; i < iCurrent; i++) {
+			if (buff[i] == '\n') {
+				line++;
+				column = 0;
+			} else {
+				column++;
+			}
+		}
+		iPos = iCurrent;
+	}
+
 	/**
 	 * Same as {@link #read()} but detects and combines extended unicode characters (characters above 0x10000).
 	 *
@@ -154,10 +270,12 @@ public class ParserReader extends Reader implements Positionable {
 
 					// Otherwise, we copy what's currently marked to the beginning of the buffer.
 					} else {
+						syncPosition();
 						int copyBuff = iMark;
 						System.arraycopy(buff, copyBuff, buff, 0, buff.length - copyBuff);
 						iCurrent -= copyBuff;
 						iMark -= copyBuff;
+						iPos = iCurrent;
 					}
 					int expected = buff.length - iCurrent;
 
@@ -170,6 +288,7 @@ public class ParserReader extends Reader implements Positionable {
 					iEnd = iCurrent + x;
 				} else {
 					// Copy the last 10 chars in the buffer to the beginning of the buffer.
+					syncPosition();
 					int copyBuff = Math.min(iCurrent, 10);
 					System.arraycopy(buff, iCurrent-copyBuff, buff, 0, copyBuff);
 
@@ -177,6 +296,7 @@ public class ParserReader extends Reader implements Positionable {
 					int expected = buff.length - copyBuff;
 					int x = read(buff, copyBuff, expected);
 					iCurrent = copyBuff;
+					iPos = iCurrent;
 					if (x == -1) {
 						endReached = true;
 						iEnd = iCurrent;
@@ -222,14 +342,7 @@ public class ParserReader extends Reader implements Positionable {
 	 * @throws IOException If a problem occurred trying to read from the reader.
 	 */
 	public final int peekSkipWs() throws IOException {
-		while(true) {
-			int c = read();
-			boolean isWs = Character.isWhitespace(c);
-			if (c != -1 && ! isWs)
-				unread();
-			if (! isWs)
-				return c;
-		}
+		return skipWs();
 	}
 
 	/**
@@ -260,10 +373,13 @@ public class ParserReader extends Reader implements Positionable {
 		if (iCurrent <= 0)
 			throw new IOException("Buffer underflow.");
 		iCurrent--;
-		if (column == 0)
-			line--;
-		else
-			column--;
+		if (iCurrent < iPos) {
+			iPos = iCurrent;
+			if (column == 0)
+				line--;
+			else
+				column--;
+		}
 		return this;
 	}
 
@@ -289,6 +405,27 @@ public class ParserReader extends Reader implements Positionable {
 		return getMarked(0, 0);
 	}
 
+	/**
+	 * Parses the characters between the marked position and the current position as a number.
+	 *
+	 * <p>
+	 * Same as calling <code>StringUtils.parseNumber(getMarked(), type)</code> but avoids creating an intermediate
+	 * string for most numbers.
+	 *
+	 * @param type
+	 * 	The number type to created.
+	 * 	If <jk>null</jk> or <code>Number</code>, uses the best guess.
+	 * @return The parsed number.
+	 * @throws ParseException If the marked characters are not a valid number.
+	 */
+	public final Number getMarkedNumber(Class<? extends Number> type) throws ParseException {
+		if (holesExist)
+			return StringUtils.parseNumber(getMarked(), type);
+		Number n = StringUtils.parseNumber(buff, iMark, iCurrent - iMark, type);
+		iMark = -1;
+		return n;
+	}
+
 	/**
 	 * Same as {@link #getMarked()} except allows you to specify offsets into the buffer.
 	 *
@@ -303,10 +440,27 @@ public class ParserReader extends Reader implements Positionable {
 	 * @return The contents of the reusable character buffer as a string.
 	 */
 	public final String getMarked(int offsetStart, int offsetEnd) {
+		return getMarked(offsetStart, offsetEnd, null);
+	}
+
+	/**
+	 * Same as {@link #getMarked(int, int)} except looks up the string in the specified pool.
+	 *
+	 * <p>
+	 * The pool is searched directly from the characters in the buffer so that no string is created if it's already
+	 * in the pool.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @param pool The string pool.  If <jk>null</jk>, a new string is always created.
+	 * @return The contents of the reusable character buffer as a string.
+	 */
+	public final String getMarked(int offsetStart, int offsetEnd, StringPool pool) {
 		int offset = 0;
 
 		// Holes are \u00FF 'delete' characters that we need to get rid of now.
 		if (holesExist) {
+			syncPosition();
 			for (int i = iMark; i < iCurrent; i++) {
 				char c = buff[i];
 				if (c == 127)
@@ -317,7 +471,7 @@ public class ParserReader extends Reader implements Positionable {
 			holesExist = false;
 		}
 		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart - offset;
-		String s = new String(buff, start, len);
+		String s = pool == null ? new String(buff, start, len) : pool.get(buff, start, len);
 		iMark = -1;
 		return s;
 	}
@@ -342,6 +496,7 @@ public class ParserReader extends Reader implements Positionable {
 	 * @return This object (for method chaining).
 	 */
 	public final ParserReader delete(int count) {
+		syncPosition();
 		for (int i = 0; i < count; i++)
 			buff[iCurrent-i-1] = 127;
 		holesExist = true;
@@ -361,6 +516,7 @@ public class ParserReader extends Reader implements Positionable {
 	 * @throws IOException
 	 */
 	public final ParserReader replace(int c, int offset) throws IOException {
+		syncPosition();
 		if (c < 0x10000) {
 			if (offset < 1)
 				throw new IOException("Buffer underflow.");
@@ -404,6 +560,7 @@ public class ParserReader extends Reader implements Positionable {
 
 	@Override /* Positionable */
 	public Position getPosition() {
+		syncPosition();
 		return new Position(line, column);
 	}
 }
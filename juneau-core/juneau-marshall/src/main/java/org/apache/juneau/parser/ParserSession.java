@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.parser;
 
+import static org.apache.juneau.internal.ClassUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.parser.Parser.*;
 
@@ -21,6 +22,7 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.utils.*;
 
@@ -41,6 +43,7 @@ public abstract class ParserSession extends BeanSession {
 	private BeanPropertyMeta currentProperty;
 	private ClassMeta<?> currentClass;
 	private final ParserListener listener;
+	private final StringPool keyPool;
 
 	private Position mark = new Position(-1);
 
@@ -62,6 +65,7 @@ public abstract class ParserSession extends BeanSession {
 		javaMethod = args.javaMethod;
 		outer = args.outer;
 		listener = getInstanceProperty(PARSER_listener, ParserListener.class, ctx.getListenerClass());
+		keyPool = ctx.getKeyPool();
 	}
 
 	/**
@@ -84,6 +88,15 @@ public abstract class ParserSession extends BeanSession {
 			);
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		currentProperty = null;
+		currentClass = null;
+		pipe = null;
+		unmark();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Abstract methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -133,6 +146,8 @@ public abstract class ParserSession extends BeanSession {
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset}).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or whatever the encoding specified by
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset}).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or whatever the encoding specified by
+	 * 			{@link ReaderParser#RPARSER_inputStreamCharset}).
 	 * 		<li>{@link File} containing system encoded text (or whatever the encoding specified by
 	 * 			{@link ReaderParser#RPARSER_fileCharset}).
 	 * 	</ul>
@@ -237,6 +252,11 @@ public abstract class ParserSession extends BeanSession {
 	/**
 	 * Converts the specified <code>ObjectMap</code> into a bean identified by the <js>"_type"</js> property in the map.
 	 *
+	 * <p>
+	 * If the expected type is a collection or array of beans and the map is a row set produced by a serializer with
+	 * {@link org.apache.juneau.serializer.Serializer#SERIALIZER_columnarBeanCollections} enabled, the rows are
+	 * converted into beans instead.
+	 *
 	 * @param m The map to convert to a bean.
 	 * @param pMeta The current bean property being parsed.
 	 * @param eType The current expected type being parsed.
@@ -245,6 +265,9 @@ public abstract class ParserSession extends BeanSession {
 	 */
 	protected final Object cast(ObjectMap m, BeanPropertyMeta pMeta, ClassMeta<?> eType) {
 
+		if (eType != null && eType.isCollectionOrArray() && isRowSet(m))
+			return castRowSet(m, eType);
+
 		String btpn = getBeanTypePropertyName(eType);
 
 		Object o = m.get(btpn);
@@ -274,6 +297,85 @@ public abstract class ParserSession extends BeanSession {
 		return m;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified map is a row set consisting of <js>"_columns"</js> and <js>"_rows"</js> lists.
+	 */
+	private static boolean isRowSet(ObjectMap m) {
+		return m.size() == 2 && m.get("_columns") instanceof List && m.get("_rows") instanceof List;
+	}
+
+	/**
+	 * Converts a row set into a collection or array of beans.
+	 *
+	 * <p>
+	 * Row values were parsed as generic objects, so nested row sets inside them are converted based on the property
+	 * types of the bean.
+	 *
+	 * @param m The row set.
+	 * @param type The collection or array type to convert to.
+	 * @return The converted collection or array, or the same map if the element type is not a bean.
+	 */
+	private Object castRowSet(ObjectMap m, ClassMeta<?> type) {
+		ClassMeta<?> et = type.getElementType();
+		if (et == null || ! et.isBean())
+			return m;
+
+		List<?> columns = (List<?>)m.get("_columns"), rows = (List<?>)m.get("_rows");
+		String[] names = new String[columns.size()];
+		BeanPropertyMeta[] props = new BeanPropertyMeta[names.length];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = String.valueOf(columns.get(i));
+			props[i] = et.getBeanMeta().getPropertyMeta(names[i]);
+		}
+
+		List<Object> l = new ArrayList<>(rows.size());
+		for (Object r : rows) {
+			if (r == null) {
+				l.add(null);
+				continue;
+			}
+			if (! (r instanceof List))
+				return m;
+			List<?> row = (List<?>)r;
+			BeanMap<?> bm = newBeanMap(et.getInnerClass());
+			for (int i = 0; i < names.length && i < row.size(); i++) {
+				Object v = row.get(i);
+				if (props[i] != null)
+					v = castRowSets(v, props[i].getClassMeta());
+				bm.put(names[i], v);
+			}
+			l.add(bm.getBean());
+		}
+		return convertToType(l, type);
+	}
+
+	/*
+	 * Converts any row sets found inside a generic value to the collection or array types they're being set on.
+	 */
+	private Object castRowSets(Object o, ClassMeta<?> type) {
+		if (o instanceof ObjectMap) {
+			ObjectMap m = (ObjectMap)o;
+			if (type.isCollectionOrArray() && isRowSet(m))
+				return castRowSet(m, type);
+			if (type.isBean()) {
+				for (Map.Entry<String,Object> e : m.entrySet()) {
+					BeanPropertyMeta p = type.getBeanMeta().getPropertyMeta(e.getKey());
+					if (p != null)
+						e.setValue(castRowSets(e.getValue(), p.getClassMeta()));
+				}
+			} else if (type.isMap() && type.getValueType() != null) {
+				for (Map.Entry<String,Object> e : m.entrySet())
+					e.setValue(castRowSets(e.getValue(), type.getValueType()));
+			}
+		} else if (o instanceof List && type.isCollectionOrArray() && type.getElementType() != null) {
+			@SuppressWarnings("unchecked")
+			ListIterator<Object> i = ((List<Object>)o).listIterator();
+			while (i.hasNext())
+				i.set(castRowSets(i.next(), type.getElementType()));
+		}
+		return o;
+	}
+
 	/**
 	 * Give the specified dictionary name, resolve it to a class.
 	 *
@@ -378,6 +480,8 @@ public abstract class ParserSession extends BeanSession {
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset} property value).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or charset defined by
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset} property value).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or charset defined by
+	 * 			{@link ReaderParser#RPARSER_inputStreamCharset} property value).
 	 * 		<li>{@link File} containing system encoded text (or charset defined by
 	 * 			{@link ReaderParser#RPARSER_fileCharset} property value).
 	 * 	</ul>
@@ -695,6 +799,25 @@ public abstract class ParserSession extends BeanSession {
 		return (T)o;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified array type can be populated directly from primitive values.
+	 *
+	 * <p>
+	 * This is the case for arrays of numeric and boolean primitives when no swaps are defined on the element type.
+	 * <br>Parsers can use this to build such arrays with a {@link PrimitiveArrayBuilder} instead of collecting boxed
+	 * values into an intermediate list.
+	 *
+	 * @param type The array type being parsed.
+	 * @return <jk>true</jk> if the elements of the array can be parsed without being boxed.
+	 */
+	protected final boolean canParsePrimitiveArray(ClassMeta<?> type) {
+		Class<?> ct = type.getInnerClass().getComponentType();
+		if (ct == null || ! PrimitiveArrayBuilder.isSupported(ct))
+			return false;
+		ClassMeta<?> et = type.getElementType();
+		return et.getPojoSwap(this) == null && et.getBuilderSwap(this) == null && getClassMeta(getWrapperIfPrimitive(ct)).getPojoSwap(this) == null;
+	}
+
 	/**
 	 * Convenience method for calling the {@link ParentProperty @ParentProperty} method on the specified object if it
 	 * exists.
@@ -878,4 +1001,15 @@ public abstract class ParserSession extends BeanSession {
 	protected final Class<? extends ParserListener> getListenerClass() {
 		return ctx.getListenerClass();
 	}
+
+	/**
+	 * Configuration property:  Key pool size.
+	 *
+	 * @see Parser#PARSER_keyPoolSize
+	 * @return
+	 * 	The pool of strings used for map keys and bean property names, or <jk>null</jk> if key pooling is disabled.
+	 */
+	protected final StringPool getKeyPool() {
+		return keyPool;
+	}
 }
@@ -14,6 +14,7 @@ package org.apache.juneau.parser;
 
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 
@@ -27,6 +28,11 @@ public abstract class ReaderParserSession extends ParserSession {
 
 	private final ReaderParser ctx;
 
+	// State of the iteration started by iterate().
+	private ParserPipe iterationPipe;
+	private ValueReader<?> iterationReader;
+	private Iterator<?> iteration;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -57,6 +63,153 @@ public abstract class ReaderParserSession extends ParserSession {
 		return true;
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		closeIteration();
+	}
+
+	/**
+	 * Reads the values of an input one at a time for the iterators returned by
+	 * {@link ReaderParserSession#iterate(Object, ValueReader)}.
+	 *
+	 * @param <T> The class type of the values.
+	 */
+	protected interface ValueReader<T> {
+
+		/**
+		 * Called once the input of a new iteration has been opened.
+		 *
+		 * @param pipe The input.
+		 * @return <jk>false</jk> if the input contains no values.
+		 * @throws Exception If the start of the input could not be read.
+		 */
+		boolean open(ParserPipe pipe) throws Exception;
+
+		/**
+		 * Reads ahead to the next value.
+		 *
+		 * <p>
+		 * Called repeatedly until {@link #next()} is called, so it must not read past the next value.
+		 *
+		 * @return <jk>false</jk> if the end of the input has been reached.
+		 * @throws Exception If the input is malformed.
+		 */
+		boolean hasNext() throws Exception;
+
+		/**
+		 * Parses the value positioned by {@link #hasNext()}.
+		 *
+		 * @return The parsed value.
+		 * @throws Exception If the value is malformed.
+		 */
+		T next() throws Exception;
+
+		/**
+		 * Releases the state of the iteration once the input has been closed.
+		 */
+		void close();
+	}
+
+	/**
+	 * Returns an iterator that parses the values of the specified input one at a time.
+	 *
+	 * <p>
+	 * The iteration state is kept in this session, so only one input can be iterated at a time per session.
+	 * <br>Calling this method again (or calling {@link #reset()}) closes the previous iteration, after which the previous
+	 * iterator returns <jk>false</jk> from {@link Iterator#hasNext()} and throws a
+	 * {@link ConcurrentModificationException} from {@link Iterator#next()}.
+	 *
+	 * <p>
+	 * The input is closed once the end of the input has been reached or an error has occurred.
+	 * <br>Errors encountered during iteration are thrown from {@link Iterator#hasNext()} and {@link Iterator#next()} as
+	 * {@link RuntimeException RuntimeExceptions} wrapping a {@link ParseException}.
+	 *
+	 * @param <T> The class type of the values.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #createPipe(Object)} for details.
+	 * @param reader The reader of the values in the input.
+	 * @return An iterator over the parsed values.
+	 * @throws ParseException If the start of the input could not be read.
+	 */
+	protected final <T> Iterator<T> iterate(Object input, final ValueReader<T> reader) throws ParseException {
+		closeIteration();
+		iterationPipe = createPipe(input);
+		iterationReader = reader;
+		try {
+			if (! reader.open(iterationPipe)) {
+				closeIteration();
+				return Collections.emptyIterator();
+			}
+		} catch (Exception e) {
+			throw toIterationException(e);
+		}
+
+		Iterator<T> i = new Iterator<T>() {
+			private boolean done;
+
+			@Override /* Iterator */
+			public boolean hasNext() {
+				if (done || iteration != this)
+					return false;
+				try {
+					if (reader.hasNext())
+						return true;
+					done = true;
+					closeIteration();
+					return false;
+				} catch (Exception e) {
+					done = true;
+					throw new RuntimeException(toIterationException(e));
+				}
+			}
+
+			@Override /* Iterator */
+			public T next() {
+				if (! (done || iteration == this))
+					throw new ConcurrentModificationException("Iteration was closed by a later iteration or session reset.");
+				if (! hasNext())
+					throw new NoSuchElementException();
+				try {
+					return reader.next();
+				} catch (Exception e) {
+					done = true;
+					throw new RuntimeException(toIterationException(e));
+				}
+			}
+		};
+		iteration = i;
+		return i;
+	}
+
+	/*
+	 * Closes the input of the current iteration and invalidates its iterator.
+	 */
+	private void closeIteration() {
+		if (iterationPipe != null)
+			iterationPipe.close();
+		if (iterationReader != null)
+			iterationReader.close();
+		iterationPipe = null;
+		iterationReader = null;
+		iteration = null;
+	}
+
+	/*
+	 * Closes the current iteration and converts the specified exception into a parse exception.
+	 */
+	private ParseException toIterationException(Exception e) {
+		closeIteration();
+		if (e instanceof ParseException)
+			return (ParseException)e;
+		if (e instanceof IOException)
+			return new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		return new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+			e.getClass().getSimpleName(), e.getLocalizedMessage());
+	}
+
 	/**
 	 * Wraps the specified input object into a {@link ParserPipe} object so that it can be easily converted into
 	 * a stream or reader.
@@ -72,6 +225,8 @@ public abstract class ReaderParserSession extends ParserSession {
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset}).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or whatever the encoding specified by
 	 * 			{@link ReaderParser#RPARSER_inputStreamCharset}).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or whatever the encoding specified by
+	 * 			{@link ReaderParser#RPARSER_inputStreamCharset}).
 	 * 		<li>{@link File} containing system encoded text (or whatever the encoding specified by
 	 * 			{@link ReaderParser#RPARSER_fileCharset}).
 	 * 	</ul>
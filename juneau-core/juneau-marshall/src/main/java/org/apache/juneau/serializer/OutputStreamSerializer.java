@@ -141,7 +141,12 @@ public abstract class OutputStreamSerializer extends Serializer {
 	 */
 	@Override
 	public final byte[] serialize(Object o) throws SerializeException {
-		return createSession(createDefaultSessionArgs()).serialize(o);
+		OutputStreamSerializerSession s = (OutputStreamSerializerSession)borrowSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -377,6 +377,18 @@ public class OutputStreamSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public OutputStreamSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public OutputStreamSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public OutputStreamSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
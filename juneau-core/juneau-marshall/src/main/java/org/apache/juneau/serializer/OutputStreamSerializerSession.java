@@ -79,7 +79,7 @@ public abstract class OutputStreamSerializerSession extends SerializerSession {
 	}
 
 	@Override /* SerializerSession */
-	public final String serializeToString(Object o) throws SerializeException {
+	public String serializeToString(Object o) throws SerializeException {
 		byte[] b = serialize(o);
 		switch(getBinaryFormat()) {
 			case SPACED_HEX:  return StringUtils.toSpacedHex(b);
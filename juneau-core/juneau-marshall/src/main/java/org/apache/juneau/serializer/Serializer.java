@@ -13,6 +13,8 @@
 package org.apache.juneau.serializer;
 
 import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -162,6 +164,68 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_addRootType = PREFIX + "addRootType.b";
 
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Serializer.columnarBeanCollections.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link SerializerBuilder#columnarBeanCollections(boolean)}
+	 * 			<li class='jm'>{@link SerializerBuilder#columnarBeanCollections()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, collections and arrays whose elements are all beans of the same class are serialized as a row set
+	 * instead of a list of objects.
+	 * <br>The property names are written once in a <js>"_columns"</js> list, followed by a <js>"_rows"</js> list
+	 * containing the property values of each bean in the same order.
+	 *
+	 * <p>
+	 * Collections that contain <jk>null</jk> entries, beans of different classes, swapped beans, beans with dynamic
+	 * properties, or beans that would require a <js>'_type'</js> attribute are serialized normally.
+	 *
+	 * <p>
+	 * Parsers recognize this form when parsing into a collection or array of beans.
+	 * <br>When parsing into a generic <code>Object</code>, the row set is returned as an {@link ObjectMap}.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		This setting is currently honored by the JSON, MessagePack, and CBOR serializers.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that writes bean collections as row sets.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.simple()
+	 * 		.columnarBeanCollections()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.simple()
+	 * 		.set(<jsf>SERIALIZER_columnarBeanCollections</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Produces "{_columns:['name','age'],_rows:[['John',30],['Jane',25]]}"</jc>
+	 * 	String json = s.serialize(<jsm>asList</jsm>(<jk>new</jk> Person(<js>"John"</js>, 30), <jk>new</jk> Person(<js>"Jane"</js>, 25)));
+	 *
+	 * 	<jc>// Parses back into beans.</jc>
+	 * 	List&lt;Person&gt; l = JsonParser.<jsf>DEFAULT</jsf>.parse(json, List.<jk>class</jk>, Person.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String SERIALIZER_columnarBeanCollections = PREFIX + "columnarBeanCollections.b";
+
 	/**
 	 * Configuration property:  Serializer listener.
 	 *
@@ -225,6 +289,55 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Serializer.sessionPoolSize.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link SerializerBuilder#sessionPoolSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of idle sessions kept by this serializer for reuse by the convenience methods
+	 * {@link #serialize(Object)}, {@link #serialize(Object,Object)}, and {@link #serializeToString(Object)}.
+	 *
+	 * <p>
+	 * Sessions created through these methods always use the default session arguments, so they can be
+	 * {@link Session#reset() reset} and handed to the next call instead of being constructed from scratch.
+	 * <br>This avoids the per-call setup cost of the session (bean session, URI resolver, traversal state) which
+	 * can be significant when serializing many small payloads.
+	 *
+	 * <p>
+	 * A value of <code>0</code> disables pooling.
+	 * <br>Pooling is also disabled when a {@link #SERIALIZER_listener listener} is defined since listeners are
+	 * created per-session.
+	 * <br>Sessions created through {@link #createSession(SerializerSessionArgs)} are never pooled.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that keeps up to 16 idle sessions for reuse.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.sessionPoolSize(16)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_sessionPoolSize</jsf>, 16)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String SERIALIZER_sessionPoolSize = PREFIX + "sessionPoolSize.i";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -307,6 +420,61 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_sortMaps = PREFIX + "sortMaps.b";
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Serializer.streamFlushInterval.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link SerializerBuilder#streamFlushInterval(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * {@link Iterator Iterators}, {@link Enumeration Enumerations}, and {@link java.util.stream.Stream Streams} are
+	 * serialized as arrays whose elements are written as they're pulled from the source instead of being collected
+	 * into a list first.
+	 * <br>This setting causes the output to be flushed every time the specified number of elements has been written
+	 * so that clients can start consuming the output while the rest is still being produced.
+	 *
+	 * <p>
+	 * A value of <code>0</code> disables intermediate flushing.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Streams are closed once they've been serialized.
+	 * 	<li>
+	 * 		Elements are still collected in memory when {@link #SERIALIZER_sortCollections} is enabled, or when the
+	 * 		output format needs to know the number of elements up-front (e.g. MessagePack).
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that flushes the output after every 1000 elements written from a stream.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.streamFlushInterval(1000)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_streamFlushInterval</jsf>, 1000)
+	 * 		.build();
+	 *
+	 * 	<jc>// Rows are written as they're read from the database.</jc>
+	 * 	s.serialize(rowStream, writer);
+	 * </p>
+	 */
+	public static final String SERIALIZER_streamFlushInterval = PREFIX + "streamFlushInterval.i";
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -711,11 +879,14 @@ public abstract class Serializer extends BeanTraverseContext {
 		sortCollections,
 		sortMaps,
 		addRootType,
-		useWhitespace;
+		useWhitespace,
+		columnarBeanCollections;
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
 	private final Class<? extends SerializerListener> listener;
+	private final int sessionPoolSize, streamFlushInterval;
+	private final Queue<SerializerSession> sessionPool;
 
 	private final MediaTypeRange[] accept;
 	private final MediaType[] accepts;
@@ -758,11 +929,15 @@ public abstract class Serializer extends BeanTraverseContext {
 		sortCollections = getBooleanProperty(SERIALIZER_sortCollections, false);
 		sortMaps = getBooleanProperty(SERIALIZER_sortMaps, false);
 		addRootType = getBooleanProperty(SERIALIZER_addRootType, false);
+		columnarBeanCollections = getBooleanProperty(SERIALIZER_columnarBeanCollections, false);
 		uriContext = getProperty(SERIALIZER_uriContext, UriContext.class, UriContext.DEFAULT);
 		uriResolution = getProperty(SERIALIZER_uriResolution, UriResolution.class, UriResolution.NONE);
 		uriRelativity = getProperty(SERIALIZER_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
 		useWhitespace = getBooleanProperty(SERIALIZER_useWhitespace, false);
 		listener = getClassProperty(SERIALIZER_listener, SerializerListener.class, null);
+		sessionPoolSize = getIntegerProperty(SERIALIZER_sessionPoolSize, 0);
+		sessionPool = sessionPoolSize > 0 && listener == null ? new ArrayBlockingQueue<SerializerSession>(sessionPoolSize) : null;
+		streamFlushInterval = getIntegerProperty(SERIALIZER_streamFlushInterval, 0);
 
 		this.produces = MediaType.forString(produces);
 		this.accept = accept == null ? MediaTypeRange.parse(produces) : MediaTypeRange.parse(accept);
@@ -839,7 +1014,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final void serialize(Object o, Object output) throws SerializeException {
-		createSession().serialize(o, output);
+		SerializerSession s = borrowSession();
+		try {
+			s.serialize(o, output);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -854,7 +1034,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public Object serialize(Object o) throws SerializeException {
-		return createSession().serialize(o);
+		SerializerSession s = borrowSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -870,7 +1055,44 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final String serializeToString(Object o) throws SerializeException {
-		return createSession().serializeToString(o);
+		SerializerSession s = borrowSession();
+		try {
+			return s.serializeToString(o);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Returns a session with default arguments for a single call from one of the convenience methods.
+	 *
+	 * <p>
+	 * Reuses an idle session from the session pool if one is available.
+	 *
+	 * @return A session that must be passed to {@link #releaseSession(SerializerSession)} when the call completes.
+	 */
+	final SerializerSession borrowSession() {
+		if (sessionPool != null) {
+			SerializerSession s = sessionPool.poll();
+			if (s != null)
+				return s;
+		}
+		return createSession(createDefaultSessionArgs());
+	}
+
+	/**
+	 * Resets the specified session and returns it to the session pool.
+	 *
+	 * <p>
+	 * No-op if session pooling is disabled or the pool is full.
+	 *
+	 * @param s The session returned by {@link #borrowSession()}.
+	 */
+	final void releaseSession(SerializerSession s) {
+		if (sessionPool != null) {
+			s.reset();
+			sessionPool.offer(s);
+		}
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1004,6 +1226,17 @@ public abstract class Serializer extends BeanTraverseContext {
 		return sortCollections;
 	}
 
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * @see #SERIALIZER_columnarBeanCollections
+	 * @return
+	 * 	<jk>true</jk> if collections of beans of a single class are serialized as row sets.
+	 */
+	protected final boolean isColumnarBeanCollections() {
+		return columnarBeanCollections;
+	}
+
 	/**
 	 * Configuration property:  Sort maps alphabetically.
 	 *
@@ -1015,6 +1248,18 @@ public abstract class Serializer extends BeanTraverseContext {
 		return sortMaps;
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * @see #SERIALIZER_streamFlushInterval
+	 * @return
+	 * 	The number of elements written from a stream between flushes of the output, or <code>0</code> if the output
+	 * 	is not flushed while streaming.
+	 */
+	protected final int getStreamFlushInterval() {
+		return streamFlushInterval;
+	}
+
 	/**
 	 * Configuration property:  Add type attribute to root nodes.
 	 *
@@ -1081,6 +1326,17 @@ public abstract class Serializer extends BeanTraverseContext {
 		return listener;
 	}
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * @see #SERIALIZER_sessionPoolSize
+	 * @return
+	 * 	The maximum number of idle sessions kept by this serializer for reuse.
+	 */
+	protected final int getSessionPoolSize() {
+		return sessionPoolSize;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -1093,10 +1349,13 @@ public abstract class Serializer extends BeanTraverseContext {
 				.append("sortCollections", sortCollections)
 				.append("sortMaps", sortMaps)
 				.append("addRootType", addRootType)
+				.append("columnarBeanCollections", columnarBeanCollections)
 				.append("uriContext", uriContext)
 				.append("uriResolution", uriResolution)
 				.append("uriRelativity", uriRelativity)
 				.append("listener", listener)
+				.append("sessionPoolSize", sessionPoolSize)
+				.append("streamFlushInterval", streamFlushInterval)
 			);
 	}
 }
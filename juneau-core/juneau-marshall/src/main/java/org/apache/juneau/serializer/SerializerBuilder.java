@@ -121,6 +121,44 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_addRootType, true);
 	}
 
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * <p>
+	 * Serializes collections and arrays of beans of a single class as a list of property names followed by rows of
+	 * property values.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_columnarBeanCollections}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder columnarBeanCollections(boolean value) {
+		return set(SERIALIZER_columnarBeanCollections, value);
+	}
+
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>columnarBeanCollections(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_columnarBeanCollections}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder columnarBeanCollections() {
+		return set(SERIALIZER_columnarBeanCollections, true);
+	}
+
 	/**
 	 * Configuration property:  Serializer listener.
 	 *
@@ -140,6 +178,26 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <p>
+	 * The maximum number of idle sessions kept by this serializer for reuse by its convenience methods.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_sessionPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder sessionPoolSize(int value) {
+		return set(SERIALIZER_sessionPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -214,6 +272,27 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_sortMaps, true);
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * <p>
+	 * The number of elements written from an {@link java.util.Iterator}, {@link java.util.Enumeration}, or
+	 * {@link java.util.stream.Stream} between flushes of the output.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_streamFlushInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (no intermediate flushing).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder streamFlushInterval(int value) {
+		return set(SERIALIZER_streamFlushInterval, value);
+	}
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -886,6 +965,18 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public SerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -14,6 +14,7 @@ package org.apache.juneau.serializer;
 
 import static org.apache.juneau.internal.CollectionUtils.*;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -264,4 +265,21 @@ public final class SerializerGroup extends BeanTraverseContext {
 	public List<Serializer> getSerializers() {
 		return serializers;
 	}
+
+	/**
+	 * Eagerly creates the metadata used by the serializers in this group for the specified types.
+	 *
+	 * <p>
+	 * Equivalent to calling {@link BeanContext#preload(Type...)} on each serializer in this group.
+	 *
+	 * @param types
+	 * 	The types to preload.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroup warmUp(Type...types) {
+		for (Serializer x : serializers)
+			x.preload(types);
+		return this;
+	}
 }
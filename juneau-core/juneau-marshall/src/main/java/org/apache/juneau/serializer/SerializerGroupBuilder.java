@@ -207,6 +207,44 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_addRootType, true);
 	}
 
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * <p>
+	 * Serializes collections and arrays of beans of a single class as a list of property names followed by rows of
+	 * property values.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_columnarBeanCollections}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder columnarBeanCollections(boolean value) {
+		return set(SERIALIZER_columnarBeanCollections, value);
+	}
+
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>columnarBeanCollections(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_columnarBeanCollections}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder columnarBeanCollections() {
+		return set(SERIALIZER_columnarBeanCollections, true);
+	}
+
 	/**
 	 * Configuration property:  Serializer listener.
 	 *
@@ -226,6 +264,26 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <p>
+	 * The maximum number of idle sessions kept by each serializer for reuse by its convenience methods.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_sessionPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder sessionPoolSize(int value) {
+		return set(SERIALIZER_sessionPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -294,6 +352,27 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_sortMaps, true);
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * <p>
+	 * The number of elements written from an {@link java.util.Iterator}, {@link java.util.Enumeration}, or
+	 * {@link java.util.stream.Stream} between flushes of the output.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_streamFlushInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (no intermediate flushing).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder streamFlushInterval(int value) {
+		return set(SERIALIZER_streamFlushInterval, value);
+	}
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -965,6 +1044,18 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerGroupBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public SerializerGroupBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerGroupBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -19,6 +19,7 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -363,6 +364,145 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return c;
 	}
 
+	/**
+	 * Returns an iterator over the elements of the specified {@link ClassMeta#isStream() stream} object.
+	 *
+	 * <p>
+	 * Elements are pulled from the source as the iterator is consumed, except when
+	 * {@link SerializerSession#isSortCollections()} returns <jk>true</jk>, in which case the elements are collected
+	 * and sorted first.
+	 *
+	 * @param o The {@link Iterator}, {@link Enumeration}, or {@link BaseStream} object.
+	 * @return An iterator over the elements of the object.
+	 */
+	@SuppressWarnings("unchecked")
+	protected final Iterator<Object> toIterator(Object o) {
+		Iterator<Object> i;
+		if (o instanceof Iterator)
+			i = (Iterator<Object>)o;
+		else if (o instanceof Enumeration) {
+			final Enumeration<Object> e = (Enumeration<Object>)o;
+			i = new Iterator<Object>() {
+				@Override /* Iterator */
+				public boolean hasNext() {
+					return e.hasMoreElements();
+				}
+				@Override /* Iterator */
+				public Object next() {
+					return e.nextElement();
+				}
+			};
+		} else if (o instanceof BaseStream)
+			i = ((BaseStream<Object,?>)o).iterator();
+		else
+			throw new FormattedIllegalArgumentException("Cannot iterate over object of type ''{0}''", o.getClass().getName());
+		if (isSortCollections()) {
+			List<Object> l = new ArrayList<>();
+			while (i.hasNext())
+				l.add(i.next());
+			i = sort(l).iterator();
+		}
+		return i;
+	}
+
+	/**
+	 * Closes the specified {@link ClassMeta#isStream() stream} object after its elements have been serialized.
+	 *
+	 * <p>
+	 * Only {@link BaseStream} objects are closed.
+	 *
+	 * @param o The {@link Iterator}, {@link Enumeration}, or {@link BaseStream} object.
+	 */
+	protected final void closeStream(Object o) {
+		if (o instanceof BaseStream)
+			((BaseStream<?,?>)o).close();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified array type can be serialized directly from its primitive elements.
+	 *
+	 * <p>
+	 * This is the case for arrays of numeric and boolean primitives when collections are not being sorted and no
+	 * swaps are defined on the element type.
+	 * <br>Serializers can use this to write such arrays without boxing each element and converting the array to a list.
+	 *
+	 * @param type The serialized array type.
+	 * @return <jk>true</jk> if the elements of the array can be written without being boxed.
+	 */
+	protected final boolean canSerializePrimitiveArray(ClassMeta<?> type) {
+		Class<?> ct = type.getInnerClass().getComponentType();
+		if (ct == null || ! PrimitiveArrayBuilder.isSupported(ct) || isSortCollections())
+			return false;
+		return type.getElementType().getPojoSwap(this) == null && getClassMeta(getWrapperIfPrimitive(ct)).getPojoSwap(this) == null;
+	}
+
+	/**
+	 * Returns the columns to use when serializing the specified collection as a row set.
+	 *
+	 * <p>
+	 * Row sets are only used when {@link Serializer#SERIALIZER_columnarBeanCollections} is enabled and the collection
+	 * is non-empty and consists only of beans of the same class.
+	 * <br>Collections containing <jk>null</jk> entries, swapped beans, beans with dynamic properties, or beans that
+	 * would need a bean type name to be parsed back are serialized normally.
+	 *
+	 * @param c The collection being serialized.
+	 * @param eType The expected type of the elements of the collection.
+	 * @return
+	 * 	The readable properties of the bean class in serialization order, or <jk>null</jk> if the collection should
+	 * 	not be serialized as a row set.
+	 */
+	protected final List<BeanPropertyMeta> getRowSetColumns(Collection<?> c, ClassMeta<?> eType) {
+		if (! isColumnarBeanCollections() || c.isEmpty())
+			return null;
+		Class<?> ec = null;
+		for (Object o : c) {
+			if (o == null || (ec != null && o.getClass() != ec))
+				return null;
+			ec = o.getClass();
+		}
+		ClassMeta<?> aType = getClassMeta(ec);
+		if (! aType.isBean() || aType.getPojoSwap(this) != null)
+			return null;
+		if (getBeanTypeName(eType == null ? object() : eType, aType, null) != null)
+			return null;
+		List<BeanPropertyMeta> l = new ArrayList<>();
+		for (BeanPropertyMeta p : aType.getBeanMeta().getPropertyMetas()) {
+			if (p.isDyna())
+				return null;
+			if (p.canRead())
+				l.add(p);
+		}
+		return l.isEmpty() ? null : l;
+	}
+
+	/**
+	 * Returns the values of the specified row set columns on the specified bean.
+	 *
+	 * <p>
+	 * Exceptions thrown by getters are reported through {@link #onBeanGetterException(BeanPropertyMeta, Throwable)}
+	 * and the corresponding value is returned as <jk>null</jk>.
+	 *
+	 * @param bean The bean whose property values are being retrieved.
+	 * @param columns The columns returned by {@link #getRowSetColumns(Collection, ClassMeta)}.
+	 * @return The property values in column order.
+	 */
+	protected final Object[] getRowSetValues(Object bean, List<BeanPropertyMeta> columns) {
+		BeanMap<?> m = toBeanMap(bean);
+		Object[] row = new Object[columns.size()];
+		for (int i = 0; i < row.length; i++) {
+			BeanPropertyMeta p = columns.get(i);
+			try {
+				row[i] = p.get(m, null);
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
+				onBeanGetterException(p, t);
+			}
+		}
+		return row;
+	}
+
 	/**
 	 * Converts the contents of the specified object array to a list.
 	 *
@@ -695,6 +835,18 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return ctx.isSortMaps();
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * @see Serializer#SERIALIZER_streamFlushInterval
+	 * @return
+	 * 	The number of elements written from a stream between flushes of the output, or <code>0</code> if the output
+	 * 	is not flushed while streaming.
+	 */
+	protected final int getStreamFlushInterval() {
+		return ctx.getStreamFlushInterval();
+	}
+
 	/**
 	 * Configuration property:  Add type attribute to root nodes.
 	 *
@@ -706,6 +858,17 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return ctx.isAddRootType();
 	}
 
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * @see Serializer#SERIALIZER_columnarBeanCollections
+	 * @return
+	 * 	<jk>true</jk> if collections of beans of a single class are serialized as row sets.
+	 */
+	protected final boolean isColumnarBeanCollections() {
+		return ctx.isColumnarBeanCollections();
+	}
+
 	/**
 	 * Configuration property:  URI context bean.
 	 *
@@ -17,6 +17,7 @@ import java.net.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Simple wrapper around a standard {@link Writer} with additional methods.
@@ -50,6 +51,9 @@ public class SerializerWriter extends Writer {
 	/** The URI resolver of the request. */
 	protected final UriResolver uriResolver;
 
+	// Reusable buffer for writing integral numbers.
+	private char[] numberBuff;
+
 	/**
 	 * @param out The writer being wrapped.
 	 * @param useWhitespace
@@ -360,6 +364,57 @@ public class SerializerWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * Appends the string form of a number.
+	 *
+	 * <p>
+	 * Integral numbers are written through a reusable character buffer instead of being converted to strings first.
+	 *
+	 * @param n The number to write.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 */
+	public SerializerWriter appendNumber(Number n) throws IOException {
+		if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte)
+			return appendLong(n.longValue());
+		out.write(n.toString());
+		return this;
+	}
+
+	private SerializerWriter appendLong(long l) throws IOException {
+		if (numberBuff == null)
+			numberBuff = new char[20];
+		out.write(numberBuff, 0, StringUtils.toChars(l, numberBuff));
+		return this;
+	}
+
+	/**
+	 * Appends the string form of an element of a primitive array without boxing it.
+	 *
+	 * @param array The array.  Must be an array of a numeric or boolean primitive type.
+	 * @param index The index of the element to append.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 */
+	public SerializerWriter appendPrimitive(Object array, int index) throws IOException {
+		Class<?> c = array.getClass();
+		if (c == int[].class)
+			return appendLong(((int[])array)[index]);
+		if (c == long[].class)
+			return appendLong(((long[])array)[index]);
+		if (c == double[].class)
+			return append(Double.toString(((double[])array)[index]));
+		if (c == float[].class)
+			return append(Float.toString(((float[])array)[index]));
+		if (c == short[].class)
+			return appendLong(((short[])array)[index]);
+		if (c == byte[].class)
+			return appendLong(((byte[])array)[index]);
+		if (c == boolean[].class)
+			return append(Boolean.toString(((boolean[])array)[index]));
+		throw new IllegalArgumentException("Unsupported array type: " + c.getName());
+	}
+
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Overridden methods
@@ -414,6 +414,18 @@ public class WriterSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public WriterSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public WriterSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public WriterSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -658,7 +658,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == AMP || c == EQ || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, getKeyPool());
 						return ("null".equals(s) ? null : s);
 					}
 				}
@@ -675,7 +675,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == '=' || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, getKeyPool());
 						return ("null".equals(s) ? null : trim(s));
 					}
 				}
@@ -724,6 +724,9 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		String s = null;
 		AsciiSet endChars = (isUrlParamValue ? endCharsParam : endCharsNormal);
 		while (c != -1) {
+			// Whitespace doesn't end URL parameter values, so runs of ordinary characters can be skipped.
+			if (isUrlParamValue && ! isInEscape)
+				r.scan(paramStopChars);
 			c = r.read();
 			if (! isInEscape) {
 				// If this is a URL parameter value, we're looking for:  &
@@ -752,6 +755,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	}
 
 	private static final AsciiSet endCharsParam = AsciiSet.create(""+AMP), endCharsNormal = AsciiSet.create(",)"+AMP);
+	private static final AsciiSet paramStopChars = AsciiSet.create("~"+AMP+EQ);
 
 
 	/*
@@ -766,6 +770,9 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 
 		boolean isInEscape = false;
 		while (c != -1) {
+			// Skip over runs of ordinary characters.
+			if (! isInEscape)
+				r.scan(pStringStopChars);
 			c = r.read();
 			if (! isInEscape) {
 				if (c == '\'')
@@ -778,6 +785,8 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		throw new ParseException(this, "Unmatched parenthesis");
 	}
 
+	private static final AsciiSet pStringStopChars = AsciiSet.create("'~"+EQ);
+
 	private Boolean parseBoolean(UonReader r) throws Exception {
 		String s = parseString(r, false);
 		if (s == null || s.equals("null"))
@@ -803,23 +812,13 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	private void validateEnd(UonReader r) throws Exception {
 		if (! isValidateEnd())
 			return;
-		while (true) {
-			int c = r.read();
-			if (c == -1)
-				return;
-			if (! Character.isWhitespace(c))
-				throw new ParseException(this, "Remainder after parse: ''{0}''.", (char)c);
-		}
+		int c = r.readSkipWs();
+		if (c != -1)
+			throw new ParseException(this, "Remainder after parse: ''{0}''.", (char)c);
 	}
 
 	private static void skipSpace(ParserReader r) throws Exception {
-		int c = 0;
-		while ((c = r.read()) != -1) {
-			if (c <= 2 || ! Character.isWhitespace(c)) {
-				r.unread();
-				return;
-			}
-		}
+		r.skipWs();
 	}
 
 	/**
@@ -157,7 +157,13 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 			serializeCollection(out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			if (canSerializePrimitiveArray(sType))
+				out.primitiveArray(o, indent);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isStream()) {
+			serializeStream(out, o, eType);
 		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
@@ -267,6 +273,38 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 		return out;
 	}
 
+	@SuppressWarnings({"rawtypes"})
+	private SerializerWriter serializeStream(UonWriter out, Object o, ClassMeta<?> type) throws Exception {
+
+		ClassMeta<?> elementType = type.getElementType();
+		int flushInterval = getStreamFlushInterval(), count = 0;
+		if (flushInterval <= 0)
+			flushInterval = Integer.MAX_VALUE;
+
+		if (! plainTextParams)
+			out.append('@').append('(');
+
+		try {
+			for (Iterator i = toIterator(o); i.hasNext();) {
+				out.cr(indent);
+				serializeAnything(out, i.next(), elementType, "<iterator>", null);
+				if (++count % flushInterval == 0)
+					out.flush();
+				if (i.hasNext())
+					out.append(',');
+			}
+		} finally {
+			closeStream(o);
+		}
+
+		if (count > 0)
+			out.cre(indent-1);
+		if (! plainTextParams)
+			out.append(')');
+
+		return out;
+	}
+
 	@Override /* HttpPartSerializer */
 	public String serialize(HttpPartType type, HttpPartSchema schema, Object value) throws SerializeException, SchemaValidationException {
 		try {
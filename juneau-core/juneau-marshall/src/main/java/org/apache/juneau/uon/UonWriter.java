@@ -13,6 +13,7 @@
 package org.apache.juneau.uon;
 
 import java.io.*;
+import java.lang.reflect.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -145,7 +146,7 @@ public final class UonWriter extends SerializerWriter {
 	 * @throws IOException
 	 */
 	protected UonWriter appendNumber(Object o) throws IOException {
-		append(o.toString());
+		super.appendNumber((Number)o);
 		return this;
 	}
 
@@ -171,6 +172,30 @@ public final class UonWriter extends SerializerWriter {
 		return appendObject(uriResolver.resolve(uri), false);
 	}
 
+	/**
+	 * Serializes the contents of a primitive array as a UON array without boxing the elements.
+	 *
+	 * @param array The array.  Must be an array of a numeric or boolean primitive type.
+	 * @param depth The current indentation depth.
+	 * @return This object (for method chaining).
+	 * @throws IOException
+	 */
+	public UonWriter primitiveArray(Object array, int depth) throws IOException {
+		if (! plainTextParams)
+			append('@').append('(');
+		int l = Array.getLength(array);
+		for (int i = 0; i < l; i++) {
+			if (i > 0)
+				append(',');
+			cr(depth).appendPrimitive(array, i);
+		}
+		if (l > 0)
+			cre(depth-1);
+		if (! plainTextParams)
+			append(')');
+		return this;
+	}
+
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Overridden methods
@@ -172,6 +172,11 @@ public class UrlEncodingParser extends UonParser {
 		return expandedParams;
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(UrlEncodingClassMeta.class);
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -343,6 +343,11 @@ public class UrlEncodingSerializer extends UonSerializer {
 		return expandedParams;
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(UrlEncodingClassMeta.class);
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
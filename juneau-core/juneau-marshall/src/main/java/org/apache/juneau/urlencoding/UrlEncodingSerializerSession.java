@@ -129,9 +129,13 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 				serializeMap(out, (Map)o, sType);
 		} else if (sType.isBean()) {
 			serializeBeanMap(out, toBeanMap(o), typeName);
+		} else if (sType.isArray() && canSerializePrimitiveArray(sType)) {
+			serializePrimitiveArrayMap(out, o);
 		} else if (sType.isCollection() || sType.isArray()) {
 			Map m = sType.isCollection() ? getCollectionMap((Collection)o) : getCollectionMap(o);
 			serializeCollectionMap(out, m, getClassMeta(Map.class, Integer.class, Object.class));
+		} else if (sType.isStream()) {
+			serializeStreamMap(out, o);
 		} else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		} else {
@@ -216,6 +220,42 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Same as serializeCollectionMap() but writes the elements of a primitive array without boxing them.
+	 */
+	private SerializerWriter serializePrimitiveArrayMap(UonWriter out, Object array) throws Exception {
+		for (int i = 0, l = Array.getLength(array); i < l; i++) {
+			if (i > 0)
+				out.cr(indent).append('&');
+			out.append(Integer.toString(i)).append('=').appendPrimitive(array, i);
+		}
+		return out;
+	}
+
+	/*
+	 * Same as serializeCollectionMap() but pulls the entries from an iterator, enumeration, or stream one at a time.
+	 */
+	private SerializerWriter serializeStreamMap(UonWriter out, Object o) throws Exception {
+		int flushInterval = getStreamFlushInterval();
+		if (flushInterval <= 0)
+			flushInterval = Integer.MAX_VALUE;
+		try {
+			int count = 0;
+			for (Iterator<Object> i = toIterator(o); i.hasNext();) {
+				if (count > 0)
+					out.cr(indent).append('&');
+				String key = Integer.toString(count);
+				out.append(key).append('=');
+				super.serializeAnything(out, i.next(), null, key, null);
+				if (++count % flushInterval == 0)
+					out.flush();
+			}
+		} finally {
+			closeStream(o);
+		}
+		return out;
+	}
+
 	private SerializerWriter serializeBeanMap(UonWriter out, BeanMap<?> m, String typeName) throws Exception {
 		boolean addAmp = false;
 
@@ -29,8 +29,9 @@ import org.apache.juneau.*;
  */
 public class MetadataMap {
 
-	private Class<?>[] classes = new Class<?>[0];
-	private Object[] metadata = new Object[0];
+	// Metadata is always assigned before classes so that unsynchronized readers never see a class without its metadata.
+	private volatile Class<?>[] classes = new Class<?>[0];
+	private volatile Object[] metadata = new Object[0];
 
 
 	/**
@@ -42,10 +43,14 @@ public class MetadataMap {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(Class<T> c, Object constructorArg) {
+		Class<?>[] classes = this.classes;
+		Object[] metadata = this.metadata;
 		for (int i = 0; i < classes.length; i++)
 			if (classes[i] == c)
 				return (T)metadata[i];
 		synchronized(this) {
+			classes = this.classes;
+			metadata = this.metadata;
 			for (int i = 0; i < classes.length; i++)
 				if (classes[i] == c)
 					return (T)metadata[i];
@@ -77,8 +82,8 @@ public class MetadataMap {
 					"Could not find a constructor on class with a parameter to handle type {0}", constructorArg.getClass());
 			classes2[classes.length] = c;
 			metadata2[classes.length] = o;
-			classes = classes2;
-			metadata = metadata2;
+			this.metadata = metadata2;
+			this.classes = classes2;
 			return (T)o;
 		}
 	}
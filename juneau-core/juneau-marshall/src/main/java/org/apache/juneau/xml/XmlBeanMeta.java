@@ -33,6 +33,7 @@ public class XmlBeanMeta extends BeanMetaExtended {
 	private final Map<String,BeanPropertyMeta> collapsedProperties;          // Properties defined with @Xml.childName annotation.
 	private final BeanPropertyMeta contentProperty;
 	private final XmlFormat contentFormat;
+	private final PropertyPlan[] writePlan;                                  // Serialization instructions for each property, by position in BeanMeta.getPropertyMetas().
 
 	/**
 	 * Constructor.
@@ -52,6 +53,11 @@ public class XmlBeanMeta extends BeanMetaExtended {
 		contentProperty = b.contentProperty;
 		contentFormat = b.contentFormat;
 
+		List<PropertyPlan> l = new ArrayList<>();
+		for (BeanPropertyMeta p : beanMeta.getPropertyMetas())
+			l.add(new PropertyPlan(p, p.getName()));
+		writePlan = l.toArray(new PropertyPlan[l.size()]);
+
 		// Do some validation.
 		if (contentProperty != null || contentFormat == XmlFormat.VOID) {
 			if (! elements.isEmpty())
@@ -250,6 +256,48 @@ public class XmlBeanMeta extends BeanMetaExtended {
 		return contentFormat;
 	}
 
+	/**
+	 * Returns the precomputed serialization instructions for the specified bean property value.
+	 *
+	 * <p>
+	 * Instructions are looked up by the position of the property on the bean.
+	 * Instructions for dynamic properties depend on the property name and are computed on each call.
+	 *
+	 * @param pMeta The bean property.
+	 * @param name The property name.  Differs from the bean property name for dynamic properties.
+	 * @return The serialization instructions.  Never <jk>null</jk>.
+	 */
+	PropertyPlan getWritePlan(BeanPropertyMeta pMeta, String name) {
+		if (! pMeta.isDyna()) {
+			int i = pMeta.getIndex();
+			if (i != -1 && i < writePlan.length && writePlan[i].pMeta == pMeta)
+				return writePlan[i];
+		}
+		return new PropertyPlan(pMeta, name);
+	}
+
+	/**
+	 * Serialization instructions for a single bean property.
+	 *
+	 * <p>
+	 * Determines up front whether the property is rendered as an attribute, as a child element, or as the bean content
+	 * so that serializers don't need to look the property up in each of the property maps on every bean.
+	 */
+	final class PropertyPlan {
+		final BeanPropertyMeta pMeta;
+		final XmlBeanPropertyMeta xmlMeta;
+		final boolean isAttr, isAttrsProperty, isContent, isElement;
+
+		PropertyPlan(BeanPropertyMeta pMeta, String n) {
+			this.pMeta = pMeta;
+			this.xmlMeta = pMeta.getExtendedMeta(XmlBeanPropertyMeta.class);
+			this.isAttrsProperty = attrsProperty != null && n.equals(attrsProperty.getName());
+			this.isAttr = attrs.containsKey(n) || attrs.containsKey("*") || isAttrsProperty;
+			this.isContent = contentProperty != null && n.equals(contentProperty.getName());
+			this.isElement = elements.containsKey(n) || collapsedProperties.containsKey(n) || elements.containsKey("*") || collapsedProperties.containsKey("*");
+		}
+	}
+
 	/**
 	 * Returns bean property meta with the specified name.
 	 *
@@ -31,6 +31,7 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 	private Namespace namespace = null;
 	private XmlFormat xmlFormat = XmlFormat.DEFAULT;
 	private String childName;
+	private final String encodedName, startTag, endTag;
 
 	/**
 	 * Constructor.
@@ -49,10 +50,15 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 
 		if (namespace == null)
 			namespace = bpm.getBeanMeta().getClassMeta().getExtendedMeta(XmlClassMeta.class).getNamespace();
+
+		encodedName = XmlUtils.encodeElementName(bpm.getName());
+		startTag = '<' + encodedName;
+		endTag = "</" + encodedName + '>';
 	}
 
 	private XmlBeanPropertyMeta() {
 		super(null);
+		encodedName = startTag = endTag = null;
 	}
 
 	/**
@@ -96,6 +102,40 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		return childName;
 	}
 
+	/**
+	 * Returns the name of this bean property encoded as an XML element name.
+	 *
+	 * <p>
+	 * The name is encoded once so that serializers don't need to check and escape it every time the property is
+	 * written.
+	 *
+	 * @return The encoded element name, or <jk>null</jk> if this is the {@link #DEFAULT} instance.
+	 */
+	public String getEncodedName() {
+		return encodedName;
+	}
+
+	/**
+	 * Returns the start tag of this bean property without a namespace prefix (e.g. <js>"&lt;name"</js>).
+	 *
+	 * <p>
+	 * The closing <js>'&gt;'</js> is not included so that attributes can follow.
+	 *
+	 * @return The start tag, or <jk>null</jk> if this is the {@link #DEFAULT} instance.
+	 */
+	public String getStartTag() {
+		return startTag;
+	}
+
+	/**
+	 * Returns the end tag of this bean property without a namespace prefix (e.g. <js>"&lt;/name&gt;"</js>).
+	 *
+	 * @return The end tag, or <jk>null</jk> if this is the {@link #DEFAULT} instance.
+	 */
+	public String getEndTag() {
+		return endTag;
+	}
+
 	private void findXmlInfo(Xml xml) {
 		if (xml == null)
 			return;
@@ -58,6 +58,62 @@ public class XmlParser extends ReaderParser {
 	 */
 	public static final String XML_eventAllocator = PREFIX + "eventAllocator.c";
 
+	/**
+	 * Configuration property:  StAX input factory.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"XmlParser.inputFactory.o"</js>
+	 * 	<li><b>Data type:</b>  {@link XMLInputFactory}
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link XmlParserBuilder#inputFactory(Class)}
+	 * 			<li class='jm'>{@link XmlParserBuilder#inputFactory(XMLInputFactory)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The {@link XMLInputFactory} implementation used to create the underlying {@link XMLStreamReader} objects.
+	 * <br>Allows an alternate StAX implementation to be used without changing the JVM-wide
+	 * <js>"javax.xml.stream.XMLInputFactory"</js> system property.
+	 *
+	 * <p>
+	 * If not specified, the factory returned by {@link XMLInputFactory#newInstance()} is used.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		The factory is created once when the parser is created and is shared by all sessions of the parser.
+	 * 	<li>
+	 * 		Factories created by the parser (when this property is not set or is a class) are configured with the settings
+	 * 		of this parser:  coalescing, no entity reference replacement, no external entities, and the
+	 * 		{@link #XML_validating}, {@link #XML_reporter}, {@link #XML_resolver}, and {@link #XML_eventAllocator} settings.
+	 * 	<li>
+	 * 		Factory instances are used as-is and are never modified by the parser, so they can be shared between parsers.
+	 * 		<br>The caller is responsible for configuring them, including enabling coalescing and disabling support for
+	 * 		external entities, and the parser settings above are ignored.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that uses the Woodstox StAX implementation.</jc>
+	 * 	ReaderParser p = XmlParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.inputFactory(WstxInputFactory.<jk>class</jk>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = XmlParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>XML_inputFactory</jsf>, WstxInputFactory.<jk>class</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String XML_inputFactory = PREFIX + "inputFactory.o";
+
 	/**
 	 * Configuration property:  Preserve root element during generalized parsing.
 	 *
@@ -196,6 +252,7 @@ public class XmlParser extends ReaderParser {
 	private final XMLReporter reporter;
 	private final XMLResolver resolver;
 	private final XMLEventAllocator eventAllocator;
+	private final XMLInputFactory inputFactory;
 
 	/**
 	 * Constructor.
@@ -222,6 +279,30 @@ public class XmlParser extends ReaderParser {
 		reporter = getInstanceProperty(XML_reporter, XMLReporter.class, null);
 		resolver = getInstanceProperty(XML_resolver, XMLResolver.class, null);
 		eventAllocator = getInstanceProperty(XML_eventAllocator, XMLEventAllocator.class, null);
+
+		Object f = getProperty(XML_inputFactory);
+		inputFactory = f instanceof XMLInputFactory ? (XMLInputFactory)f : createInputFactory();
+	}
+
+	/*
+	 * Creates a new input factory configured with the settings of this parser.
+	 * Factory instances passed in through XML_inputFactory are never modified since they may be shared.
+	 */
+	private XMLInputFactory createInputFactory() {
+		XMLInputFactory factory = getInstanceProperty(XML_inputFactory, XMLInputFactory.class, null);
+		if (factory == null)
+			factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		if (factory.isPropertySupported(XMLInputFactory.REPORTER) && reporter != null)
+			factory.setProperty(XMLInputFactory.REPORTER, reporter);
+		if (factory.isPropertySupported(XMLInputFactory.RESOLVER) && resolver != null)
+			factory.setProperty(XMLInputFactory.RESOLVER, resolver);
+		if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
+			factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
+		return factory;
 	}
 
 	@Override /* Context */
@@ -310,6 +391,27 @@ public class XmlParser extends ReaderParser {
 		return eventAllocator;
 	}
 
+	/**
+	 * Configuration property:  StAX input factory.
+	 *
+	 * @see #XML_inputFactory
+	 * @return
+	 * 	The configured {@link XMLInputFactory} shared by all sessions of this parser.
+	 */
+	protected final XMLInputFactory getInputFactory() {
+		return inputFactory;
+	}
+
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(XmlClassMeta.class);
+		if (cm.isBean()) {
+			cm.getBeanMeta().getExtendedMeta(XmlBeanMeta.class);
+			for (BeanPropertyMeta p : cm.getBeanMeta().getPropertyMetas())
+				p.getExtendedMeta(XmlBeanPropertyMeta.class);
+		}
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -319,6 +421,7 @@ public class XmlParser extends ReaderParser {
 				.append("reporter", reporter)
 				.append("resolver", resolver)
 				.append("eventAllocator", eventAllocator)
+				.append("inputFactory", inputFactory)
 			);
 	}
 }
@@ -72,6 +72,48 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return set(XML_eventAllocator, value);
 	}
 
+	/**
+	 * Configuration property:  StAX input factory.
+	 *
+	 * <p>
+	 * Specifies the {@link XMLInputFactory} implementation used to create the underlying stream readers.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link XmlParser#XML_inputFactory}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>null</jk> (use {@link XMLInputFactory#newInstance()}).
+	 * @return This object (for method chaining).
+	 */
+	public XmlParserBuilder inputFactory(Class<? extends XMLInputFactory> value) {
+		return set(XML_inputFactory, value);
+	}
+
+	/**
+	 * Configuration property:  StAX input factory.
+	 *
+	 * <p>
+	 * Same as {@link #inputFactory(Class)} except takes in a factory instance.
+	 * <br>The factory is used as-is and is never modified by the parser, so it must already be configured (e.g. with
+	 * coalescing enabled and external entities disabled) and the other StAX settings of this parser are ignored.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link XmlParser#XML_inputFactory}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>null</jk> (use {@link XMLInputFactory#newInstance()}).
+	 * @return This object (for method chaining).
+	 */
+	public XmlParserBuilder inputFactory(XMLInputFactory value) {
+		return set(XML_inputFactory, value);
+	}
+
 	/**
 	 * Configuration property:  Preserve root element during generalized parsing.
 	 *
@@ -213,12 +255,24 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public XmlParserBuilder keyPoolSize(int value) {
+		super.keyPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public XmlParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public XmlParserBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public XmlParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -567,6 +621,18 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public XmlParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public XmlParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public XmlParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
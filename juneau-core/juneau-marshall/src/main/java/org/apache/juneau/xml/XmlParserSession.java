@@ -71,7 +71,7 @@ public class XmlParserSession extends ReaderParserSession {
 	 * @throws Exception If problem occurred trying to create reader.
 	 */
 	protected final XmlReader getXmlReader(ParserPipe pipe) throws Exception {
-		return new XmlReader(pipe, isValidating(), getReporter(), getResolver(), getEventAllocator());
+		return new XmlReader(pipe, getInputFactory());
 	}
 
 	/**
@@ -740,4 +740,15 @@ public class XmlParserSession extends ReaderParserSession {
 	protected final XMLEventAllocator getEventAllocator() {
 		return ctx.getEventAllocator();
 	}
+
+	/**
+	 * Configuration property:  StAX input factory.
+	 *
+	 * @see XmlParser#XML_inputFactory
+	 * @return
+	 * 	The configured {@link XMLInputFactory} shared by all sessions of this parser.
+	 */
+	protected final XMLInputFactory getInputFactory() {
+		return ctx.getInputFactory();
+	}
 }
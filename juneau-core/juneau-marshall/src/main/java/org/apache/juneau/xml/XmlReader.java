@@ -16,7 +16,6 @@ import java.io.*;
 
 import javax.xml.namespace.*;
 import javax.xml.stream.*;
-import javax.xml.stream.util.*;
 
 import org.apache.juneau.parser.*;
 
@@ -36,28 +35,14 @@ public final class XmlReader implements XMLStreamReader, Positionable {
 	 * Constructor.
 	 *
 	 * @param pipe The parser input.
-	 * @param validating The value for the {@link XMLInputFactory#IS_VALIDATING} setting.
-	 * @param reporter The value for the {@link XMLInputFactory#REPORTER} setting.
-	 * @param resolver The value for the {@link XMLInputFactory#RESOLVER} setting.
-	 * @param eventAllocator The value for the {@link XMLInputFactory#ALLOCATOR} setting.
+	 * @param factory The configured factory to create the underlying stream reader with.
 	 * @throws Exception
 	 */
-	protected XmlReader(ParserPipe pipe, boolean validating, XMLReporter reporter, XMLResolver resolver, XMLEventAllocator eventAllocator) throws Exception {
+	protected XmlReader(ParserPipe pipe, XMLInputFactory factory) throws Exception {
 		this.pipe = pipe;
 		try {
 			@SuppressWarnings("resource")
 			Reader r = pipe.getBufferedReader();
-			XMLInputFactory factory = XMLInputFactory.newInstance();
-			factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
-			factory.setProperty(XMLInputFactory.IS_COALESCING, true);
-			factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-			if (factory.isPropertySupported(XMLInputFactory.REPORTER) && reporter != null)
-				factory.setProperty(XMLInputFactory.REPORTER, reporter);
-			if (factory.isPropertySupported(XMLInputFactory.RESOLVER) && resolver != null)
-				factory.setProperty(XMLInputFactory.RESOLVER, resolver);
-			if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
-				factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
 			sr = factory.createXMLStreamReader(r);
 			sr.nextTag();
 			pipe.setPositionable(this);
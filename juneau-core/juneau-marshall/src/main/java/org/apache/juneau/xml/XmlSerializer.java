@@ -630,6 +630,16 @@ public class XmlSerializer extends WriterSerializer {
 		return namespaces;
 	}
 
+	@Override /* BeanContext */
+	protected void preloadExtendedMeta(ClassMeta<?> cm) {
+		cm.getExtendedMeta(XmlClassMeta.class);
+		if (cm.isBean()) {
+			cm.getBeanMeta().getExtendedMeta(XmlBeanMeta.class);
+			for (BeanPropertyMeta p : cm.getBeanMeta().getPropertyMetas())
+				p.getExtendedMeta(XmlBeanPropertyMeta.class);
+		}
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
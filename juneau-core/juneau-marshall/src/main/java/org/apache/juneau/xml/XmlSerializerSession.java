@@ -18,6 +18,7 @@ import static org.apache.juneau.xml.XmlSerializerSession.ContentResult.*;
 import static org.apache.juneau.xml.XmlSerializerSession.JsonType.*;
 import static org.apache.juneau.xml.annotation.XmlFormat.*;
 
+import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -79,6 +80,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		return n;
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		namespaces = getInstanceArrayProperty(XML_namespaces, Namespace.class, ctx.getNamespaces());
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -378,6 +385,17 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			type = null;
 		}
 		boolean encodeEn = elementName != null;
+
+		// Bean property names are encoded ahead of time.
+		// Without namespaces, no prefix is ever written, so the whole start and end tags are prebuilt too.
+		XmlBeanPropertyMeta tags = null;
+		if (encodeEn && pMeta != null && elementName.equals(pMeta.getName())) {
+			XmlBeanPropertyMeta bpXml = bpXml(pMeta);
+			en = bpXml.getEncodedName();
+			encodeEn = false;
+			if (! isEnableNamespaces())
+				tags = bpXml;
+		}
 		String ns = (elementNamespace == null ? null : elementNamespace.name);
 		String dns = null, elementNs = null;
 		if (isEnableNamespaces()) {
@@ -390,7 +408,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		// Render the start tag.
 		if (! isCollapsed) {
 			if (en != null) {
-				out.oTag(i, elementNs, en, encodeEn);
+				if (tags != null)
+					out.i(i).append(tags.getStartTag());
+				else
+					out.oTag(i, elementNs, en, encodeEn);
 				if (addNamespaceUris) {
 					out.attr((String)null, "xmlns", defaultNamespace.getUri());
 
@@ -429,6 +450,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					out.append(o);
 				else
 					out.text(o, preserveWhitespace);
+			} else if (o instanceof Number) {
+				out.appendNumber((Number)o);
 			} else if (sType.isNumber() || sType.isBoolean()) {
 				out.append(o);
 			} else if (sType.isMap() || (wType != null && wType.isMap())) {
@@ -467,14 +490,14 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			if (en != null) {
 				if (rc == CR_EMPTY) {
 					if (isHtmlMode())
-						out.append('>').eTag(elementNs, en, encodeEn);
+						eTag(out.append('>'), tags, elementNs, en, encodeEn);
 					else
 						out.append('/').append('>');
 				} else if (rc == CR_VOID || o == null) {
 					out.append('/').append('>');
 				}
 				else
-					out.ie(cr && rc != CR_MIXED ? i : 0).eTag(elementNs, en, encodeEn);
+					eTag(out.ie(cr && rc != CR_MIXED ? i : 0), tags, elementNs, en, encodeEn);
 			}
 			if (! isMixed)
 				out.nl(i);
@@ -483,6 +506,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		return rc;
 	}
 
+	private static XmlWriter eTag(XmlWriter out, XmlBeanPropertyMeta tags, String ns, String name, boolean needsEncoding) throws IOException {
+		if (tags != null)
+			return out.append(tags.getEndTag());
+		return out.eTag(ns, name, needsEncoding);
+	}
+
 	private boolean isXmlText(XmlFormat format, ClassMeta<?> sType) {
 		if (format == XMLTEXT)
 			return true;
@@ -533,22 +562,14 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 		XmlBeanMeta xbm = bXml(bm);
 
-		Set<String>
-			attrs = xbm.getAttrPropertyNames(),
-			elements = xbm.getElementPropertyNames(),
-			collapsedElements = xbm.getCollapsedPropertyNames();
-		String
-			attrsProperty = xbm.getAttrsPropertyName(),
-			contentProperty = xbm.getContentPropertyName();
-
 		XmlFormat cf = null;
 
 		Object content = null;
 		ClassMeta<?> contentType = null;
 		for (BeanPropertyValue p : lp) {
-			String n = p.getName();
-			if (attrs.contains(n) || attrs.contains("*") || n.equals(attrsProperty)) {
-				BeanPropertyMeta pMeta = p.getMeta();
+			BeanPropertyMeta pMeta = p.getMeta();
+			XmlBeanMeta.PropertyPlan plan = xbm.getWritePlan(pMeta, p.getName());
+			if (plan.isAttr) {
 				if (pMeta.canRead()) {
 					ClassMeta<?> cMeta = p.getClassMeta();
 
@@ -561,12 +582,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					if (canIgnoreValue(cMeta, key, value))
 						continue;
 
-					XmlBeanPropertyMeta bpXml = bpXml(pMeta);
+					XmlBeanPropertyMeta bpXml = plan.xmlMeta;
 					Namespace ns = (isEnableNamespaces() && bpXml.getNamespace() != elementNs ? bpXml.getNamespace() : null);
 
 					if (pMeta.isUri()  ) {
 						out.attrUri(ns, key, value);
-					} else if (n.equals(attrsProperty)) {
+					} else if (plan.isAttrsProperty) {
 						if (value instanceof BeanMap) {
 							BeanMap<?> bm2 = (BeanMap)value;
 							for (BeanPropertyValue p2 : bm2.getValues(true)) {
@@ -599,9 +620,9 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			BeanPropertyMeta pMeta = p.getMeta();
 			if (pMeta.canRead()) {
 				ClassMeta<?> cMeta = p.getClassMeta();
+				XmlBeanMeta.PropertyPlan plan = xbm.getWritePlan(pMeta, p.getName());
 
-				String n = p.getName();
-				if (n.equals(contentProperty)) {
+				if (plan.isContent) {
 					content = p.getValue();
 					contentType = p.getClassMeta();
 					hasContent = true;
@@ -614,7 +635,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 						hasContent = false;
 					else if (contentType.isArray() && Array.getLength(content) == 0)
 						hasContent = false;
-				} else if (elements.contains(n) || collapsedElements.contains(n) || elements.contains("*") || collapsedElements.contains("*") ) {
+				} else if (plan.isElement) {
 					String key = p.getName();
 					Object value = p.getValue();
 					Throwable t = p.getThrown();
@@ -629,7 +650,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 						out.appendIf(! isCollapsed, '>').nlIf(! isMixed, indent);
 					}
 
-					XmlBeanPropertyMeta bpXml = bpXml(pMeta);
+					XmlBeanPropertyMeta bpXml = plan.xmlMeta;
 					serializeAnything(out, value, cMeta, key, bpXml.getNamespace(), false, bpXml.getXmlFormat(), isMixed, false, pMeta);
 				}
 			}
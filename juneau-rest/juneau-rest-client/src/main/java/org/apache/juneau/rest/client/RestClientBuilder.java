@@ -47,6 +47,7 @@ import org.apache.http.impl.client.*;
 import org.apache.http.impl.conn.*;
 import org.apache.http.protocol.*;
 import org.apache.juneau.*;
+import org.apache.juneau.cbor.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.httppart.*;
@@ -191,6 +192,18 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return serializer(MsgPackSerializer.class).parser(MsgPackParser.class);
 	}
 
+	/**
+	 * Convenience method for specifying CBOR as the transmission media type.
+	 *
+	 * <p>
+	 * Identical to calling <code>serializer(CborSerializer.<jk>class</jk>).parser(CborParser.<jk>class</jk>)</code>.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder cbor() {
+		return serializer(CborSerializer.class).parser(CborParser.class);
+	}
+
 	/**
 	 * Convenience method for specifying UON as the transmission media type.
 	 *
@@ -1422,6 +1435,44 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(SERIALIZER_addRootType, true);
 	}
 
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * <p>
+	 * Serializes collections and arrays of beans of a single class as a list of property names followed by rows of
+	 * property values.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_columnarBeanCollections}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder columnarBeanCollections(boolean value) {
+		return set(SERIALIZER_columnarBeanCollections, value);
+	}
+
+	/**
+	 * Configuration property:  Serialize bean collections in columnar form.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>columnarBeanCollections(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_columnarBeanCollections}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder columnarBeanCollections() {
+		return set(SERIALIZER_columnarBeanCollections, true);
+	}
+
 	/**
 	 * Configuration property:  Automatically detect POJO recursions.
 	 *
@@ -2556,6 +2607,18 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RestClientBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RestClientBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RestClientBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -17,6 +17,7 @@ import static org.apache.juneau.http.HttpMethodName.*;
 import static org.apache.juneau.jsonschema.JsonSchemaGenerator.*;
 import static org.apache.juneau.serializer.Serializer.*;
 
+import org.apache.juneau.cbor.*;
 import org.apache.juneau.dto.swagger.*;
 import org.apache.juneau.dto.swagger.ui.*;
 import org.apache.juneau.html.*;
@@ -54,6 +55,7 @@ import org.apache.juneau.xmlschema.XmlSchemaDocSerializer;
 		UrlEncodingSerializer.class,
 		OpenApiSerializer.class,
 		MsgPackSerializer.class,
+		CborSerializer.class,
 		SoapXmlSerializer.class,
 		PlainTextSerializer.class
 	},
@@ -68,6 +70,7 @@ import org.apache.juneau.xmlschema.XmlSchemaDocSerializer;
 		UrlEncodingParser.class,
 		OpenApiParser.class,
 		MsgPackParser.class,
+		CborParser.class,
 		PlainTextParser.class
 	},
 
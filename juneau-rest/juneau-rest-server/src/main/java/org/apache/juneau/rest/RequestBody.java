@@ -436,6 +436,16 @@ public class RequestBody {
 			req.getProperties().append("mediaType", mediaType).append("characterEncoding", req.getCharacterEncoding());
 			ParserSessionArgs pArgs = new ParserSessionArgs(req.getProperties(), req.getJavaMethod(), locale, timeZone, mediaType, schema, req.isDebug() ? true : null, req.getContext().getResource());
 			ParserSession session = p.createSession(pArgs);
+
+			// Bodies that have already been read are passed to reader-based parsers as bytes so that they can be
+			// decoded directly instead of first being converted to a string.
+			if (body != null && session.isReaderParser()) {
+				T o = session.parse(body, cm);
+				if (schema != null)
+					schema.validateOutput(o, cm.getBeanContext());
+				return o;
+			}
+
 			try (Closeable in = session.isReaderParser() ? getUnbufferedReader() : getInputStream()) {
 				T o = session.parse(in, cm);
 				if (schema != null)
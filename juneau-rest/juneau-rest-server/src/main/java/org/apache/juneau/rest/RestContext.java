@@ -33,6 +33,7 @@ import javax.servlet.*;
 import javax.servlet.http.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.cbor.*;
 import org.apache.juneau.config.*;
 import org.apache.juneau.encoders.*;
 import org.apache.juneau.html.*;
@@ -1694,6 +1695,7 @@ public final class RestContext extends BeanContext {
 	 * 			<li class='jc'>{@link UonParser}
 	 * 			<li class='jc'>{@link UrlEncodingParser}
 	 * 			<li class='jc'>{@link MsgPackParser}
+	 * 			<li class='jc'>{@link CborParser}
 	 * 			<li class='jc'>{@link PlainTextParser}
 	 * 		</ul>
 	 * </ul>
@@ -2253,6 +2255,7 @@ public final class RestContext extends BeanContext {
 	 * 			<li class='jc'>{@link UonSerializer}
 	 * 			<li class='jc'>{@link UrlEncodingSerializer}
 	 * 			<li class='jc'>{@link MsgPackSerializer}
+	 * 			<li class='jc'>{@link CborSerializer}
 	 * 			<li class='jc'>{@link SoapXmlSerializer}
 	 * 			<li class='jc'>{@link PlainTextSerializer}
 	 * 		</ul>
@@ -2893,6 +2896,58 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_uriResolution = PREFIX + "uriResolution.s";
 
+	/**
+	 * Configuration property:  Warm up serializers and parsers.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.warmUp.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#warmUp()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#warmUp(boolean)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, the metadata for the return type and body parameter types of every Java REST method is created
+	 * during initialization instead of on the first requests.
+	 * <br>Return types are preloaded in the serializers of the method and body types in the parsers of the method
+	 * using {@link SerializerGroup#warmUp(Type...)} and {@link ParserGroup#warmUp(Type...)}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Option #1 - Defined via annotation resolving to a config file setting with default value.</jc>
+	 * 	<ja>@RestResource</ja>(warmUp=<js>"$C{REST/warmUp,true}"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 *
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.warmUp(<jk>true</jk>)
+	 *
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_warmUp</jsf>, <jk>true</jk>);
+	 * 		}
+	 *
+	 * 		<jc>// Option #3 - Defined via builder passed in through init method.</jc>
+	 * 		<ja>@RestHook</ja>(<jsf>INIT</jsf>)
+	 * 		<jk>public void</jk> init(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			builder.warmUp(<jk>true</jk>)
+	 * 		}
+	 * 	}
+	 * </p>
+	 */
+	public static final String REST_warmUp = PREFIX + "warmUp.b";
+
 	/**
 	 * Configuration property:  HTML Widgets.
 	 *
@@ -3379,6 +3434,18 @@ public final class RestContext extends BeanContext {
 			}
 
 			this.callMethods = unmodifiableMap(_javaRestMethods);
+
+			if (getBooleanProperty(REST_warmUp, false)) {
+				for (RestJavaMethod m : callMethods.values()) {
+					Type rt = m.method.getGenericReturnType();
+					if (rt != void.class)
+						m.serializers.warmUp(rt);
+					for (RestMethodParam p : m.methodParams)
+						if (p.paramType == RestParamType.BODY)
+							m.parsers.warmUp(p.type);
+				}
+			}
+
 			this.preCallMethods = _preCallMethods.values().toArray(new Method[_preCallMethods.size()]);
 			this.postCallMethods = _postCallMethods.values().toArray(new Method[_postCallMethods.size()]);
 			this.startCallMethods = _startCallMethods.values().toArray(new Method[_startCallMethods.size()]);
@@ -3846,6 +3913,8 @@ public final class RestContext extends BeanContext {
 					p = UrlEncodingParser.DEFAULT;
 				if (mediaType == MediaType.MSGPACK)
 					p = MsgPackParser.DEFAULT;
+				if (mediaType == MediaType.CBOR)
+					p = CborParser.DEFAULT;
 			}
 			if (p != null) {
 				try {
@@ -209,6 +209,8 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 				staticFileResponseHeaders(resolveVars(vr, r.staticFileResponseHeaders()));
 				if (! r.useClasspathResourceCaching().isEmpty())
 					useClasspathResourceCaching(Boolean.valueOf(vr.resolve(r.useClasspathResourceCaching())));
+				if (! r.warmUp().isEmpty())
+					warmUp(Boolean.valueOf(vr.resolve(r.warmUp())));
 				if (r.classpathResourceFinder() != ClasspathResourceFinder.Null.class)
 					classpathResourceFinder(r.classpathResourceFinder());
 				if (! r.path().isEmpty())
@@ -2011,6 +2013,27 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_useStackTraceHashes, value);
 	}
 
+	/**
+	 * Configuration property:  Warm up serializers and parsers.
+	 *
+	 * <p>
+	 * When enabled, the metadata for the return type and body parameter types of every Java REST method is created
+	 * during initialization instead of on the first requests.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_warmUp}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder warmUp(boolean value) {
+		return set(REST_warmUp, value);
+	}
+
 	/**
 	 * Configuration property:  HTML Widgets.
 	 *
@@ -2382,6 +2405,18 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RestContextBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RestContextBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RestContextBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
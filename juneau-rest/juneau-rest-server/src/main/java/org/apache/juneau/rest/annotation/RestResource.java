@@ -1051,6 +1051,27 @@ public @interface RestResource {
 	 */
 	String useStackTraceHashes() default "";
 
+	/**
+	 * Warm up serializers and parsers.
+	 *
+	 * <p>
+	 * When enabled, the metadata for the return type and body parameter types of every Java REST method is created
+	 * during initialization instead of on the first requests.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$L{my.localized.variable}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_warmUp}
+	 * </ul>
+	 */
+	String warmUp() default "";
+
 	/**
 	 * Enable debug mode.
 	 *